@@ -0,0 +1,71 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSource;
+import net.minecraft.Bootstrap;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the biome stage on the dimensional biome source, and prints how many biomes each chunk sampled from the layer
+ * stack and how many stacks were built at the end of every iteration. A chunk asks the source for 1024 biomes, which
+ * the memo answers with the 16 of its chunk, so a chunk not seen before should take 16 samples and one seen before
+ * none.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BiomeLayerBenchmark {
+    private HeadlessWorld world;
+    private DimensionalBiomeSource biomeSource;
+    private ChunkGenerator<?> generator;
+    private long chunks;
+    private long layerSamples;
+
+    @Setup(Level.Trial)
+    public void createGenerator() {
+        Bootstrap.initialize();
+        this.world = new HeadlessWorld(HeadlessWorld.BiomeLayout.DIMENSIONAL);
+        this.biomeSource = (DimensionalBiomeSource) this.world.getBiomeSource();
+        this.generator = this.world.createGenerator(DimensionChunkGenerators.OVERWORLD);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        this.chunks = 0;
+        this.layerSamples = this.biomeSource.getLayerSamples();
+    }
+
+    @Benchmark
+    public Chunk biomes() {
+        ProtoChunk chunk = this.world.nextChunk();
+        this.generator.populateBiomes(chunk);
+        this.chunks++;
+        return chunk;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLayerSamples() {
+        long samples = this.biomeSource.getLayerSamples() - this.layerSamples;
+        System.out.printf("%n%.2f layer samples per chunk over %d chunks, %d layer stacks built%n",
+                (double) samples / Math.max(1, this.chunks), this.chunks, this.biomeSource.getBuiltLayerStacks());
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import net.minecraft.Bootstrap;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.gen.GenerationStep;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times both carver steps on chunks the generator already filled with noise, outside of the timed part.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CarverBenchmark {
+    @Param({"OVERWORLD", "QUADRUPLE_AMPLIFIED", "PILLAR_WORLD", "CUSTOM_OVERWORLD"})
+    public DimensionChunkGenerators generatorType;
+
+    @Param({"PLAINS", "DIMENSIONAL"})
+    public String biomes;
+
+    private HeadlessWorld world;
+    private ChunkGenerator<?> generator;
+    private ProtoChunk chunk;
+
+    @Setup(Level.Trial)
+    public void createGenerator() {
+        Bootstrap.initialize();
+        this.world = new HeadlessWorld(HeadlessWorld.BiomeLayout.valueOf(this.biomes));
+        this.generator = this.world.createGenerator(this.generatorType);
+    }
+
+    @Setup(Level.Invocation)
+    public void generateNoise() {
+        this.chunk = this.world.nextChunk();
+        this.generator.populateBiomes(this.chunk);
+        this.generator.populateNoise(this.world.getWorld(), this.chunk);
+        this.chunk.setStatus(ChunkStatus.NOISE);
+    }
+
+    @Benchmark
+    public Chunk carvers() {
+        this.generator.carve(this.world.getBiomeAccess(), this.chunk, GenerationStep.Carver.AIR);
+        this.generator.carve(this.world.getBiomeAccess(), this.chunk, GenerationStep.Carver.LIQUID);
+        return this.chunk;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import net.minecraft.Bootstrap;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the biome and noise stages of the RAA chunk generators, one fresh proto chunk per invocation. The noise stage
+ * alone is the difference of the two, see {@link CarverBenchmark} for the carvers.
+ *
+ * <p>The surface and the features can't run outside of a server, see {@link HeadlessWorld}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ChunkGeneratorBenchmark {
+    @Param({"OVERWORLD", "QUADRUPLE_AMPLIFIED", "PILLAR_WORLD", "CUSTOM_OVERWORLD"})
+    public DimensionChunkGenerators generatorType;
+
+    @Param({"PLAINS", "DIMENSIONAL"})
+    public String biomes;
+
+    private HeadlessWorld world;
+    private ChunkGenerator<?> generator;
+
+    @Setup(Level.Trial)
+    public void createGenerator() {
+        Bootstrap.initialize();
+        this.world = new HeadlessWorld(HeadlessWorld.BiomeLayout.valueOf(this.biomes));
+        this.generator = this.world.createGenerator(this.generatorType);
+    }
+
+    @Benchmark
+    public Chunk biomes() {
+        ProtoChunk chunk = this.world.nextChunk();
+        this.generator.populateBiomes(chunk);
+        return chunk;
+    }
+
+    @Benchmark
+    public Chunk biomesAndNoise() {
+        ProtoChunk chunk = this.world.nextChunk();
+        this.generator.populateBiomes(chunk);
+        this.generator.populateNoise(this.world.getWorld(), chunk);
+        return chunk;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.history.Civilization;
+import io.github.vampirestudios.raa.history.CivilizationSimulator;
+import io.github.vampirestudios.raa.history.ProtoDimension;
+import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
+import io.github.vampirestudios.raa.utils.Utils;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times one tick of {@link CivilizationSimulator} against the loop over every civilization and every dimension it
+ * replaced, on fresh civilizations every invocation since a tick changes them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CivilizationSimulatorBenchmark {
+    @Param({"1000"})
+    public int civilizations;
+
+    @Param({"1000"})
+    public int dimensions;
+
+    @Param({"1", "0"})
+    public int threads;
+
+    private List<ProtoDimension> dimensionList;
+    private List<Civilization> civilizationList;
+
+    @Setup(Level.Trial)
+    public void setupGeneration() {
+        SeededGeneration.setup(HeadlessWorld.SEED, this.threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void createMultiverse() {
+        Random random = new Random(HeadlessWorld.SEED);
+        this.dimensionList = new ArrayList<>(this.dimensions);
+        for (int i = 0; i < this.dimensions; i++) {
+            String name = "dimension_" + i;
+            ProtoDimension dimension = new ProtoDimension(new Pair<>(name, new Identifier("raa", name)), random.nextInt(64), random.nextFloat() * 2, random.nextFloat() * 2);
+            dimension.setXandY(random.nextFloat(), random.nextFloat());
+            this.dimensionList.add(dimension);
+        }
+        this.civilizationList = new ArrayList<>(this.civilizations);
+        for (int i = 0; i < this.civilizations; i++) {
+            this.civilizationList.add(new Civilization("civilization_" + i, this.dimensionList.get(random.nextInt(this.dimensions))));
+        }
+    }
+
+    @Benchmark
+    public List<ProtoDimension> grid() {
+        new CivilizationSimulator(this.dimensionList, this.civilizationList).run(1);
+        return this.dimensionList;
+    }
+
+    /**
+     * The loop generation ran before, on the same randoms as the first tick of the simulator.
+     */
+    @Benchmark
+    public List<ProtoDimension> bruteForce() {
+        SeededGeneration generation = SeededGeneration.create("civilizations/0");
+        Random[] randoms = new Random[this.civilizationList.size()];
+        for (int index = 0; index < this.civilizationList.size(); index++) {
+            randoms[index] = generation.random(index, 0);
+            this.civilizationList.get(index).simulate(randoms[index]);
+        }
+
+        for (int index = 0; index < this.civilizationList.size(); index++) {
+            Civilization civ = this.civilizationList.get(index);
+            Random random = randoms[index];
+            if (civ.getTechLevel() == 0) continue;
+
+            for (ProtoDimension dimension : this.dimensionList) {
+                if (dimension != civ.getHomeDimension()) {
+                    double d = Utils.dist(dimension.getX(), dimension.getY(), civ.getHomeDimension().getX(), civ.getHomeDimension().getY());
+                    if (d <= civ.getInfluenceRadius()) {
+                        double percent = (civ.getInfluenceRadius() - d) / civ.getInfluenceRadius();
+                        dimension.addInfluence(civ.getName(), percent);
+                        if (percent > 0.40) {
+                            if (civ.getTechLevel() >= 2) if (Rands.chance(random, 5)) dimension.setAbandoned();
+                        }
+                        if (percent > 0.60) {
+                            if (civ.getTechLevel() >= 2) if (Rands.chance(random, 4)) dimension.setAbandoned();
+                            if (civ.getTechLevel() >= 3) if (Rands.chance(random, 5)) dimension.setDead();
+                        }
+                        if (percent > 0.80) {
+                            if (civ.getTechLevel() >= 2) if (Rands.chance(random, 3)) dimension.setAbandoned();
+                            if (civ.getTechLevel() >= 3) if (Rands.chance(random, 4)) dimension.setDead();
+                        }
+                        if (percent > 0.70) {
+                            if (civ.getTechLevel() >= 3) dimension.setCivilized();
+                        }
+                    }
+                } else {
+                    dimension.addInfluence(civ.getName(), 1.0);
+                }
+
+                if (Utils.checkBitFlag(dimension.getFlags(), Utils.DEAD) && Utils.checkBitFlag(dimension.getFlags(), Utils.LUSH))
+                    dimension.removeLush();
+            }
+        }
+        return this.dimensionList;
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import io.github.vampirestudios.raa.generation.chunkgenerator.CustomOverworldChunkGenerator;
+import net.minecraft.Bootstrap;
+import net.minecraft.world.chunk.ProtoChunk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times reading every column height of a chunk from the custom overworld generator, and prints how many corners of
+ * the noise lattice each chunk sampled at the end of every iteration. Sampling four corners per column took 1024 per
+ * chunk, the lattice takes 16 once the west and north neighbours are cached, as they are for the rows of
+ * {@link HeadlessWorld#nextChunk()} after the first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CustomOverworldHeightBenchmark {
+    private HeadlessWorld world;
+    private CustomOverworldChunkGenerator generator;
+    private long chunks;
+    private long noiseSamples;
+
+    @Setup(Level.Trial)
+    public void createGenerator() {
+        Bootstrap.initialize();
+        this.world = new HeadlessWorld(HeadlessWorld.BiomeLayout.PLAINS);
+        this.generator = (CustomOverworldChunkGenerator) this.world.createGenerator(DimensionChunkGenerators.CUSTOM_OVERWORLD);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        this.chunks = 0;
+        this.noiseSamples = this.generator.getNoiseSamples();
+    }
+
+    @Benchmark
+    public int heights() {
+        ProtoChunk chunk = this.world.nextChunk();
+        int startX = chunk.getPos().getStartX();
+        int startZ = chunk.getPos().getStartZ();
+        int sum = 0;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                sum += this.generator.getHeight(startX + x, startZ + z);
+            }
+        }
+        this.chunks++;
+        return sum;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printNoiseSamples() {
+        long samples = this.generator.getNoiseSamples() - this.noiseSamples;
+        System.out.printf("%n%.2f noise samples per chunk over %d chunks%n", (double) samples / this.chunks, this.chunks);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.utils.noise.SuperSimplexNoise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the gradient lookups of {@link SuperSimplexNoise} with the permuted tables laid out as they were, arrays of
+ * references to a few shared gradient objects, against the flat arrays with interleaved components they are now. The
+ * lookups follow the permutation the way the point samplers do, so they jump around the table like in the noise. Every
+ * call makes {@value #LOOKUPS} of them.
+ *
+ * <p>The noise itself is timed by {@link SuperSimplexNoiseBenchmark}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GradientTableBenchmark {
+    // the table size and the distinct gradients of SuperSimplexNoise
+    private static final int PSIZE = 2048;
+    private static final int GRADIENTS_2D = 24;
+    private static final int GRADIENTS_3D = 48;
+    private static final int LOOKUPS = 4096;
+
+    private final short[] perm = new short[PSIZE];
+    private final Grad2[] objectGrad2 = new Grad2[PSIZE];
+    private final Grad3[] objectGrad3 = new Grad3[PSIZE];
+    private final double[] flatGrad2 = new double[PSIZE * 2];
+    private final double[] flatGrad3 = new double[PSIZE * 3];
+    private final int[] lattice = new int[LOOKUPS * 3];
+    private final double[] offsets = new double[LOOKUPS * 3];
+
+    @Setup(Level.Trial)
+    public void createTables() {
+        Random random = new Random(HeadlessWorld.SEED);
+        Grad2[] grad2 = new Grad2[GRADIENTS_2D];
+        for (int i = 0; i < grad2.length; i++) {
+            double angle = 2 * Math.PI * i / grad2.length;
+            grad2[i] = new Grad2(Math.cos(angle), Math.sin(angle));
+        }
+        Grad3[] grad3 = new Grad3[GRADIENTS_3D];
+        for (int i = 0; i < grad3.length; i++) {
+            grad3[i] = new Grad3(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        }
+
+        short[] source = new short[PSIZE];
+        for (short i = 0; i < PSIZE; i++) {
+            source[i] = i;
+        }
+        for (int i = PSIZE - 1; i >= 0; i--) {
+            int r = random.nextInt(i + 1);
+            this.perm[i] = source[r];
+            source[r] = source[i];
+
+            Grad2 g2 = grad2[this.perm[i] % grad2.length];
+            this.objectGrad2[i] = g2;
+            this.flatGrad2[i * 2] = g2.dx;
+            this.flatGrad2[i * 2 + 1] = g2.dy;
+            Grad3 g3 = grad3[this.perm[i] % grad3.length];
+            this.objectGrad3[i] = g3;
+            this.flatGrad3[i * 3] = g3.dx;
+            this.flatGrad3[i * 3 + 1] = g3.dy;
+            this.flatGrad3[i * 3 + 2] = g3.dz;
+        }
+
+        for (int i = 0; i < this.lattice.length; i++) {
+            this.lattice[i] = random.nextInt(PSIZE);
+            this.offsets[i] = random.nextDouble() - 0.5;
+        }
+    }
+
+    @Benchmark
+    public double objects2() {
+        double value = 0;
+        for (int i = 0; i < LOOKUPS * 3; i += 3) {
+            Grad2 grad = this.objectGrad2[this.perm[this.lattice[i]] ^ this.lattice[i + 1]];
+            value += grad.dx * this.offsets[i] + grad.dy * this.offsets[i + 1];
+        }
+        return value;
+    }
+
+    @Benchmark
+    public double flat2() {
+        double value = 0;
+        for (int i = 0; i < LOOKUPS * 3; i += 3) {
+            int grad = (this.perm[this.lattice[i]] ^ this.lattice[i + 1]) << 1;
+            value += this.flatGrad2[grad] * this.offsets[i] + this.flatGrad2[grad + 1] * this.offsets[i + 1];
+        }
+        return value;
+    }
+
+    @Benchmark
+    public double objects3() {
+        double value = 0;
+        for (int i = 0; i < LOOKUPS * 3; i += 3) {
+            Grad3 grad = this.objectGrad3[this.perm[this.perm[this.lattice[i]] ^ this.lattice[i + 1]] ^ this.lattice[i + 2]];
+            value += grad.dx * this.offsets[i] + grad.dy * this.offsets[i + 1] + grad.dz * this.offsets[i + 2];
+        }
+        return value;
+    }
+
+    @Benchmark
+    public double flat3() {
+        double value = 0;
+        for (int i = 0; i < LOOKUPS * 3; i += 3) {
+            int grad = (this.perm[this.perm[this.lattice[i]] ^ this.lattice[i + 1]] ^ this.lattice[i + 2]) * 3;
+            value += this.flatGrad3[grad] * this.offsets[i] + this.flatGrad3[grad + 1] * this.offsets[i + 1] + this.flatGrad3[grad + 2] * this.offsets[i + 2];
+        }
+        return value;
+    }
+
+    /**
+     * The layout of {@link SuperSimplexNoise.Grad2}, whose components can't be read from here.
+     */
+    private static class Grad2 {
+        private final double dx, dy;
+
+        private Grad2(double dx, double dy) {
+            this.dx = dx;
+            this.dy = dy;
+        }
+    }
+
+    /**
+     * The layout of {@link SuperSimplexNoise.Grad3}, whose components can't be read from here.
+     */
+    private static class Grad3 {
+        private final double dx, dy, dz;
+
+        private Grad3(double dx, double dy, double dz) {
+            this.dx = dx;
+            this.dy = dy;
+            this.dz = dz;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import com.google.common.collect.ImmutableSet;
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import io.github.vampirestudios.raa.generation.chunkgenerator.CustomOverworldChunkGenerator;
+import io.github.vampirestudios.raa.generation.chunkgenerator.OverworldChunkGenerator;
+import io.github.vampirestudios.raa.generation.chunkgenerator.PillarWorldChunkGenerator;
+import io.github.vampirestudios.raa.generation.chunkgenerator.QuadrupleAmplifiedChunkGenerator;
+import io.github.vampirestudios.raa.generation.chunkgenerator.config.CustomOverworldChunkGeneratorConfig;
+import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSource;
+import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSourceConfig;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.biome.source.VoronoiBiomeAccessType;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.OverworldChunkGeneratorConfig;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Just as much of {@link IWorld} as the chunk generators use to be built and to fill proto chunks, so a benchmark
+ * never touches a running server, its saved data or the caches of its dimensions.
+ *
+ * <p>The biomes are either all plains, to time a generator on its own, or laid out by a {@link DimensionalBiomeSource}
+ * over a dozen vanilla land biomes, the way RAA dimensions lay out theirs.</p>
+ *
+ * <p>Only the biome, noise and carver stages can run here. Surface building and features take a
+ * {@link net.minecraft.world.ChunkRegion}, whose only constructor reads its seed, generator settings, random and
+ * dimension from a {@link net.minecraft.server.world.ServerWorld}. That is a class and not an interface, so it can't be
+ * stood in for like {@link IWorld}, and a real one needs a running server with a save. Those stages are timed by the
+ * generator stats of {@code /raa pregen} instead.</p>
+ */
+final class HeadlessWorld {
+    static final long SEED = 1234567890L;
+    private static final int SEA_LEVEL = 63;
+    private static final int ROW_LENGTH = 64;
+
+    private final LevelProperties levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_benchmark");
+    private final Dimension dimension = DimensionType.OVERWORLD.create(null);
+    private final IWorld world = (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+            case "getSeed":
+                return SEED;
+            case "getSeaLevel":
+                return SEA_LEVEL;
+            case "getLevelProperties":
+                return this.levelProperties;
+            case "getDimension":
+                return this.dimension;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    });
+    private final BiomeSource biomeSource;
+    private final BiomeAccess biomeAccess;
+    private int chunks;
+
+    HeadlessWorld(BiomeLayout biomes) {
+        if (biomes == BiomeLayout.DIMENSIONAL) {
+            this.biomeSource = new DimensionalBiomeSource(new DimensionalBiomeSourceConfig(this.levelProperties).setBiomes(ImmutableSet.of(
+                    Biomes.PLAINS, Biomes.FOREST, Biomes.BIRCH_FOREST, Biomes.DARK_FOREST, Biomes.TAIGA, Biomes.SNOWY_TUNDRA,
+                    Biomes.SWAMP, Biomes.DESERT, Biomes.SAVANNA, Biomes.JUNGLE, Biomes.BADLANDS, Biomes.MOUNTAINS)));
+        } else {
+            this.biomeSource = BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(this.levelProperties).setBiome(Biomes.PLAINS));
+        }
+        this.biomeAccess = new BiomeAccess(this.biomeSource, SEED, VoronoiBiomeAccessType.INSTANCE);
+    }
+
+    IWorld getWorld() {
+        return this.world;
+    }
+
+    BiomeSource getBiomeSource() {
+        return this.biomeSource;
+    }
+
+    BiomeAccess getBiomeAccess() {
+        return this.biomeAccess;
+    }
+
+    /**
+     * @return an empty proto chunk next to the previous one, in rows of {@link #ROW_LENGTH} chunks, so a benchmark walks
+     * through the same chunks in the same order every run
+     */
+    ProtoChunk nextChunk() {
+        int index = this.chunks++;
+        return new ProtoChunk(new ChunkPos(index % ROW_LENGTH, index / ROW_LENGTH), UpgradeData.NO_UPGRADE_DATA);
+    }
+
+    /**
+     * Builds a generator of its own for the benchmark. The floating island generators go through a mixin invoker and
+     * the cave generators need a whole {@link net.minecraft.world.World}, so those only run in the game. The custom
+     * overworld gets the settings {@link DimensionChunkGenerators} gives it, with the middle of every rolled range.
+     */
+    ChunkGenerator<?> createGenerator(DimensionChunkGenerators type) {
+        switch (type) {
+            case OVERWORLD:
+                return new OverworldChunkGenerator(this.world, this.biomeSource, new OverworldChunkGeneratorConfig());
+            case QUADRUPLE_AMPLIFIED:
+                return new QuadrupleAmplifiedChunkGenerator(this.world, this.biomeSource, new OverworldChunkGeneratorConfig());
+            case PILLAR_WORLD:
+                return new PillarWorldChunkGenerator(this.world, this.biomeSource, new OverworldChunkGeneratorConfig());
+            case CUSTOM_OVERWORLD:
+                CustomOverworldChunkGeneratorConfig config = new CustomOverworldChunkGeneratorConfig();
+                config.shouldSacrificeAccuracyForSpeed(true);
+                config.shouldAddDetailNoise(true);
+                config.setBaseOctaveAmount(10);
+                config.setBiomeScaleAmount(8);
+                config.setBaseHeight(100);
+                return new CustomOverworldChunkGenerator(this.world, this.biomeSource, config);
+            default:
+                throw new IllegalArgumentException(type + " can't be built outside of the game");
+        }
+    }
+
+    enum BiomeLayout {
+        PLAINS,
+        DIMENSIONAL
+    }
+}
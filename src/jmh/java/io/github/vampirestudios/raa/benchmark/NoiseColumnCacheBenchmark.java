@@ -0,0 +1,103 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import io.github.vampirestudios.raa.generation.chunkgenerator.NoiseColumnCache;
+import io.github.vampirestudios.raa.generation.chunkgenerator.PillarWorldChunkGenerator;
+import io.github.vampirestudios.raa.generation.chunkgenerator.QuadrupleAmplifiedChunkGenerator;
+import net.minecraft.Bootstrap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the noise stage of a 32 by 32 chunk area, row by row on a fresh generator, and prints how many noise columns
+ * the area took to evaluate at the end of every iteration. Without the {@link NoiseColumnCache} every column a chunk
+ * asks for is evaluated, so that count is its hits and misses together; with it only the misses are.
+ *
+ * <p>Only the generators that can be built outside of the game are covered, see {@link HeadlessWorld}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NoiseColumnCacheBenchmark {
+    private static final int AREA = 32;
+
+    @Param({"QUADRUPLE_AMPLIFIED", "PILLAR_WORLD"})
+    public DimensionChunkGenerators generatorType;
+
+    private HeadlessWorld world;
+    private ChunkGenerator<?> generator;
+    private long areas;
+    private long requested;
+    private long evaluated;
+
+    @Setup(Level.Trial)
+    public void createWorld() {
+        Bootstrap.initialize();
+        this.world = new HeadlessWorld(HeadlessWorld.BiomeLayout.PLAINS);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        this.areas = 0;
+        this.requested = 0;
+        this.evaluated = 0;
+    }
+
+    /**
+     * Every area starts with an empty cache, so each one evaluates the same columns.
+     */
+    @Setup(Level.Invocation)
+    public void createGenerator() {
+        this.generator = this.world.createGenerator(this.generatorType);
+    }
+
+    @Benchmark
+    public ChunkGenerator<?> area() {
+        for (int z = 0; z < AREA; z++) {
+            for (int x = 0; x < AREA; x++) {
+                ProtoChunk chunk = new ProtoChunk(new ChunkPos(x, z), UpgradeData.NO_UPGRADE_DATA);
+                this.generator.populateBiomes(chunk);
+                this.generator.populateNoise(this.world.getWorld(), chunk);
+            }
+        }
+        NoiseColumnCache columns = noiseColumns(this.generator);
+        this.areas++;
+        this.requested += columns.getHits() + columns.getMisses();
+        this.evaluated += columns.getMisses();
+        return this.generator;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printColumnEvaluations() {
+        long areas = Math.max(1, this.areas);
+        System.out.printf("%n%d columns evaluated per %dx%d chunk area without the cache, %d with it%n",
+                this.requested / areas, AREA, AREA, this.evaluated / areas);
+    }
+
+    private static NoiseColumnCache noiseColumns(ChunkGenerator<?> generator) {
+        if (generator instanceof QuadrupleAmplifiedChunkGenerator) {
+            return ((QuadrupleAmplifiedChunkGenerator) generator).getNoiseColumns();
+        }
+        return ((PillarWorldChunkGenerator) generator).getNoiseColumns();
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.utils.noise.old.OctaveOpenSimplexNoise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a square grid of {@link OctaveOpenSimplexNoise} sampled point by point against {@link
+ * OctaveOpenSimplexNoise#sampleGrid2D}, with the octaves and scale of the noise the tomb and stone circle features use.
+ * Every call moves on to the next grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OctaveOpenSimplexNoiseBenchmark {
+    @Param({"16", "32"})
+    public int size;
+
+    private OctaveOpenSimplexNoise noise;
+    private double[] buffer;
+    private int grid;
+
+    @Setup(Level.Trial)
+    public void createNoise() {
+        this.noise = new OctaveOpenSimplexNoise(new Random(HeadlessWorld.SEED), 2, 30D, 4D, 2D);
+        this.buffer = new double[this.size * this.size];
+    }
+
+    @Benchmark
+    public double[] points() {
+        double x0 = this.nextGrid();
+        for (int z = 0; z < this.size; z++) {
+            for (int x = 0; x < this.size; x++) {
+                this.buffer[z * this.size + x] = this.noise.sample(x0 + x, z);
+            }
+        }
+        return this.buffer;
+    }
+
+    @Benchmark
+    public double[] grid() {
+        this.noise.sampleGrid2D(this.buffer, this.nextGrid(), 0, this.size, this.size, 1);
+        return this.buffer;
+    }
+
+    private int nextGrid() {
+        return (this.grid++ & 1023) * this.size;
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.utils.noise.SuperSimplexNoise;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times a chunk sized grid of {@link SuperSimplexNoise} sampled point by point against the same grid filled by the area
+ * generators, 16 by 16 in 2D and 16 by 16 by 16 in 3D. Every call moves on to the next grid, so nothing is reused
+ * between them but the buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SuperSimplexNoiseBenchmark {
+    private static final int SIZE = 16;
+    private static final double FREQUENCY_2D = 1 / 24.0;
+    private static final double FREQUENCY_3D = 1 / 16.0;
+
+    private final double[] buffer2 = new double[SIZE * SIZE];
+    private final double[] buffer3 = new double[SIZE * SIZE * SIZE];
+    private SuperSimplexNoise noise;
+    private SuperSimplexNoise.GenerateContext2D context2;
+    private SuperSimplexNoise.GenerateContext3D context3;
+    private int grid;
+
+    @Setup(Level.Trial)
+    public void createNoise() {
+        this.noise = new SuperSimplexNoise(HeadlessWorld.SEED);
+        this.context2 = new SuperSimplexNoise.GenerateContext2D(FREQUENCY_2D, FREQUENCY_2D, 1);
+        this.context3 = new SuperSimplexNoise.GenerateContext3D(SuperSimplexNoise.LatticeOrientation3D.Classic, FREQUENCY_3D, FREQUENCY_3D, FREQUENCY_3D, 1);
+    }
+
+    @Benchmark
+    public double[] points2() {
+        int x0 = this.nextGrid();
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                this.buffer2[y * SIZE + x] = this.noise.noise2((x0 + x) * FREQUENCY_2D, y * FREQUENCY_2D);
+            }
+        }
+        return this.buffer2;
+    }
+
+    @Benchmark
+    public double[] area2() {
+        this.noise.fill2(this.context2, this.buffer2, this.nextGrid(), 0, SIZE, SIZE);
+        return this.buffer2;
+    }
+
+    @Benchmark
+    public double[] points3() {
+        int x0 = this.nextGrid();
+        for (int z = 0; z < SIZE; z++) {
+            for (int y = 0; y < SIZE; y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    this.buffer3[(z * SIZE + y) * SIZE + x] = this.noise.noise3_Classic((x0 + x) * FREQUENCY_3D, y * FREQUENCY_3D, z * FREQUENCY_3D);
+                }
+            }
+        }
+        return this.buffer3;
+    }
+
+    @Benchmark
+    public double[] area3() {
+        this.noise.fill3(this.context3, this.buffer3, this.nextGrid(), 0, 0, SIZE, SIZE, SIZE);
+        return this.buffer3;
+    }
+
+    private int nextGrid() {
+        return (this.grid++ & 1023) * SIZE;
+    }
+}
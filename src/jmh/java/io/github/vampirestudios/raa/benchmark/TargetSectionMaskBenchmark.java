@@ -0,0 +1,98 @@
+package io.github.vampirestudios.raa.benchmark;
+
+import io.github.vampirestudios.raa.world.gen.feature.OreFeatureConfig;
+import io.github.vampirestudios.raa.world.gen.feature.TargetSectionMask;
+import net.minecraft.Bootstrap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times resolving a target in a chunk it wasn't resolved in yet against a lookup of an already resolved one.
+ *
+ * <p>A target is resolved once per chunk for all of its ore features, so that is worth it as long as it costs less
+ * than the veins the features no longer roll in sections without their target. The chunks are stone up to
+ * {@link #STONE_HEIGHT} with scattered ores, so the runs of equal states are about as short as after the ores of a
+ * real chunk. Stone is in every palette and found right away in the sections that have it, while a target no section
+ * has is turned down by the palettes alone.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TargetSectionMaskBenchmark {
+    private static final int STONE_HEIGHT = 128;
+
+    private final ProtoChunk[] chunks = new ProtoChunk[2];
+    private IWorld world;
+    private OreFeatureConfig.Target target;
+    private OreFeatureConfig.Target absentTarget;
+    private int calls;
+
+    @Setup(Level.Trial)
+    public void fillChunks() {
+        Bootstrap.initialize();
+        this.target = new OreFeatureConfig.Target(new Identifier("raa", "benchmark_stone"), state -> state.getBlock() == Blocks.STONE, Blocks.STONE);
+        this.absentTarget = new OreFeatureConfig.Target(new Identifier("raa", "benchmark_diorite"), state -> state.getBlock() == Blocks.DIORITE, Blocks.DIORITE);
+        BlockState[] ores = {Blocks.COAL_ORE.getDefaultState(), Blocks.IRON_ORE.getDefaultState(), Blocks.GRAVEL.getDefaultState()};
+        Random random = new Random(HeadlessWorld.SEED);
+        for (int i = 0; i < this.chunks.length; i++) {
+            ProtoChunk chunk = new ProtoChunk(new ChunkPos(i, 0), UpgradeData.NO_UPGRADE_DATA);
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int y = 0; y < STONE_HEIGHT; y++) {
+                        BlockState state = random.nextInt(50) == 0 ? ores[random.nextInt(ores.length)] : Blocks.STONE.getDefaultState();
+                        chunk.setBlockState(new BlockPos((i << 4) + x, y, z), state, false);
+                    }
+                }
+            }
+            this.chunks[i] = chunk;
+        }
+        this.world = (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getChunk")) {
+                return this.chunks[(Integer) args[0]];
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /**
+     * The two chunks take turns, so every call resolves the target again.
+     */
+    @Benchmark
+    public int scan() {
+        return TargetSectionMask.get(this.world, this.calls++ & 1, 0, this.target);
+    }
+
+    @Benchmark
+    public int scanAbsentTarget() {
+        return TargetSectionMask.get(this.world, this.calls++ & 1, 0, this.absentTarget);
+    }
+
+    @Benchmark
+    public int lookup() {
+        return TargetSectionMask.get(this.world, 0, 0, this.target);
+    }
+}
@@ -7,6 +7,8 @@ import io.github.vampirestudios.raa.config.DimensionMaterialsConfig;
 import io.github.vampirestudios.raa.config.DimensionsConfig;
 import io.github.vampirestudios.raa.config.GeneralConfig;
 import io.github.vampirestudios.raa.config.MaterialsConfig;
+import io.github.vampirestudios.raa.config.RAADataConfig;
+import io.github.vampirestudios.raa.generation.chunkgenerator.NoiseColumnCache;
 import io.github.vampirestudios.raa.generation.dimensions.DimensionRecipes;
 import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSource;
 import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSourceConfig;
@@ -23,10 +25,14 @@ import io.github.vampirestudios.raa.registries.SurfaceBuilders;
 import io.github.vampirestudios.raa.registries.Textures;
 import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.RegistryUtils;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
+import io.github.vampirestudios.raa.utils.StartupProfiler;
+import io.github.vampirestudios.raa.utils.noise.NoiseSamplerPool;
 import me.sargunvohra.mcmods.autoconfig1u.AutoConfig;
 import me.sargunvohra.mcmods.autoconfig1u.serializer.GsonConfigSerializer;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.client.itemgroup.FabricItemGroupBuilder;
+import net.fabricmc.fabric.api.event.server.ServerStopCallback;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.block.Blocks;
 import net.minecraft.item.ItemGroup;
@@ -73,16 +79,23 @@ public class RandomlyAddingAnything implements ModInitializer {
         MODCOMPAT = new ModCompat();
         AutoConfig.register(GeneralConfig.class, GsonConfigSerializer::new);
         CONFIG = AutoConfig.getConfigHolder(GeneralConfig.class).getConfig();
-        Textures.init();
-        FoliagePlacers.init();
-        Features.init();
-        Decorators.init();
-        SurfaceBuilders.init();
-        ChunkGenerators.init();
+        SeededGeneration.setup(CONFIG.generationSeed, CONFIG.generationThreads);
+        NoiseSamplerPool.setup(CONFIG.debug);
+        ServerStopCallback.EVENT.register(server -> NoiseSamplerPool.clear());
+        NoiseColumnCache.setup(CONFIG.noiseColumnCacheSize);
+        DimensionalBiomeSourceConfig.setup(CONFIG.biomeLayerCacheSize, CONFIG.biomeRegionMemoSize);
+        RAADataConfig.setup(CONFIG.binaryDataFiles);
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.run("textures", Textures::init);
+        profiler.run("foliage_placers", FoliagePlacers::init);
+        profiler.run("features", Features::init);
+        profiler.run("decorators", Decorators::init);
+        profiler.run("surface_builders", SurfaceBuilders::init);
+        profiler.run("chunk_generators", ChunkGenerators::init);
         if (FabricLoader.getInstance().isModLoaded("simplexterrain")) {
-            SimplexRAACompat.init();
+            profiler.run("simplex_compat", SimplexRAACompat::init);
         }
-        CustomTargets.init();
+        profiler.run("custom_targets", CustomTargets::init);
 
         //Reflection hacks
         Constructor<BiomeSourceType> constructor;
@@ -95,49 +108,56 @@ public class RandomlyAddingAnything implements ModInitializer {
         }
 
         MATERIALS_CONFIG = new MaterialsConfig("materials/material_config");
-        if (CONFIG.materialNumber > 0) {
-            if (CONFIG.regen || !MATERIALS_CONFIG.fileExist()) {
-                MATERIALS_CONFIG.generate();
-                MATERIALS_CONFIG.save();
-            } else {
-                MATERIALS_CONFIG.load();
+        profiler.run("materials_config", () -> {
+            if (CONFIG.materialNumber > 0) {
+                if (CONFIG.regen || !MATERIALS_CONFIG.fileExist()) {
+                    MATERIALS_CONFIG.generate();
+                    MATERIALS_CONFIG.overrideFile();
+                } else {
+                    MATERIALS_CONFIG.load();
+                }
             }
-        }
-        Materials.createMaterialResources();
+        });
+        profiler.run("material_resources", Materials::createMaterialResources);
 
         DIMENSIONS_CONFIG = new DimensionsConfig("dimensions/dimension_config");
-        if (CONFIG.dimensionNumber > 0) {
-            if (CONFIG.regen || !DIMENSIONS_CONFIG.fileExist()) {
-                DIMENSIONS_CONFIG.generate();
-                DIMENSIONS_CONFIG.save();
-            } else {
-                DIMENSIONS_CONFIG.load();
+        profiler.run("dimensions_config", () -> {
+            if (CONFIG.dimensionNumber > 0) {
+                if (CONFIG.regen || !DIMENSIONS_CONFIG.fileExist()) {
+                    DIMENSIONS_CONFIG.generate();
+                    DIMENSIONS_CONFIG.overrideFile();
+                } else {
+                    DIMENSIONS_CONFIG.load();
+                }
             }
-        }
-        Dimensions.createDimensions();
+        });
+        profiler.run("dimensions", Dimensions::createDimensions);
 
         DIMENSION_MATERIALS_CONFIG = new DimensionMaterialsConfig("dimensions/dimensional_material_config");
-        if (CONFIG.materialNumber > 0) {
-            if (CONFIG.regen || !DIMENSION_MATERIALS_CONFIG.fileExist()) {
-                DIMENSION_MATERIALS_CONFIG.generate();
-                DIMENSION_MATERIALS_CONFIG.save();
-            } else {
-                DIMENSION_MATERIALS_CONFIG.load();
+        profiler.run("dimension_materials_config", () -> {
+            if (CONFIG.materialNumber > 0) {
+                if (CONFIG.regen || !DIMENSION_MATERIALS_CONFIG.fileExist()) {
+                    DIMENSION_MATERIALS_CONFIG.generate();
+                    DIMENSION_MATERIALS_CONFIG.overrideFile();
+                } else {
+                    DIMENSION_MATERIALS_CONFIG.load();
+                }
             }
-        }
+        });
 
-        DimensionRecipes.init();
-        Materials.createDimensionMaterialResources();
-        MaterialRecipes.init();
+        profiler.run("dimension_recipes", DimensionRecipes::init);
+        profiler.run("dimension_material_resources", Materials::createDimensionMaterialResources);
+        profiler.run("material_recipes", MaterialRecipes::init);
 
-        RegistryUtils.forEveryBiome(biome -> {
+        profiler.run("portal_hubs", () -> RegistryUtils.forEveryBiome(biome -> {
             if (biome.getCategory() != Biome.Category.OCEAN) {
                 biome.addFeature(GenerationStep.Feature.SURFACE_STRUCTURES, Features.PORTAL_HUB.configure(new DefaultFeatureConfig()).
                         createDecoratedFeature(Decorators.RANDOM_EXTRA_HEIGHTMAP_DECORATOR.
                                 configure(new CountExtraChanceDecoratorConfig(0, Rands.randFloatRange(0.001F, 0.001125F), 1))));
             }
-        });
-        Criterions.init();
-        Registry.BIOME.forEach(biome -> RAARegisteries.TARGET_REGISTRY.forEach(target -> RAAWorldAPI.generateOresForTarget(biome, target)));
+        }));
+        profiler.run("criterions", Criterions::init);
+        profiler.run("ore_features", () -> Registry.BIOME.forEach(biome -> RAARegisteries.TARGET_REGISTRY.forEach(target -> RAAWorldAPI.generateOresForTarget(biome, target))));
+        profiler.finish();
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package io.github.vampirestudios.raa;
 
-import com.swordglowsblue.artifice.api.Artifice;
 import io.github.vampirestudios.raa.api.enums.OreType;
 import io.github.vampirestudios.raa.api.enums.TextureTypes;
 import io.github.vampirestudios.raa.client.DimensionalOreBakedModel;
@@ -10,6 +9,7 @@ import io.github.vampirestudios.raa.generation.materials.Material;
 import io.github.vampirestudios.raa.items.RAABlockItem;
 import io.github.vampirestudios.raa.registries.Dimensions;
 import io.github.vampirestudios.raa.registries.Materials;
+import io.github.vampirestudios.raa.utils.GeneratedPackCache;
 import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.Utils;
 import net.fabricmc.api.ClientModInitializer;
@@ -80,7 +80,17 @@ public class RandomlyAddingAnythingClient implements ClientModInitializer {
                         registry.register(material.getTexturesInformation().getStorageBlockTexture());
                     }
                 });
-        Artifice.registerAssets(new Identifier(RandomlyAddingAnything.MOD_ID, "pack"), clientResourcePackBuilder -> {
+        for (Material material : Materials.MATERIALS) {
+            for (RAABlockItem.BlockType blockType : RAABlockItem.BlockType.values()) {
+                MATERIAL_ORE_IDENTIFIERS.put(Utils.appendToPath(material.getId(), blockType.getSuffix()), new AbstractMap.SimpleEntry<>(material, blockType));
+            }
+        }
+        for (DimensionMaterial material : Materials.DIMENSION_MATERIALS) {
+            for (RAABlockItem.BlockType blockType : RAABlockItem.BlockType.values()) {
+                DIMENSION_MATERIAL_ORE_IDENTIFIERS.put(Utils.appendToPath(material.getId(), blockType.getSuffix()), new AbstractMap.SimpleEntry<>(material, blockType));
+            }
+        }
+        GeneratedPackCache.registerAssets(new Identifier(RandomlyAddingAnything.MOD_ID, "pack"), clientResourcePackBuilder -> {
             Materials.MATERIALS.forEach(material -> {
                 Identifier bid = material.getId();
                 for (RAABlockItem.BlockType blockType : RAABlockItem.BlockType.values()) {
@@ -98,9 +108,6 @@ public class RandomlyAddingAnythingClient implements ClientModInitializer {
                     });
                     clientResourcePackBuilder.addItemModel(id, modelBuilder ->
                             modelBuilder.parent(new Identifier(id.getNamespace(), "block/" + id.getPath())));
-                    Map<Material, RAABlockItem.BlockType> map = new HashMap<>();
-                    map.put(material, blockType);
-                    MATERIAL_ORE_IDENTIFIERS.put(id, (Map.Entry<Material, RAABlockItem.BlockType>) map.entrySet().toArray()[0]);
                 }
                 if (material.getOreInformation().getOreType() == OreType.GEM) {
                     clientResourcePackBuilder.addItemModel(Utils.appendToPath(bid, "_gem"), modelBuilder -> {
@@ -184,7 +191,8 @@ public class RandomlyAddingAnythingClient implements ClientModInitializer {
                 clientResourcePackBuilder.addItemModel(Utils.appendToPath(bid, "_horse_armor"), modelBuilder -> {
                     modelBuilder.parent(new Identifier("item/generated"));
                     modelBuilder.texture("layer0", new Identifier(RandomlyAddingAnything.MOD_ID, "item/armor/horse_armor_base"));
-                    modelBuilder.texture("layer1", Rands.list(TextureTypes.HORSE_ARMOR_SADDLE_TEXTURES));
+                    // seeded from the material, so the saddle stays the same when the pack is rebuilt
+                    modelBuilder.texture("layer1", Rands.list(new Random(bid.hashCode()), TextureTypes.HORSE_ARMOR_SADDLE_TEXTURES));
                 });
 
                 if (material.hasFood()) {
@@ -339,9 +347,6 @@ public class RandomlyAddingAnythingClient implements ClientModInitializer {
                     });
                     clientResourcePackBuilder.addItemModel(id, modelBuilder ->
                             modelBuilder.parent(new Identifier(id.getNamespace(), "block/" + id.getPath())));
-                    Map<DimensionMaterial, RAABlockItem.BlockType> map = new HashMap<>();
-                    map.put(material, blockType);
-                    DIMENSION_MATERIAL_ORE_IDENTIFIERS.put(id, (Map.Entry<DimensionMaterial, RAABlockItem.BlockType>) map.entrySet().toArray()[0]);
                 }
                 if (material.getOreInformation().getOreType() == OreType.GEM) {
                     clientResourcePackBuilder.addItemModel(Utils.appendToPath(bid, "_gem"), modelBuilder -> {
@@ -425,7 +430,8 @@ public class RandomlyAddingAnythingClient implements ClientModInitializer {
                 clientResourcePackBuilder.addItemModel(Utils.appendToPath(bid, "_horse_armor"), modelBuilder -> {
                     modelBuilder.parent(new Identifier("item/generated"));
                     modelBuilder.texture("layer0", new Identifier(RandomlyAddingAnything.MOD_ID, "item/armor/horse_armor_base"));
-                    modelBuilder.texture("layer1", Rands.list(TextureTypes.HORSE_ARMOR_SADDLE_TEXTURES));
+                    // seeded from the material, so the saddle stays the same when the pack is rebuilt
+                    modelBuilder.texture("layer1", Rands.list(new Random(bid.hashCode()), TextureTypes.HORSE_ARMOR_SADDLE_TEXTURES));
                 });
 
                 if (material.hasFood()) {
@@ -1,14 +1,20 @@
 package io.github.vampirestudios.raa.api;
 
+import io.github.vampirestudios.raa.generation.materials.Material;
+import io.github.vampirestudios.raa.registries.Features;
 import io.github.vampirestudios.raa.registries.Materials;
 import io.github.vampirestudios.raa.utils.Utils;
-import io.github.vampirestudios.raa.world.gen.feature.OreFeature;
+import io.github.vampirestudios.raa.world.gen.feature.MultiOreFeature;
+import io.github.vampirestudios.raa.world.gen.feature.MultiOreFeatureConfig;
 import io.github.vampirestudios.raa.world.gen.feature.OreFeatureConfig;
-import io.github.vampirestudios.raa.world.gen.feature.SimpleRangeDecoratorConfig;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.GenerationStep;
 import net.minecraft.world.gen.decorator.Decorator;
+import net.minecraft.world.gen.decorator.DecoratorConfig;
+import net.minecraft.world.gen.feature.ConfiguredFeature;
+import net.minecraft.world.gen.feature.DefaultFeatureConfig;
+import net.minecraft.world.gen.feature.Feature;
 
 public class RAAWorldAPI {
 
@@ -19,21 +25,34 @@ public class RAAWorldAPI {
      * @param target The block targeted by the ore generator.
      */
     public static void generateOresForTarget(Biome biome, OreFeatureConfig.Target target) {
-        Materials.MATERIALS.forEach(material -> {
-            if (material.getOreInformation().getTargetId() == target.getId()) {
-                biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES,
-                        new OreFeature(OreFeatureConfig::deserialize).configure(new OreFeatureConfig(target,
-                                Registry.BLOCK.get(Utils.appendToPath(material.getId(), "_ore")).getDefaultState(), material.getOreInformation().getOreClusterSize()))
-                                .createDecoratedFeature(Decorator.COUNT_RANGE.configure(new SimpleRangeDecoratorConfig(material.getOreInformation().getOreCount(), 0, 256))));
-            }
-        });
-        Materials.DIMENSION_MATERIALS.forEach(material -> {
-            if (material.getOreInformation().getTargetId() == target.getId()) {
-                biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES,
-                        new OreFeature(OreFeatureConfig::deserialize).configure(new OreFeatureConfig(target,
-                                Registry.BLOCK.get(Utils.appendToPath(material.getId(), "_ore")).getDefaultState(), material.getOreInformation().getOreClusterSize()))
-                                .createDecoratedFeature(Decorator.COUNT_RANGE.configure(new SimpleRangeDecoratorConfig(material.getOreInformation().getOreCount(), 0, 256))));
-            }
-        });
+        MultiOreFeatureConfig.Builder builder = MultiOreFeatureConfig.Builder.create(target);
+
+        Materials.MATERIALS.forEach(material -> addOre(builder, material, target));
+        Materials.DIMENSION_MATERIALS.forEach(material -> addOre(builder, material, target));
+
+        if (builder.isEmpty()) return;
+        addFusedOres(biome, Features.MULTI_ORE, builder);
+    }
+
+    /**
+     * Adds the fused ore feature followed by a no-op feature for every other material of the table. The ores take as
+     * many places in the biome as one feature per material did, so every feature after them keeps its seed.
+     */
+    public static void addFusedOres(Biome biome, MultiOreFeature feature, MultiOreFeatureConfig.Builder builder) {
+        int firstFeatureIndex = biome.getFeaturesForStep(GenerationStep.Feature.UNDERGROUND_ORES).size();
+        biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES, feature.configure(builder.build(firstFeatureIndex))
+                .createDecoratedFeature(Decorator.NOPE.configure(DecoratorConfig.DEFAULT)));
+        ConfiguredFeature<?, ?> placeholder = Feature.NO_OP.configure(new DefaultFeatureConfig())
+                .createDecoratedFeature(Decorator.NOPE.configure(DecoratorConfig.DEFAULT));
+        for (int i = 1; i < builder.size(); i++) {
+            biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES, placeholder);
+        }
+    }
+
+    private static void addOre(MultiOreFeatureConfig.Builder builder, Material material, OreFeatureConfig.Target target) {
+        if (material.getOreInformation().getTargetId() == target.getId()) {
+            builder.add(Registry.BLOCK.get(Utils.appendToPath(material.getId(), "_ore")).getDefaultState(),
+                    material.getOreInformation().getOreClusterSize(), material.getOreInformation().getOreCount(), 0, 256);
+        }
     }
 }
@@ -3,8 +3,8 @@ package io.github.vampirestudios.raa.api.dimension;
 import io.github.vampirestudios.raa.generation.dimensions.data.DimensionData;
 import io.github.vampirestudios.raa.generation.chunkgenerator.config.CustomOverworldChunkGeneratorConfig;
 import io.github.vampirestudios.raa.registries.ChunkGenerators;
-import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.Utils;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
@@ -29,6 +29,8 @@ public enum DimensionChunkGenerators {
     FLAT_CAVES,
     HIGH_CAVES;
 
+    private static final DimensionChunkGenerators[] REPLACEMENTS = {OVERWORLD, QUADRUPLE_AMPLIFIED, PILLAR_WORLD, FLOATING, LAYERED_FLOATING, PRE_CLASSIC_FLOATING, CAVE, FLAT_CAVES, HIGH_CAVES};
+
     public ChunkGenerator<?> getChunkGenerator(World world, BiomeSource biomeSource, DimensionData data, Block stoneBlock) {
         OverworldChunkGeneratorConfig config = new OverworldChunkGeneratorConfig();
         if (Utils.checkBitFlag(data.getFlags(), Utils.MOLTEN)) config.setDefaultFluid(Blocks.LAVA.getDefaultState());
@@ -65,16 +67,18 @@ public enum DimensionChunkGenerators {
             customConfig.setDefaultBlock(stoneBlock.getDefaultState());
             customConfig.shouldSacrificeAccuracyForSpeed(true);
             customConfig.shouldAddDetailNoise(true);
-            customConfig.setBaseHeight(Rands.randIntRange(60, 140));
-            customConfig.setBaseOctaveAmount(Rands.randIntRange(5, 15));
-            customConfig.setBiomeScaleAmount(Rands.randIntRange(3, 14));
-            customConfig.setBaseHeight(Rands.randIntRange(70, 130));
+            // seeded from the world so the terrain shape is the same every time the world is loaded
+            WorldgenRandom rand = WorldgenRandom.forDimension(world, "custom_overworld");
+            customConfig.setBaseHeight(rand.nextIntRange(60, 140));
+            customConfig.setBaseOctaveAmount(rand.nextIntRange(5, 15));
+            customConfig.setBiomeScaleAmount(rand.nextIntRange(3, 14));
+            customConfig.setBaseHeight(rand.nextIntRange(70, 130));
             return ChunkGenerators.CUSTOM_SURFACE.create(world, biomeSource, customConfig);
-        } else {
-            if (!FabricLoader.getInstance().isModLoaded("simplexterrain")) {
-                data.setDimensionChunkGenerator(Rands.values(DimensionChunkGenerators.values()));
-                data.getDimensionChunkGenerator().getChunkGenerator(world, biomeSource, data, stoneBlock);
-            }
+        } else if (this == CUSTOM_OVERWORLD) {
+            // without simplex terrain, seeded from the world so the replacement is the same every time the world is loaded
+            DimensionChunkGenerators replacement = WorldgenRandom.forDimension(world, "custom_overworld_replacement").pick(REPLACEMENTS);
+            data.setDimensionChunkGenerator(replacement);
+            return replacement.getChunkGenerator(world, biomeSource, data, stoneBlock);
         }
 
         return ChunkGenerators.SURFACE.create(world, biomeSource, config);
@@ -1,40 +1,54 @@
 package io.github.vampirestudios.raa.api.namegeneration;
 
+import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.Pair;
 
 import java.util.Collection;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 
 public interface INameGenerator {
-    String generate();
+    default String generate() {
+        return generate(Rands.getRandom());
+    }
+
+    String generate(Random random);
 
     default Pair<String, Identifier> generateUnique(Collection<Identifier> presentIds, final String modId) {
+        return generateUnique(Rands.getRandom(), presentIds, modId);
+    }
+
+    default Pair<String, Identifier> generateUnique(Random random, Collection<Identifier> presentIds, final String modId) {
         int loops = 0;
         Identifier identifier;
         String name;
         do {
-            name = generate();
+            name = generate(random);
             identifier = new Identifier(modId, asId(name));
             if (++loops > 50) {
-                throw new RuntimeException("Couldn't find a new name anymore.");
+                return numberName(new Pair<>(name, identifier), presentIds);
             }
         } while (presentIds.contains(identifier));
         return new Pair<>(name, identifier);
     }
 
+    /**
+     * Numbers a name that is already taken, for when rolling new names keeps running into taken ones.
+     */
+    static Pair<String, Identifier> numberName(Pair<String, Identifier> name, Collection<Identifier> presentIds) {
+        Identifier id = name.getRight();
+        for (int number = 2; ; number++) {
+            Identifier numberedId = new Identifier(id.getNamespace(), id.getPath() + "-" + number);
+            if (!presentIds.contains(numberedId)) {
+                return new Pair<>(name.getLeft() + "-" + number, numberedId);
+            }
+        }
+    }
+
     Map<String, String> getSpecialCharactersMap();
 
     default String asId(String name) {
-        String id = name;
-        Map<String, String> specialCharacters = getSpecialCharactersMap();
-        if (specialCharacters != null) {
-            for (Map.Entry<String, String> specialCharacter : specialCharacters.entrySet()) {
-                id = id.replace(specialCharacter.getKey(), specialCharacter.getValue());
-            }
-        }
-        id = id.toLowerCase(Locale.ENGLISH);
-        return id;
+        return NameTransliterator.of(this).asId(name);
     }
 }
@@ -0,0 +1,69 @@
+package io.github.vampirestudios.raa.api.namegeneration;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns generated names into identifier paths, replacing the special characters of a language in a single pass over
+ * the name.
+ *
+ * <p>The replacement table is built once per name generator from its {@link INameGenerator#getSpecialCharactersMap()},
+ * upper case variants included, since names start with a capital letter.</p>
+ */
+public final class NameTransliterator {
+    private static final Map<Class<?>, NameTransliterator> TRANSLITERATORS = new ConcurrentHashMap<>();
+
+    // indexed by character, null where the character is kept
+    private final String[] replacements;
+    // longer sequences can't go in the table, they are replaced one after another first
+    private final Map<String, String> sequenceReplacements = new LinkedHashMap<>();
+
+    private NameTransliterator(Map<String, String> specialCharacters) {
+        int size = 0;
+        if (specialCharacters != null) {
+            for (String character : specialCharacters.keySet()) {
+                if (character.length() == 1) {
+                    size = Math.max(size, Math.max(character.charAt(0), Character.toUpperCase(character.charAt(0))) + 1);
+                }
+            }
+        }
+        this.replacements = new String[size];
+        if (specialCharacters != null) {
+            for (Map.Entry<String, String> entry : specialCharacters.entrySet()) {
+                if (entry.getKey().length() != 1) {
+                    this.sequenceReplacements.put(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                char upperCase = Character.toUpperCase(entry.getKey().charAt(0));
+                if (!specialCharacters.containsKey(String.valueOf(upperCase))) {
+                    this.replacements[upperCase] = entry.getValue();
+                }
+                this.replacements[entry.getKey().charAt(0)] = entry.getValue();
+            }
+        }
+    }
+
+    public static NameTransliterator of(INameGenerator generator) {
+        return TRANSLITERATORS.computeIfAbsent(generator.getClass(), c -> new NameTransliterator(generator.getSpecialCharactersMap()));
+    }
+
+    public String asId(String name) {
+        for (Map.Entry<String, String> sequence : this.sequenceReplacements.entrySet()) {
+            name = name.replace(sequence.getKey(), sequence.getValue());
+        }
+        StringBuilder id = null;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            String replacement = c < this.replacements.length ? this.replacements[c] : null;
+            if (replacement != null) {
+                if (id == null) id = new StringBuilder(name.length()).append(name, 0, i);
+                id.append(replacement);
+            } else if (id != null) {
+                id.append(c);
+            }
+        }
+        return (id == null ? name : id.toString()).toLowerCase(Locale.ENGLISH);
+    }
+}
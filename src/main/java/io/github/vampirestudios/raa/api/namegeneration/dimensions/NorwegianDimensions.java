@@ -3,11 +3,12 @@ package io.github.vampirestudios.raa.api.namegeneration.dimensions;
 import io.github.vampirestudios.raa.api.namegeneration.INameGenerator;
 
 import java.util.Map;
+import java.util.Random;
 
 public class NorwegianDimensions implements INameGenerator {
 
     @Override
-    public String generate() {
+    public String generate(Random rnd) {
         return null;
     }
 
@@ -37,8 +37,7 @@ public class SpanishDimensions implements INameGenerator {
         System.out.println("TitleCase:" + titleCased);
     }
 
-    public String generate() {
-        Random rnd = new Random();
+    public String generate(Random rnd) {
 
         String prefix = LATIN_PREFIXES[rnd.nextInt(LATIN_PREFIXES.length)];
         String middle = MIDDLES[rnd.nextInt(MIDDLES.length)];
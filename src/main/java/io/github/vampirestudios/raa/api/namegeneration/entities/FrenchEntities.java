@@ -1,10 +1,10 @@
 package io.github.vampirestudios.raa.api.namegeneration.entities;
 
 import io.github.vampirestudios.raa.api.namegeneration.INameGenerator;
-import io.github.vampirestudios.raa.utils.Rands;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 public class FrenchEntities implements INameGenerator {
 
@@ -15,7 +15,6 @@ public class FrenchEntities implements INameGenerator {
     private static String[] list2 = new String[]{"d", "t", "h", "k", "qu", "br", "cr", "dr", "gr", "fr", "vr", "pr", "tr", "bl"};
     private static String[] list3 = new String[]{"cl", "gl", "fl", "pl", "n", "g", "ph", "ç", "gn", "y", "mp", "mb", "w", "gr"};
     private static String[] list6 = new String[]{"ite", "ium"};
-    private static String[] list4 = new String[list1.length];
 
     private static String lf(String string, String string1) {
         String string2 = string + string1;
@@ -25,22 +24,23 @@ public class FrenchEntities implements INameGenerator {
     }
 
     @Override
-    public String generate() {
+    public String generate(Random rnd) {
+        String[] list4 = new String[list1.length];
         for (int o = 0; o < list1.length; o++) {
             String[] choice = {list3[o], list2[o], list1[o]};
-            list4[o] = Rands.values(choice);
+            list4[o] = choice[rnd.nextInt(choice.length)];
         }
         int ab = 1;
-        int aa = Rands.randInt(ab + 1);
+        int aa = rnd.nextInt(ab + 1);
         int b = 1;
-        int c = Rands.randInt(b + 1);
-        int d = Rands.randInt(c + 1);
-        String[] l1 = new String[]{"", Rands.values(list4)};
-        String[] l2 = new String[]{"", Rands.values(vowels)};
-        String[] l3 = new String[]{"", Rands.values(list4)};
-        String[] l4 = new String[]{"", Rands.values(vowels)};
-        String[] l5 = new String[]{"", Rands.values(list4)};
-        String string = (lf(l1[aa], l2[ab]) + l3[b] + l4[c] + l5[d] + Rands.values(list6));
+        int c = rnd.nextInt(b + 1);
+        int d = rnd.nextInt(c + 1);
+        String[] l1 = new String[]{"", list4[rnd.nextInt(list4.length)]};
+        String[] l2 = new String[]{"", vowels[rnd.nextInt(vowels.length)]};
+        String[] l3 = new String[]{"", list4[rnd.nextInt(list4.length)]};
+        String[] l4 = new String[]{"", vowels[rnd.nextInt(vowels.length)]};
+        String[] l5 = new String[]{"", list4[rnd.nextInt(list4.length)]};
+        String string = (lf(l1[aa], l2[ab]) + l3[b] + l4[c] + l5[d] + list6[rnd.nextInt(list6.length)]);
         if (string.startsWith("mp")) string = string.replace("mp", "p");
         return string;
     }
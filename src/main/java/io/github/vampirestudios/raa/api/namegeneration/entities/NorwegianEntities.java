@@ -3,11 +3,12 @@ package io.github.vampirestudios.raa.api.namegeneration.entities;
 import io.github.vampirestudios.raa.api.namegeneration.INameGenerator;
 
 import java.util.Map;
+import java.util.Random;
 
 public class NorwegianEntities implements INameGenerator {
 
     @Override
-    public String generate() {
+    public String generate(Random rnd) {
         return null;
     }
 
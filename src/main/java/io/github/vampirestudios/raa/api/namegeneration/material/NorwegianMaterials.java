@@ -3,11 +3,12 @@ package io.github.vampirestudios.raa.api.namegeneration.material;
 import io.github.vampirestudios.raa.api.namegeneration.INameGenerator;
 
 import java.util.Map;
+import java.util.Random;
 
 public class NorwegianMaterials implements INameGenerator {
 
     @Override
-    public String generate() {
+    public String generate(Random rnd) {
         return null;
     }
 
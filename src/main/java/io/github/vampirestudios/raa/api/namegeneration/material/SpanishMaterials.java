@@ -41,8 +41,7 @@ public class SpanishMaterials implements INameGenerator {
         System.out.println("TitleCase:" + titleCased);
     }
 
-    public String generate() {
-        Random rnd = new Random();
+    public String generate(Random rnd) {
         String ending = "";
         int endingRoll = rnd.nextInt(100);
         if (endingRoll < 30) {
@@ -0,0 +1,75 @@
+package io.github.vampirestudios.raa.commands;
+
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.CommandDispatcher;
+import io.github.vampirestudios.raa.registries.Dimensions;
+import io.github.vampirestudios.raa.world.pregen.ChunkPregenerator;
+import io.github.vampirestudios.raa.world.pregen.PregenState;
+import net.minecraft.command.arguments.IdentifierArgumentType;
+import net.minecraft.server.command.CommandSource;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+
+import static com.mojang.brigadier.arguments.IntegerArgumentType.getInteger;
+import static com.mojang.brigadier.arguments.IntegerArgumentType.integer;
+import static net.minecraft.server.command.CommandManager.argument;
+import static net.minecraft.server.command.CommandManager.literal;
+
+public class CommandPregen {
+    private static final int MAX_RADIUS = 1024;
+
+    public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(literal("raa")
+                .then(literal("pregen").requires(source -> source.hasPermissionLevel(2))
+                        .then(literal("stop").executes(ctx -> stop(ctx.getSource())))
+                        .then(literal("status").executes(ctx -> status(ctx.getSource())))
+                        .then(literal("all").then(argument("radius", integer(0, MAX_RADIUS))
+                                .executes(ctx -> pregenAll(ctx.getSource(), getInteger(ctx, "radius")))))
+                        .then(argument("dimension", IdentifierArgumentType.identifier())
+                                .suggests((ctx, builder) -> CommandSource.suggestIdentifiers(Dimensions.DIMENSIONS.getIds(), builder))
+                                .then(argument("radius", integer(0, MAX_RADIUS))
+                                        .executes(ctx -> pregen(ctx.getSource(), IdentifierArgumentType.getIdentifier(ctx, "dimension"), getInteger(ctx, "radius"))))))
+        );
+    }
+
+    private static int pregenAll(ServerCommandSource source, int radius) {
+        int queued = 0;
+        for (Identifier dimension : Dimensions.DIMENSIONS.getIds()) {
+            queued += pregen(source, dimension, radius);
+        }
+        return queued;
+    }
+
+    private static int pregen(ServerCommandSource source, Identifier dimension, int radius) {
+        if (!Dimensions.DIMENSIONS.getOrEmpty(dimension).isPresent() || Registry.DIMENSION.get(dimension) == null) {
+            source.sendError(new LiteralText("'" + dimension + "' is not an RAA dimension").formatted(Formatting.RED));
+            return 0;
+        }
+        // centered on the player when they are in that dimension, on the origin otherwise
+        int centerX = 0;
+        int centerZ = 0;
+        if (source.getWorld().getDimension().getType() == Registry.DIMENSION.get(dimension)) {
+            centerX = (int) Math.floor(source.getPosition().x) >> 4;
+            centerZ = (int) Math.floor(source.getPosition().z) >> 4;
+        }
+        PregenState.Job job = new PregenState.Job(dimension, centerX, centerZ, radius);
+        ChunkPregenerator.get(source.getMinecraftServer()).addJob(source, job);
+        source.sendFeedback(new LiteralText("Queued " + job.getChunkCount() + " chunks of " + dimension + " for pregeneration"), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int stop(ServerCommandSource source) {
+        ChunkPregenerator.get(source.getMinecraftServer()).stop();
+        source.sendFeedback(new LiteralText("Stopped the pregeneration of every RAA dimension"), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int status(ServerCommandSource source) {
+        ChunkPregenerator.get(source.getMinecraftServer()).reportStatus(source);
+        return Command.SINGLE_SUCCESS;
+    }
+
+}
@@ -0,0 +1,138 @@
+package io.github.vampirestudios.raa.config;
+
+import com.google.gson.Gson;
+import io.github.vampirestudios.raa.config.readers.BinaryJsonReader;
+import io.github.vampirestudios.raa.config.readers.BinaryJsonWriter;
+import io.github.vampirestudios.raa.utils.Utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The binary copy ({@code .raabin}) of a json data file.
+ *
+ * <p>The header holds the length, last modified time and CRC32 of the json file it was written from, followed by
+ * the CRC32 of the entries. The copy is only used as long as the json file still matches it; the checksum of the
+ * json file is only computed when its length or time changed, so touching it doesn't throw the copy away.</p>
+ */
+public class BinaryDataFile<T> {
+    private static final int MAGIC = 0x52414142;
+    private static final int VERSION = 1;
+
+    private final File file;
+    private final File sourceFile;
+    private final int dataVersion;
+    private final Class<T> entryClass;
+    private final Gson gson;
+
+    /**
+     * @param sourceFile  the json file this is a copy of
+     * @param dataVersion the version of the json format, copies of other versions are not used
+     */
+    public BinaryDataFile(File file, File sourceFile, int dataVersion, Class<T> entryClass, Gson gson) {
+        this.file = file;
+        this.sourceFile = sourceFile;
+        this.dataVersion = dataVersion;
+        this.entryClass = entryClass;
+        this.gson = gson;
+    }
+
+    public File getFile() {
+        return this.file;
+    }
+
+    public boolean exists() {
+        return this.file.exists();
+    }
+
+    /**
+     * @return the entries, or null when the file is missing, of another format or no longer matches the json file
+     * @throws IOException when the file can't be read or is damaged
+     */
+    public List<T> read() throws IOException {
+        if (!this.file.exists()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != this.dataVersion) return null;
+            long sourceLength = in.readLong();
+            long sourceLastModified = in.readLong();
+            long sourceChecksum = in.readLong();
+            long payloadChecksum = in.readLong();
+
+            if ((sourceLength != this.sourceFile.length() || sourceLastModified != this.sourceFile.lastModified()) && sourceChecksum != checksum(this.sourceFile)) {
+                return null;
+            }
+
+            CheckedInputStream payload = new CheckedInputStream(in, new CRC32());
+            BinaryJsonReader reader = new BinaryJsonReader(payload);
+            List<T> entries = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                entries.add(this.gson.fromJson(reader, this.entryClass));
+            }
+            reader.endArray();
+            if (payload.getChecksum().getValue() != payloadChecksum) {
+                throw new IOException("The checksum of \"" + this.file + "\" doesn't match its content");
+            }
+            return entries;
+        } catch (RuntimeException e) {
+            // Gson reports malformed input as unchecked exceptions
+            throw new IOException("Couldn't read \"" + this.file + "\"", e);
+        }
+    }
+
+    /**
+     * @param sourceChecksum the CRC32 of the json file the entries were written to
+     */
+    public void write(List<T> entries, long sourceChecksum) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        CheckedOutputStream checkedPayload = new CheckedOutputStream(payload, new CRC32());
+        BinaryJsonWriter writer = new BinaryJsonWriter(checkedPayload);
+        writer.beginArray();
+        for (T entry : entries) {
+            this.gson.toJson(entry, entry.getClass(), writer);
+        }
+        writer.endArray();
+        writer.flush();
+
+        File tempFile = new File(this.file.getPath() + ".tmp");
+        try (FileOutputStream fileStream = new FileOutputStream(tempFile, false)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileStream));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.dataVersion);
+            out.writeLong(this.sourceFile.length());
+            out.writeLong(this.sourceFile.lastModified());
+            out.writeLong(sourceChecksum);
+            out.writeLong(checkedPayload.getChecksum().getValue());
+            payload.writeTo(out);
+            out.flush();
+            fileStream.getFD().sync();
+        }
+        Utils.moveAtomically(tempFile, this.file);
+    }
+
+    public static long checksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[65536];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -14,10 +14,7 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
 
-import java.io.FileWriter;
-import java.util.Arrays;
-
-public class DimensionMaterialsConfig extends RAADataConfig {
+public class DimensionMaterialsConfig extends RAADataConfig<DimensionMaterial> {
     public DimensionMaterialsConfig(String fileName) {
         super(fileName);
     }
@@ -93,26 +90,30 @@ public class DimensionMaterialsConfig extends RAADataConfig {
     }
 
     @Override
-    protected void load(JsonObject jsonObject) {
-        DimensionMaterial[] materials = GsonUtils.getGson().fromJson(JsonHelper.getArray(jsonObject, "dimension_materials"), DimensionMaterial[].class);
-        Arrays.stream(materials).forEach(material -> {
-            if (material.getArmorMaterial() != null) {
-                material.getArmorMaterial().setMaterialId(material.getId());
-                material.getArmorMaterial().setOreType(material.getOreInformation().getOreType());
-            }
-            if (material.getToolMaterial() != null) {
-                material.getToolMaterial().setMaterialId(material.getId());
-                material.getToolMaterial().setOreType(material.getOreInformation().getOreType());
-            }
-            Registry.register(Materials.DIMENSION_MATERIALS, material.getId(), material);
-        });
+    protected String getEntriesName() {
+        return "dimension_materials";
     }
 
     @Override
-    protected void save(FileWriter fileWriter) {
-        JsonObject main = new JsonObject();
-        main.add("dimension_materials", GsonUtils.getGson().toJsonTree(Materials.DIMENSION_MATERIALS.stream().toArray(DimensionMaterial[]::new)));
-        main.addProperty("configVersion", CURRENT_VERSION);
-        GsonUtils.getGson().toJson(main, fileWriter);
+    protected Class<DimensionMaterial> getEntryClass() {
+        return DimensionMaterial.class;
+    }
+
+    @Override
+    protected Iterable<DimensionMaterial> getEntries() {
+        return Materials.DIMENSION_MATERIALS;
+    }
+
+    @Override
+    protected void register(DimensionMaterial material) {
+        if (material.getArmorMaterial() != null) {
+            material.getArmorMaterial().setMaterialId(material.getId());
+            material.getArmorMaterial().setOreType(material.getOreInformation().getOreType());
+        }
+        if (material.getToolMaterial() != null) {
+            material.getToolMaterial().setMaterialId(material.getId());
+            material.getToolMaterial().setOreType(material.getOreInformation().getOreType());
+        }
+        Registry.register(Materials.DIMENSION_MATERIALS, material.getId(), material);
     }
 }
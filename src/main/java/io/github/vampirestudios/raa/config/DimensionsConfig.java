@@ -9,10 +9,7 @@ import io.github.vampirestudios.raa.utils.Utils;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
 
-import java.io.FileWriter;
-import java.util.Arrays;
-
-public class DimensionsConfig extends RAADataConfig {
+public class DimensionsConfig extends RAADataConfig<DimensionData> {
     public DimensionsConfig(String fileName) {
         super(fileName);
     }
@@ -53,16 +50,22 @@ public class DimensionsConfig extends RAADataConfig {
     }
 
     @Override
-    protected void load(JsonObject jsonObject) {
-        DimensionData[] dimensionsData = GsonUtils.getGson().fromJson(JsonHelper.getArray(jsonObject, "dimensions"), DimensionData[].class);
-        Arrays.stream(dimensionsData).forEach(dimensionData -> Registry.register(Dimensions.DIMENSIONS, dimensionData.getId(), dimensionData));
+    protected String getEntriesName() {
+        return "dimensions";
+    }
+
+    @Override
+    protected Class<DimensionData> getEntryClass() {
+        return DimensionData.class;
+    }
+
+    @Override
+    protected Iterable<DimensionData> getEntries() {
+        return Dimensions.DIMENSIONS;
     }
 
     @Override
-    protected void save(FileWriter fileWriter) {
-        JsonObject main = new JsonObject();
-        main.add("dimensions", GsonUtils.getGson().toJsonTree(Dimensions.DIMENSIONS.stream().toArray(DimensionData[]::new)));
-        main.addProperty("configVersion", CURRENT_VERSION);
-        GsonUtils.getGson().toJson(main, fileWriter);
+    protected void register(DimensionData dimensionData) {
+        Registry.register(Dimensions.DIMENSIONS, dimensionData.getId(), dimensionData);
     }
 }
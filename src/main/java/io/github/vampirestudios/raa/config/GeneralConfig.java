@@ -4,14 +4,40 @@ import io.github.vampirestudios.raa.RandomlyAddingAnything;
 import io.github.vampirestudios.raa.api.namegeneration.LangEnum;
 import me.sargunvohra.mcmods.autoconfig1u.ConfigData;
 import me.sargunvohra.mcmods.autoconfig1u.annotation.Config;
+import me.sargunvohra.mcmods.autoconfig1u.annotation.ConfigEntry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Config(name = RandomlyAddingAnything.MOD_ID)
 public class GeneralConfig implements ConfigData {
 
     public int materialNumber = 100;
     public int dimensionNumber = 20;
+    public int civilizationNumber = 10;
     public boolean debug = false;
     public boolean regen = false;
     public LangEnum namingLanguage = LangEnum.ENGLISH;
+    // 0 picks a new seed on every generation
+    public long generationSeed = 0;
+    // 0 uses every available processor
+    public int generationThreads = 0;
+    // budget in ms per startup phase name, like "materials_config": 500, phases going over it are reported in
+    // config/raa/startup-profile.json; phases without a budget are not checked
+    @ConfigEntry.Gui.Excluded
+    public Map<String, Long> startupPhaseBudgetsMillis = new LinkedHashMap<>();
+    public boolean failOnStartupBudget = false;
+    // keeps a binary copy of the data files next to them, which loads much faster
+    public boolean binaryDataFiles = true;
+    // entries of every biome layer cache, per layer stack; dimensions can override it with biomeLayerCacheSize
+    public int biomeLayerCacheSize = 1024;
+    // chunks of biomes remembered by every dimension
+    public int biomeRegionMemoSize = 4096;
+    // noise columns remembered by every dimension with a noise based terrain generator
+    public int noiseColumnCacheSize = 4096;
+    // chunks /raa pregen waits for at once
+    public int pregenChunksInFlight = 16;
+    // /raa pregen stops requesting chunks while the average tick takes longer than this, 0 disables it
+    public int pregenMaxMspt = 45;
 
 }
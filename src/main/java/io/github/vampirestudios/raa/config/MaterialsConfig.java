@@ -14,10 +14,7 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.util.registry.Registry;
 
-import java.io.FileWriter;
-import java.util.Arrays;
-
-public class MaterialsConfig extends RAADataConfig {
+public class MaterialsConfig extends RAADataConfig<Material> {
     public MaterialsConfig(String fileName) {
         super(fileName);
     }
@@ -89,26 +86,30 @@ public class MaterialsConfig extends RAADataConfig {
     }
 
     @Override
-    protected void load(JsonObject jsonObject) {
-        Material[] materials = GsonUtils.getGson().fromJson(JsonHelper.getArray(jsonObject, "materials"), Material[].class);
-        Arrays.stream(materials).forEach(material -> {
-            if (material.getArmorMaterial() != null) {
-                material.getArmorMaterial().setMaterialId(material.getId());
-                material.getArmorMaterial().setOreType(material.getOreInformation().getOreType());
-            }
-            if (material.getToolMaterial() != null) {
-                material.getToolMaterial().setMaterialId(material.getId());
-                material.getToolMaterial().setOreType(material.getOreInformation().getOreType());
-            }
-            Registry.register(Materials.MATERIALS, material.getId(), material);
-        });
+    protected String getEntriesName() {
+        return "materials";
     }
 
     @Override
-    protected void save(FileWriter fileWriter) {
-        JsonObject main = new JsonObject();
-        main.add("materials", GsonUtils.getGson().toJsonTree(Materials.MATERIALS.stream().toArray(Material[]::new)));
-        main.addProperty("configVersion", CURRENT_VERSION);
-        GsonUtils.getGson().toJson(main, fileWriter);
+    protected Class<Material> getEntryClass() {
+        return Material.class;
+    }
+
+    @Override
+    protected Iterable<Material> getEntries() {
+        return Materials.MATERIALS;
+    }
+
+    @Override
+    protected void register(Material material) {
+        if (material.getArmorMaterial() != null) {
+            material.getArmorMaterial().setMaterialId(material.getId());
+            material.getArmorMaterial().setOreType(material.getOreInformation().getOreType());
+        }
+        if (material.getToolMaterial() != null) {
+            material.getToolMaterial().setMaterialId(material.getId());
+            material.getToolMaterial().setOreType(material.getOreInformation().getOreType());
+        }
+        Registry.register(Materials.MATERIALS, material.getId(), material);
     }
 }
@@ -1,27 +1,105 @@
 package io.github.vampirestudios.raa.config;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.vampirestudios.raa.RandomlyAddingAnything;
 import io.github.vampirestudios.raa.utils.GsonUtils;
+import io.github.vampirestudios.raa.utils.Utils;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.util.JsonHelper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
-public abstract class RAADataConfig {
+/**
+ * A data file holding one array of generated content.
+ *
+ * <p>The json file is the source of truth and the one players edit. Next to it a binary copy ({@code .raabin}) is
+ * kept, which is loaded instead as long as it was written from the json as it is now. Json files of the current
+ * version are read as a stream, only older ones are parsed into a tree to be upgraded.</p>
+ *
+ * <p>Saving only happens when the entries were marked dirty and runs on a background thread, only
+ * {@link #overrideFile()} writes right away and fails loudly. The file is written to a temporary file first, synced and
+ * then moved over the old one, which is kept as a {@code .bak} to fall back to when the data file can't be loaded.</p>
+ */
+public abstract class RAADataConfig<T> {
     public static final int CURRENT_VERSION = 2;
     public static final File CONFIG_PATH = new File(FabricLoader.getInstance().getConfigDirectory(), RandomlyAddingAnything.MOD_ID);
 
+    private static final Logger LOGGER = LogManager.getLogger(RandomlyAddingAnything.MOD_ID);
+    private static volatile boolean binaryDataFiles = true;
+
+    private static final ExecutorService SAVE_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "RAA Data File Saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(RAADataConfig::finishSaving, "RAA Data File Saver Shutdown"));
+    }
+
     private final File configFile;
+    private final File backupFile;
+    private final File binaryFile;
+    private final AtomicReference<List<T>> pendingSave = new AtomicReference<>();
+    private volatile boolean dirty;
+    // set when the data file failed to load, so the broken file doesn't replace the backup on the next save
+    private volatile boolean configFileBroken;
 
     protected RAADataConfig(String fileName) {
-        configFile = new File(CONFIG_PATH, fileName + ".json");
+        this(CONFIG_PATH, fileName);
+    }
+
+    protected RAADataConfig(File directory, String fileName) {
+        configFile = new File(directory, fileName + ".json");
+        backupFile = new File(directory, fileName + ".json.bak");
+        binaryFile = new File(directory, fileName + ".raabin");
+    }
+
+    /**
+     * Called with the setting from the config, so loading a data file doesn't need the mod to be initialized.
+     */
+    public static void setup(boolean useBinaryDataFiles) {
+        binaryDataFiles = useBinaryDataFiles;
+    }
+
+    /**
+     * Waits for the saves still queued, called when the game shuts down.
+     */
+    public static void finishSaving() {
+        SAVE_EXECUTOR.shutdown();
+        try {
+            if (!SAVE_EXECUTOR.awaitTermination(30, TimeUnit.SECONDS)) {
+                LOGGER.warn("RAA data files are still being saved, giving up on waiting for them.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     protected static void iterateArrayObjects(JsonArray jsonArray, Consumer<JsonObject> runnable) {
@@ -31,50 +109,159 @@ public abstract class RAADataConfig {
                 try {
                     runnable.accept(jsonObject);
                 } catch (Throwable e) {
-                    RandomlyAddingAnything.LOGGER.warn("Couldn't process array entry: " + jsonObject);
+                    LOGGER.warn("Couldn't process array entry: " + jsonObject);
                     e.printStackTrace();
                 }
             } else {
-                RandomlyAddingAnything.LOGGER.warn(jsonElement.toString() + " is not an object. Skipping to next json element.");
+                LOGGER.warn(jsonElement.toString() + " is not an object. Skipping to next json element.");
             }
         }
     }
 
+    /**
+     * Reads the entries, falling back to the backup when the data file can't be read, and registers them once read.
+     */
     public void load() {
+        boolean useBinary = binaryDataFiles;
+        List<T> entries = useBinary ? readBinary() : null;
+        if (entries != null) {
+            entries.forEach(this::register);
+            LOGGER.info("Loaded RAA data file \"" + binaryFile.toString() + "\".");
+            return;
+        }
+
+        File loadedFile = configFile;
         try {
-            JsonObject json = GsonUtils.getGson().fromJson(new FileReader(configFile), JsonObject.class);
-            int version = JsonHelper.getInt(json, "configVersion", -1);
-            for (int i = version; i < CURRENT_VERSION; i++) {
-                RandomlyAddingAnything.LOGGER.info("Upgrading RAA data file \"" + configFile.toString() + "\" to version " + (i + 1) + ".");
-                json = upgrade(json, i);
-            }
-            load(json);
-            RandomlyAddingAnything.LOGGER.info("Loaded RAA data file \"" + configFile.toString() + "\".");
-            if (version != CURRENT_VERSION) {
-                save();
-                RandomlyAddingAnything.LOGGER.info("Saved upgraded RAA file.");
-            }
+            entries = read(configFile);
         } catch (Throwable e) {
             e.printStackTrace();
-            RandomlyAddingAnything.LOGGER.info("Couldn't load RAA data file \"" + configFile.toString() + "\": " + e.getClass().getCanonicalName() + ". Initiating crash...");
-            System.exit(1);
+            entries = null;
+            if (backupFile.exists()) {
+                LOGGER.warn("Couldn't load RAA data file \"" + configFile.toString() + "\", loading the backup \"" + backupFile.toString() + "\" instead.");
+                try {
+                    entries = read(backupFile);
+                    loadedFile = backupFile;
+                    configFileBroken = true;
+                    markDirty();
+                } catch (Throwable backupException) {
+                    backupException.printStackTrace();
+                }
+            }
+            if (entries == null) {
+                LOGGER.info("Couldn't load RAA data file \"" + configFile.toString() + "\": " + e.getClass().getCanonicalName() + ". Initiating crash...");
+                System.exit(1);
+                return;
+            }
+        }
+
+        entries.forEach(this::register);
+        LOGGER.info("Loaded RAA data file \"" + loadedFile.toString() + "\".");
+        if (dirty) {
+            save();
+        } else if (useBinary) {
+            List<T> snapshot = entries;
+            SAVE_EXECUTOR.execute(() -> {
+                try {
+                    binaryCopy().write(snapshot, BinaryDataFile.checksum(configFile));
+                } catch (IOException e) {
+                    LOGGER.warn("Couldn't write RAA data file \"" + binaryFile.toString() + "\".");
+                    e.printStackTrace();
+                }
+            });
         }
     }
 
+    /**
+     * Reads the entries of a json data file without registering them, upgrading them when the file is of an older
+     * version. Upgraded entries are marked dirty, so they are saved once registered.
+     */
+    private List<T> read(File file) throws IOException {
+        int version = readVersion(file);
+        if (version == CURRENT_VERSION) {
+            return readStreaming(file);
+        }
+        JsonObject json;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            json = GsonUtils.getGson().fromJson(reader, JsonObject.class);
+        }
+        for (int i = version; i < CURRENT_VERSION; i++) {
+            LOGGER.info("Upgrading RAA data file \"" + file.toString() + "\" to version " + (i + 1) + ".");
+            json = upgrade(json, i);
+        }
+        List<T> entries = readTree(json);
+        markDirty();
+        return entries;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Queues a save of the current entries when they were marked dirty or the file doesn't exist yet. Saves queued
+     * before the previous one started are merged into one.
+     */
     public void save() {
-        if (!configFile.exists()) {
-            overrideFile();
+        if (!dirty && configFile.exists()) return;
+        dirty = false;
+        List<T> snapshot = new ArrayList<>();
+        getEntries().forEach(snapshot::add);
+        if (pendingSave.getAndSet(snapshot) == null) {
+            SAVE_EXECUTOR.execute(this::writePendingSave);
         }
     }
 
+    /**
+     * Writes the current entries right away, replacing any save still queued.
+     *
+     * @throws RuntimeException when the file couldn't be written
+     */
     public void overrideFile() {
-        try {
-            new File(configFile.getParent()).mkdirs();
-            FileWriter fileWriter = new FileWriter(configFile, false);
-            save(fileWriter);
-            fileWriter.close();
-        } catch (IOException e) {
-            throw new RuntimeException("Couldn't save RAA data file: " + configFile.toString(), e);
+        synchronized (this) {
+            pendingSave.set(null);
+            dirty = false;
+            List<T> entries = new ArrayList<>();
+            getEntries().forEach(entries::add);
+            try {
+                write(entries);
+            } catch (IOException e) {
+                dirty = true;
+                throw new RuntimeException("Couldn't save RAA data file: " + configFile.toString(), e);
+            }
+        }
+    }
+
+    private void writePendingSave() {
+        synchronized (this) {
+            List<T> entries = pendingSave.getAndSet(null);
+            if (entries == null) return;
+            try {
+                write(entries);
+            } catch (Throwable e) {
+                dirty = true;
+                LOGGER.error("Couldn't save RAA data file \"" + configFile.toString() + "\".");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void write(List<T> entries) throws IOException {
+        new File(configFile.getParent()).mkdirs();
+        File tempFile = new File(configFile.getPath() + ".tmp");
+        CRC32 checksum = new CRC32();
+        try (FileOutputStream fileStream = new FileOutputStream(tempFile, false)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new CheckedOutputStream(fileStream, checksum)));
+            save(writer, entries);
+            writer.flush();
+            fileStream.getFD().sync();
+        }
+        if (configFile.exists() && !configFileBroken) {
+            Files.copy(configFile.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Utils.moveAtomically(tempFile, configFile);
+        configFileBroken = false;
+        if (binaryDataFiles) {
+            binaryCopy().write(entries, checksum.getValue());
         }
     }
 
@@ -82,11 +269,101 @@ public abstract class RAADataConfig {
 
     protected abstract JsonObject upgrade(JsonObject json, int version);
 
-    protected abstract void load(JsonObject jsonObject);
+    /**
+     * @return the name of the array holding the entries in the json file
+     */
+    protected abstract String getEntriesName();
+
+    protected abstract Class<T> getEntryClass();
 
-    protected abstract void save(FileWriter fileWriter);
+    protected abstract Iterable<T> getEntries();
+
+    protected abstract void register(T entry);
+
+    protected void save(Writer writer, List<T> entries) throws IOException {
+        Gson gson = GsonUtils.getGson();
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.beginObject();
+        // written first, so loading can tell whether the file needs an upgrade without reading it all
+        jsonWriter.name("configVersion").value(CURRENT_VERSION);
+        jsonWriter.name(getEntriesName()).beginArray();
+        for (T entry : entries) {
+            gson.toJson(entry, entry.getClass(), jsonWriter);
+        }
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
 
     public boolean fileExist() {
         return this.configFile.exists();
     }
+
+    private int readVersion(File file) throws IOException {
+        try (JsonReader reader = GsonUtils.getGson().newJsonReader(new BufferedReader(new FileReader(file)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("configVersion") && reader.peek() == JsonToken.NUMBER) {
+                    return reader.nextInt();
+                }
+                reader.skipValue();
+            }
+        }
+        return -1;
+    }
+
+    private List<T> readStreaming(File file) throws IOException {
+        List<T> entries = new ArrayList<>();
+        try (JsonReader reader = GsonUtils.getGson().newJsonReader(new BufferedReader(new FileReader(file)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals(getEntriesName())) {
+                    readEntries(reader, entries);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        return entries;
+    }
+
+    private List<T> readTree(JsonObject json) {
+        List<T> entries = new ArrayList<>();
+        for (JsonElement element : JsonHelper.getArray(json, getEntriesName())) {
+            entries.add(GsonUtils.getGson().fromJson(element, getEntryClass()));
+        }
+        return entries;
+    }
+
+    private void readEntries(JsonReader reader, List<T> entries) throws IOException {
+        Gson gson = GsonUtils.getGson();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            entries.add(gson.fromJson(reader, getEntryClass()));
+        }
+        reader.endArray();
+    }
+
+    /**
+     * @return the entries of the binary file, or null when it is missing, damaged or no longer matches the json file
+     */
+    private List<T> readBinary() {
+        if (!binaryFile.exists()) return null;
+        try {
+            List<T> entries = binaryCopy().read();
+            if (entries == null) {
+                LOGGER.info("RAA data file \"" + configFile.toString() + "\" changed, reloading it from json.");
+            }
+            return entries;
+        } catch (IOException e) {
+            LOGGER.warn("Couldn't read RAA data file \"" + binaryFile.toString() + "\", reloading it from json.");
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private BinaryDataFile<T> binaryCopy() {
+        return new BinaryDataFile<>(binaryFile, configFile, CURRENT_VERSION, getEntryClass(), GsonUtils.getGson());
+    }
 }
@@ -0,0 +1,235 @@
+package io.github.vampirestudios.raa.config.readers;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a stream written by {@link BinaryJsonWriter}, so Gson can deserialize objects from it without going through
+ * text.
+ */
+public class BinaryJsonReader extends JsonReader {
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+
+    private int peekedTag = -1;
+    private String peekedString;
+    private long peekedLong;
+    private double peekedDouble;
+
+    public BinaryJsonReader(InputStream in) {
+        super(UNREADABLE_READER);
+        this.in = new DataInputStream(in);
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (this.peekedTag < 0) {
+            this.readTag();
+        }
+        switch (this.peekedTag) {
+            case BinaryJsonWriter.BEGIN_ARRAY:
+                return JsonToken.BEGIN_ARRAY;
+            case BinaryJsonWriter.END_ARRAY:
+                return JsonToken.END_ARRAY;
+            case BinaryJsonWriter.BEGIN_OBJECT:
+                return JsonToken.BEGIN_OBJECT;
+            case BinaryJsonWriter.END_OBJECT:
+                return JsonToken.END_OBJECT;
+            case BinaryJsonWriter.NAME:
+                return JsonToken.NAME;
+            case BinaryJsonWriter.STRING:
+                return JsonToken.STRING;
+            case BinaryJsonWriter.LONG:
+            case BinaryJsonWriter.DOUBLE:
+            case BinaryJsonWriter.NUMBER_STRING:
+                return JsonToken.NUMBER;
+            case BinaryJsonWriter.TRUE:
+            case BinaryJsonWriter.FALSE:
+                return JsonToken.BOOLEAN;
+            case BinaryJsonWriter.NULL:
+                return JsonToken.NULL;
+            default:
+                return JsonToken.END_DOCUMENT;
+        }
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        this.expect(JsonToken.BEGIN_ARRAY);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        this.expect(JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        this.expect(JsonToken.BEGIN_OBJECT);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        this.expect(JsonToken.END_OBJECT);
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = this.peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        this.expect(JsonToken.NAME);
+        return this.peekedString;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        JsonToken token = this.peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            throw new IllegalStateException("Expected a string but was " + token);
+        }
+        int tag = this.consume();
+        if (tag == BinaryJsonWriter.LONG) return Long.toString(this.peekedLong);
+        if (tag == BinaryJsonWriter.DOUBLE) return Double.toString(this.peekedDouble);
+        return this.peekedString;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        if (this.peek() != JsonToken.BOOLEAN) throw new IllegalStateException("Expected a boolean but was " + this.peek());
+        return this.consume() == BinaryJsonWriter.TRUE;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        this.expect(JsonToken.NULL);
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        this.peek();
+        if (this.peekedTag == BinaryJsonWriter.LONG || this.peekedTag == BinaryJsonWriter.DOUBLE) {
+            return this.consume() == BinaryJsonWriter.LONG ? this.peekedLong : this.peekedDouble;
+        }
+        return Double.parseDouble(this.nextString());
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        this.peek();
+        if (this.peekedTag == BinaryJsonWriter.LONG) {
+            this.consume();
+            return this.peekedLong;
+        }
+        double value = this.nextDouble();
+        long result = (long) value;
+        if (result != value) throw new NumberFormatException("Expected a long but was " + value);
+        return result;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        long value = this.nextLong();
+        int result = (int) value;
+        if (result != value) throw new NumberFormatException("Expected an int but was " + value);
+        return result;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            JsonToken token = this.peek();
+            if (token == JsonToken.END_DOCUMENT) throw new EOFException("End of the binary data while skipping a value");
+            this.consume();
+            if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT) {
+                depth++;
+            } else if (token == JsonToken.END_ARRAY || token == JsonToken.END_OBJECT) {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        JsonToken token = this.peek();
+        if (token != expected) throw new IllegalStateException("Expected " + expected + " but was " + token);
+        this.consume();
+    }
+
+    private int consume() {
+        int tag = this.peekedTag;
+        this.peekedTag = -1;
+        return tag;
+    }
+
+    private void readTag() throws IOException {
+        int tag = this.in.read();
+        if (tag < 0) tag = BinaryJsonWriter.END_DOCUMENT;
+        switch (tag) {
+            case BinaryJsonWriter.NAME:
+            case BinaryJsonWriter.STRING:
+            case BinaryJsonWriter.NUMBER_STRING:
+                this.peekedString = this.readString();
+                break;
+            case BinaryJsonWriter.LONG:
+                long zigzag = this.readVarLong();
+                this.peekedLong = (zigzag >>> 1) ^ -(zigzag & 1);
+                break;
+            case BinaryJsonWriter.DOUBLE:
+                this.peekedDouble = this.in.readDouble();
+                break;
+            default:
+                break;
+        }
+        this.peekedTag = tag;
+    }
+
+    private String readString() throws IOException {
+        long index = this.readVarLong();
+        if (index != 0) return this.strings.get((int) index - 1);
+        byte[] bytes = new byte[(int) this.readVarLong()];
+        this.in.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        this.strings.add(value);
+        return value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = this.in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable length number in the binary data");
+    }
+}
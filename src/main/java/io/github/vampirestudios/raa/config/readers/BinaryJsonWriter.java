@@ -0,0 +1,190 @@
+package io.github.vampirestudios.raa.config.readers;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes the json token stream produced by Gson as a compact binary stream, read back by {@link BinaryJsonReader}.
+ *
+ * <p>Every token is a tag byte, followed by its value. Strings and names are written once and referenced by index
+ * afterwards, which is where most of the size of our data files goes.</p>
+ */
+public class BinaryJsonWriter extends JsonWriter {
+    static final int END_DOCUMENT = 0;
+    static final int BEGIN_ARRAY = 1;
+    static final int END_ARRAY = 2;
+    static final int BEGIN_OBJECT = 3;
+    static final int END_OBJECT = 4;
+    static final int NAME = 5;
+    static final int STRING = 6;
+    static final int LONG = 7;
+    static final int DOUBLE = 8;
+    static final int NUMBER_STRING = 9;
+    static final int TRUE = 10;
+    static final int FALSE = 11;
+    static final int NULL = 12;
+
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int counter) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private String deferredName;
+
+    public BinaryJsonWriter(OutputStream out) {
+        super(UNWRITABLE_WRITER);
+        this.out = new DataOutputStream(out);
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        return this.writeTag(BEGIN_ARRAY);
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        return this.writeTag(END_ARRAY);
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        return this.writeTag(BEGIN_OBJECT);
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        return this.writeTag(END_OBJECT);
+    }
+
+    @Override
+    public JsonWriter name(String name) {
+        Objects.requireNonNull(name, "name == null");
+        if (this.deferredName != null) throw new IllegalStateException("Name already written: " + this.deferredName);
+        this.deferredName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) return this.nullValue();
+        this.writeTag(STRING);
+        this.writeString(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (this.deferredName != null && !this.getSerializeNulls()) {
+            this.deferredName = null;
+            return this;
+        }
+        return this.writeTag(NULL);
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        return this.writeTag(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        if (value == null) return this.nullValue();
+        return this.value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        if (!this.isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+        this.writeTag(DOUBLE);
+        this.out.writeDouble(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        this.writeTag(LONG);
+        // zigzag, so small negative numbers stay small too
+        this.writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) return this.nullValue();
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return this.value(value.longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return this.value(value.doubleValue());
+        }
+        this.writeTag(NUMBER_STRING);
+        this.writeString(value.toString());
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writeTag(END_DOCUMENT);
+        this.out.close();
+    }
+
+    private JsonWriter writeTag(int tag) throws IOException {
+        if (this.deferredName != null) {
+            this.out.writeByte(NAME);
+            this.writeString(this.deferredName);
+            this.deferredName = null;
+        }
+        this.out.writeByte(tag);
+        return this;
+    }
+
+    private void writeString(String value) throws IOException {
+        Integer index = this.strings.get(value);
+        if (index != null) {
+            this.writeVarLong(index + 1);
+            return;
+        }
+        this.strings.put(value, this.strings.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.writeVarLong(0);
+        this.writeVarLong(bytes.length);
+        this.out.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            this.out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.out.writeByte((int) value);
+    }
+}
@@ -22,7 +22,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 public class RavineCarver extends Carver<ProbabilityConfig> {
-    private final float[] heightToHorizontalStretchFactor = new float[1024];
+    // filled by each ravine and read back by isPositionExcluded while it is carved, so every thread needs its own
+    private final ThreadLocal<float[]> heightToHorizontalStretchFactor = ThreadLocal.withInitial(() -> new float[1024]);
     private DimensionData data;
 
     public RavineCarver(DimensionData dimensionData) {
@@ -57,13 +58,14 @@ public class RavineCarver extends Carver<ProbabilityConfig> {
     private void carveRavine(Chunk chunk, Function<BlockPos, Biome> posBiomeFunction, long l, int chunkX, int chunkZ, int mainChunkZ, double v, double v1, double v2, float float_1, float float_2, float float_3, int int_5, BitSet bitSet_1) {
         Random random_1 = new Random(l);
         float float_4 = 1.0F;
+        float[] stretchFactors = this.heightToHorizontalStretchFactor.get();
 
         for (int int_6 = 0; int_6 < 256; ++int_6) {
             if (int_6 == 0 || random_1.nextInt(3) == 0) {
                 float_4 = 1.0F + random_1.nextFloat() * random_1.nextFloat();
             }
 
-            this.heightToHorizontalStretchFactor[int_6] = float_4 * float_4;
+            stretchFactors[int_6] = float_4 * float_4;
         }
 
         float float_5 = 0.0F;
@@ -98,7 +100,7 @@ public class RavineCarver extends Carver<ProbabilityConfig> {
     }
 
     protected boolean isPositionExcluded(double double_1, double double_2, double double_3, int int_1) {
-        return (double_1 * double_1 + double_3 * double_3) * (double) this.heightToHorizontalStretchFactor[int_1 - 1] + double_2 * double_2 / 6.0D >= 1.0D;
+        return (double_1 * double_1 + double_3 * double_3) * (double) this.heightToHorizontalStretchFactor.get()[int_1 - 1] + double_2 * double_2 / 6.0D >= 1.0D;
     }
 
     @Override
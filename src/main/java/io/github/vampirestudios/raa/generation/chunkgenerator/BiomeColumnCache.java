@@ -0,0 +1,71 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+
+/**
+ * The biomes of the 16x16 columns of a chunk, looked up once when its surface is built.
+ *
+ * <p>Every biome lookup through the biome access zooms the biome layers again, so the carvers and features of the
+ * chunk read this table instead. It is kept on the proto chunk itself, see {@link BiomeColumnCacheProvider}, so it is
+ * dropped along with it.</p>
+ */
+public final class BiomeColumnCache {
+    private final ChunkPos pos;
+    private final Biome[] biomes = new Biome[256];
+
+    private BiomeColumnCache(ChunkPos pos) {
+        this.pos = pos;
+    }
+
+    /**
+     * Fills the cache of the chunk from the biome access, dimensions use horizontal biome zooming so the height does
+     * not matter.
+     */
+    public static BiomeColumnCache attach(Chunk chunk, BiomeAccess biomeAccess) {
+        BiomeColumnCache cache = new BiomeColumnCache(chunk.getPos());
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        int startX = cache.pos.getStartX();
+        int startZ = cache.pos.getStartZ();
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                cache.biomes[z << 4 | x] = biomeAccess.getBiome(mutable.set(startX + x, 0, startZ + z));
+            }
+        }
+        if (chunk instanceof BiomeColumnCacheProvider) {
+            ((BiomeColumnCacheProvider) chunk).setBiomeColumnCache(cache);
+        }
+        return cache;
+    }
+
+    public static BiomeColumnCache get(Chunk chunk) {
+        return chunk instanceof BiomeColumnCacheProvider ? ((BiomeColumnCacheProvider) chunk).getBiomeColumnCache() : null;
+    }
+
+    /**
+     * @return the cached biome of the column, or null when its chunk is not accessible or its surface was not built by
+     * a generator using the cache
+     */
+    public static Biome getBiome(IWorld world, int x, int z) {
+        Chunk chunk = world.getChunk(x >> 4, z >> 4, ChunkStatus.EMPTY, false);
+        if (chunk == null) return null;
+        BiomeColumnCache cache = get(chunk);
+        return cache == null ? null : cache.getBiome(x, z);
+    }
+
+    public boolean contains(BlockPos pos) {
+        return pos.getX() >> 4 == this.pos.x && pos.getZ() >> 4 == this.pos.z;
+    }
+
+    /**
+     * Only the lower four bits of the coordinates are used, so both block and chunk local coordinates work.
+     */
+    public Biome getBiome(int x, int z) {
+        return this.biomes[(z & 15) << 4 | x & 15];
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+/**
+ * Implemented by proto chunks, so a chunk carries its own {@link BiomeColumnCache} through the generation stages.
+ */
+public interface BiomeColumnCacheProvider {
+
+    BiomeColumnCache getBiomeColumnCache();
+
+    void setBiomeColumnCache(BiomeColumnCache biomeColumnCache);
+}
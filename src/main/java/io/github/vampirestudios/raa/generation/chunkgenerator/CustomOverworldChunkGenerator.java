@@ -1,6 +1,8 @@
 package io.github.vampirestudios.raa.generation.chunkgenerator;
 
 import io.github.vampirestudios.raa.generation.chunkgenerator.config.CustomOverworldChunkGeneratorConfig;
+import io.github.vampirestudios.raa.utils.noise.NoiseSamplerPool;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.crash.CrashException;
 import net.minecraft.util.crash.CrashReport;
@@ -14,8 +16,11 @@ import net.minecraft.world.ChunkRegion;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.SpawnHelper;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeAccess;
 import net.minecraft.world.biome.source.BiomeSource;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ProtoChunk;
 import net.minecraft.world.gen.ChunkRandom;
 import net.minecraft.world.gen.GenerationStep;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
@@ -26,35 +31,66 @@ import supercoder79.simplexterrain.api.noise.OctaveNoiseSampler;
 import supercoder79.simplexterrain.api.postprocess.TerrainPostProcessor;
 
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworldChunkGeneratorConfig> implements Heightmap {
-    private static final Collection<TerrainPostProcessor> postProcessors = new ArrayList<>();
+    private static final Collection<Supplier<TerrainPostProcessor>> postProcessorFactories = new ArrayList<>();
+    private static final int HEIGHT_FIELD_CACHE_SIZE = 1024;
     private final NoiseSampler surfaceDepthNoise;
     private final OctaveNoiseSampler heightNoise;
     private final OctaveNoiseSampler detailNoise;
     private final OctaveNoiseSampler scaleNoise;
     private final OctaveNoiseSampler peaksNoise;
+    // initialised with the seed of this generator, so they can't be shared with the other dimensions
+    private final List<TerrainPostProcessor> postProcessors = new ArrayList<>();
+    private final Map<Long, HeightField> heightFields = Collections.synchronizedMap(new LinkedHashMap<Long, HeightField>(HEIGHT_FIELD_CACHE_SIZE, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, HeightField> eldest) {
+            return this.size() > HEIGHT_FIELD_CACHE_SIZE;
+        }
+    });
+    private final LongAdder noiseSamples = new LongAdder();
+    // the biomes of the chunk being carved, for the position biome function of the carvers
+    private final ThreadLocal<BiomeColumnCache> carvedChunkBiomes = new ThreadLocal<>();
 
     public CustomOverworldChunkGenerator(IWorld world, BiomeSource biomeSource, CustomOverworldChunkGeneratorConfig config) {
         super(world, biomeSource, config);
-        ChunkRandom random = new ChunkRandom(world.getSeed());
 
         double amplitude = Math.pow(2, this.getConfig().getBaseOctaveAmount());
-
-        Class<? extends Noise> noiseClass = NoiseType.PERLIN.noiseClass;
-        heightNoise = new OctaveNoiseSampler<>(noiseClass, random, this.getConfig().getBaseOctaveAmount(), this.getConfig().getBaseNoiseFrequencyCoefficient() * amplitude, amplitude, amplitude);
-        detailNoise = new OctaveNoiseSampler<>(noiseClass, random, this.getConfig().getDetailOctaveAmount(), config.getDetailFrequency(), this.getConfig().getDetailAmplitudeHigh(), this.getConfig().getDetailAmplitudeLow());
-        scaleNoise = new OctaveNoiseSampler<>(noiseClass, random, this.getConfig().getScaleOctaveAmount(), Math.pow(2, this.getConfig().getScaleFrequencyExponent()), this.getConfig().getScaleAmplitudeHigh(),
-                this.getConfig().getScaleAmplitudeLow());
-        peaksNoise = new OctaveNoiseSampler<>(noiseClass, random, this.getConfig().getPeaksOctaveAmount(), this.getConfig().getPeaksFrequency(), 1.0, 1.0);
-
-        this.surfaceDepthNoise = new OctavePerlinNoiseSampler(random, 4, 0);
-
-        postProcessors.forEach(factory -> factory.init(this.seed));
+        double scaleFrequency = Math.pow(2, this.getConfig().getScaleFrequencyExponent());
+        NoiseSamplerPool.Key key = NoiseSamplerPool.key("custom_overworld", world.getSeed())
+                .octaves("height", config.getBaseOctaveAmount(), config.getBaseNoiseFrequencyCoefficient() * amplitude, amplitude, amplitude)
+                .octaves("detail", config.getDetailOctaveAmount(), config.getDetailFrequency(), config.getDetailAmplitudeHigh(), config.getDetailAmplitudeLow())
+                .octaves("scale", config.getScaleOctaveAmount(), scaleFrequency, config.getScaleAmplitudeHigh(), config.getScaleAmplitudeLow())
+                .octaves("peaks", config.getPeaksOctaveAmount(), config.getPeaksFrequency(), 1.0, 1.0)
+                .perlin(4, 0);
+        Samplers samplers = NoiseSamplerPool.get(key, () -> {
+            ChunkRandom random = new ChunkRandom(world.getSeed());
+            Class<? extends Noise> noiseClass = NoiseType.PERLIN.noiseClass;
+            return new Samplers(
+                    new OctaveNoiseSampler<>(noiseClass, random, config.getBaseOctaveAmount(), config.getBaseNoiseFrequencyCoefficient() * amplitude, amplitude, amplitude),
+                    new OctaveNoiseSampler<>(noiseClass, random, config.getDetailOctaveAmount(), config.getDetailFrequency(), config.getDetailAmplitudeHigh(), config.getDetailAmplitudeLow()),
+                    new OctaveNoiseSampler<>(noiseClass, random, config.getScaleOctaveAmount(), scaleFrequency, config.getScaleAmplitudeHigh(), config.getScaleAmplitudeLow()),
+                    new OctaveNoiseSampler<>(noiseClass, random, config.getPeaksOctaveAmount(), config.getPeaksFrequency(), 1.0, 1.0),
+                    new OctavePerlinNoiseSampler(random, 4, 0));
+        });
+        heightNoise = samplers.heightNoise;
+        detailNoise = samplers.detailNoise;
+        scaleNoise = samplers.scaleNoise;
+        peaksNoise = samplers.peaksNoise;
+
+        this.surfaceDepthNoise = samplers.surfaceDepthNoise;
+
+        for (Supplier<TerrainPostProcessor> factory : postProcessorFactories) {
+            TerrainPostProcessor postProcessor = factory.get();
+            postProcessor.init(this.seed);
+            this.postProcessors.add(postProcessor);
+        }
     }
 
-    public static void addTerrainPostProcessor(TerrainPostProcessor factory) {
-        postProcessors.add(factory);
+    public static void addTerrainPostProcessor(Supplier<TerrainPostProcessor> factory) {
+        postProcessorFactories.add(factory);
     }
 
     private static double modifyPeaksNoise(double sample) {
@@ -72,14 +108,15 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
         int chunkZ = region.getCenterChunkZ();
         ChunkRandom rand = new ChunkRandom();
         rand.setSeed(chunkX, chunkZ);
-        postProcessors.forEach(postProcessor -> postProcessor.process(region, rand, chunkX, chunkZ, this));
+        this.postProcessors.forEach(postProcessor -> postProcessor.process(region, rand, chunkX, chunkZ, this));
 
         int i = region.getCenterChunkX();
         int j = region.getCenterChunkZ();
         int k = i * 16;
         int l = j * 16;
         BlockPos blockPos = new BlockPos(k, 0, l);
-        Biome biome = this.getDecorationBiome(region.getBiomeAccess(), blockPos.add(8, 8, 8));
+        Biome biome = BiomeColumnCache.getBiome(region, k + 8, l + 8);
+        if (biome == null) biome = this.getDecorationBiome(region.getBiomeAccess(), blockPos.add(8, 8, 8));
         ChunkRandom chunkRandom = new ChunkRandom();
         long seed = chunkRandom.setSeed(region.getSeed(), k, l);
         GenerationStep.Feature[] features = GenerationStep.Feature.values();
@@ -105,7 +142,7 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
         ChunkPos chunkPos2 = chunk.getPos();
         int startX = chunkPos2.getStartX();
         int startZ = chunkPos2.getStartZ();
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        BiomeColumnCache biomes = BiomeColumnCache.attach(chunk, chunkRegion.getBiomeAccess());
 
         for (int localX = 0; localX < 16; ++localX) {
             for (int localZ = 0; localZ < 16; ++localZ) {
@@ -113,7 +150,7 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
                 int z = startZ + localZ;
                 int height = chunk.sampleHeightmap(net.minecraft.world.Heightmap.Type.WORLD_SURFACE_WG, localX, localZ) + 1;
                 double noise = this.surfaceDepthNoise.sample((double) x * 0.0625D, (double) z * 0.0625D, 0.0625D, (double) localX * 0.0625D);
-                chunkRegion.getBiome(mutable.set(startX + localX, height, startZ + localZ)).buildSurface(chunkRandom, chunk, x, z, height, noise, this.getConfig().getDefaultBlock(), this.getConfig().getDefaultFluid(),
+                biomes.getBiome(localX, localZ).buildSurface(chunkRandom, chunk, x, z, height, noise, this.getConfig().getDefaultBlock(), this.getConfig().getDefaultFluid(),
                         this.getSeaLevel(), this.world.getSeed());
             }
         }
@@ -121,41 +158,69 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
         this.buildBedrock(chunk, chunkRandom);
     }
 
+    @Override
+    public void carve(BiomeAccess biomeAccess, Chunk chunk, GenerationStep.Carver carver) {
+        this.carvedChunkBiomes.set(BiomeColumnCache.get(chunk));
+        try {
+            super.carve(biomeAccess, chunk, carver);
+        } finally {
+            this.carvedChunkBiomes.remove();
+        }
+    }
+
+    @Override
+    protected Biome getDecorationBiome(BiomeAccess biomeAccess, BlockPos pos) {
+        BiomeColumnCache biomes = this.carvedChunkBiomes.get();
+        if (biomes != null && biomes.contains(pos)) {
+            return biomes.getBiome(pos.getX(), pos.getZ());
+        }
+        return super.getDecorationBiome(biomeAccess, pos);
+    }
+
     private void buildBedrock(Chunk chunk, Random random) {
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-        int i = chunk.getPos().getStartX();
-        int j = chunk.getPos().getStartZ();
+        ProtoChunk protoChunk = (ProtoChunk) chunk;
+        net.minecraft.world.Heightmap oceanFloor = protoChunk.getHeightmap(net.minecraft.world.Heightmap.Type.OCEAN_FLOOR_WG);
+        net.minecraft.world.Heightmap worldSurface = protoChunk.getHeightmap(net.minecraft.world.Heightmap.Type.WORLD_SURFACE_WG);
+        BlockState bedrock = Blocks.BEDROCK.getDefaultState();
         CustomOverworldChunkGeneratorConfig chunkGeneratorConfig = this.getConfig();
         int k = chunkGeneratorConfig.getMinY();
         int l = chunkGeneratorConfig.getMaxY();
-        Iterator<BlockPos> var9 = BlockPos.iterate(i, 0, j, i + 15, 0, j + 15).iterator();
-
-        while (true) {
-            BlockPos blockPos;
-            int n;
-            do {
-                if (!var9.hasNext()) {
-                    return;
-                }
 
-                blockPos = var9.next();
+        // same column order and random calls as BlockPos.iterate over the chunk, x runs fastest
+        for (int z = 0; z < 16; ++z) {
+            for (int x = 0; x < 16; ++x) {
+                int top = -1;
+                int n;
                 if (l > 0) {
                     for (n = l; n >= l - 4; --n) {
-                        if (n >= l - random.nextInt(5)) {
-                            chunk.setBlockState(mutable.set(blockPos.getX(), n, blockPos.getZ()), Blocks.BEDROCK.getDefaultState(), false);
+                        if (n >= l - random.nextInt(5) && setSectionBlock(protoChunk, x, n, z, bedrock)) {
+                            top = Math.max(top, n);
                         }
                     }
                 }
-            } while (k >= 256);
 
-            for (n = k + 4; n >= k; --n) {
-                if (n <= k + random.nextInt(5)) {
-                    chunk.setBlockState(mutable.set(blockPos.getX(), n, blockPos.getZ()), Blocks.BEDROCK.getDefaultState(), false);
+                if (k < 256) {
+                    for (n = k + 4; n >= k; --n) {
+                        if (n <= k + random.nextInt(5) && setSectionBlock(protoChunk, x, n, z, bedrock)) {
+                            top = Math.max(top, n);
+                        }
+                    }
+                }
+
+                if (top >= 0) {
+                    oceanFloor.trackUpdate(x, top, z, bedrock);
+                    worldSurface.trackUpdate(x, top, z, bedrock);
                 }
             }
         }
     }
 
+    private static boolean setSectionBlock(ProtoChunk chunk, int x, int y, int z, BlockState state) {
+        if (y < 0 || y >= 256) return false;
+        chunk.getSection(y >> 4).setBlockState(x, y & 15, z, state, false);
+        return true;
+    }
+
     public void populateEntities(ChunkRegion region) {
         int i = region.getCenterChunkX();
         int j = region.getCenterChunkZ();
@@ -167,27 +232,66 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
 
     @Override
     public void populateNoise(IWorld world, Chunk chunk) {
-        BlockPos.Mutable posMutable = new BlockPos.Mutable();
-
-        int chunkX = chunk.getPos().x;
-        int chunkZ = chunk.getPos().z;
+        ProtoChunk protoChunk = (ProtoChunk) chunk;
+        net.minecraft.world.Heightmap oceanFloor = protoChunk.getHeightmap(net.minecraft.world.Heightmap.Type.OCEAN_FLOOR_WG);
+        net.minecraft.world.Heightmap worldSurface = protoChunk.getHeightmap(net.minecraft.world.Heightmap.Type.WORLD_SURFACE_WG);
+        BlockState defaultBlock = config.getDefaultBlock();
+        BlockState water = Blocks.WATER.getDefaultState();
+        int startX = chunk.getPos().getStartX();
+        int startZ = chunk.getPos().getStartZ();
+
+        // every column is a run of solid blocks from the bottom, optionally followed by water up to sea level
+        int[] solidTops = new int[256];
+        int[] waterTops = new int[256];
+        int highestTop = 0;
+        for (int z = 0; z < 16; ++z) {
+            for (int x = 0; x < 16; ++x) {
+                int height = getHeight(startX + x, startZ + z);
+                int solidTop = MathHelper.clamp(height + 1, 0, 256);
+                int waterTop = Math.max(solidTop, 63);
+                solidTops[x + (z << 4)] = solidTop;
+                waterTops[x + (z << 4)] = waterTop;
+                highestTop = Math.max(highestTop, waterTop);
+            }
+        }
 
-        for (int x = 0; x < 16; ++x) {
-            posMutable.setX(x);
+        // sections above every run stay empty and are never allocated
+        for (int sectionY = 0; sectionY << 4 < highestTop; ++sectionY) {
+            int bottom = sectionY << 4;
+            ChunkSection section = protoChunk.getSection(sectionY);
+            section.lock();
 
             for (int z = 0; z < 16; ++z) {
-                posMutable.setZ(z);
-                int height = getHeight((chunkX * 16) + x, (chunkZ * 16) + z);
-
-                for (int y = 0; y < 256; ++y) {
-                    posMutable.setY(y);
-                    if (height >= y) {
-                        chunk.setBlockState(posMutable, config.getDefaultBlock(), false);
-                    } else if (y < 63) {
-                        chunk.setBlockState(posMutable, Blocks.WATER.getDefaultState(), false);
+                for (int x = 0; x < 16; ++x) {
+                    int solidTop = Math.min(solidTops[x + (z << 4)] - bottom, 16);
+                    int waterTop = Math.min(waterTops[x + (z << 4)] - bottom, 16);
+                    int y = 0;
+                    for (; y < solidTop; ++y) {
+                        section.setBlockState(x, y, z, defaultBlock, false);
+                    }
+                    for (; y < waterTop; ++y) {
+                        section.setBlockState(x, y, z, water, false);
+                    }
+                }
+            }
+
+            section.unlock();
+        }
+
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (int z = 0; z < 16; ++z) {
+            for (int x = 0; x < 16; ++x) {
+                int solidTop = solidTops[x + (z << 4)];
+                int waterTop = waterTops[x + (z << 4)];
+                if (solidTop > 0) {
+                    oceanFloor.trackUpdate(x, solidTop - 1, z, defaultBlock);
+                }
+                worldSurface.trackUpdate(x, waterTop - 1, z, waterTop > solidTop ? water : defaultBlock);
+
+                if (defaultBlock.getLuminance() != 0) {
+                    for (int y = 0; y < solidTop; ++y) {
+                        protoChunk.addLightSource(mutable.set(startX + x, y, startZ + z));
                     }
-                    //TODO: see if this actually improves performance
-                    if (y > height && y > 63) break;
                 }
             }
         }
@@ -204,35 +308,36 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
 
     @Override
     public int getHeight(int x, int z) {
-        int subX = ((x >> 2) << 2);
-        int subZ = ((z >> 2) << 2);
-        int subXUpper = subX + 4;
-        int subZUpper = subZ + 4;
-
-        double xProgress = (double) (x - subX) / 4.0;
-        double zProgress = (double) (z - subZ) / 4.0;
-
-        double sampleNW = sampleNoise(subX, subZ);
-        double sampleNE = sampleNoise(subXUpper, subZ);
-        double sampleSW = sampleNoise(subX, subZUpper);
-        double sampleSE = sampleNoise(subXUpper, subZUpper);
+        return this.getHeightField(x >> 4, z >> 4).getHeight(x, z);
+    }
 
-        double sample = MathHelper.lerp(zProgress,
-                MathHelper.lerp(xProgress, sampleNW, sampleNE),
-                MathHelper.lerp(xProgress, sampleSW, sampleSE));
+    private HeightField getHeightField(int chunkX, int chunkZ) {
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+        HeightField heightField = this.heightFields.get(key);
+        if (heightField == null) {
+            heightField = new HeightField(chunkX, chunkZ);
+            this.heightFields.put(key, heightField);
+        }
+        return heightField;
+    }
 
-        double detail = sampleDetail(x, z);
-        return (int) (sample + detail);
+    /**
+     * @return how many lattice corners this generator sampled so far, 16 for a chunk whose west and north neighbours
+     * are cached against the 1024 of four corners per column
+     */
+    public long getNoiseSamples() {
+        return this.noiseSamples.sum();
     }
 
-    private double sampleNoise(int x, int z) {
+    double sampleNoise(int x, int z) {
+        this.noiseSamples.increment();
         double amplitudeSample = this.scaleNoise.sample(x, z) + this.config.getScaleAmplitudeLow(); // change range to have a minimum value of 0.0
         return this.heightNoise.sampleCustom(x, z, this.config.getBaseNoiseSamplingFrequency(), amplitudeSample, amplitudeSample, this.config.getBaseOctaveAmount())
                 + modifyPeaksNoise(this.peaksNoise.sample(x, z))
                 + this.config.getBaseHeight();
     }
 
-    private double sampleDetail(int x, int z) {
+    double sampleDetail(int x, int z) {
         double sample = detailNoise.sample(x, z);
         if (sample < this.config.getDetailNoiseThreshold()) {
             if (scaleNoise.sample(x, z) < this.config.getScaleNoiseThreshold()) {
@@ -242,4 +347,83 @@ public class CustomOverworldChunkGenerator extends ChunkGenerator<CustomOverworl
         return sample;
     }
 
-}
\ No newline at end of file
+    /**
+     * The noise lattice of one chunk: the 5x5 corners every 4 blocks, and the final column heights once they are asked
+     * for. Corners on the west and north edge are taken from the neighbouring chunks when those are still cached.
+     */
+    private final class HeightField {
+        private final int startX;
+        private final int startZ;
+        private final double[] corners = new double[25];
+        private final int[] heights = new int[256];
+
+        private HeightField(int chunkX, int chunkZ) {
+            this.startX = chunkX << 4;
+            this.startZ = chunkZ << 4;
+            HeightField west = heightFields.get(ChunkPos.toLong(chunkX - 1, chunkZ));
+            HeightField north = heightFields.get(ChunkPos.toLong(chunkX, chunkZ - 1));
+
+            for (int cornerZ = 0; cornerZ < 5; cornerZ++) {
+                for (int cornerX = 0; cornerX < 5; cornerX++) {
+                    double sample;
+                    if (cornerX == 0 && west != null) {
+                        sample = west.corners[4 + cornerZ * 5];
+                    } else if (cornerZ == 0 && north != null) {
+                        sample = north.corners[cornerX + 4 * 5];
+                    } else {
+                        sample = sampleNoise(this.startX + (cornerX << 2), this.startZ + (cornerZ << 2));
+                    }
+                    this.corners[cornerX + cornerZ * 5] = sample;
+                }
+            }
+            Arrays.fill(this.heights, Integer.MIN_VALUE);
+        }
+
+        private int getHeight(int x, int z) {
+            int index = (x & 15) + ((z & 15) << 4);
+            int height = this.heights[index];
+            if (height == Integer.MIN_VALUE) {
+                // racing threads compute the same value, so the unsynchronized write is harmless
+                height = this.computeHeight(x, z);
+                this.heights[index] = height;
+            }
+            return height;
+        }
+
+        private int computeHeight(int x, int z) {
+            int cornerX = (x & 15) >> 2;
+            int cornerZ = (z & 15) >> 2;
+
+            double xProgress = (double) (x - ((x >> 2) << 2)) / 4.0;
+            double zProgress = (double) (z - ((z >> 2) << 2)) / 4.0;
+
+            double sampleNW = this.corners[cornerX + cornerZ * 5];
+            double sampleNE = this.corners[cornerX + 1 + cornerZ * 5];
+            double sampleSW = this.corners[cornerX + (cornerZ + 1) * 5];
+            double sampleSE = this.corners[cornerX + 1 + (cornerZ + 1) * 5];
+
+            double sample = MathHelper.lerp(zProgress,
+                    MathHelper.lerp(xProgress, sampleNW, sampleNE),
+                    MathHelper.lerp(xProgress, sampleSW, sampleSE));
+
+            double detail = sampleDetail(x, z);
+            return (int) (sample + detail);
+        }
+    }
+
+    private static class Samplers {
+        private final OctaveNoiseSampler heightNoise;
+        private final OctaveNoiseSampler detailNoise;
+        private final OctaveNoiseSampler scaleNoise;
+        private final OctaveNoiseSampler peaksNoise;
+        private final NoiseSampler surfaceDepthNoise;
+
+        private Samplers(OctaveNoiseSampler heightNoise, OctaveNoiseSampler detailNoise, OctaveNoiseSampler scaleNoise, OctaveNoiseSampler peaksNoise, NoiseSampler surfaceDepthNoise) {
+            this.heightNoise = heightNoise;
+            this.detailNoise = detailNoise;
+            this.scaleNoise = scaleNoise;
+            this.peaksNoise = peaksNoise;
+            this.surfaceDepthNoise = surfaceDepthNoise;
+        }
+    }
+}
@@ -3,16 +3,18 @@ package io.github.vampirestudios.raa.generation.chunkgenerator;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.biome.source.BiomeSource;
 import net.minecraft.world.gen.chunk.FloatingIslandsChunkGeneratorConfig;
-import net.minecraft.world.gen.chunk.SurfaceChunkGenerator;
 
-public class FloatingIslandsChunkGenerator extends SurfaceChunkGenerator<FloatingIslandsChunkGeneratorConfig> {
+public class FloatingIslandsChunkGenerator extends SparseSurfaceChunkGenerator<FloatingIslandsChunkGeneratorConfig> {
+    private final NoiseColumnCache noiseColumns = NoiseColumnCache.create();
 
     public FloatingIslandsChunkGenerator(IWorld iWorld, BiomeSource biomeSource, FloatingIslandsChunkGeneratorConfig floatingIslandsChunkGeneratorConfig) {
         super(iWorld, biomeSource, 8, 4, 128, floatingIslandsChunkGeneratorConfig, true);
     }
 
     protected void sampleNoiseColumn(double[] buffer, int x, int z) {
+        if (this.noiseColumns.get(buffer, x, z)) return;
         this.sampleNoiseColumn(buffer, x, z, 1368.824D, 684.412D, 17.110300000000002D, 4.277575000000001D, 64, -3000);
+        this.noiseColumns.put(buffer, x, z);
     }
 
     protected double[] computeNoiseRange(int x, int z) {
@@ -39,4 +41,8 @@ public class FloatingIslandsChunkGenerator extends SurfaceChunkGenerator<Floatin
         return 0;
     }
 
+    public NoiseColumnCache getNoiseColumns() {
+        return this.noiseColumns;
+    }
+
 }
\ No newline at end of file
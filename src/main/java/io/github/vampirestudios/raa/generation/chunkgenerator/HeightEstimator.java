@@ -0,0 +1,115 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cheap terrain heights around a position, for looking at a place before its chunks are generated.
+ *
+ * <p>Columns of chunks the world can hand out are read from their world generation heightmap, which is exact. Other
+ * columns are taken from the chunk generator, which only knows the terrain of the noise stage.
+ * {@link #NOISE_ERROR_BOUND} covers the surface builders that only replace the top blocks. It doesn't hold in dune
+ * biomes, whose builders pile up to about 40 blocks on top of the noise, nor where a carver opens the surface.</p>
+ *
+ * <p>The bound doesn't make the estimate safe for throwing out structure sites either. The spawn check of
+ * {@link io.github.vampirestudios.raa.utils.WorldStructureManipulation} picks the flattest spot of its area first and
+ * only then reads the columns around it, so no fixed set of samples covers the columns it ends up reading.</p>
+ */
+public final class HeightEstimator {
+    public static final int NOISE_ERROR_BOUND = 8;
+
+    private static final LongAdder HEIGHTMAP_SAMPLES = new LongAdder();
+    private static final LongAdder NOISE_SAMPLES = new LongAdder();
+
+    private final IWorld world;
+    private final ChunkGenerator<?> generator;
+    private int errorBound;
+
+    private HeightEstimator(IWorld world, ChunkGenerator<?> generator) {
+        this.world = world;
+        this.generator = generator;
+    }
+
+    public static HeightEstimator of(IWorld world, ChunkGenerator<?> generator) {
+        return new HeightEstimator(world, generator);
+    }
+
+    /**
+     * @return the y of the first air block above the surface, like {@link IWorld#getTopPosition}
+     */
+    public int estimateHeight(int x, int z) {
+        Chunk chunk = this.world.getChunk(x >> 4, z >> 4, ChunkStatus.EMPTY, false);
+        if (chunk != null && chunk.getStatus().isAtLeast(ChunkStatus.NOISE)) {
+            HEIGHTMAP_SAMPLES.increment();
+            return chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE_WG, x & 15, z & 15) + 1;
+        }
+        NOISE_SAMPLES.increment();
+        this.errorBound = NOISE_ERROR_BOUND;
+        return this.generator.getHeightOnGround(x, z, Heightmap.Type.WORLD_SURFACE_WG);
+    }
+
+    /**
+     * Samples a 3x3 grid spanning {@code radius} blocks around the center.
+     */
+    public Site estimateSite(int x, int z, int radius) {
+        this.errorBound = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int sum = 0;
+        for (int offsetX = -1; offsetX <= 1; offsetX++) {
+            for (int offsetZ = -1; offsetZ <= 1; offsetZ++) {
+                int height = this.estimateHeight(x + offsetX * radius, z + offsetZ * radius);
+                min = Math.min(min, height);
+                max = Math.max(max, height);
+                sum += height;
+            }
+        }
+        return new Site(min, max, sum / 9.0D, this.errorBound);
+    }
+
+    public static long getHeightmapSamples() {
+        return HEIGHTMAP_SAMPLES.sum();
+    }
+
+    public static long getNoiseSamples() {
+        return NOISE_SAMPLES.sum();
+    }
+
+    public static class Site {
+        private final int minHeight;
+        private final int maxHeight;
+        private final double meanHeight;
+        private final int errorBound;
+
+        private Site(int minHeight, int maxHeight, double meanHeight, int errorBound) {
+            this.minHeight = minHeight;
+            this.maxHeight = maxHeight;
+            this.meanHeight = meanHeight;
+            this.errorBound = errorBound;
+        }
+
+        public int getMinHeight() {
+            return minHeight;
+        }
+
+        public int getMaxHeight() {
+            return maxHeight;
+        }
+
+        public double getMeanHeight() {
+            return meanHeight;
+        }
+
+        /**
+         * @return how many blocks every sampled height may be off by, 0 when they all came from heightmaps
+         */
+        public int getErrorBound() {
+            return errorBound;
+        }
+    }
+}
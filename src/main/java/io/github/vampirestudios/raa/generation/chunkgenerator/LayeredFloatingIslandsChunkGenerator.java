@@ -4,9 +4,9 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.biome.source.BiomeSource;
 import net.minecraft.world.gen.chunk.FloatingIslandsChunkGeneratorConfig;
-import net.minecraft.world.gen.chunk.SurfaceChunkGenerator;
 
-public class LayeredFloatingIslandsChunkGenerator extends SurfaceChunkGenerator<FloatingIslandsChunkGeneratorConfig> {
+public class LayeredFloatingIslandsChunkGenerator extends SparseSurfaceChunkGenerator<FloatingIslandsChunkGeneratorConfig> {
+    private final NoiseColumnCache noiseColumns = NoiseColumnCache.create();
     private final BlockPos center;
 
     public LayeredFloatingIslandsChunkGenerator(IWorld iWorld_1, BiomeSource biomeSource_1, FloatingIslandsChunkGeneratorConfig floatingIslandsChunkGeneratorConfig_1) {
@@ -15,7 +15,9 @@ public class LayeredFloatingIslandsChunkGenerator extends SurfaceChunkGenerator<
     }
 
     protected void sampleNoiseColumn(double[] doubles_1, int int_1, int int_2) {
+        if (this.noiseColumns.get(doubles_1, int_1, int_2)) return;
         this.sampleNoiseColumn(doubles_1, int_1, int_2, 1368.824D, 684.412D, 17.110300000000002D, 4.277575000000001D, 64, -3000);
+        this.noiseColumns.put(doubles_1, int_1, int_2);
     }
 
     protected double[] computeNoiseRange(int int_1, int int_2) {
@@ -41,4 +43,8 @@ public class LayeredFloatingIslandsChunkGenerator extends SurfaceChunkGenerator<
     public int getSeaLevel() {
         return 0;
     }
+
+    public NoiseColumnCache getNoiseColumns() {
+        return this.noiseColumns;
+    }
 }
\ No newline at end of file
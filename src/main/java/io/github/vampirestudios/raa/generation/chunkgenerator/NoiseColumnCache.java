@@ -0,0 +1,86 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the noise columns of a {@link net.minecraft.world.gen.chunk.SurfaceChunkGenerator} by their noise grid
+ * coordinate.
+ *
+ * <p>Neighbouring chunks share their edge columns and structure placement asks for the heights of chunks that get
+ * generated later, so the same columns were sampled over and over. The cache is a direct mapped table of immutable
+ * entries, threads racing for a slot at worst sample a column twice.</p>
+ */
+public class NoiseColumnCache {
+    private static volatile int defaultSize = 4096;
+
+    private final Column[] columns;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public NoiseColumnCache(int size) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1) << 1);
+        this.columns = new Column[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Called with the size from the config, so building a generator doesn't need the mod to be initialized.
+     */
+    public static void setup(int size) {
+        defaultSize = size;
+    }
+
+    /**
+     * @return a cache of the size from the config
+     */
+    public static NoiseColumnCache create() {
+        return new NoiseColumnCache(defaultSize);
+    }
+
+    /**
+     * Copies the cached column into the buffer.
+     *
+     * @return false when the column has to be sampled, it should then be handed to {@link #put}
+     */
+    public boolean get(double[] buffer, int x, int z) {
+        long key = ChunkPos.toLong(x, z);
+        Column column = this.columns[slot(key)];
+        if (column != null && column.key == key && column.noise.length == buffer.length) {
+            System.arraycopy(column.noise, 0, buffer, 0, buffer.length);
+            this.hits.increment();
+            return true;
+        }
+        this.misses.increment();
+        return false;
+    }
+
+    public void put(double[] buffer, int x, int z) {
+        long key = ChunkPos.toLong(x, z);
+        this.columns[slot(key)] = new Column(key, buffer.clone());
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    private int slot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & this.mask;
+    }
+
+    private static class Column {
+        private final long key;
+        private final double[] noise;
+
+        private Column(long key, double[] noise) {
+            this.key = key;
+            this.noise = noise;
+        }
+    }
+}
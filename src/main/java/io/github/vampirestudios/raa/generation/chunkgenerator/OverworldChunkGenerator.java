@@ -5,6 +5,7 @@
 
 package io.github.vampirestudios.raa.generation.chunkgenerator;
 
+import io.github.vampirestudios.raa.utils.noise.NoiseSamplerPool;
 import net.minecraft.entity.EntityCategory;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Util;
@@ -53,8 +54,10 @@ public class OverworldChunkGenerator extends SurfaceChunkGenerator<OverworldChun
 
     public OverworldChunkGenerator(IWorld world, BiomeSource biomeSource, OverworldChunkGeneratorConfig config) {
         super(world, biomeSource, 4, 8, 256, config, true);
-        this.random.consume(2620);
-        this.noiseSampler = new OctavePerlinNoiseSampler(this.random, 15, 0);
+        this.noiseSampler = NoiseSamplerPool.get(NoiseSamplerPool.key("overworld", this.seed).consumed(2620).perlin(15, 0), () -> {
+            this.random.consume(2620);
+            return new OctavePerlinNoiseSampler(this.random, 15, 0);
+        });
         this.amplified = world.getLevelProperties().getGeneratorType() == LevelGeneratorType.AMPLIFIED;
 
 //        List<TerrainPostProcessor> postProcessors = new ArrayList<>();
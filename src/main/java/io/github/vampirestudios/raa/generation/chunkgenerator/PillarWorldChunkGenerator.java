@@ -1,5 +1,6 @@
 package io.github.vampirestudios.raa.generation.chunkgenerator;
 
+import io.github.vampirestudios.raa.utils.noise.NoiseSamplerPool;
 import net.minecraft.entity.EntityCategory;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Util;
@@ -36,6 +37,7 @@ public class PillarWorldChunkGenerator extends SurfaceChunkGenerator<OverworldCh
 
     });
     private final OctavePerlinNoiseSampler noiseSampler;
+    private final NoiseColumnCache noiseColumns = NoiseColumnCache.create();
     private final boolean amplified;
     private final PhantomSpawner phantomSpawner = new PhantomSpawner();
     private final PillagerSpawner pillagerSpawner = new PillagerSpawner();
@@ -46,10 +48,13 @@ public class PillarWorldChunkGenerator extends SurfaceChunkGenerator<OverworldCh
 
     public PillarWorldChunkGenerator(IWorld iWorld_1, BiomeSource biomeSource_1, OverworldChunkGeneratorConfig overworldChunkGeneratorConfig_1) {
         super(iWorld_1, biomeSource_1, 8, 4, 256, overworldChunkGeneratorConfig_1, true);
-        this.random.consume(2620);
-        this.noiseSampler = new OctavePerlinNoiseSampler(this.random, 15, 0);
+        Samplers samplers = NoiseSamplerPool.get(NoiseSamplerPool.key("pillar_world", this.seed).consumed(2620).perlin(15, 0).simplex(4, 0), () -> {
+            this.random.consume(2620);
+            return new Samplers(new OctavePerlinNoiseSampler(this.random, 15, 0), new OctaveSimplexNoiseSampler(this.random, 4, 0));
+        });
+        this.noiseSampler = samplers.noiseSampler;
         this.amplified = iWorld_1.getLevelProperties().getGeneratorType() == LevelGeneratorType.AMPLIFIED;
-        this.simplexNoise = new OctaveSimplexNoiseSampler(this.random, 4, 0);
+        this.simplexNoise = samplers.simplexNoise;
     }
 
     public void populateEntities(ChunkRegion chunkRegion_1) {
@@ -62,6 +67,7 @@ public class PillarWorldChunkGenerator extends SurfaceChunkGenerator<OverworldCh
     }
 
     protected void sampleNoiseColumn(double[] doubles_1, int int_1, int int_2) {
+        if (this.noiseColumns.get(doubles_1, int_1, int_2)) return;
         double double_1 = 684.4119873046875D;
         double double_2 = 684.4119873046875D;
         double double_3 = 8.555149841308594D;
@@ -69,6 +75,7 @@ public class PillarWorldChunkGenerator extends SurfaceChunkGenerator<OverworldCh
         int int_3 = 1;
         int int_4 = 1;
         this.sampleNoiseColumn(doubles_1, int_1, int_2, 684.4119873046875D, 684.4119873046875D, 8.555149841308594D, 4.277574920654297D, 1, -1);
+        this.noiseColumns.put(doubles_1, int_1, int_2);
     }
 
     protected double computeNoiseFalloff(double double_1, double double_2, int int_1) {
@@ -178,4 +185,18 @@ public class PillarWorldChunkGenerator extends SurfaceChunkGenerator<OverworldCh
     public int getSeaLevel() {
         return 63;
     }
+
+    public NoiseColumnCache getNoiseColumns() {
+        return this.noiseColumns;
+    }
+
+    private static class Samplers {
+        private final OctavePerlinNoiseSampler noiseSampler;
+        private final OctaveSimplexNoiseSampler simplexNoise;
+
+        private Samplers(OctavePerlinNoiseSampler noiseSampler, OctaveSimplexNoiseSampler simplexNoise) {
+            this.noiseSampler = noiseSampler;
+            this.simplexNoise = simplexNoise;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.vampirestudios.raa.generation.chunkgenerator;
 
-import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
+import io.github.vampirestudios.raa.utils.noise.NoiseSamplerPool;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Util;
 import net.minecraft.util.math.ChunkPos;
@@ -32,6 +33,7 @@ public class QuadrupleAmplifiedChunkGenerator extends SurfaceChunkGenerator<Over
 
     });
     private final OctavePerlinNoiseSampler noiseSampler;
+    private final NoiseColumnCache noiseColumns = NoiseColumnCache.create();
     private final boolean amplified;
     private final PhantomSpawner phantomSpawner = new PhantomSpawner();
     private final PillagerSpawner pillagerSpawner = new PillagerSpawner();
@@ -44,13 +46,19 @@ public class QuadrupleAmplifiedChunkGenerator extends SurfaceChunkGenerator<Over
 
     public QuadrupleAmplifiedChunkGenerator(IWorld iWorld_1, BiomeSource biomeSource_1, OverworldChunkGeneratorConfig overworldChunkGeneratorConfig_1) {
         super(iWorld_1, biomeSource_1, 4, 4, 256, overworldChunkGeneratorConfig_1, true);
-        this.random.consume(Rands.randInt(1000000000));
-        this.noiseSampler = new OctavePerlinNoiseSampler(this.random, 15, 0);
+        int consumed = WorldgenRandom.forDimension(iWorld_1, "quadruple_amplified").nextInt(1000000000);
+        Samplers samplers = NoiseSamplerPool.get(NoiseSamplerPool.key("quadruple_amplified", this.seed).consumed(consumed)
+                .perlin(15, 0).perlin(15, 0).perlin(15, 0).perlin(7, 0), () -> {
+            this.random.consume(consumed);
+            return new Samplers(new OctavePerlinNoiseSampler(this.random, 15, 0), new OctavePerlinNoiseSampler(this.random, 15, 0),
+                    new OctavePerlinNoiseSampler(this.random, 15, 0), new OctavePerlinNoiseSampler(this.random, 7, 0));
+        });
+        this.noiseSampler = samplers.noiseSampler;
         this.amplified = iWorld_1.getLevelProperties().getGeneratorType() == LevelGeneratorType.AMPLIFIED;
 
-        this.field_16574 = new OctavePerlinNoiseSampler(this.random, 15, 0);
-        this.field_16581 = new OctavePerlinNoiseSampler(this.random, 15, 0);
-        this.field_16575 = new OctavePerlinNoiseSampler(this.random, 7, 0);
+        this.field_16574 = samplers.field_16574;
+        this.field_16581 = samplers.field_16581;
+        this.field_16575 = samplers.field_16575;
     }
 
     public void populateEntities(ChunkRegion chunkRegion_1) {
@@ -122,7 +130,9 @@ public class QuadrupleAmplifiedChunkGenerator extends SurfaceChunkGenerator<Over
     }
 
     protected void sampleNoiseColumn(double[] doubles_1, int int_1, int int_2) {
+        if (this.noiseColumns.get(doubles_1, int_1, int_2)) return;
         this.sampleNoiseColumn(doubles_1, int_1, int_2, 684.4119873046875D, 684.4119873046875D, 8.555149841308594D, 4.277574920654297D, 32, -100);
+        this.noiseColumns.put(doubles_1, int_1, int_2);
     }
 
     protected double computeNoiseFalloff(double double_1, double double_2, int int_1) {
@@ -208,4 +218,22 @@ public class QuadrupleAmplifiedChunkGenerator extends SurfaceChunkGenerator<Over
     public int getSeaLevel() {
         return 63;
     }
-}
\ No newline at end of file
+
+    public NoiseColumnCache getNoiseColumns() {
+        return this.noiseColumns;
+    }
+
+    private static class Samplers {
+        private final OctavePerlinNoiseSampler noiseSampler;
+        private final OctavePerlinNoiseSampler field_16574;
+        private final OctavePerlinNoiseSampler field_16581;
+        private final OctavePerlinNoiseSampler field_16575;
+
+        private Samplers(OctavePerlinNoiseSampler noiseSampler, OctavePerlinNoiseSampler field_16574, OctavePerlinNoiseSampler field_16581, OctavePerlinNoiseSampler field_16575) {
+            this.noiseSampler = noiseSampler;
+            this.field_16574 = field_16574;
+            this.field_16581 = field_16581;
+            this.field_16575 = field_16575;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import io.github.vampirestudios.raa.mixins.SurfaceChunkGeneratorInvoker;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.gen.chunk.ChunkGeneratorConfig;
+import net.minecraft.world.gen.chunk.SurfaceChunkGenerator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the floating island generators, where most of the volume ends up as air.
+ *
+ * <p>The noise of a column can never get above {@link #MAX_NOISE}, so wherever the falloff and the top and bottom
+ * slides push that bound below zero the block is air no matter what the noise is. A row of a column is only left
+ * unsampled when every cell touching it, in its own column and in the neighbouring ones, is air that way, so the
+ * interpolated terrain stays exactly the same.</p>
+ *
+ * <p>The bounds take the noise range of the column and its eight neighbours. The floating island generators get that
+ * range from {@link BiomeSource#getNoiseRange}, a single call that every biome source but the End's answers with a
+ * constant, so the extra ranges cost eight calls and a few hundred additions per column. Each skipped row saves a
+ * sample of the 16 octave 3D noise, and the top and bottom slides make a few rows of every column skippable.
+ * {@link #getSkippedRows()} against {@link #getSampledRows()} tells how many that were.</p>
+ */
+public abstract class SparseSurfaceChunkGenerator<C extends ChunkGeneratorConfig> extends SurfaceChunkGenerator<C> {
+    // 16 octaves with amplitudes of 1 up to 2^15, a perlin octave stays within sqrt(6), and vanilla divides by 512
+    private static final double MAX_NOISE = 314.0D;
+
+    private final LongAdder sampledRows = new LongAdder();
+    private final LongAdder skippedRows = new LongAdder();
+
+    public SparseSurfaceChunkGenerator(IWorld world, BiomeSource biomeSource, int verticalNoiseResolution, int horizontalNoiseResolution, int worldHeight, C config, boolean useSimplexNoise) {
+        super(world, biomeSource, verticalNoiseResolution, horizontalNoiseResolution, worldHeight, config, useSimplexNoise);
+    }
+
+    /**
+     * Same as vanilla, besides leaving out the rows that can only be air.
+     */
+    @Override
+    protected void sampleNoiseColumn(double[] buffer, int x, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch, int topSlideSize, int topSlideTarget) {
+        int sizeY = this.getNoiseSizeY();
+        double[] bounds = this.computeNoiseBounds(x, z, topSlideSize, topSlideTarget);
+        boolean[] air = new boolean[sizeY];
+        for (int y = 0; y < sizeY; ++y) {
+            air[y] = bounds[y] <= 0.0D;
+        }
+        for (int offsetX = -1; offsetX <= 1; ++offsetX) {
+            for (int offsetZ = -1; offsetZ <= 1; ++offsetZ) {
+                if (offsetX == 0 && offsetZ == 0) continue;
+                double[] neighbourBounds = this.computeNoiseBounds(x + offsetX, z + offsetZ, topSlideSize, topSlideTarget);
+                for (int y = 0; y < sizeY; ++y) {
+                    air[y] &= neighbourBounds[y] <= 0.0D;
+                }
+            }
+        }
+
+        double[] noiseRange = this.computeNoiseRange(x, z);
+        double depth = noiseRange[0];
+        double scale = noiseRange[1];
+        double topSlideStart = this.method_16409();
+        double bottomSlideStart = this.method_16410();
+
+        int skipped = 0;
+        for (int y = 0; y < sizeY; ++y) {
+            if (air[y] && (y == 0 || air[y - 1]) && (y == sizeY - 1 || air[y + 1])) {
+                buffer[y] = bounds[y];
+                skipped++;
+                continue;
+            }
+            double noise = ((SurfaceChunkGeneratorInvoker) this).invokeSampleNoise(x, y, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch);
+            noise -= this.computeNoiseFalloff(depth, scale, y);
+            if ((double) y > topSlideStart) {
+                noise = MathHelper.clampedLerp(noise, topSlideTarget, ((double) y - topSlideStart) / (double) topSlideSize);
+            } else if ((double) y < bottomSlideStart) {
+                noise = MathHelper.clampedLerp(noise, -30.0D, (bottomSlideStart - (double) y) / (bottomSlideStart - 1.0D));
+            }
+            buffer[y] = noise;
+        }
+        this.skippedRows.add(skipped);
+        this.sampledRows.add(sizeY - skipped);
+    }
+
+    public long getSampledRows() {
+        return this.sampledRows.sum();
+    }
+
+    public long getSkippedRows() {
+        return this.skippedRows.sum();
+    }
+
+    /**
+     * Drops the sections that only got air, instead of keeping an empty palette around for them.
+     */
+    @Override
+    public void populateNoise(IWorld world, Chunk chunk) {
+        super.populateNoise(world, chunk);
+        ChunkSection[] sections = chunk.getSectionArray();
+        for (int i = 0; i < sections.length; ++i) {
+            if (sections[i] != WorldChunk.EMPTY_SECTION && ChunkSection.isEmpty(sections[i])) {
+                sections[i] = WorldChunk.EMPTY_SECTION;
+            }
+        }
+    }
+
+    /**
+     * The highest value every row of the column could get, slides only ever move the noise towards their target.
+     */
+    private double[] computeNoiseBounds(int x, int z, int topSlideSize, int topSlideTarget) {
+        double[] noiseRange = this.computeNoiseRange(x, z);
+        double topSlideStart = this.method_16409();
+        double bottomSlideStart = this.method_16410();
+        double[] bounds = new double[this.getNoiseSizeY()];
+        for (int y = 0; y < bounds.length; ++y) {
+            double bound = MAX_NOISE - this.computeNoiseFalloff(noiseRange[0], noiseRange[1], y);
+            if ((double) y > topSlideStart) {
+                bound = MathHelper.clampedLerp(bound, topSlideTarget, ((double) y - topSlideStart) / (double) topSlideSize);
+            } else if ((double) y < bottomSlideStart) {
+                bound = MathHelper.clampedLerp(bound, -30.0D, (bottomSlideStart - (double) y) / (bottomSlideStart - 1.0D));
+            }
+            bounds[y] = bound;
+        }
+        return bounds;
+    }
+}
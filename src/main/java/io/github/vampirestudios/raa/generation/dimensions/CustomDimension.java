@@ -40,7 +40,8 @@ public class CustomDimension extends Dimension {
     @Override
     public ChunkGenerator<?> createChunkGenerator() {
         return this.dimensionData.getDimensionChunkGenerator().getChunkGenerator(this.world, RandomlyAddingAnything.DIMENSIONAL_BIOMES.
-                applyConfig(new DimensionalBiomeSourceConfig(this.world.getLevelProperties()).setBiomes(biomeSet)), this.dimensionData, this.stoneBlock);
+                applyConfig(new DimensionalBiomeSourceConfig(this.world.getLevelProperties()).setBiomes(biomeSet)
+                        .setLayerCacheSize(this.dimensionData.getBiomeLayerCacheSize())), this.dimensionData, this.stoneBlock);
     }
 
     @Override
@@ -30,8 +30,10 @@ import net.minecraft.world.gen.feature.*;
 import net.minecraft.world.gen.foliage.*;
 import net.minecraft.world.gen.stateprovider.SimpleStateProvider;
 import net.minecraft.world.gen.surfacebuilder.SurfaceBuilder;
+import net.minecraft.world.gen.surfacebuilder.TernarySurfaceConfig;
 
 import java.util.ArrayList;
+import java.util.Random;
 
 public class CustomDimensionalBiome extends Biome {
 
@@ -39,7 +41,7 @@ public class CustomDimensionalBiome extends Biome {
 
     public CustomDimensionalBiome(DimensionData dimensionData, DimensionBiomeData biomeData) {
         super((new Settings()
-                .configureSurfaceBuilder(Utils.randomSurfaceBuilder(dimensionData.getSurfaceBuilder(), dimensionData), SurfaceBuilder.GRASS_CONFIG)
+                .configureSurfaceBuilder(surfaceBuilder(dimensionData), SurfaceBuilder.GRASS_CONFIG)
                 .precipitation(Utils.checkBitFlag(dimensionData.getFlags(), Utils.FROZEN) ? Precipitation.SNOW : Rands.chance(10) ? Precipitation.RAIN : Precipitation.NONE)
                 .category(Category.PLAINS)
                 .depth(biomeData.getDepth())
@@ -62,7 +64,7 @@ public class CustomDimensionalBiome extends Biome {
 
         DefaultBiomeFeatures.addDefaultLakes(this);
         DefaultBiomeFeatures.addDungeons(this);
-        if (Utils.randomSurfaceBuilder(dimensionData.getSurfaceBuilder(), dimensionData) == SurfaceBuilders.HYPER_FLAT) {
+        if (surfaceBuilder(dimensionData) == SurfaceBuilders.HYPER_FLAT) {
             DefaultBiomeFeatures.addMoreSeagrass(this);
             DefaultBiomeFeatures.addKelp(this);
         }
@@ -406,4 +408,10 @@ public class CustomDimensionalBiome extends Biome {
         return dimensionData.getDimensionColorPalette().getGrassColor();
     }
 
+    /**
+     * Rolled on a random seeded from the dimension, so every call for the same dimension picks the same builder.
+     */
+    private static SurfaceBuilder<TernarySurfaceConfig> surfaceBuilder(DimensionData dimensionData) {
+        return Utils.randomSurfaceBuilder(dimensionData.getSurfaceBuilder(), dimensionData, new Random(dimensionData.getId().hashCode()));
+    }
 }
@@ -1,7 +1,7 @@
 package io.github.vampirestudios.raa.generation.dimensions;
 
-import com.swordglowsblue.artifice.api.Artifice;
 import io.github.vampirestudios.raa.registries.Dimensions;
+import io.github.vampirestudios.raa.utils.GeneratedPackCache;
 import io.github.vampirestudios.raa.utils.Utils;
 import net.minecraft.item.Items;
 import net.minecraft.util.Identifier;
@@ -12,7 +12,7 @@ import static io.github.vampirestudios.raa.RandomlyAddingAnything.MOD_ID;
 public class DimensionRecipes {
 
     public static void init() {
-        Artifice.registerData(new Identifier(MOD_ID, "dimension_recipe_pack"), serverResourcePackBuilder ->
+        GeneratedPackCache.registerData(new Identifier(MOD_ID, "dimension_recipe_pack"), serverResourcePackBuilder ->
                 Dimensions.DIMENSIONS.forEach(dimension -> {
                             Identifier identifier = new Identifier(MOD_ID, dimension.getName().toLowerCase());
 
@@ -41,10 +41,9 @@ public class DimensionalBiomeLayers {
     }
 
     // returns the biome sampler for this dimension
-    public static BiomeLayerSampler build(long long_1, LevelGeneratorType levelGeneratorType_1, OverworldChunkGeneratorConfig overworldChunkGeneratorConfig_1, Set<Biome> biomes) {
-        int int_1 = 1;
+    public static BiomeLayerSampler build(long long_1, LevelGeneratorType levelGeneratorType_1, OverworldChunkGeneratorConfig overworldChunkGeneratorConfig_1, Set<Biome> biomes, int cacheSize) {
         LayerFactory<CachingLayerSampler> layerFactory_1 = build(levelGeneratorType_1, overworldChunkGeneratorConfig_1, (long_2) -> {
-            return new CachingLayerContext(25, long_1, long_2);
+            return new CachingLayerContext(cacheSize, long_1, long_2);
         }, biomes);
         return new BiomeLayerSampler(layerFactory_1);
     }
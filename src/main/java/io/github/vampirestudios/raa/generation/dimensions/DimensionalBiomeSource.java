@@ -1,31 +1,141 @@
 package io.github.vampirestudios.raa.generation.dimensions;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.source.BiomeLayerSampler;
 import net.minecraft.world.biome.source.BiomeSource;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
+/**
+ * Lays out the biomes of a dimension with its own layer stack, remembering the biomes of every chunk it sampled.
+ *
+ * <p>The caching layers of vanilla are locked and far too small to share, so a thread sampling a chunk the memo
+ * doesn't have borrows a layer stack of its own and hands it back afterwards. There are only ever as many stacks as
+ * threads sampled at once, and they go away with the biome source. Each of the 22 caching layers of a stack keeps its
+ * entries in a map held at a quarter load, so with the default 1024 entries a full layer takes about 80 KB and a
+ * whole stack close to 2 MB.</p>
+ */
 public class DimensionalBiomeSource extends BiomeSource {
-    private static Set<Biome> BIOMES;
-    private final BiomeLayerSampler noiseLayer;
+    private final List<Biome> spawnBiomes;
+    private final Supplier<BiomeLayerSampler> layerStackFactory;
+    private final Queue<BiomeLayerSampler> layerStacks = new ConcurrentLinkedQueue<>();
+    private final LongAdder builtLayerStacks = new LongAdder();
+    private final LongAdder layerSamples = new LongAdder();
+    private final Region[] regions;
+    private final int regionMask;
 
     public DimensionalBiomeSource(Object o) {
         super(((DimensionalBiomeSourceConfig) o).getBiomes());
-        this.noiseLayer = DimensionalBiomeLayers.build(((DimensionalBiomeSourceConfig) o).getSeed(), ((DimensionalBiomeSourceConfig) o).getGeneratorType(), ((DimensionalBiomeSourceConfig) o).getGeneratorSettings(), ((DimensionalBiomeSourceConfig) o).getBiomes());
-        BIOMES = ((DimensionalBiomeSourceConfig) o).getBiomes();
+        DimensionalBiomeSourceConfig config = (DimensionalBiomeSourceConfig) o;
+        this.layerStackFactory = () -> DimensionalBiomeLayers.build(config.getSeed(), config.getGeneratorType(),
+                config.getGeneratorSettings(), config.getBiomes(), config.getLayerCacheSize());
+        int regionCount = Integer.highestOneBit(Math.max(1, config.getRegionMemoSize() - 1) << 1);
+        this.regions = new Region[regionCount];
+        this.regionMask = regionCount - 1;
+        this.spawnBiomes = ImmutableList.copyOf(config.getBiomes());
     }
 
     @Override
     public Biome getBiomeForNoiseGen(int biomeX, int biomeY, int biomeZ) {
-        return this.noiseLayer.sample(biomeX, biomeZ);
+        return this.getRegion(biomeX >> 2, biomeZ >> 2).get(biomeX, biomeZ);
+    }
+
+    /**
+     * Same as vanilla, but the source is flat, so every column is only looked up once instead of once per layer.
+     */
+    @Override
+    public Set<Biome> getBiomesInArea(int x, int y, int z, int radius) {
+        int minX = x - radius >> 2;
+        int minZ = z - radius >> 2;
+        int maxX = x + radius >> 2;
+        int maxZ = z + radius >> 2;
+        Set<Biome> biomes = Sets.newHashSet();
+        for (int regionZ = minZ >> 2; regionZ <= maxZ >> 2; regionZ++) {
+            for (int regionX = minX >> 2; regionX <= maxX >> 2; regionX++) {
+                Region region = this.getRegion(regionX, regionZ);
+                for (int biomeZ = Math.max(minZ, regionZ << 2); biomeZ <= Math.min(maxZ, (regionZ << 2) + 3); biomeZ++) {
+                    for (int biomeX = Math.max(minX, regionX << 2); biomeX <= Math.min(maxX, (regionX << 2) + 3); biomeX++) {
+                        biomes.add(region.get(biomeX, biomeZ));
+                    }
+                }
+            }
+        }
+        return biomes;
     }
 
     @Override
     public List<Biome> getSpawnBiomes() {
-        return new ArrayList<>(BIOMES);
+        return this.spawnBiomes;
+    }
+
+    /**
+     * @return how many biomes were sampled from the layer stacks, 16 for every chunk missing from the memo
+     */
+    public long getLayerSamples() {
+        return this.layerSamples.sum();
+    }
+
+    /**
+     * @return how many layer stacks were built, the most threads that sampled at once
+     */
+    public long getBuiltLayerStacks() {
+        return this.builtLayerStacks.sum();
+    }
+
+    /**
+     * Looks the region up in the memo, which is a direct mapped table. Regions are immutable, so threads racing for
+     * the same slot at worst sample the same region twice.
+     */
+    private Region getRegion(int regionX, int regionZ) {
+        long key = (long) regionX & 0xFFFFFFFFL | ((long) regionZ & 0xFFFFFFFFL) << 32;
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & this.regionMask;
+        Region region = this.regions[slot];
+        if (region == null || region.key != key) {
+            BiomeLayerSampler layerStack = this.borrowLayerStack();
+            try {
+                region = new Region(key, regionX, regionZ, layerStack);
+            } finally {
+                this.layerStacks.offer(layerStack);
+            }
+            this.layerSamples.add(16);
+            this.regions[slot] = region;
+        }
+        return region;
+    }
+
+    private BiomeLayerSampler borrowLayerStack() {
+        BiomeLayerSampler layerStack = this.layerStacks.poll();
+        if (layerStack == null) {
+            layerStack = this.layerStackFactory.get();
+            this.builtLayerStacks.increment();
+        }
+        return layerStack;
+    }
+
+    // the 4x4 biomes of one chunk
+    private static class Region {
+        private final long key;
+        private final Biome[] biomes = new Biome[16];
+
+        private Region(long key, int regionX, int regionZ, BiomeLayerSampler sampler) {
+            this.key = key;
+            for (int z = 0; z < 4; z++) {
+                for (int x = 0; x < 4; x++) {
+                    this.biomes[z << 2 | x] = sampler.sample((regionX << 2) + x, (regionZ << 2) + z);
+                }
+            }
+        }
+
+        private Biome get(int biomeX, int biomeZ) {
+            return this.biomes[(biomeZ & 3) << 2 | biomeX & 3];
+        }
     }
 
 }
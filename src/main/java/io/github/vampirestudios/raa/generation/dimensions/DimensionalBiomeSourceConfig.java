@@ -9,10 +9,15 @@ import net.minecraft.world.level.LevelProperties;
 import java.util.Set;
 
 public class DimensionalBiomeSourceConfig implements BiomeSourceConfig {
+    private static volatile int defaultLayerCacheSize = 1024;
+    private static volatile int defaultRegionMemoSize = 4096;
+
     private final long seed;
     private final LevelGeneratorType generatorType;
     private OverworldChunkGeneratorConfig generatorSettings = new OverworldChunkGeneratorConfig();
     private Set<Biome> biomes;
+    private int layerCacheSize = defaultLayerCacheSize;
+    private int regionMemoSize = defaultRegionMemoSize;
 
     public DimensionalBiomeSourceConfig(LevelProperties levelProperties_1) {
         this.seed = levelProperties_1.getSeed();
@@ -24,6 +29,14 @@ public class DimensionalBiomeSourceConfig implements BiomeSourceConfig {
         this.generatorType = ((LevelProperties) o).getGeneratorType();
     }
 
+    /**
+     * Called with the sizes from the config, so building a biome source doesn't need the mod to be initialized.
+     */
+    public static void setup(int layerCacheSize, int regionMemoSize) {
+        defaultLayerCacheSize = layerCacheSize;
+        defaultRegionMemoSize = regionMemoSize;
+    }
+
     public long getSeed() {
         return this.seed;
     }
@@ -49,4 +62,22 @@ public class DimensionalBiomeSourceConfig implements BiomeSourceConfig {
         this.biomes = biomes;
         return this;
     }
+
+    public int getLayerCacheSize() {
+        return layerCacheSize;
+    }
+
+    public DimensionalBiomeSourceConfig setLayerCacheSize(int layerCacheSize) {
+        if (layerCacheSize > 0) this.layerCacheSize = layerCacheSize;
+        return this;
+    }
+
+    public int getRegionMemoSize() {
+        return regionMemoSize;
+    }
+
+    public DimensionalBiomeSourceConfig setRegionMemoSize(int regionMemoSize) {
+        if (regionMemoSize > 0) this.regionMemoSize = regionMemoSize;
+        return this;
+    }
 }
@@ -27,6 +27,8 @@ public class DimensionData {
     private HashMap<String, Double> civilizationInfluences;
     private int surfaceBuilder;
     private int toolDurability;
+    // 0 uses the size of the general config
+    private int biomeLayerCacheSize;
 
     public DimensionData(Identifier id, String name, int dimensionId, List<DimensionBiomeData> biomeData, DimensionColorPalette dimensionColorPalette, DimensionTextureData texturesInformation,
                          boolean hasSkyLight, boolean hasSky, boolean canSleep, boolean waterVaporize, boolean renderFog, DimensionChunkGenerators dimensionChunkGenerator, int flags,
@@ -160,6 +162,10 @@ public class DimensionData {
         this.toolDurability = toolDurability;
     }
 
+    public int getBiomeLayerCacheSize() {
+        return biomeLayerCacheSize;
+    }
+
     public static class Builder {
         HashMap<String, int[]> mobs;
         private Identifier id;
@@ -3,7 +3,7 @@ package io.github.vampirestudios.raa.generation.feature;
 import com.google.common.collect.ImmutableList;
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.registries.RAALootTables;
-import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.block.Block;
@@ -37,6 +37,7 @@ public class CampfireFeature extends Feature<DefaultFeatureConfig> {
     public boolean generate(IWorld world, ChunkGenerator chunkGenerator, Random random, BlockPos pos, DefaultFeatureConfig config) {
         if (world.getBlockState(pos.add(0, -1, 0)).isAir() || !world.getBlockState(pos.add(0, -1, 0)).isOpaque() || world.getBlockState(pos.add(0, -1, 0)).equals(Blocks.BEDROCK.getDefaultState()))
             return true;
+        WorldgenRandom rand = WorldgenRandom.forFeature(random);
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 if (j == -1 || j == 1 || i == -1 || i == 1)
@@ -56,38 +57,38 @@ public class CampfireFeature extends Feature<DefaultFeatureConfig> {
                         Blocks.STONE_BRICK_STAIRS
                 )
         );
-        Block stair = Rands.list(stairs);
+        Block stair = rand.pick(stairs);
 
-        if (Rands.chance(2))
+        if (rand.chance(2))
             world.setBlockState(pos.add(0, 0, 2), stair.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.SOUTH), 2);
-        if (Rands.chance(2))
+        if (rand.chance(2))
             world.setBlockState(pos.add(0, 0, -2), stair.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.NORTH), 2);
-        if (Rands.chance(4)) {
+        if (rand.chance(4)) {
             world.setBlockState(pos, Blocks.CAMPFIRE.getDefaultState(), 2);
         } else {
             world.setBlockState(pos, Blocks.CAMPFIRE.getDefaultState().with(Properties.LIT, false), 2);
         }
 
         //half of all campfires have chests
-        if (Rands.chance(2)) {
+        if (rand.chance(2)) {
             world.setBlockState(pos.add(-2, 0, 0), StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.EAST)), 2);
-            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(-2, 0, 0), RAALootTables.CAMPFIRE_LOOT);
+            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(-2, 0, 0), RAALootTables.CAMPFIRE_LOOT);
         } else {
-            if (Rands.chance(2))
+            if (rand.chance(2))
                 world.setBlockState(pos.add(-2, 0, 0), stair.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.WEST), 2);
         }
 
-        Block woolBlock = Rands.values(new Block[]{Blocks.WHITE_WOOL, Blocks.ORANGE_WOOL, Blocks.MAGENTA_WOOL, Blocks.LIGHT_BLUE_WOOL,
+        Block woolBlock = rand.pick(new Block[]{Blocks.WHITE_WOOL, Blocks.ORANGE_WOOL, Blocks.MAGENTA_WOOL, Blocks.LIGHT_BLUE_WOOL,
                 Blocks.YELLOW_WOOL, Blocks.LIME_WOOL, Blocks.PINK_WOOL, Blocks.GRAY_WOOL,
                 Blocks.LIGHT_GRAY_WOOL, Blocks.CYAN_WOOL, Blocks.PURPLE_WOOL, Blocks.BLUE_WOOL,
                 Blocks.BROWN_WOOL, Blocks.GREEN_WOOL, Blocks.RED_WOOL, Blocks.BLACK_WOOL});
-        Block carpetBlock = Rands.values(new Block[]{Blocks.WHITE_CARPET, Blocks.ORANGE_CARPET, Blocks.MAGENTA_CARPET, Blocks.LIGHT_BLUE_CARPET,
+        Block carpetBlock = rand.pick(new Block[]{Blocks.WHITE_CARPET, Blocks.ORANGE_CARPET, Blocks.MAGENTA_CARPET, Blocks.LIGHT_BLUE_CARPET,
                 Blocks.YELLOW_CARPET, Blocks.LIME_CARPET, Blocks.PINK_CARPET, Blocks.GRAY_CARPET,
                 Blocks.LIGHT_GRAY_CARPET, Blocks.CYAN_CARPET, Blocks.PURPLE_CARPET, Blocks.BLUE_CARPET,
                 Blocks.BROWN_CARPET, Blocks.GREEN_CARPET, Blocks.RED_CARPET, Blocks.BLACK_CARPET});
 
         //1/2 of all campfires have tents
-        if (Rands.chance(2)) {
+        if (rand.chance(2)) {
             List<Block> fences = new ArrayList<>(
                     ImmutableList.of(
                             Blocks.ACACIA_FENCE,
@@ -100,7 +101,7 @@ public class CampfireFeature extends Feature<DefaultFeatureConfig> {
                             Blocks.BRICK_WALL
                     )
             );
-            Block fence = Rands.list(fences);
+            Block fence = rand.pick(fences);
 
             for (int i = -1; i <= 1; i++) {
                 for (int j = 0; j < 3; j++) {
@@ -125,13 +126,13 @@ public class CampfireFeature extends Feature<DefaultFeatureConfig> {
             world.setBlockState(pos.add(2, 0, 0), carpetBlock.getDefaultState(), 2);
 
             // 1/2 chance for a lantern
-            if (Rands.chance(2))
+            if (rand.chance(2))
                 world.setBlockState(pos.add(3, 1, -1), Blocks.LANTERN.getDefaultState().with(Properties.HANGING, true), 2);
 
             world.setBlockState(pos.add(3, 0, 2), StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.WEST)), 2);
-            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(3, 0, 2), RAALootTables.CAMPFIRE_TENT_LOOT);
+            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(3, 0, 2), RAALootTables.CAMPFIRE_TENT_LOOT);
         } else {
-            if (Rands.chance(2))
+            if (rand.chance(2))
                 world.setBlockState(pos.add(2, 0, 0), stair.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.EAST), 2);
         }
 
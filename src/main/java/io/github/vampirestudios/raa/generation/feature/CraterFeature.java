@@ -2,7 +2,7 @@ package io.github.vampirestudios.raa.generation.feature;
 
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.generation.feature.config.CorruptedFeatureConfig;
-import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
@@ -37,18 +37,19 @@ public class CraterFeature extends Feature<CorruptedFeatureConfig> {
         if (world.getBlockState(pos.add(0, -1, 0)).isAir() || !world.getBlockState(pos.add(0, -1, 0)).isOpaque() || world.getBlockState(pos.add(0, -1, 0)).equals(Blocks.BEDROCK.getDefaultState()))
             return true;
         if (canSpawn(world, pos.add(0, -1, 0))) {
-            int amtMax = Rands.randIntRange(1, 3);
-            int scale = Rands.randIntRange(1, 3);
+            WorldgenRandom rand = WorldgenRandom.forFeature(random);
+            int amtMax = rand.nextIntRange(1, 3);
+            int scale = rand.nextIntRange(1, 3);
             for (int amt = 0; amt < amtMax; amt++) {
                 for (int i = -(amt + scale); i <= (amt + scale); i++) {
                     for (int j = -(amt + scale); j <= (amt + scale); j++) {
                         if (i == -(amt + scale) || i == (amt + scale) || j == -(amt + scale) || j == (amt + scale)) {
-                            if (!Rands.chance(3)) {
+                            if (!rand.chance(3)) {
                                 this.setBlockState(world, new BlockPos(pos.getX() + i, pos.getY() - (amtMax - amt), pos.getZ() + j), Blocks.AIR.getDefaultState());
                             }
-                            if (config.corrupted && Rands.chance(3)) {
+                            if (config.corrupted && rand.chance(3)) {
                                 this.setBlockState(world, new BlockPos(pos.getX() + i, pos.getY() - (amtMax - amt), pos.getZ() + j), Blocks.NETHERRACK.getDefaultState());
-                                if (Rands.chance(2)) {
+                                if (rand.chance(2)) {
                                     this.setBlockState(world, new BlockPos(pos.getX() + i, pos.getY() - (amtMax - amt) + 1, pos.getZ() + j), Blocks.FIRE.getDefaultState());
                                 }
                             }
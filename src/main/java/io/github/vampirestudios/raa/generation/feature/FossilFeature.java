@@ -4,7 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.utils.JsonConverter;
-import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import io.github.vampirestudios.raa.utils.WorldStructureManipulation;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
@@ -98,15 +98,16 @@ public class FossilFeature extends Feature<DefaultFeatureConfig> {
         if (pos.getY() < 9 || !world.getBlockState(pos.add(0, -1, 0)).isOpaque() || world.getBlockState(pos.add(0, -1, 0)).equals(Blocks.BEDROCK.getDefaultState()))
             return true;
 
-        int yChosen = new Random().nextInt(25) + 4;
+        WorldgenRandom rand = WorldgenRandom.forFeature(random);
+        int yChosen = rand.nextInt(25) + 4;
         while (pos.getY() - yChosen < 5) {
-            yChosen = new Random().nextInt(25) + 4;
+            yChosen = rand.nextInt(25) + 4;
         }
         pos.add(0, -yChosen, 0);
-        JsonConverter.StructureValues fossilChosen = structures.get("fossil" + (new Random().nextInt(structures.size()) + 1));
-        int rotation = new Random().nextInt(4);
+        JsonConverter.StructureValues fossilChosen = structures.get("fossil" + (rand.nextInt(structures.size()) + 1));
+        int rotation = rand.nextInt(4);
         for (int i = 0; i < fossilChosen.getBlockPositions().size(); i++) {
-            if (!Rands.chance(6)) {
+            if (!rand.chance(6)) {
                 Vec3i currBlockPos = fossilChosen.getBlockPositions().get(i);
                 String currBlockType = fossilChosen.getBlockTypes().get(fossilChosen.getBlockStates().get(i));
                 Map<String, String> currBlockProp = fossilChosen.getBlockProperties().get(fossilChosen.getBlockStates().get(i));
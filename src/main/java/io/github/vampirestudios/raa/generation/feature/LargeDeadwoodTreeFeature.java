@@ -18,29 +18,29 @@ import java.util.function.Function;
 
 //Code kindly taken from The Hallow, thanks to everyone who is working on it!
 public class LargeDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureConfig> {
-    private static BlockState LOG;
-    private static BlockState LEAVES;
+    private final BlockState log;
+    private final BlockState leaves;
 
     public LargeDeadwoodTreeFeature(Function<Dynamic<?>, ? extends TreeFeatureConfig> function) {
         super(function);
         int leafType = Rands.randInt(4);
         switch (leafType) {
             case 1:
-                LOG = Blocks.BIRCH_LOG.getDefaultState();
-                LEAVES = Blocks.BIRCH_LEAVES.getDefaultState();
+                this.log = Blocks.BIRCH_LOG.getDefaultState();
+                this.leaves = Blocks.BIRCH_LEAVES.getDefaultState();
                 break;
             case 2:
-                LOG = Blocks.SPRUCE_LOG.getDefaultState();
-                LEAVES = Blocks.SPRUCE_LEAVES.getDefaultState();
+                this.log = Blocks.SPRUCE_LOG.getDefaultState();
+                this.leaves = Blocks.SPRUCE_LEAVES.getDefaultState();
                 break;
             case 3:
-                LOG = Blocks.JUNGLE_LOG.getDefaultState();
-                LEAVES = Blocks.JUNGLE_LEAVES.getDefaultState();
+                this.log = Blocks.JUNGLE_LOG.getDefaultState();
+                this.leaves = Blocks.JUNGLE_LEAVES.getDefaultState();
                 break;
             case 0:
             default:
-                LOG = Blocks.OAK_LOG.getDefaultState();
-                LEAVES = Blocks.OAK_LEAVES.getDefaultState();
+                this.log = Blocks.OAK_LOG.getDefaultState();
+                this.leaves = Blocks.OAK_LEAVES.getDefaultState();
                 break;
         }
     }
@@ -179,7 +179,7 @@ public class LargeDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureCon
 
     private void addLog(ModifiableTestableWorld world, BlockPos blockPos, BlockBox blockBox) {
         if (canTreeReplace(world, blockPos)) {
-            this.setBlockState(world, blockPos, LOG, blockBox);
+            this.setBlockState(world, blockPos, this.log, blockBox);
         }
 
     }
@@ -187,7 +187,7 @@ public class LargeDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureCon
     private void addLeaves(ModifiableTestableWorld world, int x, int y, int z, BlockBox blockBox) {
         BlockPos blockPos = new BlockPos(x, y, z);
         if (isAir(world, blockPos)) {
-            this.setBlockState(world, blockPos, LEAVES, blockBox);
+            this.setBlockState(world, blockPos, this.leaves, blockBox);
         }
 
     }
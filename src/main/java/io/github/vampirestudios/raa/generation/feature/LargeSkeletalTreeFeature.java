@@ -1,7 +1,6 @@
 package io.github.vampirestudios.raa.generation.feature;
 
 import com.mojang.datafixers.Dynamic;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.PillarBlock;
@@ -45,12 +44,12 @@ public class LargeSkeletalTreeFeature extends AbstractTreeFeature<TreeFeatureCon
     @Override
     protected boolean generate(ModifiableTestableWorld modifiableTestableWorld, Random random, BlockPos blockPos, Set<BlockPos> set, Set<BlockPos> set1, BlockBox blockBox, TreeFeatureConfig treeFeatureConfig) {
         if (!isNaturalDirtOrGrass(modifiableTestableWorld, blockPos.down(1))) return false;
-        generateBranch(modifiableTestableWorld, random, blockPos.add(0, -1, 0), blockBox, Rands.randInt(4), null);
+        generateBranch(modifiableTestableWorld, random, blockPos.add(0, -1, 0), blockBox, random.nextInt(4), null);
         return true;
     }
 
     private void generateBranch(ModifiableTestableWorld world, Random random, BlockPos pos, BlockBox blockBox, int maxBranchouts, Direction lastDir) {
-        int baseHeight = Rands.randInt(4) + 2;
+        int baseHeight = random.nextInt(4) + 2;
 
         for (int int_4 = 0; int_4 < baseHeight; ++int_4) {
             BlockPos blockPos = pos.up(int_4 + 1);
@@ -60,7 +59,7 @@ public class LargeSkeletalTreeFeature extends AbstractTreeFeature<TreeFeatureCon
             addLog(world, blockPos, Direction.Axis.Y, blockBox);
         }
 
-        int int_5 = Rands.randInt(4) + 1;
+        int int_5 = random.nextInt(4) + 1;
         int int_1 = 8;
 
         if (maxBranchouts > 0) {
@@ -1,7 +1,7 @@
 package io.github.vampirestudios.raa.generation.feature;
 
 import com.mojang.datafixers.Dynamic;
-import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IWorld;
@@ -22,7 +22,8 @@ public class NetherrackFeature extends Feature<DefaultFeatureConfig> {
         if (world.getBlockState(pos.add(0, -1, 0)).isAir() || !world.getBlockState(pos.add(0, -1, 0)).isOpaque() || world.getBlockState(pos.add(0, -1, 0)).equals(Blocks.BEDROCK.getDefaultState()))
             return true;
         this.setBlockState(world, pos.add(0, -1, 0), Blocks.NETHERRACK.getDefaultState());
-        if (Rands.chance(3)) {
+        WorldgenRandom rand = WorldgenRandom.forFeature(random);
+        if (rand.chance(3)) {
             this.setBlockState(world, pos, Blocks.FIRE.getDefaultState());
         }
         return true;
@@ -2,7 +2,7 @@ package io.github.vampirestudios.raa.generation.feature;
 
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.registries.RAALootTables;
-import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.block.Blocks;
@@ -36,10 +36,10 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
     // T2 = obsidian
     // T-1 = cobblestone
 
-    public static void placeBlockAt(IWorld world, BlockPos pos, int tier) {
+    public static void placeBlockAt(IWorld world, WorldgenRandom rand, BlockPos pos, int tier) {
         switch (tier) {
             case -1:
-                int randneg1 = Rands.randInt(4);
+                int randneg1 = rand.nextInt(4);
                 switch (randneg1) {
                     case 0:
                     case 1:
@@ -49,13 +49,13 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
                         world.setBlockState(pos, Blocks.MOSSY_COBBLESTONE.getDefaultState(), 2);
                         break;
                     case 3:
-                        world.setBlockState(pos, (Rands.chance(3)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
+                        world.setBlockState(pos, (rand.chance(3)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
                         break;
                 }
                 break;
             case 0:
-                int rand = Rands.randInt(5);
-                switch (rand) {
+                int roll = rand.nextInt(5);
+                switch (roll) {
                     case 0:
                     case 4:
                         world.setBlockState(pos, Blocks.STONE_BRICKS.getDefaultState(), 2);
@@ -67,22 +67,22 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
                         world.setBlockState(pos, Blocks.MOSSY_STONE_BRICKS.getDefaultState(), 2);
                         break;
                     case 3:
-                        world.setBlockState(pos, (Rands.chance(4)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
+                        world.setBlockState(pos, (rand.chance(4)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
                         break;
                 }
                 break;
             case 1:
-                int rand1 = Rands.randInt(8);
+                int rand1 = rand.nextInt(8);
                 if (rand1 == 0) {
-                    world.setBlockState(pos, (Rands.chance(4)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
+                    world.setBlockState(pos, (rand.chance(4)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
                 } else {
                     world.setBlockState(pos, Blocks.BRICKS.getDefaultState(), 2);
                 }
                 break;
             case 2:
-                int rand2 = Rands.randInt(20);
+                int rand2 = rand.nextInt(20);
                 if (rand2 == 0) {
-                    world.setBlockState(pos, (Rands.chance(4)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
+                    world.setBlockState(pos, (rand.chance(4)) ? Blocks.COBWEB.getDefaultState() : Blocks.AIR.getDefaultState(), 2);
                 } else {
                     world.setBlockState(pos, Blocks.OBSIDIAN.getDefaultState(), 2);
                 }
@@ -94,21 +94,22 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
     public boolean generate(IWorld world, ChunkGenerator chunkGenerator, Random random, BlockPos pos, DefaultFeatureConfig config) {
         if (world.getBlockState(pos.add(0, -1, 0)).isAir() || !world.getBlockState(pos.add(0, -1, 0)).isOpaque() || world.getBlockState(pos.add(0, -1, 0)).equals(Blocks.BEDROCK.getDefaultState()))
             return true;
+        WorldgenRandom rand = WorldgenRandom.forFeature(random);
         int tier = 0;
-        if (Rands.chance(4)) tier = -1; //ugly hack to make cobblestone work
-        if (Rands.chance(10)) tier = 1;
-        if (tier == 1) if (Rands.chance(10)) tier = 2;
-        boolean hasRoof = Rands.chance(2);
+        if (rand.chance(4)) tier = -1; //ugly hack to make cobblestone work
+        if (rand.chance(10)) tier = 1;
+        if (tier == 1) if (rand.chance(10)) tier = 2;
+        boolean hasRoof = rand.chance(2);
 
         //height modification
-        int height = Rands.randIntRange(6, 15);
-        if (tier == -1) height = Rands.randIntRange(6, 12);
-        if (tier == 1) height = Rands.randIntRange(9, 18);
-        if (tier == 2) height = Rands.randIntRange(12, 21);
+        int height = rand.nextIntRange(6, 15);
+        if (tier == -1) height = rand.nextIntRange(6, 12);
+        if (tier == 1) height = rand.nextIntRange(9, 18);
+        if (tier == 2) height = rand.nextIntRange(12, 21);
         //floor
         for (int j = -2; j <= 2; j++) {
             for (int k = -2; k <= 2; k++) {
-                placeBlockAt(world, pos.add(j, 0, k), tier);
+                placeBlockAt(world, rand, pos.add(j, 0, k), tier);
             }
         }
         //"staircase" area
@@ -116,7 +117,7 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
             for (int j = -2; j <= 2; j++) {
                 for (int k = -2; k <= 2; k++) {
                     if (j == -2 || j == 2 || k == -2 || k == 2) {
-                        placeBlockAt(world, pos.add(j, i, k), tier);
+                        placeBlockAt(world, rand, pos.add(j, i, k), tier);
                     } else {
                         world.setBlockState(pos, Blocks.AIR.getDefaultState(), 2);
                     }
@@ -124,42 +125,42 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
             }
         }
         //room area
-        int heightTotal = height + Rands.randIntRange(3, 5);
+        int heightTotal = height + rand.nextIntRange(3, 5);
         if (tier == -1) {
             if (hasRoof) {
-                heightTotal = height + Rands.randIntRange(2, 3);
+                heightTotal = height + rand.nextIntRange(2, 3);
             } else {
-                heightTotal = height + Rands.randIntRange(3, 4);
+                heightTotal = height + rand.nextIntRange(3, 4);
             }
         }
-        if (tier == 1) heightTotal = height + Rands.randIntRange(4, 6);
-        if (tier == 2) heightTotal = height + Rands.randIntRange(5, 7);
+        if (tier == 1) heightTotal = height + rand.nextIntRange(4, 6);
+        if (tier == 2) heightTotal = height + rand.nextIntRange(5, 7);
         for (int i = height - 2; i < heightTotal; i++) {
             for (int j = -3; j <= 3; j++) {
                 for (int k = -3; k <= 3; k++) {
                     if (j == -3 || j == 3 || k == -3 || k == 3) {
-                        placeBlockAt(world, pos.add(j, i, k), tier);
+                        placeBlockAt(world, rand, pos.add(j, i, k), tier);
                     } else {
                         world.setBlockState(pos, Blocks.AIR.getDefaultState(), 2);
                     }
                     if (j == -2 && k == -2 && i == height) {
                         world.setBlockState(pos.add(j, i, k), StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.SOUTH)), 2);
-                        LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(j, i, k), (tier >= 1) ? (tier >= 2) ? LootTables.END_CITY_TREASURE_CHEST : LootTables.SIMPLE_DUNGEON_CHEST : RAALootTables.OUTPOST_LOOT);
+                        LootableContainerBlockEntity.setLootTable(world, rand, pos.add(j, i, k), (tier >= 1) ? (tier >= 2) ? LootTables.END_CITY_TREASURE_CHEST : LootTables.SIMPLE_DUNGEON_CHEST : RAALootTables.OUTPOST_LOOT);
                     }
                     if (tier >= 1) {
                         if (j == 2 && k == 2 && i == height) {
                             world.setBlockState(pos.add(j, i, k), StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.NORTH)), 2);
-                            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(j, i, k), (tier >= 2) ? LootTables.END_CITY_TREASURE_CHEST : LootTables.SIMPLE_DUNGEON_CHEST);
+                            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(j, i, k), (tier >= 2) ? LootTables.END_CITY_TREASURE_CHEST : LootTables.SIMPLE_DUNGEON_CHEST);
                         }
                     }
                     if (tier >= 2) {
                         if (j == -2 && k == 2 && i == height) {
                             world.setBlockState(pos.add(j, i, k), StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.NORTH)), 2);
-                            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(j, i, k), LootTables.END_CITY_TREASURE_CHEST);
+                            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(j, i, k), LootTables.END_CITY_TREASURE_CHEST);
                         }
                         if (j == 2 && k == -2 && i == height) {
                             world.setBlockState(pos.add(j, i, k), StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.SOUTH)), 2);
-                            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(j, i, k), LootTables.END_CITY_TREASURE_CHEST);
+                            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(j, i, k), LootTables.END_CITY_TREASURE_CHEST);
                         }
                     }
                 }
@@ -169,7 +170,7 @@ public class OutpostFeature extends Feature<DefaultFeatureConfig> {
         if (hasRoof || tier >= 1) {
             for (int j = -3; j <= 3; j++) {
                 for (int k = -3; k <= 3; k++) {
-                    placeBlockAt(world, pos.add(j, heightTotal - 1, k), tier);
+                    placeBlockAt(world, rand, pos.add(j, heightTotal - 1, k), tier);
                 }
             }
         }
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.utils.JsonConverter;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import io.github.vampirestudios.raa.utils.WorldStructureManipulation;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
@@ -60,9 +61,10 @@ public class ShrineFeature extends Feature<DefaultFeatureConfig> {
             return true;
         }
         pos = new BlockPos(tempPos);
+        WorldgenRandom rand = WorldgenRandom.forFeature(random);
 
         JsonConverter.StructureValues shrine = structures.get("shrine");
-        int rotation = new Random().nextInt(4);
+        int rotation = rand.nextInt(4);
         for (int i = 0; i < shrine.getBlockPositions().size(); i++) {
             String currBlockType = shrine.getBlockTypes().get(shrine.getBlockStates().get(i));
             if (true/*!Rands.chance(6)*/ || currBlockType.equals("minecraft:air")) {
@@ -19,36 +19,36 @@ import java.util.function.Function;
 
 //Code kindly taken from The Hallow, thanks to everyone who is working on it!
 public class SmallDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureConfig> {
-    private static BlockState LOG;
-    private static BlockState LEAVES;
+    private final BlockState log;
+    private final BlockState leaves;
 
     public SmallDeadwoodTreeFeature(Function<Dynamic<?>, ? extends TreeFeatureConfig> function) {
         super(function);
         int leafType = Rands.randInt(4);
         switch (leafType) {
             case 1:
-                LOG = Blocks.BIRCH_LOG.getDefaultState();
-                LEAVES = Blocks.BIRCH_LEAVES.getDefaultState();
+                this.log = Blocks.BIRCH_LOG.getDefaultState();
+                this.leaves = Blocks.BIRCH_LEAVES.getDefaultState();
                 break;
             case 2:
-                LOG = Blocks.SPRUCE_LOG.getDefaultState();
-                LEAVES = Blocks.SPRUCE_LEAVES.getDefaultState();
+                this.log = Blocks.SPRUCE_LOG.getDefaultState();
+                this.leaves = Blocks.SPRUCE_LEAVES.getDefaultState();
                 break;
             case 3:
-                LOG = Blocks.JUNGLE_LOG.getDefaultState();
-                LEAVES = Blocks.JUNGLE_LEAVES.getDefaultState();
+                this.log = Blocks.JUNGLE_LOG.getDefaultState();
+                this.leaves = Blocks.JUNGLE_LEAVES.getDefaultState();
                 break;
             case 0:
             default:
-                LOG = Blocks.OAK_LOG.getDefaultState();
-                LEAVES = Blocks.OAK_LEAVES.getDefaultState();
+                this.log = Blocks.OAK_LOG.getDefaultState();
+                this.leaves = Blocks.OAK_LEAVES.getDefaultState();
                 break;
         }
     }
 
     @Override
     public boolean generate(ModifiableTestableWorld modifiableTestableWorld, Random random, BlockPos blockPos, Set<BlockPos> set, Set<BlockPos> set1, BlockBox blockBox, TreeFeatureConfig treeFeatureConfig) {
-        int height = Rands.randInt(4) + 5;
+        int height = random.nextInt(4) + 5;
         blockPos = modifiableTestableWorld.getTopPosition(Heightmap.Type.OCEAN_FLOOR, blockPos);
         boolean bool = true;
         if (blockPos.getY() >= 1 && blockPos.getY() + height + 1 <= 256) {
@@ -105,10 +105,10 @@ public class SmallDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureCon
 
                         for (curZ = blockPos.getZ() - leafSize; curZ <= blockPos.getZ() + leafSize; ++curZ) {
                             int offsetZ = curZ - blockPos.getZ();
-                            if (Math.abs(genZ) != leafSize || Math.abs(offsetZ) != leafSize || Rands.randInt(2) != 0 && localY != 0) {
+                            if (Math.abs(genZ) != leafSize || Math.abs(offsetZ) != leafSize || random.nextInt(2) != 0 && localY != 0) {
                                 genPos = new BlockPos(genX, genY, curZ);
                                 if (isAirOrLeaves(modifiableTestableWorld, genPos) || isReplaceablePlant(modifiableTestableWorld, genPos)) {
-                                    this.setBlockState(modifiableTestableWorld, genPos, LEAVES, blockBox);
+                                    this.setBlockState(modifiableTestableWorld, genPos, this.leaves, blockBox);
                                 }
                             }
                         }
@@ -118,7 +118,7 @@ public class SmallDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureCon
                 for (genY = 0; genY < height; ++genY) {
                     BlockPos upPos = blockPos.up(genY);
                     if (isAirOrLeaves(modifiableTestableWorld, upPos) || isWater(modifiableTestableWorld, upPos)) {
-                        this.setBlockState(modifiableTestableWorld, upPos, LOG, blockBox);
+                        this.setBlockState(modifiableTestableWorld, upPos, this.log, blockBox);
                     }
                 }
 
@@ -135,19 +135,19 @@ public class SmallDeadwoodTreeFeature extends AbstractTreeFeature<TreeFeatureCon
                                 BlockPos vinePosEast = mutablePos2.east();
                                 BlockPos vinePosNorth = mutablePos2.north();
                                 BlockPos vinePosSouth = mutablePos2.south();
-                                if (Rands.randInt(4) == 0 && isAir(modifiableTestableWorld, vinePosWest)) {
+                                if (random.nextInt(4) == 0 && isAir(modifiableTestableWorld, vinePosWest)) {
                                     this.makeVines(modifiableTestableWorld, vinePosWest, VineBlock.EAST);
                                 }
 
-                                if (Rands.randInt(4) == 0 && isAir(modifiableTestableWorld, vinePosEast)) {
+                                if (random.nextInt(4) == 0 && isAir(modifiableTestableWorld, vinePosEast)) {
                                     this.makeVines(modifiableTestableWorld, vinePosEast, VineBlock.WEST);
                                 }
 
-                                if (Rands.randInt(4) == 0 && isAir(modifiableTestableWorld, vinePosNorth)) {
+                                if (random.nextInt(4) == 0 && isAir(modifiableTestableWorld, vinePosNorth)) {
                                     this.makeVines(modifiableTestableWorld, vinePosNorth, VineBlock.SOUTH);
                                 }
 
-                                if (Rands.randInt(4) == 0 && isAir(modifiableTestableWorld, vinePosSouth)) {
+                                if (random.nextInt(4) == 0 && isAir(modifiableTestableWorld, vinePosSouth)) {
                                     this.makeVines(modifiableTestableWorld, vinePosSouth, VineBlock.NORTH);
                                 }
                             }
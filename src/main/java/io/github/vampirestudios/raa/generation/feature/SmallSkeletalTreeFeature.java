@@ -1,7 +1,6 @@
 package io.github.vampirestudios.raa.generation.feature;
 
 import com.mojang.datafixers.Dynamic;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.PillarBlock;
@@ -34,13 +33,13 @@ public class SmallSkeletalTreeFeature extends AbstractTreeFeature<TreeFeatureCon
         }
         int y;
         blockPos.offset(Direction.DOWN);
-        for (y = 0; y < Rands.randInt(6) + 4; y++) {
+        for (y = 0; y < random.nextInt(6) + 4; y++) {
             addLog(modifiableTestableWorld, blockPos.offset(Direction.UP), Direction.Axis.Y, blockBox);
         }
         if (random.nextBoolean()) {
             Direction direction = Direction.Type.HORIZONTAL.random(random);
             BlockPos top = blockPos.offset(Direction.UP);
-            for (int i = 1; i < Rands.randInt(4) + 3; i++) {
+            for (int i = 1; i < random.nextInt(4) + 3; i++) {
                 addLog(modifiableTestableWorld, top.offset(direction), direction.getAxis(), blockBox);
             }
         }
@@ -31,13 +31,13 @@ public class StoneCircleFeature extends Feature<DefaultFeatureConfig> {
 
     private static final OctaveOpenSimplexNoise offsetNoise = new OctaveOpenSimplexNoise(new Random(0), 2, 25D, 4D, 3D);
     private static final Identifier LOOT_TABLE = new Identifier(RandomlyAddingAnything.MOD_ID, "chest/stone_circle");
-    private static BlockState STONE;
-    private static BlockState COBBLESTONE;
+    private final BlockState stone;
+    private final BlockState cobblestone;
 
     public StoneCircleFeature(DimensionData dimensionData) {
         super(DefaultFeatureConfig::deserialize);
-        STONE = Registry.BLOCK.get(new Identifier(RandomlyAddingAnything.MOD_ID, dimensionData.getName().toLowerCase() + "_stone")).getDefaultState();
-        COBBLESTONE = Registry.BLOCK.get(new Identifier(RandomlyAddingAnything.MOD_ID, dimensionData.getName().toLowerCase() + "_cobblestone")).getDefaultState();
+        this.stone = Registry.BLOCK.get(new Identifier(RandomlyAddingAnything.MOD_ID, dimensionData.getName().toLowerCase() + "_stone")).getDefaultState();
+        this.cobblestone = Registry.BLOCK.get(new Identifier(RandomlyAddingAnything.MOD_ID, dimensionData.getName().toLowerCase() + "_cobblestone")).getDefaultState();
     }
 
     @Override
@@ -62,6 +62,7 @@ public class StoneCircleFeature extends Feature<DefaultFeatureConfig> {
 
         BlockPos.Mutable posMutable = new BlockPos.Mutable();
         BlockPos.Mutable posMutable2 = new BlockPos.Mutable();
+        double[] offsets = new double[7 * 7];
 
         for (int quarter = 0; quarter < 4; ++quarter) {
             for (int localPosition = -1; localPosition < 2; ++localPosition) {
@@ -113,7 +114,7 @@ public class StoneCircleFeature extends Feature<DefaultFeatureConfig> {
                 posMutable2.setX((int) (centreX + xOffset));
                 posMutable2.setZ((int) (centreZ + zOffset));
 
-                generateStone(world, rand, posMutable, posMutable2, baseHeight + rand.nextInt(3), lowY);
+                generateStone(world, rand, posMutable, posMutable2, offsets, baseHeight + rand.nextInt(3), lowY);
             }
         }
 
@@ -139,9 +140,10 @@ public class StoneCircleFeature extends Feature<DefaultFeatureConfig> {
         return true;
     }
 
-    private void generateStone(ModifiableWorld world, Random rand, final BlockPos centre, BlockPos.Mutable mutable, int height, int lowY) {
+    private void generateStone(ModifiableWorld world, Random rand, final BlockPos centre, BlockPos.Mutable mutable, double[] offsets, int height, int lowY) {
         final int posX = centre.getX();
         final int posZ = centre.getZ();
+        offsetNoise.sampleGrid2D(offsets, posX - 3, posZ - 3, 7, 7, 1D);
 
         for (int xOffset = -3; xOffset < 4; ++xOffset) {
             mutable.setX(posX + xOffset);
@@ -151,11 +153,11 @@ public class StoneCircleFeature extends Feature<DefaultFeatureConfig> {
 
                 double squaredDistanceTo = centre.getSquaredDistance(mutable) / 9D;
 
-                int localHeight = (int) offsetNoise.sample(mutable.getX(), mutable.getZ()) + (int) MathHelper.lerp(squaredDistanceTo, height, 0D) + lowY;
+                int localHeight = (int) offsets[(zOffset + 3) * 7 + xOffset + 3] + (int) MathHelper.lerp(squaredDistanceTo, height, 0D) + lowY;
 
                 for (int y = lowY - 5; y < localHeight + 1; ++y) {
                     mutable.setY(y);
-                    world.setBlockState(mutable, rand.nextInt(3) == 0 ? COBBLESTONE : STONE, 19);
+                    world.setBlockState(mutable, rand.nextInt(3) == 0 ? this.cobblestone : this.stone, 19);
                 }
             }
         }
@@ -1,9 +1,9 @@
 package io.github.vampirestudios.raa.generation.feature;
 
 import io.github.vampirestudios.raa.RandomlyAddingAnything;
+import io.github.vampirestudios.raa.generation.chunkgenerator.BiomeColumnCache;
 import io.github.vampirestudios.raa.generation.dimensions.data.DimensionData;
 import io.github.vampirestudios.raa.utils.FeatureUtils;
-import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.noise.old.OctaveOpenSimplexNoise;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
@@ -18,7 +18,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
-import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
 import net.minecraft.world.gen.chunk.ChunkGeneratorConfig;
 import net.minecraft.world.gen.feature.DefaultFeatureConfig;
@@ -38,20 +38,21 @@ public class TombFeature extends Feature<DefaultFeatureConfig> {
     private static final BlockState AIR = Blocks.AIR.getDefaultState();
     private static final EntityType<?> SKELETON = EntityType.SKELETON;
     private static final Identifier LOOT_TABLE = new Identifier(RandomlyAddingAnything.MOD_ID, "chest/tomb");
-    private static BlockState STONE;
+    private final BlockState stone;
 
     public TombFeature(DimensionData dimensionData) {
         super(DefaultFeatureConfig::deserialize);
-        STONE = Registry.BLOCK.get(new Identifier(RandomlyAddingAnything.MOD_ID, dimensionData.getName().toLowerCase() + "_stone")).getDefaultState();
+        this.stone = Registry.BLOCK.get(new Identifier(RandomlyAddingAnything.MOD_ID, dimensionData.getName().toLowerCase() + "_stone")).getDefaultState();
     }
 
     @Override
     public boolean generate(IWorld world, ChunkGenerator<? extends ChunkGeneratorConfig> chunkGenerator, Random rand, BlockPos pos, DefaultFeatureConfig config) {
         if (world.getBlockState(pos.add(0, -3, 0)).isAir() || !world.getBlockState(pos.add(0, -3, 0)).isOpaque() || world.getBlockState(pos.add(0, -1, 0)).equals(Blocks.BEDROCK.getDefaultState()))
             return true;
-        final BiomeSource source = chunkGenerator.getBiomeSource();
-
-        return this.generate(world, rand, pos.add(0, -3, 0), (x, y, z) -> source.getBiomeForNoiseGen(x, y, z).getSurfaceConfig());
+        return this.generate(world, rand, pos.add(0, -3, 0), (x, y, z) -> {
+            Biome biome = BiomeColumnCache.getBiome(world, x, z);
+            return (biome != null ? biome : world.getBiome(new BlockPos(x, y, z))).getSurfaceConfig();
+        });
     }
 
     private boolean generate(IWorld world, Random rand, BlockPos pos, Coordinate3iFunction<SurfaceConfig> configFunction) {
@@ -68,6 +69,10 @@ public class TombFeature extends Feature<DefaultFeatureConfig> {
 
         BlockPos.Mutable posMutable = new BlockPos.Mutable();
 
+        int diameter = radius * 2 + 1;
+        double[] offsets = new double[diameter * diameter];
+        offsetNoise.sampleGrid2D(offsets, centreX - radius, centreZ - radius, diameter, diameter, 1D);
+
         for (int xOffset = -radius; xOffset <= radius; ++xOffset) {
             int x = centreX + xOffset;
 
@@ -79,7 +84,7 @@ public class TombFeature extends Feature<DefaultFeatureConfig> {
                 if (sqrDistTo <= radiusSquared) {
                     double progress = MathHelper.perlinFade(sqrDistTo / radiusSquared);
                     int heightOffset = (int) MathHelper.lerp(progress, height, 0);
-                    heightOffset += (int) MathHelper.lerp(progress, offsetNoise.sample(x, z), 0);
+                    heightOffset += (int) MathHelper.lerp(progress, offsets[(zOffset + radius) * diameter + xOffset + radius], 0);
 
                     posMutable.setX(x);
                     posMutable.setZ(z);
@@ -118,10 +123,10 @@ public class TombFeature extends Feature<DefaultFeatureConfig> {
                 if (rand.nextInt(4) == 0) {
                     FeatureUtils.setLootChest(world, pos, LOOT_TABLE, rand);
                 } else {
-                    FeatureUtils.setSpawner(world, pos, Rands.chance(2) ? SKELETON : EntityType.ZOMBIE);
+                    FeatureUtils.setSpawner(world, pos, rand.nextBoolean() ? SKELETON : EntityType.ZOMBIE);
                 }
             } else {
-                world.setBlockState(pos, y <= lowY + 1 ? STONE : AIR, 19);
+                world.setBlockState(pos, y <= lowY + 1 ? this.stone : AIR, 19);
             }
         }
     }
@@ -5,8 +5,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.utils.JsonConverter;
-import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.WorldStructureManipulation;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.block.Blocks;
@@ -42,7 +42,7 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
         super(function);
     }
 
-    private static void placePiece(IWorld world, BlockPos pos, int rotation, JsonConverter.StructureValues piece, int decay) {
+    private static void placePiece(IWorld world, WorldgenRandom rand, BlockPos pos, int rotation, JsonConverter.StructureValues piece, int decay) {
         for (int i = 0; i < piece.getBlockPositions().size(); i++) {
             Vec3i currBlockPos = piece.getBlockPositions().get(i);
             String currBlockType = piece.getBlockTypes().get(piece.getBlockStates().get(i));
@@ -52,7 +52,7 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
             currBlockPos = WorldStructureManipulation.rotatePos(rotation, currBlockPos, piece.getSize());
 
             //Spawn blocks
-            if (currBlockType.equals("minecraft:air") || (decay > 0 && Rands.chance(14 - decay))) {
+            if (currBlockType.equals("minecraft:air") || (decay > 0 && rand.chance(14 - decay))) {
                 WorldStructureManipulation.placeBlock(world, pos.add(currBlockPos), "minecraft:air", new HashMap<>(), rotation);
             } else {
                 if (currBlockType.equals("minecraft:stone_bricks")) {
@@ -85,7 +85,7 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
         }
     }
 
-    private static void placeDecoration(IWorld world, BlockPos pos, int rotation, List<String> blocks, List<Vec3i> blockPos, List<Map<String, String>> blockProps) {
+    private static void placeDecoration(IWorld world, WorldgenRandom rand, BlockPos pos, int rotation, List<String> blocks, List<Vec3i> blockPos, List<Map<String, String>> blockProps) {
         if (!world.isAir(pos.add(0, -1, 0))) {
             for (int i = 0; i < blockPos.size(); i++) {
                 String currBlock = blocks.get(i);
@@ -110,18 +110,18 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
                     } else {
                         standRotation = 45f;
                     }
-                    WorldStructureManipulation.spawnEntity(world, pos.add(currPos), "minecraft:" + currBlock, standRotation);
+                    WorldStructureManipulation.spawnEntity(world, rand, pos.add(currPos), "minecraft:" + currBlock, standRotation);
 
                     //Spawn block
                 } else {
                     if (currBlock.equals("barrel") && blocks.size() != 1) {
-                        int rotate = new Random().nextInt(3);
+                        int rotate = rand.nextInt(3);
                         currProps.put("facing", (rotate == 0) ? "SOUTH" : (rotate == 1) ? "EAST" : "UP");
                     } else if (currBlock.equals("potted_")) {
                         String[] plants = {"white_tulip", "spruce_sapling", "red_tulip", "red_mushroom", "poppy", "pink_tulip", "oxeye_daisy", "orange_tulip",
                                 "oak_sapling", "lily_of_the_valley", "jungle_sapling", "fern", "dead_bush", "dark_oak_sapling", "dandelion", "cactus",
                                 "brown_mushroom", "blue_orchid", "birch_sapling", "bamboo", "azure_bluet", "allium", "acacia_sapling", "cornflower"};
-                        currBlock += plants[new Random().nextInt(plants.length)];
+                        currBlock += plants[rand.nextInt(plants.length)];
                     } else if (currBlock.equals("iron_bars")) {
                         if (x == z && y == 0) {
                             currProps.put("north", "TRUE");
@@ -147,16 +147,16 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
 
                     //Chest loot
                     if (chestType == 1) {
-                        LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(x, y, z), LootTables.SHIPWRECK_SUPPLY_CHEST);
+                        LootableContainerBlockEntity.setLootTable(world, rand, pos.add(x, y, z), LootTables.SHIPWRECK_SUPPLY_CHEST);
                     } else if (chestType == 2) {
-                        LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(x, y, z), LootTables.VILLAGE_WEAPONSMITH_CHEST);
+                        LootableContainerBlockEntity.setLootTable(world, rand, pos.add(x, y, z), LootTables.VILLAGE_WEAPONSMITH_CHEST);
                     } else if (chestType == 3) {
-                        if (Rands.chance(5)) {
-                            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(x, y, z), LootTables.SIMPLE_DUNGEON_CHEST);
-                        } else if (Rands.chance(8)) {
-                            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(x, y, z), LootTables.STRONGHOLD_LIBRARY_CHEST);
+                        if (rand.chance(5)) {
+                            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(x, y, z), LootTables.SIMPLE_DUNGEON_CHEST);
+                        } else if (rand.chance(8)) {
+                            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(x, y, z), LootTables.STRONGHOLD_LIBRARY_CHEST);
                         } else {
-                            LootableContainerBlockEntity.setLootTable(world, Rands.getRandom(), pos.add(x, y, z), LootTables.VILLAGE_CARTOGRAPHER_CHEST);
+                            LootableContainerBlockEntity.setLootTable(world, rand, pos.add(x, y, z), LootTables.VILLAGE_CARTOGRAPHER_CHEST);
                         }
                     }
                 }
@@ -164,14 +164,14 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
         }
     }
 
-    private static void placeRoom(IWorld world, BlockPos pos, Map<String, JsonConverter.StructureValues> pieces, String type, int decay) {
+    private static void placeRoom(IWorld world, WorldgenRandom rand, BlockPos pos, Map<String, JsonConverter.StructureValues> pieces, String type, int decay) {
         //walls
-        placePiece(world, pos.add(1, 0, 1), 0, pieces.get("tower_walls"), decay + 2);
+        placePiece(world, rand, pos.add(1, 0, 1), 0, pieces.get("tower_walls"), decay + 2);
         //stairs/ladders
-        if (Rands.chance(2)) {
-            placePiece(world, pos, new Random().nextInt(4), pieces.get("tower_stairs"), decay - 1);
+        if (rand.chance(2)) {
+            placePiece(world, rand, pos, rand.nextInt(4), pieces.get("tower_stairs"), decay - 1);
         } else {
-            placePiece(world, pos, new Random().nextInt(4), pieces.get("tower_ladders"), decay - 1);
+            placePiece(world, rand, pos, rand.nextInt(4), pieces.get("tower_ladders"), decay - 1);
         }
 
         //Populate corner items
@@ -206,7 +206,6 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
         List<List<Map<String, String>>> centerProps = new ArrayList<>();
         decorateRooms(centerBlocksString, centerPosString, centerPropsString, centerBlocks, centerPos, centerProps);
 
-        Random rand = new Random();
         int randIndex;
 
         //Populate room based on type
@@ -225,14 +224,14 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
                 //Storage corners
                 for (int i = 0; i < 4; i++) {
                     randIndex = rand.nextInt(5);
-                    placeDecoration(world, pos.add(3 + 7 * (i / 2), 0, 3 + 7 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)))), i, cornerBlocks.get(randIndex), cornerPos.get(randIndex), cornerProps.get(randIndex));
+                    placeDecoration(world, rand, pos.add(3 + 7 * (i / 2), 0, 3 + 7 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)))), i, cornerBlocks.get(randIndex), cornerPos.get(randIndex), cornerProps.get(randIndex));
                 }
 
                 //Storage center
                 randIndex = rand.nextInt(5);
-                placeDecoration(world, pos.add(5, 0, 6), 3, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
+                placeDecoration(world, rand, pos.add(5, 0, 6), 3, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
                 randIndex = rand.nextInt(5);
-                placeDecoration(world, pos.add(8, 0, 7), 1, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
+                placeDecoration(world, rand, pos.add(8, 0, 7), 1, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
 
                 fillWindows(world, pos, 2);
                 break;
@@ -251,14 +250,14 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
                 //Armory corners
                 for (int i = 0; i < 4; i++) {
                     randIndex = rand.nextInt(5) + 5;
-                    placeDecoration(world, pos.add(3 + 7 * (i / 2), 0, 3 + 7 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)))), i, cornerBlocks.get(randIndex), cornerPos.get(randIndex), cornerProps.get(randIndex));
+                    placeDecoration(world, rand, pos.add(3 + 7 * (i / 2), 0, 3 + 7 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)))), i, cornerBlocks.get(randIndex), cornerPos.get(randIndex), cornerProps.get(randIndex));
                 }
 
                 //Armory center
                 randIndex = rand.nextInt(5) + 5;
-                placeDecoration(world, pos.add(5, 0, 6), 3, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
+                placeDecoration(world, rand, pos.add(5, 0, 6), 3, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
                 randIndex = rand.nextInt(5) + 5;
-                placeDecoration(world, pos.add(8, 0, 7), 1, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
+                placeDecoration(world, rand, pos.add(8, 0, 7), 1, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
 
                 fillWindows(world, pos, 0);
                 break;
@@ -275,26 +274,26 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
                     int x = 5 + 3 * (i / 2);
                     int z = 5 + 3 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)));
                     List<String> bedItems = Arrays.asList("oak_stairs", "oak_stairs", bedSheets.get((i + 1) % 2), bedSheets.get(i % 2));
-                    placeDecoration(world, pos.add(x, 0, z), (i + 1) % 4, bedItems, bedPos, bedProps);
+                    placeDecoration(world, rand, pos.add(x, 0, z), (i + 1) % 4, bedItems, bedPos, bedProps);
                     if (i % 2 == 0) {
                         List<String> tableItems = Arrays.asList("scaffolding", "oak_pressure_plate");
                         List<Vec3i> tablePos = Arrays.asList(Vec3i.ZERO, new Vec3i(0, 1, 0));
                         List<Map<String, String>> tableProps = Arrays.asList(ImmutableMap.of("distance", "0"), new HashMap<>());
-                        placeDecoration(world, pos.add(x - 2 * i + 2, 0, z), i, tableItems, tablePos, tableProps);
+                        placeDecoration(world, rand, pos.add(x - 2 * i + 2, 0, z), i, tableItems, tablePos, tableProps);
                     }
                 }
 
                 //Barracks corners
                 for (int i = 0; i < 4; i++) {
                     randIndex = rand.nextInt(5) + 10;
-                    placeDecoration(world, pos.add(3 + 7 * (i / 2), 0, 3 + 7 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)))), i, cornerBlocks.get(randIndex), cornerPos.get(randIndex), cornerProps.get(randIndex));
+                    placeDecoration(world, rand, pos.add(3 + 7 * (i / 2), 0, 3 + 7 * Math.round(MathHelper.sin((float) (Math.PI / 3 * i)))), i, cornerBlocks.get(randIndex), cornerPos.get(randIndex), cornerProps.get(randIndex));
                 }
 
                 //Barracks center
                 randIndex = rand.nextInt(4) + 10;
-                placeDecoration(world, pos.add(5, 0, 6), 3, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
+                placeDecoration(world, rand, pos.add(5, 0, 6), 3, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
                 randIndex = rand.nextInt(4) + 10;
-                placeDecoration(world, pos.add(8, 0, 7), 1, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
+                placeDecoration(world, rand, pos.add(8, 0, 7), 1, centerBlocks.get(randIndex), centerPos.get(randIndex), centerProps.get(randIndex));
 
                 fillWindows(world, pos, 1);
                 break;
@@ -307,8 +306,8 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
         }
 
         //pillar
-        if (Rands.chance(2)) {
-            placePiece(world, pos.add(6, 0, 6), 0, pieces.get("tower_pillar"), decay);
+        if (rand.chance(2)) {
+            placePiece(world, rand, pos.add(6, 0, 6), 0, pieces.get("tower_pillar"), decay);
         }
     }
 
@@ -407,41 +406,42 @@ public class TowerFeature extends Feature<DefaultFeatureConfig> {
             return true;
         }
         pos = new BlockPos(tempPos);
+        WorldgenRandom rand = WorldgenRandom.forFeature(random);
 
         //Generate basement
-        if (pos.getY() > 10 && Rands.chance(3)) {
-            placePiece(world, pos.add(0, -7, 0), 0, structures.get("tower_base"), 0);
-            placeRoom(world, pos.add(0, -6, 0), structures, "Storage", -2);
+        if (pos.getY() > 10 && rand.chance(3)) {
+            placePiece(world, rand, pos.add(0, -7, 0), 0, structures.get("tower_base"), 0);
+            placeRoom(world, rand, pos.add(0, -6, 0), structures, "Storage", -2);
         }
-        placePiece(world, pos, 0, structures.get("tower_base"), 0);
+        placePiece(world, rand, pos, 0, structures.get("tower_base"), 0);
 
         int level;
         int lastFloor = -1;
-        int levelChance = new Random().nextInt(20);
+        int levelChance = rand.nextInt(20);
         for (level = 0; levelChance < 24 - 7 * level; level++) {
             if (pos.getY() + 7 * level < 248) {
                 String roomName;
-                int roomNum = new Random().nextInt(3);
+                int roomNum = rand.nextInt(3);
                 while (roomNum == lastFloor) {
-                    roomNum = new Random().nextInt(3);
+                    roomNum = rand.nextInt(3);
                 }
                 lastFloor = roomNum;
                 if (roomNum == 0) {
                     roomName = "Armory";
                 } else if (roomNum == 1) {
                     roomName = "Barracks";
-                } else if (roomNum == 2 && Rands.chance(2)) {
+                } else if (roomNum == 2 && rand.chance(2)) {
                     roomName = "Empty2";
                 } else {
                     roomName = "Empty";
                 }
-                placeRoom(world, pos.add(0, 1 + level * 7, 0), structures, roomName, 2 * level + 2);
+                placeRoom(world, rand, pos.add(0, 1 + level * 7, 0), structures, roomName, 2 * level + 2);
             } else {
                 break;
             }
         }
 
-        placePiece(world, pos.add(0, 1 + level * 7, 0), 0, structures.get("tower_roof"), 2 * level + 4);
+        placePiece(world, rand, pos.add(0, 1 + level * 7, 0), 0, structures.get("tower_roof"), 2 * level + 4);
 
         //Place in the door
         List<Integer> windowsOpen = Arrays.asList(0, 0, 0, 0);
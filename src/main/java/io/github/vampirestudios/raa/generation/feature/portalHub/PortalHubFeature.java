@@ -7,8 +7,8 @@ import com.google.gson.JsonObject;
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.registries.Dimensions;
 import io.github.vampirestudios.raa.utils.JsonConverter;
-import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.WorldStructureManipulation;
+import io.github.vampirestudios.raa.utils.WorldgenRandom;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.resource.Resource;
@@ -38,8 +38,8 @@ public class PortalHubFeature extends Feature<DefaultFeatureConfig> {
         super(function);
     }
 
-    public static void placePiece(IWorld world, BlockPos pos, JsonConverter.StructureValues piece, int decay) {
-        int themeNum = Rands.randInt(PortalHubThemes.PORTAL_HUB_THEMES.getIds().size());
+    public static void placePiece(IWorld world, WorldgenRandom rand, BlockPos pos, JsonConverter.StructureValues piece, int decay) {
+        int themeNum = rand.nextInt(PortalHubThemes.PORTAL_HUB_THEMES.getIds().size());
         PortalHubTheme theme = PortalHubThemes.PORTAL_HUB_THEMES.get(themeNum);
         assert theme != null;
         for (int i = 0; i < piece.getBlockPositions().size(); i++) {
@@ -47,7 +47,7 @@ public class PortalHubFeature extends Feature<DefaultFeatureConfig> {
             String currBlockType = piece.getBlockTypes().get(piece.getBlockStates().get(i));
             Map<String, String> currBlockProp = piece.getBlockProperties().get(piece.getBlockStates().get(i));
 
-            if (decay <= 0 || !Rands.chance(14 - decay)) {
+            if (decay <= 0 || !rand.chance(14 - decay)) {
                 switch (currBlockType) {
                     case "minecraft:stone_bricks":
                         WorldStructureManipulation.placeBlock(world, pos.add(currBlockPos), Registry.BLOCK.getId(theme.getBlock()).toString(), currBlockProp, 0);
@@ -71,7 +71,7 @@ public class PortalHubFeature extends Feature<DefaultFeatureConfig> {
                     case "minecraft:orange_wool":
                         List<DimensionData> dimensionDataList = new ArrayList<>();
                         Dimensions.DIMENSIONS.forEach(dimensionDataList::add);
-                        WorldStructureManipulation.placeBlock(world, pos.add(currBlockPos), "raa:" + Rands.list(dimensionDataList).getName().toLowerCase() + "_portal", currBlockProp, 0);
+                        WorldStructureManipulation.placeBlock(world, pos.add(currBlockPos), "raa:" + rand.pick(dimensionDataList).getName().toLowerCase() + "_portal", currBlockProp, 0);
                         break;
                     default:
                         WorldStructureManipulation.placeBlock(world, pos.add(currBlockPos), currBlockType, currBlockProp, 0);
@@ -113,7 +113,7 @@ public class PortalHubFeature extends Feature<DefaultFeatureConfig> {
         pos = new BlockPos(tempPos);
 
         //Generate portal
-        placePiece(world, pos, structures.get("portal_hub"), 0);
+        placePiece(world, WorldgenRandom.forFeature(random), pos, structures.get("portal_hub"), 0);
 
         //Record spawn in text file
         try {
@@ -1,7 +1,6 @@
 package io.github.vampirestudios.raa.generation.feature.tree;
 
 import com.mojang.datafixers.Dynamic;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.ModifiableTestableWorld;
@@ -31,9 +30,9 @@ public class BentTreeFeature extends BranchedTreeFeature<BranchedTreeFeatureConf
         } else {
             BlockPos generationPos = positionToGenerate.get();
             this.setToDirt(world, generationPos.down());
-            int offset = Rands.randIntRange(3, 6);
-            int offsetX = Rands.chance(3) ? -1 : Rands.chance(2) ? 0 : 1;
-            int offsetZ = Rands.chance(3) ? -1 : Rands.chance(2) ? 0 : 1;
+            int offset = random.nextInt(4) + 3;
+            int offsetX = random.nextInt(3) == 0 ? -1 : random.nextBoolean() ? 0 : 1;
+            int offsetZ = random.nextInt(3) == 0 ? -1 : random.nextBoolean() ? 0 : 1;
             this.generate(world, random, offset - 2, generationPos, 0, logPositions, blockBox, config);
 
             this.generate(world, random, offset, generationPos.add(offsetX, offset - 2, offsetZ), 0, logPositions, blockBox,
@@ -1,7 +1,6 @@
 package io.github.vampirestudios.raa.generation.feature.tree;
 
 import com.mojang.datafixers.Dynamic;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.ModifiableTestableWorld;
@@ -35,10 +34,10 @@ public class DoubleTreeFeature extends BranchedTreeFeature<BranchedTreeFeatureCo
 
             //side 1
 
-            int loopAmt = Rands.randIntRange(1, 4);
+            int loopAmt = random_1.nextInt(4) + 1;
             int offsetTotal = 2;
             for (int i = 0; i < loopAmt; i++) {
-                int offset = Rands.randIntRange(3, 6);
+                int offset = random_1.nextInt(4) + 3;
                 int offsetX = -1;
                 int offsetZ = -1;
 
@@ -53,10 +52,10 @@ public class DoubleTreeFeature extends BranchedTreeFeature<BranchedTreeFeatureCo
 
             //side 2
 
-            loopAmt = Rands.randIntRange(1, 4);
+            loopAmt = random_1.nextInt(4) + 1;
             offsetTotal = 2;
             for (int i = 0; i < loopAmt; i++) {
-                int offset = Rands.randIntRange(3, 6);
+                int offset = random_1.nextInt(4) + 3;
                 int offsetX = 1;
                 int offsetZ = 1;
 
@@ -69,10 +68,10 @@ public class DoubleTreeFeature extends BranchedTreeFeature<BranchedTreeFeatureCo
                 offsetTotal += offset;
             }
 
-            loopAmt = Rands.randIntRange(1, 4);
+            loopAmt = random_1.nextInt(4) + 1;
             offsetTotal = 2;
             for (int i = 0; i < loopAmt; i++) {
-                int offset = Rands.randIntRange(3, 6);
+                int offset = random_1.nextInt(4) + 3;
                 offsetTotal += offset;
                 int offsetX = 1;
                 int offsetZ = -1;
@@ -84,10 +83,10 @@ public class DoubleTreeFeature extends BranchedTreeFeature<BranchedTreeFeatureCo
                 }
             }
 
-            loopAmt = Rands.randIntRange(1, 4);
+            loopAmt = random_1.nextInt(4) + 1;
             offsetTotal = 2;
             for (int i = 0; i < loopAmt; i++) {
-                int offset = Rands.randIntRange(3, 6);
+                int offset = random_1.nextInt(4) + 3;
                 offsetTotal += offset;
                 int offsetX = -1;
                 int offsetZ = 1;
@@ -2,7 +2,6 @@ package io.github.vampirestudios.raa.generation.feature.tree.foliage;
 
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.registries.FoliagePlacers;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.ModifiableTestableWorld;
 import net.minecraft.world.gen.feature.BranchedTreeFeatureConfig;
@@ -23,7 +22,7 @@ public class BoringOakFoliagePlacer extends FoliagePlacer {
 
     @Override
     public void generate(ModifiableTestableWorld modifiableTestableWorld, Random random, BranchedTreeFeatureConfig branchedTreeFeatureConfig, int i, int j, int k, BlockPos blockPos, Set<BlockPos> set) {
-        int int_4 = Rands.randIntRange(1, 2); //replace with foliage size
+        int int_4 = random.nextInt(2) + 1; //replace with foliage size
         for (int int_5 = i; int_5 >= j + 2; --int_5) {
             if (int_5 == j + 2) int_4 = 1; //smooth out bigger trees
             this.generate(modifiableTestableWorld, random, branchedTreeFeatureConfig, i, blockPos, int_5, int_4, set);
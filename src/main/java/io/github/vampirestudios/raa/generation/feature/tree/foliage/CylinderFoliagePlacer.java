@@ -2,7 +2,6 @@ package io.github.vampirestudios.raa.generation.feature.tree.foliage;
 
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.registries.FoliagePlacers;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.ModifiableTestableWorld;
 import net.minecraft.world.gen.feature.BranchedTreeFeatureConfig;
@@ -37,7 +36,7 @@ public class CylinderFoliagePlacer extends FoliagePlacer {
 //            }
 //        }
         for (int int_4 = i; int_4 >= j; --int_4) {
-            this.generate(modifiableTestableWorld, random, branchedTreeFeatureConfig, i, blockPos, int_4, Rands.randIntRange(0, 5), set);
+            this.generate(modifiableTestableWorld, random, branchedTreeFeatureConfig, i, blockPos, int_4, random.nextInt(6), set);
         }
     }
 
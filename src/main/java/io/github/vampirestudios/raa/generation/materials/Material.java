@@ -8,6 +8,7 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.Pair;
 
 import java.util.Map;
+import java.util.Random;
 
 public class Material {
     private OreInformation oreInformation;
@@ -146,18 +147,28 @@ public class Material {
         private float compostableAmount;
         private boolean compostable;
 
-        protected Builder() {
-            oreCount = Rands.randInt(19) + 1;
-            miningLevel = Rands.randInt(4);
+        private final Random random;
+
+        protected Builder(Random random) {
+            this.random = random;
+            oreCount = Rands.randInt(random, 19) + 1;
+            miningLevel = Rands.randInt(random, 4);
         }
 
         @Deprecated
         public static Builder create() {
-            return new Builder();
+            return new Builder(Rands.getRandom());
         }
 
         public static Builder create(Identifier id, String name) {
-            Builder builder = new Builder();
+            return create(id, name, Rands.getRandom());
+        }
+
+        /**
+         * @param random the random the builder draws everything it isn't given from, like the textures
+         */
+        public static Builder create(Identifier id, String name, Random random) {
+            Builder builder = new Builder(random);
             builder.id = id;
             builder.name = name;
             return builder;
@@ -282,36 +293,36 @@ public class Material {
             }
 
             if (armor && armorMaterial == null) {
-                this.armorMaterial = CustomArmorMaterial.generate(id, oreType);
+                this.armorMaterial = CustomArmorMaterial.generate(random, id, oreType);
             }
             if ((tools || weapons) && toolMaterial == null) {
-                this.toolMaterial = CustomToolMaterial.generate(id, oreType, miningLevel);
+                this.toolMaterial = CustomToolMaterial.generate(random, id, oreType, miningLevel);
             }
 
             Identifier overlayTexture;
-            if (oreType == OreType.METAL) overlayTexture = Rands.list(TextureTypes.METAL_ORE_TEXTURES);
-            else if (oreType == OreType.GEM) overlayTexture = Rands.list(TextureTypes.GEM_ORE_TEXTURES);
-            else overlayTexture = Rands.list(TextureTypes.CRYSTAL_ORE_TEXTURES);
+            if (oreType == OreType.METAL) overlayTexture = Rands.list(random, TextureTypes.METAL_ORE_TEXTURES);
+            else if (oreType == OreType.GEM) overlayTexture = Rands.list(random, TextureTypes.GEM_ORE_TEXTURES);
+            else overlayTexture = Rands.list(random, TextureTypes.CRYSTAL_ORE_TEXTURES);
 
             Identifier storageBlockTexture;
-            if (oreType == OreType.METAL) storageBlockTexture = Rands.list(TextureTypes.METAL_BLOCK_TEXTURES);
-            else if (oreType == OreType.GEM) storageBlockTexture = Rands.list(TextureTypes.GEM_BLOCK_TEXTURES);
-            else storageBlockTexture = Rands.list(TextureTypes.CRYSTAL_BLOCK_TEXTURES);
+            if (oreType == OreType.METAL) storageBlockTexture = Rands.list(random, TextureTypes.METAL_BLOCK_TEXTURES);
+            else if (oreType == OreType.GEM) storageBlockTexture = Rands.list(random, TextureTypes.GEM_BLOCK_TEXTURES);
+            else storageBlockTexture = Rands.list(random, TextureTypes.CRYSTAL_BLOCK_TEXTURES);
 
             Identifier resourceItemTexture;
-            if (oreType == OreType.METAL) resourceItemTexture = Rands.list(TextureTypes.INGOT_TEXTURES);
-            else if (oreType == OreType.GEM) resourceItemTexture = Rands.list(TextureTypes.GEM_ITEM_TEXTURES);
-            else resourceItemTexture = Rands.list(TextureTypes.CRYSTAL_ITEM_TEXTURES);
+            if (oreType == OreType.METAL) resourceItemTexture = Rands.list(random, TextureTypes.INGOT_TEXTURES);
+            else if (oreType == OreType.GEM) resourceItemTexture = Rands.list(random, TextureTypes.GEM_ITEM_TEXTURES);
+            else resourceItemTexture = Rands.list(random, TextureTypes.CRYSTAL_ITEM_TEXTURES);
 
             Identifier nuggetTexture;
-            if (oreType == OreType.METAL) nuggetTexture = Rands.list(TextureTypes.INGOT_TEXTURES);
+            if (oreType == OreType.METAL) nuggetTexture = Rands.list(random, TextureTypes.INGOT_TEXTURES);
             else nuggetTexture = null;
 
-            Map.Entry<Identifier, Identifier> pickaxe = Rands.map(TextureTypes.PICKAXES);
-            Map.Entry<Identifier, Identifier> axe = Rands.map(TextureTypes.AXES);
-            Map.Entry<Identifier, Identifier> hoe = Rands.map(TextureTypes.HOES);
-            Map.Entry<Identifier, Identifier> sword = Rands.map(TextureTypes.SWORDS);
-            Map.Entry<Identifier, Identifier> shovel = Rands.map(TextureTypes.SHOVELS);
+            Map.Entry<Identifier, Identifier> pickaxe = Rands.map(random, TextureTypes.PICKAXES);
+            Map.Entry<Identifier, Identifier> axe = Rands.map(random, TextureTypes.AXES);
+            Map.Entry<Identifier, Identifier> hoe = Rands.map(random, TextureTypes.HOES);
+            Map.Entry<Identifier, Identifier> sword = Rands.map(random, TextureTypes.SWORDS);
+            Map.Entry<Identifier, Identifier> shovel = Rands.map(random, TextureTypes.SHOVELS);
 
             MaterialTexturesInformation texturesInformation = MaterialTexturesInformation.Builder.create()
                     .pickaxeTexture(new Pair<>(pickaxe.getKey(), pickaxe.getValue()))
@@ -319,15 +330,15 @@ public class Material {
                     .hoeTexture(new Pair<>(hoe.getKey(), hoe.getValue()))
                     .swordTexture(new Pair<>(sword.getKey(), sword.getValue()))
                     .shovelTexture(new Pair<>(shovel.getKey(), shovel.getValue()))
-                    .helmetTexture(Rands.list(TextureTypes.HELMET_TEXTURES))
-                    .chestplateTexture(Rands.list(TextureTypes.CHESTPLATE_TEXTURES))
-                    .leggingsTexture(Rands.list(TextureTypes.LEGGINGS_TEXTURES))
-                    .bootsTexture(Rands.list(TextureTypes.BOOTS_TEXTURES))
+                    .helmetTexture(Rands.list(random, TextureTypes.HELMET_TEXTURES))
+                    .chestplateTexture(Rands.list(random, TextureTypes.CHESTPLATE_TEXTURES))
+                    .leggingsTexture(Rands.list(random, TextureTypes.LEGGINGS_TEXTURES))
+                    .bootsTexture(Rands.list(random, TextureTypes.BOOTS_TEXTURES))
                     .overlayTexture(overlayTexture)
                     .storageBlockTexture(storageBlockTexture)
                     .resourceItemTexture(resourceItemTexture)
                     .nuggetTexture(nuggetTexture)
-                    .fruitTexture(Rands.list(TextureTypes.FRUIT_TEXTURES))
+                    .fruitTexture(Rands.list(random, TextureTypes.FRUIT_TEXTURES))
                     .build();
 
             OreInformation oreInformation = new OreInformation(oreType, generatesIn, oreCount, minXPAmount, maxXPAmount, oreClusterSize);
@@ -1,10 +1,10 @@
 package io.github.vampirestudios.raa.generation.materials;
 
-import com.swordglowsblue.artifice.api.Artifice;
 import io.github.vampirestudios.raa.RandomlyAddingAnything;
 import io.github.vampirestudios.raa.api.enums.OreType;
 import io.github.vampirestudios.raa.registries.CustomTargets;
 import io.github.vampirestudios.raa.registries.Materials;
+import io.github.vampirestudios.raa.utils.GeneratedPackCache;
 import io.github.vampirestudios.raa.utils.Utils;
 import net.minecraft.item.Item;
 import net.minecraft.item.Items;
@@ -16,7 +16,7 @@ import static io.github.vampirestudios.raa.RandomlyAddingAnything.MOD_ID;
 public class MaterialRecipes {
 
     public static void init() {
-        Artifice.registerData(new Identifier(MOD_ID, "recipe_pack"), serverResourcePackBuilder -> {
+        GeneratedPackCache.registerData(new Identifier(MOD_ID, "recipe_pack"), serverResourcePackBuilder -> {
             RandomlyAddingAnything.MODCOMPAT.generateCompatRecipes(serverResourcePackBuilder);
             Materials.MATERIALS.forEach(material -> {
                 Item repairItem;
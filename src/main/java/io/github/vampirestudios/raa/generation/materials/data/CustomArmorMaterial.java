@@ -14,6 +14,8 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.registry.Registry;
 
+import java.util.Random;
+
 public class CustomArmorMaterial implements ArmorMaterial {
 
     private final int durabilityMultiplier;
@@ -34,14 +36,14 @@ public class CustomArmorMaterial implements ArmorMaterial {
         this.horseArmorBonus = horseArmorBonus;
     }
 
-    public static CustomArmorMaterial generate(Identifier materialId, OreType oreType) {
+    public static CustomArmorMaterial generate(Random random, Identifier materialId, OreType oreType) {
         return new CustomArmorMaterial(
-                materialId, oreType, Rands.randIntRange(2, 50),
-                new int[]{Rands.randIntRange(1, 6), Rands.randIntRange(1, 10),
-                        Rands.randIntRange(2, 12), Rands.randIntRange(1, 6)},
-                Rands.randIntRange(7, 30),
-                (Rands.chance(4) ? Rands.randFloat(4.0F) : 0.0F),
-                Rands.randInt(30)
+                materialId, oreType, Rands.randIntRange(random, 2, 50),
+                new int[]{Rands.randIntRange(random, 1, 6), Rands.randIntRange(random, 1, 10),
+                        Rands.randIntRange(random, 2, 12), Rands.randIntRange(random, 1, 6)},
+                Rands.randIntRange(random, 7, 30),
+                (Rands.chance(random, 4) ? Rands.randFloat(random, 4.0F) : 0.0F),
+                Rands.randInt(random, 30)
         );
     }
 
@@ -8,6 +8,8 @@ import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.registry.Registry;
 
+import java.util.Random;
+
 public class CustomToolMaterial implements ToolMaterial {
 
     private transient Identifier materialId;
@@ -37,13 +39,13 @@ public class CustomToolMaterial implements ToolMaterial {
         this.swordAttackDamage = swordAttackDamage;
     }
 
-    public static CustomToolMaterial generate(Identifier materialId, OreType oreType, int miningLevel) {
+    public static CustomToolMaterial generate(Random random, Identifier materialId, OreType oreType, int miningLevel) {
         return new CustomToolMaterial(materialId, oreType,
-                Rands.randIntRange(15, 2000), Rands.randFloat(4.0F) + 1.5F,
-                Rands.randFloat(3.0F), miningLevel,
-                Rands.randIntRange(2, 10), Rands.randFloat(4.0F),
-                Rands.randFloat(3.0F), Rands.randFloat(0.8F),
-                Rands.randFloat(5.0F));
+                Rands.randIntRange(random, 15, 2000), Rands.randFloat(random, 4.0F) + 1.5F,
+                Rands.randFloat(random, 3.0F), miningLevel,
+                Rands.randIntRange(random, 2, 10), Rands.randFloat(random, 4.0F),
+                Rands.randFloat(random, 3.0F), Rands.randFloat(random, 0.8F),
+                Rands.randFloat(random, 5.0F));
     }
 
     public void setMaterialId(Identifier materialId) {
@@ -2,7 +2,6 @@ package io.github.vampirestudios.raa.generation.surface;
 
 import com.mojang.datafixers.Dynamic;
 import io.github.vampirestudios.raa.generation.surface.config.CustomTernarySurfaceConfig;
-import io.github.vampirestudios.raa.utils.Rands;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
@@ -69,13 +68,13 @@ public class FancyCliffsSurfaceBuilder extends SurfaceBuilder<CustomTernarySurfa
 
     private void placeBlock(CustomTernarySurfaceConfig config, Chunk chunk,  BlockPos pos, BlockState state, Random random) {
         if (random.nextBoolean()) {
-            if (Rands.chance(10)) {
+            if (random.nextInt(10) == 0) {
                 chunk.setBlockState(pos, state, false);
             } else {
                 chunk.setBlockState(pos, config.getMiddleMaterial(), false);
             }
         } else {
-            if (Rands.chance(10)) {
+            if (random.nextInt(10) == 0) {
                 chunk.setBlockState(pos, config.getTopMaterial(), false);
             } else {
                 chunk.setBlockState(pos, config.getUnderMaterial(), false);
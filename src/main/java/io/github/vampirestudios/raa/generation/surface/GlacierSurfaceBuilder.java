@@ -14,12 +14,12 @@ import java.util.function.DoubleFunction;
 
 //Code kindly taken from Terrestria. Thank you, coderbot, Prospector, and Valoeghese!
 public class GlacierSurfaceBuilder extends SurfaceBuilder<TernarySurfaceConfig> {
-    private static SimplexNoiseSampler noiseGenerator;
+    // shared by every dimension generating with this builder, so the sampler is swapped as a whole with its seed
+    private volatile SeededNoise noise;
     protected final BlockState WATER = Blocks.WATER.getDefaultState();
     protected final BlockState SAND = Blocks.SAND.getDefaultState();
     protected final BlockState pICE = Blocks.PACKED_ICE.getDefaultState();
     protected final BlockState bICE = Blocks.BLUE_ICE.getDefaultState();
-    private long currentSeed = 0L;
     private DoubleFunction<TernarySurfaceConfig> configProvider;
 
     public GlacierSurfaceBuilder(DoubleFunction<TernarySurfaceConfig> config) {
@@ -31,12 +31,13 @@ public class GlacierSurfaceBuilder extends SurfaceBuilder<TernarySurfaceConfig>
     public void generate(Random rand, Chunk chunk, Biome biome, int x, int z, int worldHeight, double noiseVal, BlockState var9, BlockState var10, int var11, long seed, TernarySurfaceConfig configToIgnore) {
         TernarySurfaceConfig config = configProvider.apply(noiseVal);
 
-        if (noiseGenerator == null || seed != currentSeed) {
-            noiseGenerator = new SimplexNoiseSampler(new Random(seed));
-            currentSeed = seed;
+        SeededNoise seededNoise = this.noise;
+        if (seededNoise == null || seededNoise.seed != seed) {
+            seededNoise = new SeededNoise(seed);
+            this.noise = seededNoise;
         }
 
-        double noise = noiseGenerator.sample((double) x / 260D, (double) z / 260D);
+        double noise = seededNoise.sampler.sample((double) x / 260D, (double) z / 260D);
         int glacierDifference = (int) ((noise > 0.1D && noise < 0.5D) ? (1171875 * Math.pow(noise - 0.26, 4)) - 3 : 0);
 
         int localX = x & 15;
@@ -80,4 +81,14 @@ public class GlacierSurfaceBuilder extends SurfaceBuilder<TernarySurfaceConfig>
             chunk.setBlockState(pos, toSet, false);
         }
     }
+
+    private static class SeededNoise {
+        private final long seed;
+        private final SimplexNoiseSampler sampler;
+
+        private SeededNoise(long seed) {
+            this.seed = seed;
+            this.sampler = new SimplexNoiseSampler(new Random(seed));
+        }
+    }
 }
\ No newline at end of file
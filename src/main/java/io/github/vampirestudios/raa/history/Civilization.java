@@ -4,6 +4,8 @@ import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.Utils;
 import net.minecraft.util.Identifier;
 
+import java.util.Random;
+
 public class Civilization {
     private String name; //TODO: this just uses the dimension name generator now, change it so it uses a custom one
     private Identifier homeDimensionId; //The id of the dimension that this civilization originated in
@@ -24,7 +26,7 @@ public class Civilization {
         this.homeDimensionId = homeDimension.getName().getRight();
     }
 
-    public void simulate() {
+    public void simulate(Random random) {
         //here we do a very basic simulation of the civilization and it's progress through time.
         //Right now, it just checks what dimension the civilization has been plopped into and does some Math(tm) on it.
         //Currently, it doesn't do anything too complicated, but in the future we will have a whole zero person strategy game like that of Dwarf Fortress.
@@ -32,8 +34,8 @@ public class Civilization {
         //If a dimension is already dead, we roll the dice 2-4 times to see if the civ can survive.
         if (Utils.checkBitFlag(homeDimension.getFlags(), Utils.DEAD) || Utils.checkBitFlag(homeDimension.getFlags(), Utils.MOLTEN) || Utils.checkBitFlag(homeDimension.getFlags(), Utils.DRY)) {
             boolean survived = false;
-            for (int i = 0; i < Rands.randIntRange(3, 5); i++) {
-                survived = Rands.chance(6);
+            for (int i = 0; i < Rands.randIntRange(random, 3, 5); i++) {
+                survived = Rands.chance(random, 6);
                 if (survived) break;
             }
             if (!survived) {
@@ -42,7 +44,7 @@ public class Civilization {
                 return;
             } else {
                 //Their influence has grown by a tiny bit because... they're not dead
-                influenceRadius += Rands.randFloatRange(0.05F, 0.1F);
+                influenceRadius += Rands.randFloatRange(random, 0.05F, 0.1F);
             }
         }
 
@@ -54,7 +56,7 @@ public class Civilization {
             if (homeDimension.getTemperature() > 1.5)
                 rolls += Math.round(Math.abs(2 - homeDimension.getTemperature()) * 8);
             for (int i = 0; i < rolls; i++) {
-                survived = Rands.chance(6);
+                survived = Rands.chance(random, 6);
                 if (survived) break;
             }
             if (!survived) {
@@ -63,7 +65,7 @@ public class Civilization {
                 return;
             } else {
                 //Their influence has grown by a tiny bit because... they're not dead
-                influenceRadius += Rands.randFloatRange((rolls / 80.F), (rolls / 80.F) * 2F);
+                influenceRadius += Rands.randFloatRange(random, (rolls / 80.F), (rolls / 80.F) * 2F);
             }
         }
 
@@ -71,7 +73,7 @@ public class Civilization {
         techLevel++;
 
         //civs should have a minimum influence, which we calculate here.
-        influenceRadius += Rands.randFloatRange(0.025F, 0.05F);
+        influenceRadius += Rands.randFloatRange(random, 0.025F, 0.05F);
 
         //This is not the best way to convey influence, but it's a start.
         float temperatureDeviation = Math.abs(1 - homeDimension.getTemperature());
@@ -79,7 +81,7 @@ public class Civilization {
 
         //Lush dimension civs get a bonus with their influence, and also get a leg up on their tech level.
         if (Utils.checkBitFlag(homeDimension.getFlags(), Utils.LUSH)) {
-            influenceRadius += Rands.randFloatRange(0.1F, 0.15F);
+            influenceRadius += Rands.randFloatRange(random, 0.1F, 0.15F);
             techLevel++;
         }
 
@@ -90,12 +92,12 @@ public class Civilization {
         }
 
         //We roll a die twice to see if the civ gets some final additions to their tech level.
-        if (Rands.chance(6)) {
-            influenceRadius += Rands.randFloatRange(0.025F, 0.05F);
+        if (Rands.chance(random, 6)) {
+            influenceRadius += Rands.randFloatRange(random, 0.025F, 0.05F);
             techLevel++;
         }
-        if (Rands.chance(6)) {
-            influenceRadius += Rands.randFloatRange(0.025F, 0.05F);
+        if (Rands.chance(random, 6)) {
+            influenceRadius += Rands.randFloatRange(random, 0.025F, 0.05F);
             techLevel++;
         }
 
@@ -113,11 +115,11 @@ public class Civilization {
 
         //Higher tier dimensions have a higher chance to kill off their world.
         if (techLevel == 3) {
-            if (Rands.chance(6)) homeDimension.setDead();
+            if (Rands.chance(random, 6)) homeDimension.setDead();
         }
 
         if (techLevel >= 4) {
-            if (Rands.chance(4)) homeDimension.setDead();
+            if (Rands.chance(random, 4)) homeDimension.setDead();
         }
     }
 
@@ -0,0 +1,211 @@
+package io.github.vampirestudios.raa.history;
+
+import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
+import io.github.vampirestudios.raa.utils.Utils;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Simulates the civilizations and spreads their influence over the dimensions around their home dimension.
+ *
+ * <p>Every tick each civilization is simulated and rolls what its influence does to the dimensions in its radius, in
+ * parallel and on its own random. The dimensions are kept in a uniform grid over their positions, so only the cells
+ * touching a civilization's radius are looked at. The rolled changes are applied afterwards in civilization order.</p>
+ */
+public class CivilizationSimulator {
+    private final List<ProtoDimension> dimensions;
+    private final List<Civilization> civilizations;
+
+    // positions copied out of the dimensions, read for every candidate of every civilization
+    private final double[] x, y;
+    private final double minX, minY;
+    private final double cellSize;
+    private final int cellsX, cellsY;
+    // dimension indices of every cell
+    private final int[][] cells;
+
+    public CivilizationSimulator(List<ProtoDimension> dimensions, List<Civilization> civilizations) {
+        this.dimensions = dimensions;
+        this.civilizations = civilizations;
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (ProtoDimension dimension : dimensions) {
+            minX = Math.min(minX, dimension.getX());
+            minY = Math.min(minY, dimension.getY());
+            maxX = Math.max(maxX, dimension.getX());
+            maxY = Math.max(maxY, dimension.getY());
+        }
+        if (dimensions.isEmpty()) {
+            minX = minY = maxX = maxY = 0;
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.x = new double[dimensions.size()];
+        this.y = new double[dimensions.size()];
+        for (int i = 0; i < dimensions.size(); i++) {
+            this.x[i] = dimensions.get(i).getX();
+            this.y[i] = dimensions.get(i).getY();
+        }
+
+        // about one dimension per cell when they are spread evenly
+        double extent = Math.max(Math.max(maxX - minX, maxY - minY), 1.0E-6);
+        int cellsPerAxis = Math.max(1, (int) Math.sqrt(dimensions.size()));
+        this.cellSize = extent / cellsPerAxis;
+        this.cellsX = Math.max(1, (int) Math.ceil((maxX - minX) / this.cellSize) + 1);
+        this.cellsY = Math.max(1, (int) Math.ceil((maxY - minY) / this.cellSize) + 1);
+
+        int[] counts = new int[this.cellsX * this.cellsY];
+        int[] cellOf = new int[dimensions.size()];
+        for (int i = 0; i < dimensions.size(); i++) {
+            cellOf[i] = this.cellIndex(this.cellX(dimensions.get(i).getX()), this.cellY(dimensions.get(i).getY()));
+            counts[cellOf[i]]++;
+        }
+        this.cells = new int[counts.length][];
+        for (int cell = 0; cell < counts.length; cell++) {
+            this.cells[cell] = new int[counts[cell]];
+            counts[cell] = 0;
+        }
+        for (int i = 0; i < dimensions.size(); i++) {
+            this.cells[cellOf[i]][counts[cellOf[i]]++] = i;
+        }
+    }
+
+    public void run(int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            List<Influences> influences = SeededGeneration.create("civilizations/" + tick).generate(this.civilizations.size(), (index, random) -> this.simulate(this.civilizations.get(index), random));
+
+            boolean anyInfluence = false;
+            for (int civ = 0; civ < this.civilizations.size(); civ++) {
+                String name = this.civilizations.get(civ).getName();
+                Influences civInfluences = influences.get(civ);
+                for (int i = 0; i < civInfluences.size; i++) {
+                    ProtoDimension dimension = this.dimensions.get(civInfluences.dimensions[i]);
+                    dimension.addInfluence(name, civInfluences.percents[i]);
+                    if ((civInfluences.effects[i] & Influences.ABANDONED) != 0) dimension.setAbandoned();
+                    if ((civInfluences.effects[i] & Influences.DEAD) != 0) dimension.setDead();
+                    if ((civInfluences.effects[i] & Influences.CIVILIZED) != 0) dimension.setCivilized();
+                    anyInfluence = true;
+                }
+            }
+
+            //Ensure that both dead and lush flags don't coexist
+            if (anyInfluence) {
+                for (ProtoDimension dimension : this.dimensions) {
+                    if (Utils.checkBitFlag(dimension.getFlags(), Utils.DEAD) && Utils.checkBitFlag(dimension.getFlags(), Utils.LUSH))
+                        dimension.removeLush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs on the generation pool, only touching the civilization and its own home dimension.
+     */
+    private Influences simulate(Civilization civ, Random random) {
+        civ.simulate(random);
+
+        //tech level 0 civs get no influence
+        if (civ.getTechLevel() == 0) return new Influences(0);
+
+        ProtoDimension home = civ.getHomeDimension();
+        double radius = civ.getInfluenceRadius();
+        long[] candidates = this.queryRadius(home.getX(), home.getY(), radius);
+        int candidateCount = 0;
+        for (long word : candidates) {
+            candidateCount += Long.bitCount(word);
+        }
+        Influences influences = new Influences(candidateCount);
+        for (int word = 0; word < candidates.length; word++) {
+            for (long bits = candidates[word]; bits != 0; bits &= bits - 1) {
+                int index = word << 6 | Long.numberOfTrailingZeros(bits);
+                if (this.dimensions.get(index) == home) {
+                    //a civ's home dimension has 100% influence by that civ
+                    influences.add(index, 1.0, 0);
+                    continue;
+                }
+                double d = Utils.dist(this.x[index], this.y[index], home.getX(), home.getY());
+                if (d > radius) continue;
+
+                double percent = (radius - d) / radius;
+                int effects = 0;
+                if (percent > 0.40) {
+                    if (civ.getTechLevel() >= 2) if (Rands.chance(random, 5)) effects |= Influences.ABANDONED;
+                }
+                if (percent > 0.60) {
+                    if (civ.getTechLevel() >= 2) if (Rands.chance(random, 4)) effects |= Influences.ABANDONED;
+                    if (civ.getTechLevel() >= 3) if (Rands.chance(random, 5)) effects |= Influences.DEAD;
+                }
+                if (percent > 0.80) {
+                    if (civ.getTechLevel() >= 2) if (Rands.chance(random, 3)) effects |= Influences.ABANDONED;
+                    if (civ.getTechLevel() >= 3) if (Rands.chance(random, 4)) effects |= Influences.DEAD;
+                }
+                if (percent > 0.70) {
+                    if (civ.getTechLevel() >= 3) effects |= Influences.CIVILIZED;
+                }
+                influences.add(index, percent, effects);
+            }
+        }
+        return influences;
+    }
+
+    /**
+     * @return a bit per dimension, set for the dimensions in the cells touching the circle. Walking the bits visits
+     * them in index order, so the rolls don't depend on the grid.
+     */
+    private long[] queryRadius(double x, double y, double radius) {
+        int fromX = this.cellX(x - radius), toX = this.cellX(x + radius);
+        int fromY = this.cellY(y - radius), toY = this.cellY(y + radius);
+        long[] candidates = new long[(this.dimensions.size() + 63) >> 6];
+        for (int cellX = fromX; cellX <= toX; cellX++) {
+            for (int cellY = fromY; cellY <= toY; cellY++) {
+                for (int index : this.cells[this.cellIndex(cellX, cellY)]) {
+                    candidates[index >> 6] |= 1L << index;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private int cellX(double x) {
+        return Math.max(0, Math.min(this.cellsX - 1, (int) Math.floor((x - this.minX) / this.cellSize)));
+    }
+
+    private int cellY(double y) {
+        return Math.max(0, Math.min(this.cellsY - 1, (int) Math.floor((y - this.minY) / this.cellSize)));
+    }
+
+    private int cellIndex(int cellX, int cellY) {
+        return cellX * this.cellsY + cellY;
+    }
+
+    /**
+     * The influences one civilization rolled in a tick, kept in arrays sized for every candidate dimension since a
+     * civilization can reach hundreds of them.
+     */
+    private static class Influences {
+        private static final int ABANDONED = 1;
+        private static final int DEAD = 2;
+        private static final int CIVILIZED = 4;
+
+        private final int[] dimensions;
+        private final double[] percents;
+        private final byte[] effects;
+        private int size;
+
+        private Influences(int capacity) {
+            this.dimensions = new int[capacity];
+            this.percents = new double[capacity];
+            this.effects = new byte[capacity];
+        }
+
+        private void add(int dimension, double percent, int effects) {
+            this.dimensions[this.size] = dimension;
+            this.percents[this.size] = percent;
+            this.effects[this.size] = (byte) effects;
+            this.size++;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.vampirestudios.raa.mixins;
+
+import io.github.vampirestudios.raa.generation.chunkgenerator.BiomeColumnCache;
+import io.github.vampirestudios.raa.generation.chunkgenerator.BiomeColumnCacheProvider;
+import net.minecraft.world.chunk.ProtoChunk;
+import org.spongepowered.asm.mixin.Mixin;
+
+@Mixin(ProtoChunk.class)
+public class ProtoChunkMixin implements BiomeColumnCacheProvider {
+
+    private BiomeColumnCache biomeColumnCache;
+
+    @Override
+    public BiomeColumnCache getBiomeColumnCache() {
+        return this.biomeColumnCache;
+    }
+
+    @Override
+    public void setBiomeColumnCache(BiomeColumnCache biomeColumnCache) {
+        this.biomeColumnCache = biomeColumnCache;
+    }
+
+}
@@ -0,0 +1,13 @@
+package io.github.vampirestudios.raa.mixins;
+
+import net.minecraft.world.gen.chunk.SurfaceChunkGenerator;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(SurfaceChunkGenerator.class)
+public interface SurfaceChunkGeneratorInvoker {
+
+    @Invoker("sampleNoise")
+    double invokeSampleNoise(int x, int y, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch);
+
+}
@@ -1,6 +1,7 @@
 package io.github.vampirestudios.raa.registries;
 
 import io.github.vampirestudios.raa.generation.chunkgenerator.CustomOverworldChunkGenerator;
+import supercoder79.simplexterrain.api.postprocess.TerrainPostProcessor;
 import supercoder79.simplexterrain.world.postprocessor.PostProcessors;
 
 import java.util.List;
@@ -9,7 +10,18 @@ public class CustomOverworldPostProcessors {
 
     public static void init(List<PostProcessors> postProcessors) {
         for (PostProcessors postProcess : postProcessors) {
-            CustomOverworldChunkGenerator.addTerrainPostProcessor(postProcess.postProcessor);
+            // the instances of the enum keep the noise of the last seed they were initialised with, so every
+            // generator gets its own one
+            Class<? extends TerrainPostProcessor> type = postProcess.postProcessor.getClass();
+            CustomOverworldChunkGenerator.addTerrainPostProcessor(() -> {
+                try {
+                    TerrainPostProcessor postProcessor = type.newInstance();
+                    postProcessor.setup();
+                    return postProcessor;
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Couldn't create the post processor " + postProcess.name(), e);
+                }
+            });
         }
     }
 
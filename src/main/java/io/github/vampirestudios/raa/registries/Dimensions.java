@@ -11,12 +11,14 @@ import io.github.vampirestudios.raa.blocks.PortalBlock;
 import io.github.vampirestudios.raa.generation.dimensions.*;
 import io.github.vampirestudios.raa.generation.dimensions.data.*;
 import io.github.vampirestudios.raa.history.Civilization;
+import io.github.vampirestudios.raa.history.CivilizationSimulator;
 import io.github.vampirestudios.raa.history.ProtoDimension;
 import io.github.vampirestudios.raa.items.RAABlockItemAlt;
 import io.github.vampirestudios.raa.items.dimension.*;
 import io.github.vampirestudios.raa.utils.DebugUtils;
 import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.RegistryUtils;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
 import io.github.vampirestudios.raa.utils.Utils;
 import io.github.vampirestudios.vampirelib.utils.Color;
 import net.fabricmc.fabric.api.dimension.v1.FabricDimensionType;
@@ -46,211 +48,186 @@ public class Dimensions {
     public static final Registry<DimensionData> DIMENSIONS = new DefaultedRegistry<>("raa:dimensions");
 
     public static void generate() {
-        //pre generation of dimensions: basic data, flags, and name
-        //This is only the data needed for civilization simulation
-        ArrayList<ProtoDimension> protoDimensions = new ArrayList<>();
-        for (int a = 0; a < RandomlyAddingAnything.CONFIG.dimensionNumber; a++) {
-            float temperature = Rands.randFloat(2.0F);
-            int flags = generateDimensionFlags();
-
-            INameGenerator nameGenerator = RandomlyAddingAnything.CONFIG.namingLanguage.getDimensionNameGenerator();
-            Pair<String, Identifier> name = nameGenerator.generateUnique(DIMENSION_NAMES, MOD_ID);
-            DIMENSION_NAMES.add(name.getRight());
+        List<DimensionData> dimensions = generate(RandomlyAddingAnything.CONFIG.namingLanguage.getDimensionNameGenerator(),
+                RandomlyAddingAnything.CONFIG.dimensionNumber, RandomlyAddingAnything.CONFIG.civilizationNumber, DIMENSION_NAMES);
+        for (DimensionData dimensionData : dimensions) {
+            Registry.register(DIMENSIONS, dimensionData.getId(), dimensionData);
 
-            protoDimensions.add(new ProtoDimension(name, flags, temperature, Rands.randFloat(2F)));
+            // Debug Only
+            if (RandomlyAddingAnything.CONFIG.debug) {
+                DebugUtils.dimensionDebug(dimensionData);
+            }
         }
+    }
 
-        for (ProtoDimension dimension : protoDimensions) {
-            dimension.setXandY(Rands.randFloatRange(0, 1), Rands.randFloatRange(0, 1));
-        }
+    /**
+     * Generates the dimensions without registering them.
+     *
+     * @param presentNames the ids already taken, the ones of the new dimensions are added to it
+     */
+    public static List<DimensionData> generate(INameGenerator nameGenerator, int count, int civilizationCount, Set<Identifier> presentNames) {
+        //pre generation of dimensions: basic data, flags, and name
+        //This is only the data needed for civilization simulation
+        SeededGeneration generation = SeededGeneration.create("dimensions");
+        List<Pair<String, Identifier>> names = generation.generateUnique(count, presentNames, (index, random) -> {
+            String name = nameGenerator.generate(random);
+            return new Pair<>(name, new Identifier(MOD_ID, nameGenerator.asId(name)));
+        });
+        List<ProtoDimension> protoDimensions = generation.generate(names.size(), (index, random) -> {
+            float temperature = Rands.randFloat(random, 2.0F);
+            int flags = generateDimensionFlags(random);
+            ProtoDimension dimension = new ProtoDimension(names.get(index), flags, temperature, Rands.randFloat(random, 2F));
+            dimension.setXandY(Rands.randFloatRange(random, 0, 1), Rands.randFloatRange(random, 0, 1));
+            return dimension;
+        });
 
-        //perform the civilization handling
+        //perform the civilization handling, every civilization can influence every dimension so this runs on one random
+        simulateCivilizations(protoDimensions, generation.random(-1, 0), nameGenerator, civilizationCount);
 
+        //post generation of dimensions: do everything to actually register the dimension
+        return SeededGeneration.create("dimensions/data").generate(protoDimensions.size(), (index, random) -> createDimensionData(protoDimensions.get(index), random));
+    }
+
+    private static void simulateCivilizations(List<ProtoDimension> protoDimensions, Random random, INameGenerator nameGenerator, int civilizationCount) {
         //generate the civilizations
         ArrayList<Civilization> civs = new ArrayList<>();
         Set<Identifier> civNames = new HashSet<>();
         Set<ProtoDimension> usedDimensions = new HashSet<>();
-        for (int i = 0; i < 10; i++) {
-            INameGenerator nameGenerator = RandomlyAddingAnything.CONFIG.namingLanguage.getDimensionNameGenerator();
-            Pair<String, Identifier> name = nameGenerator.generateUnique(civNames, MOD_ID);
+        for (int i = 0; i < civilizationCount; i++) {
+            Pair<String, Identifier> name = nameGenerator.generateUnique(random, civNames, MOD_ID);
             civNames.add(name.getRight());
-            ProtoDimension generatedDimension = Rands.list(protoDimensions);
+            ProtoDimension generatedDimension = Rands.list(random, protoDimensions);
             if (usedDimensions.contains(generatedDimension)) continue;
             else usedDimensions.add(generatedDimension);
             civs.add(new Civilization(name.getLeft(), generatedDimension));
         }
 
         //tick the civs and get their influence
-        civs.forEach(Civilization::simulate);
-
-        for (Civilization civ : civs) {
-
-            //tech level 0 civs get no influence
-            if (civ.getTechLevel() == 0) continue;
-
-            for (ProtoDimension dimension : protoDimensions) {
-                if (dimension != civ.getHomeDimension()) {
-                    double d = Utils.dist(dimension.getX(), dimension.getY(), civ.getHomeDimension().getX(), civ.getHomeDimension().getY());
-                    if (d <= civ.getInfluenceRadius()) {
-                        double percent = (civ.getInfluenceRadius() - d) / civ.getInfluenceRadius();
-                        dimension.addInfluence(civ.getName(), percent);
-                        if (percent > 0.40) {
-                            if (civ.getTechLevel() >= 2) if (Rands.chance(5)) dimension.setAbandoned();
-                        }
-                        if (percent > 0.60) {
-                            if (civ.getTechLevel() >= 2) if (Rands.chance(4)) dimension.setAbandoned();
-                            if (civ.getTechLevel() >= 3) if (Rands.chance(5)) dimension.setDead();
-                        }
-                        if (percent > 0.80) {
-                            if (civ.getTechLevel() >= 2) if (Rands.chance(3)) dimension.setAbandoned();
-                            if (civ.getTechLevel() >= 3) if (Rands.chance(4)) dimension.setDead();
-                        }
-                        if (percent > 0.70) {
-                            if (civ.getTechLevel() >= 3) dimension.setCivilized();
-                        }
-                    }
-                } else {
-                    //a civ's home dimension has 100% influence by that civ
-                    dimension.addInfluence(civ.getName(), 1.0);
-                }
+        new CivilizationSimulator(protoDimensions, civs).run(1);
+    }
 
-                //Ensure that both dead and lush flags don't coexist
-                if (Utils.checkBitFlag(dimension.getFlags(), Utils.DEAD) && Utils.checkBitFlag(dimension.getFlags(), Utils.LUSH))
-                    dimension.removeLush();
-            }
+    private static DimensionData createDimensionData(ProtoDimension dimension, Random random) {
+        int difficulty = 0;
+        int flags = dimension.getFlags();
+        Pair<String, Identifier> name = dimension.getName();
+        float hue = Rands.randFloatRange(random, 0, 1.0F);
+        float foliageColor = hue + Rands.randFloatRange(random, -0.15F, 0.15F);
+        float stoneColor = hue + Rands.randFloatRange(random, -0.45F, 0.45F);
+        float fogHue = hue + 0.3333f;
+        float skyHue = fogHue + 0.3333f;
+
+        float saturation = Rands.randFloatRange(random, 0.5F, 1.0F);
+        float stoneSaturation = Rands.randFloatRange(random, 0.2F, 0.6F);
+        if (Utils.checkBitFlag(flags, Utils.DEAD)) {
+            saturation = Rands.randFloatRange(random, 0.0F, 0.2F);
+            stoneSaturation = saturation;
+            difficulty += 2;
+            if (Utils.checkBitFlag(flags, Utils.CIVILIZED)) difficulty++;
         }
-
-        //post generation of dimensions: do everything to actually register the dimension
-        for (ProtoDimension dimension : protoDimensions) {
-            int difficulty = 0;
-            int flags = dimension.getFlags();
-            Pair<String, Identifier> name = dimension.getName();
-            float hue = Rands.randFloatRange(0, 1.0F);
-            float foliageColor = hue + Rands.randFloatRange(-0.15F, 0.15F);
-            float stoneColor = hue + Rands.randFloatRange(-0.45F, 0.45F);
-            float fogHue = hue + 0.3333f;
-            float skyHue = fogHue + 0.3333f;
-
-            float saturation = Rands.randFloatRange(0.5F, 1.0F);
-            float stoneSaturation = Rands.randFloatRange(0.2F, 0.6F);
-            if (Utils.checkBitFlag(flags, Utils.DEAD)) {
-                saturation = Rands.randFloatRange(0.0F, 0.2F);
-                stoneSaturation = saturation;
-                difficulty += 2;
-                if (Utils.checkBitFlag(flags, Utils.CIVILIZED)) difficulty++;
-            }
-            if (Utils.checkBitFlag(flags, Utils.LUSH)) saturation = Rands.randFloatRange(0.7F, 1.0F);
-            if (Utils.checkBitFlag(flags, Utils.CORRUPTED)) difficulty += 2;
-            if (Utils.checkBitFlag(flags, Utils.MOLTEN)) difficulty += 2;
-            if (Utils.checkBitFlag(flags, Utils.DRY)) difficulty += 2;
-            if (Utils.checkBitFlag(flags, Utils.TECTONIC)) difficulty++;
-            float value = Rands.randFloatRange(0.5F, 1.0F);
-            Color GRASS_COLOR = new Color(Color.HSBtoRGB(hue, saturation, value));
-            Color FOLIAGE_COLOR = new Color(Color.HSBtoRGB(foliageColor, saturation, value));
-            Color FOG_COLOR = new Color(Color.HSBtoRGB(fogHue, saturation, value));
-            Color SKY_COLOR = new Color(Color.HSBtoRGB(skyHue, saturation, value));
-            Color WATER_COLOR = new Color(Color.HSBtoRGB(Rands.randFloatRange(0.0F, 1.0F), saturation, Rands.randFloatRange(0.5F, 1.0F)));
-            Color STONE_COLOR = new Color(Color.HSBtoRGB(stoneColor, stoneSaturation, value));
-
-
-            DimensionChunkGenerators gen = Utils.randomCG(Rands.randIntRange(0, 100));
-            if (gen == DimensionChunkGenerators.FLOATING) difficulty++;
-            if (gen == CAVE) difficulty += 2;
-            float scale = dimension.getScale();
-            if (scale > 0.8) difficulty++;
-            if (scale > 1.6) difficulty++;
-            Pair<Integer, HashMap<String, int[]>> difficultyAndMobs = generateDimensionMobs(flags, difficulty);
-
-            DimensionData.Builder builder = DimensionData.Builder.create(name.getRight(), name.getLeft())
-                    .hasSkyLight(Rands.chance(1))
-                    .hasSky(!Rands.chance(2))
-                    .canSleep(Rands.chance(10))
-                    .waterVaporize(Rands.chance(100))
-                    .shouldRenderFog(Rands.chance(40))
-                    .chunkGenerator(gen)
-                    .flags(flags)
-                    .difficulty(difficultyAndMobs.getLeft())
-                    .mobs(difficultyAndMobs.getRight())
-                    .civilizationInfluences(dimension.getCivilizationInfluences())
-                    .surfaceBuilder(Rands.randInt(100));
-
-            DimensionTextureData texturesInformation = DimensionTextureData.Builder.create()
-                    .stoneTexture(Rands.list(TextureTypes.STONE_TEXTURES))
-                    .stoneBricksTexture(Rands.list(TextureTypes.STONE_BRICKS_TEXTURES))
-                    .mossyStoneBricksTexture(Rands.list(TextureTypes.MOSSY_STONE_BRICKS_TEXTURES))
-                    .crackedStoneBricksTexture(Rands.list(TextureTypes.CRACKED_STONE_BRICKS_TEXTURES))
-                    .cobblestoneTexture(Rands.list(TextureTypes.COBBLESTONE_TEXTURES))
-                    .mossyCobblestoneTexture(Rands.list(TextureTypes.MOSSY_COBBLESTONE_TEXTURES))
-                    .chiseledTexture(Rands.list(TextureTypes.CHISELED_STONE_TEXTURES))
-                    .mossyChiseledTexture(Rands.list(TextureTypes.MOSSY_CHISELED_STONE_TEXTURES))
-                    .crackedChiseledTexture(Rands.list(TextureTypes.CRACKED_CHISELED_STONE_TEXTURES))
-                    .polishedTexture(Rands.list(TextureTypes.POLISHED_STONE_TEXTURES))
-                    .iceTexture(TextureTypes.ICE_TEXTURES.get(0))
-                    .build();
-            builder.texturesInformation(texturesInformation);
-
-            //TODO: make proper number generation
-
-            for (int i = 0; i < Rands.randIntRange(1, 12); i++) {
-                float grassColor = hue + Rands.randFloatRange(-0.15f, 0.15f);
-                List<DimensionTreeData> treeDataList = new ArrayList<>();
-
-                int treeAmount = Rands.randIntRange(0, 4);
-                if (Utils.checkBitFlag(flags, Utils.DEAD) || Utils.checkBitFlag(flags, Utils.CORRUPTED)) treeAmount = 0;
-                if (Utils.checkBitFlag(flags, Utils.LUSH)) treeAmount = 8;
-                for (int j = 0; j < treeAmount; j++) {
-                    DimensionTreeData treeData = DimensionTreeData.Builder.create()
-                            .woodType(Rands.list(Arrays.asList(DimensionWoodType.values())))
-                            .foliagePlacerType(Rands.list(Arrays.asList(DimensionFoliagePlacers.values())))
-                            .treeType(Rands.list(Arrays.asList(DimensionTreeTypes.values())))
-                            .baseHeight(Rands.randIntRange(2, 24))
-                            .maxWaterDepth(Rands.randIntRange(0, 8))
-                            .foliageHeight(Rands.randIntRange(1, 5))
-                            .chance(Rands.randFloatRange(0.05f, 0.6f))
-                            .hasCocoaBeans(Rands.chance(3))
-                            .hasLeafVines(Rands.chance(3))
-                            .hasPodzolUnderneath(Rands.chance(3))
-                            .hasTrunkVines(Rands.chance(3))
-                            .build();
-                    treeDataList.add(treeData);
-                }
-                DimensionBiomeData biomeData = DimensionBiomeData.Builder.create(Utils.appendToPath(name.getRight(), "_biome" + "_" + i), name.getLeft())
-                        .surfaceBuilderVariantChance(Rands.randInt(100))
-                        .depth(Rands.randFloatRange(-2F, 5F))
-                        .scale(scale + Rands.randFloatRange(-0.75f, 0.75f))
-                        .temperature(dimension.getTemperature() + Rands.randFloatRange(-0.5f, 0.5f))
-                        .downfall(Rands.randFloat(1F))
-                        .waterColor(WATER_COLOR.getColor())
-                        .grassColor(new Color(Color.HSBtoRGB(grassColor, saturation, value)).getColor())
-                        .foliageColor(new Color(Color.HSBtoRGB(grassColor + Rands.randFloatRange(-0.1f, 0.1f), saturation, value)).getColor())
-                        .treeData(treeDataList)
-                        .largeSkeletonTreeChance(Rands.randFloatRange(0, 0.5F))
-                        .spawnsCratersInNonCorrupted(Rands.chance(4))
-                        .campfireChance(Rands.randFloatRange(0.003F, 0.005F))
-                        .outpostChance(Rands.randFloatRange(0.001F, 0.003F))
-                        .towerChance(Rands.randFloatRange(0.001F, 0.0015F))
-                        .hasMushrooms(Rands.chance(6))
-                        .hasMossyRocks(Rands.chance(8))
+        if (Utils.checkBitFlag(flags, Utils.LUSH)) saturation = Rands.randFloatRange(random, 0.7F, 1.0F);
+        if (Utils.checkBitFlag(flags, Utils.CORRUPTED)) difficulty += 2;
+        if (Utils.checkBitFlag(flags, Utils.MOLTEN)) difficulty += 2;
+        if (Utils.checkBitFlag(flags, Utils.DRY)) difficulty += 2;
+        if (Utils.checkBitFlag(flags, Utils.TECTONIC)) difficulty++;
+        float value = Rands.randFloatRange(random, 0.5F, 1.0F);
+        Color GRASS_COLOR = new Color(Color.HSBtoRGB(hue, saturation, value));
+        Color FOLIAGE_COLOR = new Color(Color.HSBtoRGB(foliageColor, saturation, value));
+        Color FOG_COLOR = new Color(Color.HSBtoRGB(fogHue, saturation, value));
+        Color SKY_COLOR = new Color(Color.HSBtoRGB(skyHue, saturation, value));
+        Color WATER_COLOR = new Color(Color.HSBtoRGB(Rands.randFloatRange(random, 0.0F, 1.0F), saturation, Rands.randFloatRange(random, 0.5F, 1.0F)));
+        Color STONE_COLOR = new Color(Color.HSBtoRGB(stoneColor, stoneSaturation, value));
+
+
+        DimensionChunkGenerators gen = Utils.randomCG(Rands.randIntRange(random, 0, 100));
+        if (gen == DimensionChunkGenerators.FLOATING) difficulty++;
+        if (gen == CAVE) difficulty += 2;
+        float scale = dimension.getScale();
+        if (scale > 0.8) difficulty++;
+        if (scale > 1.6) difficulty++;
+        Pair<Integer, HashMap<String, int[]>> difficultyAndMobs = generateDimensionMobs(random, flags, difficulty);
+
+        DimensionData.Builder builder = DimensionData.Builder.create(name.getRight(), name.getLeft())
+                .hasSkyLight(Rands.chance(random, 1))
+                .hasSky(!Rands.chance(random, 2))
+                .canSleep(Rands.chance(random, 10))
+                .waterVaporize(Rands.chance(random, 100))
+                .shouldRenderFog(Rands.chance(random, 40))
+                .chunkGenerator(gen)
+                .flags(flags)
+                .difficulty(difficultyAndMobs.getLeft())
+                .mobs(difficultyAndMobs.getRight())
+                .civilizationInfluences(dimension.getCivilizationInfluences())
+                .surfaceBuilder(Rands.randInt(random, 100));
+
+        DimensionTextureData texturesInformation = DimensionTextureData.Builder.create()
+                .stoneTexture(Rands.list(random, TextureTypes.STONE_TEXTURES))
+                .stoneBricksTexture(Rands.list(random, TextureTypes.STONE_BRICKS_TEXTURES))
+                .mossyStoneBricksTexture(Rands.list(random, TextureTypes.MOSSY_STONE_BRICKS_TEXTURES))
+                .crackedStoneBricksTexture(Rands.list(random, TextureTypes.CRACKED_STONE_BRICKS_TEXTURES))
+                .cobblestoneTexture(Rands.list(random, TextureTypes.COBBLESTONE_TEXTURES))
+                .mossyCobblestoneTexture(Rands.list(random, TextureTypes.MOSSY_COBBLESTONE_TEXTURES))
+                .chiseledTexture(Rands.list(random, TextureTypes.CHISELED_STONE_TEXTURES))
+                .mossyChiseledTexture(Rands.list(random, TextureTypes.MOSSY_CHISELED_STONE_TEXTURES))
+                .crackedChiseledTexture(Rands.list(random, TextureTypes.CRACKED_CHISELED_STONE_TEXTURES))
+                .polishedTexture(Rands.list(random, TextureTypes.POLISHED_STONE_TEXTURES))
+                .iceTexture(TextureTypes.ICE_TEXTURES.get(0))
+                .build();
+        builder.texturesInformation(texturesInformation);
+
+        //TODO: make proper number generation
+
+        for (int i = 0; i < Rands.randIntRange(random, 1, 12); i++) {
+            float grassColor = hue + Rands.randFloatRange(random, -0.15f, 0.15f);
+            List<DimensionTreeData> treeDataList = new ArrayList<>();
+
+            int treeAmount = Rands.randIntRange(random, 0, 4);
+            if (Utils.checkBitFlag(flags, Utils.DEAD) || Utils.checkBitFlag(flags, Utils.CORRUPTED)) treeAmount = 0;
+            if (Utils.checkBitFlag(flags, Utils.LUSH)) treeAmount = 8;
+            for (int j = 0; j < treeAmount; j++) {
+                DimensionTreeData treeData = DimensionTreeData.Builder.create()
+                        .woodType(Rands.list(random, Arrays.asList(DimensionWoodType.values())))
+                        .foliagePlacerType(Rands.list(random, Arrays.asList(DimensionFoliagePlacers.values())))
+                        .treeType(Rands.list(random, Arrays.asList(DimensionTreeTypes.values())))
+                        .baseHeight(Rands.randIntRange(random, 2, 24))
+                        .maxWaterDepth(Rands.randIntRange(random, 0, 8))
+                        .foliageHeight(Rands.randIntRange(random, 1, 5))
+                        .chance(Rands.randFloatRange(random, 0.05f, 0.6f))
+                        .hasCocoaBeans(Rands.chance(random, 3))
+                        .hasLeafVines(Rands.chance(random, 3))
+                        .hasPodzolUnderneath(Rands.chance(random, 3))
+                        .hasTrunkVines(Rands.chance(random, 3))
                         .build();
-                builder.biome(biomeData);
-            }
-            DimensionColorPalette colorPalette = DimensionColorPalette.Builder.create()
-                    .skyColor(SKY_COLOR.getColor())
-                    .grassColor(GRASS_COLOR.getColor())
-                    .fogColor(FOG_COLOR.getColor())
-                    .foliageColor(FOLIAGE_COLOR.getColor())
-                    .stoneColor(STONE_COLOR.getColor()).build();
-            builder.colorPalette(colorPalette);
-
-            DimensionData dimensionData = builder.build();
-
-            Registry.register(DIMENSIONS, dimensionData.getId(), dimensionData);
-
-            // Debug Only
-            if (RandomlyAddingAnything.CONFIG.debug) {
-                DebugUtils.dimensionDebug(dimensionData);
+                treeDataList.add(treeData);
             }
+            DimensionBiomeData biomeData = DimensionBiomeData.Builder.create(Utils.appendToPath(name.getRight(), "_biome" + "_" + i), name.getLeft())
+                    .surfaceBuilderVariantChance(Rands.randInt(random, 100))
+                    .depth(Rands.randFloatRange(random, -2F, 5F))
+                    .scale(scale + Rands.randFloatRange(random, -0.75f, 0.75f))
+                    .temperature(dimension.getTemperature() + Rands.randFloatRange(random, -0.5f, 0.5f))
+                    .downfall(Rands.randFloat(random, 1F))
+                    .waterColor(WATER_COLOR.getColor())
+                    .grassColor(new Color(Color.HSBtoRGB(grassColor, saturation, value)).getColor())
+                    .foliageColor(new Color(Color.HSBtoRGB(grassColor + Rands.randFloatRange(random, -0.1f, 0.1f), saturation, value)).getColor())
+                    .treeData(treeDataList)
+                    .largeSkeletonTreeChance(Rands.randFloatRange(random, 0, 0.5F))
+                    .spawnsCratersInNonCorrupted(Rands.chance(random, 4))
+                    .campfireChance(Rands.randFloatRange(random, 0.003F, 0.005F))
+                    .outpostChance(Rands.randFloatRange(random, 0.001F, 0.003F))
+                    .towerChance(Rands.randFloatRange(random, 0.001F, 0.0015F))
+                    .hasMushrooms(Rands.chance(random, 6))
+                    .hasMossyRocks(Rands.chance(random, 8))
+                    .build();
+            builder.biome(biomeData);
         }
+        DimensionColorPalette colorPalette = DimensionColorPalette.Builder.create()
+                .skyColor(SKY_COLOR.getColor())
+                .grassColor(GRASS_COLOR.getColor())
+                .fogColor(FOG_COLOR.getColor())
+                .foliageColor(FOLIAGE_COLOR.getColor())
+                .stoneColor(STONE_COLOR.getColor()).build();
+        builder.colorPalette(colorPalette);
+
+        return builder.build();
     }
 
     public static void createDimensions() {
@@ -402,147 +379,147 @@ public class Dimensions {
         });
     }
 
-    public static Pair<Integer, HashMap<String, int[]>> generateDimensionMobs(int flags, int difficulty) {
+    public static Pair<Integer, HashMap<String, int[]>> generateDimensionMobs(Random random, int flags, int difficulty) {
         HashMap<String, int[]> list = new HashMap<>();
         if (Utils.checkBitFlag(flags, Utils.LUSH)) {
             String[] names = new String[]{"cow", "pig", "chicken", "horse", "donkey", "sheep", "llama"};
             for (String name : names) {
-                int spawnSize = Rands.randIntRange(4, 16);
-                list.put(name, new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 8)});
+                int spawnSize = Rands.randIntRange(random, 4, 16);
+                list.put(name, new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 8)});
             }
         } else {
             if (!Utils.checkBitFlag(flags, Utils.DEAD)) {
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 12);
-                    list.put("cow", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 12);
+                    list.put("cow", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 } else {
                     difficulty++;
                 }
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 12);
-                    list.put("pig", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 12);
+                    list.put("pig", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 } else {
                     difficulty++;
                 }
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 12);
-                    list.put("chicken", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 12);
+                    list.put("chicken", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 } else {
                     difficulty++;
                 }
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 8);
-                    list.put("horse", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 8);
+                    list.put("horse", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 }
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 8);
-                    list.put("donkey", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 8);
+                    list.put("donkey", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 }
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 12);
-                    list.put("sheep", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 12);
+                    list.put("sheep", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 } else {
                     difficulty++;
                 }
-                if (Rands.chance(2)) {
-                    int spawnSize = Rands.randIntRange(2, 8);
-                    list.put("llama", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+                if (Rands.chance(random, 2)) {
+                    int spawnSize = Rands.randIntRange(random, 2, 8);
+                    list.put("llama", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
                 }
             } else {
                 difficulty += 4;
             }
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 12);
-            list.put("bat", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 12);
+            list.put("bat", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 8);
-            list.put("spider", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 8);
+            list.put("spider", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
         } else {
             difficulty--;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 12);
-            list.put("zombie", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 12);
+            list.put("zombie", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
         } else {
             difficulty--;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 4);
-            list.put("zombie_villager", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + 1});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 4);
+            list.put("zombie_villager", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + 1});
         } else {
             --difficulty;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 12);
-            list.put("skeleton", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 12);
+            list.put("skeleton", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
         } else {
             difficulty--;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 8);
-            list.put("creeper", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 8);
+            list.put("creeper", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
         } else {
             difficulty -= 2;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 4);
-            list.put("slime", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize + Rands.randIntRange(2, 4)});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 4);
+            list.put("slime", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize + Rands.randIntRange(random, 2, 4)});
         } else {
             difficulty--;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 4);
-            list.put("enderman", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 4);
+            list.put("enderman", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize});
         } else {
             difficulty -= 2;
         }
-        if (Rands.chance(2)) {
-            int spawnSize = Rands.randIntRange(2, 3);
-            list.put("witch", new int[]{Rands.randIntRange(1, 300), spawnSize, spawnSize});
+        if (Rands.chance(random, 2)) {
+            int spawnSize = Rands.randIntRange(random, 2, 3);
+            list.put("witch", new int[]{Rands.randIntRange(random, 1, 300), spawnSize, spawnSize});
         } else {
             difficulty -= 2;
         }
         return new Pair<>(difficulty, list);
     }
 
-    public static int generateDimensionFlags() {
+    public static int generateDimensionFlags(Random random) {
         int flags = 0;
-        if (Rands.chance(35)) {
+        if (Rands.chance(random, 35)) {
             flags = Utils.POST_APOCALYPTIC;
             return flags;
         }
-        if (Rands.chance(20)) {
+        if (Rands.chance(random, 20)) {
             flags |= Utils.CORRUPTED;
-            if (Rands.chance(8)) {
+            if (Rands.chance(random, 8)) {
                 flags |= Utils.DEAD;
             }
-            if (Rands.chance(3)) {
+            if (Rands.chance(random, 3)) {
                 flags |= Utils.MOLTEN;
             }
-            if (Rands.chance(4)) {
+            if (Rands.chance(random, 4)) {
                 flags |= Utils.DRY;
             }
         } else {
-            if (Rands.chance(18)) {
+            if (Rands.chance(random, 18)) {
                 flags |= Utils.DEAD;
-                if (Rands.chance(6)) {
+                if (Rands.chance(random, 6)) {
                     flags |= Utils.MOLTEN;
                 }
-                if (Rands.chance(5)) {
+                if (Rands.chance(random, 5)) {
                     flags |= Utils.DRY;
                 }
             } else {
-                if (Rands.chance(4)) {
+                if (Rands.chance(random, 4)) {
                     flags |= Utils.LUSH;
                 }
             }
         }
-        if (Rands.chance(10)) {
+        if (Rands.chance(random, 10)) {
             flags |= Utils.TECTONIC;
         }
-        boolean chance = Rands.chance(10);
+        boolean chance = Rands.chance(random, 10);
         Calendar calendar = Calendar.getInstance();
         if (calendar.get(Calendar.MONTH) + 1 == 12 && calendar.get(Calendar.DATE) >= 24 && calendar.get(Calendar.DATE) <= 26) {
             chance = true;
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableSet;
 import io.github.vampirestudios.raa.RandomlyAddingAnything;
 import io.github.vampirestudios.raa.generation.dimensions.data.DimensionData;
 import io.github.vampirestudios.raa.commands.CommandLocateRAAStructure;
+import io.github.vampirestudios.raa.commands.CommandPregen;
 import io.github.vampirestudios.raa.generation.carvers.CaveCarver;
 import io.github.vampirestudios.raa.generation.carvers.RavineCarver;
 import io.github.vampirestudios.raa.generation.dimensions.data.DimensionData;
@@ -15,6 +16,9 @@ import io.github.vampirestudios.raa.generation.feature.tree.BentTreeFeature;
 import io.github.vampirestudios.raa.generation.feature.tree.DoubleTreeFeature;
 import io.github.vampirestudios.raa.generation.feature.tree.FixedTreeFeature;
 import io.github.vampirestudios.raa.utils.Utils;
+import io.github.vampirestudios.raa.world.gen.feature.MultiOreFeature;
+import io.github.vampirestudios.raa.world.gen.feature.MultiOreFeatureConfig;
+import io.github.vampirestudios.raa.world.pregen.ChunkPregenerator;
 import net.fabricmc.fabric.api.registry.CommandRegistry;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.structure.StructurePieceType;
@@ -48,9 +52,12 @@ public class Features {
     public static FossilFeature FOSSIL;
     public static PortalHubFeature PORTAL_HUB;
     public static ShrineFeature SHRINE;
+    public static MultiOreFeature MULTI_ORE;
 
     public static void init() {
         CommandRegistry.INSTANCE.register(false, CommandLocateRAAStructure::register);
+        CommandRegistry.INSTANCE.register(false, CommandPregen::register);
+        ChunkPregenerator.init();
 
         CORRUPTED_NETHRRACK = register("corrupted_netherrack", new NetherrackFeature(DefaultFeatureConfig::deserialize));
         CRATER_FEATURE = register("crater_feature", new CraterFeature(CorruptedFeatureConfig::deserialize));
@@ -68,6 +75,7 @@ public class Features {
         BENT_TREE = register("bent_tree", new BentTreeFeature(BranchedTreeFeatureConfig::deserialize2));
         DOUBLE_TREE = register("double_tree", new DoubleTreeFeature(BranchedTreeFeatureConfig::deserialize2));
         PORTAL_HUB = register("portal_hub", new PortalHubFeature(DefaultFeatureConfig::deserialize));
+        MULTI_ORE = register("multi_ore", new MultiOreFeature(MultiOreFeatureConfig::deserialize));
     }
 
     public static void addDefaultCarvers(Biome biome, DimensionData dimensionData) {
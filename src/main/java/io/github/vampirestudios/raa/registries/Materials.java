@@ -15,6 +15,7 @@ import io.github.vampirestudios.raa.items.material.*;
 import io.github.vampirestudios.raa.utils.DebugUtils;
 import io.github.vampirestudios.raa.utils.Rands;
 import io.github.vampirestudios.raa.utils.RegistryUtils;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
 import io.github.vampirestudios.raa.utils.Utils;
 import io.github.vampirestudios.raa.world.gen.feature.OreFeatureConfig;
 import io.github.vampirestudios.vampirelib.utils.Color;
@@ -28,10 +29,12 @@ import net.minecraft.item.FoodComponent;
 import net.minecraft.item.Item;
 import net.minecraft.predicate.block.BlockPredicate;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
 import net.minecraft.util.registry.DefaultedRegistry;
 import net.minecraft.util.registry.Registry;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -46,106 +49,117 @@ public class Materials {
     public static boolean dimensionReady = false;
 
     public static void generate() {
-        for (int a = 0; a < RandomlyAddingAnything.CONFIG.materialNumber; a++) {
-            Color RGB = Rands.randColor();
-            Random random = Rands.getRandom();
-            INameGenerator nameGenerator = RandomlyAddingAnything.CONFIG.namingLanguage.getMaterialNameGenerator();
+        List<Material> materials = generate(RandomlyAddingAnything.CONFIG.namingLanguage.getMaterialNameGenerator(), RandomlyAddingAnything.CONFIG.materialNumber, MATERIAL_IDS);
+        for (Material material : materials) {
+            Registry.register(MATERIALS, material.getId(), material);
 
-            String name;
-            Identifier id;
-            do {
-                name = nameGenerator.generate();
-                id = new Identifier(RandomlyAddingAnything.MOD_ID, nameGenerator.asId(name));
-            } while (MATERIAL_IDS.contains(id));
-            MATERIAL_IDS.add(id);
+            // Debug Only
+            if (RandomlyAddingAnything.CONFIG.debug) {
+                DebugUtils.materialDebug(material, new Color(material.getColor()));
+            }
+        }
+        ready = true;
+    }
+
+    /**
+     * Generates the materials without registering them.
+     *
+     * @param presentIds the ids already taken, the ones of the new materials are added to it
+     */
+    public static List<Material> generate(INameGenerator nameGenerator, int count, Set<Identifier> presentIds) {
+        SeededGeneration generation = SeededGeneration.create("materials");
+        // the registry caches its entries for random picks on first use, fill that cache before going parallel
+        RAARegisteries.TARGET_REGISTRY.getRandom(Rands.getRandom());
+
+        List<Pair<String, Identifier>> names = generation.generateUnique(count, presentIds, (index, random) -> {
+            String name = nameGenerator.generate(random);
+            return new Pair<>(name, new Identifier(RandomlyAddingAnything.MOD_ID, nameGenerator.asId(name)));
+        });
+        return generation.generate(names.size(), (index, random) -> {
+            Color RGB = Rands.randColor(random);
 
             MaterialFoodData materialFoodData = MaterialFoodData.Builder.create()
-                    .alwaysEdible(Rands.chance(10))
-                    .hunger(Rands.randIntRange(4, 30))
-                    .meat(Rands.chance(5))
-                    .saturationModifier(Rands.randFloatRange(1.0F, 4.0F))
-                    .snack(Rands.chance(10))
+                    .alwaysEdible(Rands.chance(random, 10))
+                    .hunger(Rands.randIntRange(random, 4, 30))
+                    .meat(Rands.chance(random, 5))
+                    .saturationModifier(Rands.randFloatRange(random, 1.0F, 4.0F))
+                    .snack(Rands.chance(random, 10))
                     .build();
 
-            Material material = Material.Builder.create(id, name)
-                    .oreType(Rands.values(OreType.values()))
+            return Material.Builder.create(names.get(index).getRight(), names.get(index).getLeft(), random)
+                    .oreType(Rands.values(random, OreType.values()))
                     .color(RGB.getColor())
                     .foodData(materialFoodData)
-                    .target(Objects.requireNonNull(RAARegisteries.TARGET_REGISTRY.getRandom(Rands.getRandom())).getId())
+                    .target(Objects.requireNonNull(RAARegisteries.TARGET_REGISTRY.getRandom(random)).getId())
                     .armor(random.nextBoolean())
-                    .tools(Rands.chance(3))
-                    .oreFlower(Rands.chance(4))
-                    .weapons(Rands.chance(7))
-                    .glowing(Rands.chance(4))
+                    .tools(Rands.chance(random, 3))
+                    .oreFlower(Rands.chance(random, 4))
+                    .weapons(Rands.chance(random, 7))
+                    .glowing(Rands.chance(random, 4))
                     .minXPAmount(0)
-                    .maxXPAmount(Rands.randIntRange(0, 4))
-                    .oreClusterSize(Rands.randIntRange(2, 6))
-                    .food(Rands.chance(4))
-                    .compostbleAmount(Rands.randFloatRange(0.3F, 3.0F))
-                    .compostable(Rands.chance(10))
+                    .maxXPAmount(Rands.randIntRange(random, 0, 4))
+                    .oreClusterSize(Rands.randIntRange(random, 2, 6))
+                    .food(Rands.chance(random, 4))
+                    .compostbleAmount(Rands.randFloatRange(random, 0.3F, 3.0F))
+                    .compostable(Rands.chance(random, 10))
                     .build();
-
-            Registry.register(MATERIALS, id, material);
-
-            // Debug Only
-            if (RandomlyAddingAnything.CONFIG.debug) {
-                DebugUtils.materialDebug(material, RGB);
-            }
-        }
-        ready = true;
+        });
     }
 
     public static void generateDimensionMaterials() {
+        INameGenerator nameGenerator = RandomlyAddingAnything.CONFIG.namingLanguage.getMaterialNameGenerator();
         for (DimensionData dimensionData : Dimensions.DIMENSIONS) {
-            int i = Rands.randIntRange(0, RandomlyAddingAnything.CONFIG.materialNumber);
-            for (int a = 0; a < Rands.randIntRange(0, RandomlyAddingAnything.CONFIG.materialNumber); a++) {
-                Color RGB = Rands.randColor();
-                Random random = Rands.getRandom();
-                INameGenerator nameGenerator = RandomlyAddingAnything.CONFIG.namingLanguage.getMaterialNameGenerator();
+            SeededGeneration generation = SeededGeneration.create("dimension_materials/" + dimensionData.getId());
+            Random countRandom = generation.random(-1, 0);
+            // same distribution as rolling the bound again before every material
+            int count = 0;
+            while (count < Rands.randIntRange(countRandom, 0, RandomlyAddingAnything.CONFIG.materialNumber)) count++;
+
+            List<Pair<String, Identifier>> names = generation.generateUnique(count, DIMENSION_MATERIAL_IDS, (index, random) ->
+                    new Pair<>(dimensionData.getName() + " " + nameGenerator.generate(random),
+                            new Identifier(RandomlyAddingAnything.MOD_ID, nameGenerator.asId(dimensionData.getName() + "_" + nameGenerator.generate(random)))));
+
+            Identifier stoneName = Utils.appendToPath(dimensionData.getId(), "_stone");
+            Block block = Registry.BLOCK.get(stoneName);
+            RegistryUtils.registerOreTarget(stoneName, new OreFeatureConfig.Target(stoneName, new BlockPredicate(block), block));
 
-                String name;
-                Identifier id;
-                do {
-                    name = dimensionData.getName() + " " + nameGenerator.generate();
-                    id = new Identifier(RandomlyAddingAnything.MOD_ID, nameGenerator.asId(dimensionData.getName() + "_" + nameGenerator.generate()));
-                } while (DIMENSION_MATERIAL_IDS.contains(id));
-                DIMENSION_MATERIAL_IDS.add(id);
+            List<DimensionMaterial> materials = generation.generate(names.size(), (index, random) -> {
+                Color RGB = Rands.randColor(random);
 
                 MaterialFoodData materialFoodData = MaterialFoodData.Builder.create()
-                        .alwaysEdible(Rands.chance(10))
-                        .hunger(Rands.randIntRange(4, 30))
-                        .meat(Rands.chance(5))
-                        .saturationModifier(Rands.randFloatRange(1.0F, 4.0F))
-                        .snack(Rands.chance(10))
+                        .alwaysEdible(Rands.chance(random, 10))
+                        .hunger(Rands.randIntRange(random, 4, 30))
+                        .meat(Rands.chance(random, 5))
+                        .saturationModifier(Rands.randFloatRange(random, 1.0F, 4.0F))
+                        .snack(Rands.chance(random, 10))
                         .build();
 
-                Identifier stoneName = Utils.appendToPath(dimensionData.getId(), "_stone");
-                Block block = Registry.BLOCK.get(stoneName);
-                RegistryUtils.registerOreTarget(stoneName, new OreFeatureConfig.Target(stoneName, new BlockPredicate(block), block));
-                DimensionMaterial material = DimensionMaterial.Builder.create(id, name)
-                        .oreType(Rands.values(OreType.values()))
+                return DimensionMaterial.Builder.create(names.get(index).getRight(), names.get(index).getLeft(), random)
+                        .oreType(Rands.values(random, OreType.values()))
                         .color(RGB.getColor())
                         .target(stoneName)
                         .foodData(materialFoodData)
                         .armor(random.nextBoolean())
-                        .tools(Rands.chance(3))
-                        .oreFlower(Rands.chance(4))
-                        .weapons(Rands.chance(7))
-                        .glowing(Rands.chance(4))
+                        .tools(Rands.chance(random, 3))
+                        .oreFlower(Rands.chance(random, 4))
+                        .weapons(Rands.chance(random, 7))
+                        .glowing(Rands.chance(random, 4))
                         .minXPAmount(0)
-                        .maxXPAmount(Rands.randIntRange(0, 4))
-                        .oreClusterSize(Rands.randIntRange(2, 6))
-                        .food(Rands.chance(4))
+                        .maxXPAmount(Rands.randIntRange(random, 0, 4))
+                        .oreClusterSize(Rands.randIntRange(random, 2, 6))
+                        .food(Rands.chance(random, 4))
                         .dimensionData(dimensionData)
-                        .compostbleAmount(Rands.randFloatRange(0.3F, 3.0F))
-                        .compostable(Rands.chance(10))
+                        .compostbleAmount(Rands.randFloatRange(random, 0.3F, 3.0F))
+                        .compostable(Rands.chance(random, 10))
                         .build();
+            });
 
-                Registry.register(DIMENSION_MATERIALS, id, material);
+            for (DimensionMaterial material : materials) {
+                Registry.register(DIMENSION_MATERIALS, material.getId(), material);
 
                 // Debug Only
                 if (RandomlyAddingAnything.CONFIG.debug) {
-                    DebugUtils.materialDebug(material, RGB);
+                    DebugUtils.materialDebug(material, new Color(material.getColor()));
                 }
             }
         }
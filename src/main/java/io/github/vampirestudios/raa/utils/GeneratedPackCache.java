@@ -0,0 +1,228 @@
+package io.github.vampirestudios.raa.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import com.swordglowsblue.artifice.api.Artifice;
+import com.swordglowsblue.artifice.api.ArtificeResourcePack;
+import com.swordglowsblue.artifice.api.resource.StringResource;
+import com.swordglowsblue.artifice.api.util.Processor;
+import io.github.vampirestudios.raa.RandomlyAddingAnything;
+import io.github.vampirestudios.raa.config.RAADataConfig;
+import io.github.vampirestudios.raa.registries.Dimensions;
+import io.github.vampirestudios.raa.registries.Materials;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Keeps the generated Artifice packs in {@code config/raa/pack_cache} as zip files, keyed by a hash of the generated
+ * content and the loaded mods.
+ *
+ * <p>While the hash matches, the pack is served from the zip instead of running its builders again. Anything else the
+ * builders did besides adding resources has to happen outside of them, since they don't run on a cache hit.</p>
+ *
+ * <p>The resources are kept as UTF-8 text and given back as {@link StringResource}s. The builders only add json and
+ * string resources, so that is all of them; a pack holding anything else, like a texture, is not cached at all.</p>
+ */
+public class GeneratedPackCache {
+    private static final File CACHE_PATH = new File(RAADataConfig.CONFIG_PATH, "pack_cache");
+    // bump when the packs change without the data files changing
+    private static final int CACHE_VERSION = 1;
+    private static final OutputStream NULL_STREAM = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private static String contentHash;
+
+    public static void registerAssets(Identifier id, Processor<ArtificeResourcePack.ClientResourcePackBuilder> processor) {
+        Map<Identifier, String> cached = read(id);
+        if (cached != null) {
+            Artifice.registerAssets(id, builder -> cached.forEach((path, content) -> builder.add(path, new StringResource(content))));
+            return;
+        }
+        ArtificeResourcePack pack = ArtificeResourcePack.ofAssets(processor);
+        write(id, pack, ResourceType.CLIENT_RESOURCES);
+        Artifice.registerAssets(id, pack);
+    }
+
+    public static void registerData(Identifier id, Processor<ArtificeResourcePack.ServerResourcePackBuilder> processor) {
+        Map<Identifier, String> cached = read(id);
+        if (cached != null) {
+            Artifice.registerData(id, builder -> cached.forEach((path, content) -> builder.add(path, new StringResource(content))));
+            return;
+        }
+        ArtificeResourcePack pack = ArtificeResourcePack.ofData(processor);
+        write(id, pack, ResourceType.SERVER_DATA);
+        Artifice.registerData(id, pack);
+    }
+
+    /**
+     * Hashes every data file entry, the version of the mod and the other loaded mods, as the compat packs depend on
+     * those.
+     */
+    public static synchronized String getContentHash() {
+        if (contentHash != null) return contentHash;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Gson gson = GsonUtils.getGson();
+            try (Writer writer = new OutputStreamWriter(new DigestOutputStream(NULL_STREAM, digest), StandardCharsets.UTF_8)) {
+                writer.write(CACHE_VERSION + "\n");
+                TreeSet<String> mods = new TreeSet<>();
+                for (ModContainer mod : FabricLoader.getInstance().getAllMods()) {
+                    mods.add(mod.getMetadata().getId() + "@" + mod.getMetadata().getVersion().getFriendlyString());
+                }
+                writer.write(String.join(",", mods) + "\n");
+
+                JsonWriter jsonWriter = new JsonWriter(writer);
+                jsonWriter.beginArray();
+                for (Object entry : Materials.MATERIALS) gson.toJson(entry, entry.getClass(), jsonWriter);
+                for (Object entry : Materials.DIMENSION_MATERIALS) gson.toJson(entry, entry.getClass(), jsonWriter);
+                for (Object entry : Dimensions.DIMENSIONS) gson.toJson(entry, entry.getClass(), jsonWriter);
+                jsonWriter.endArray();
+                jsonWriter.flush();
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            contentHash = hash.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Couldn't hash the RAA data files", e);
+        }
+        return contentHash;
+    }
+
+    private static File getCacheFile(Identifier id) {
+        return new File(CACHE_PATH, id.getNamespace() + "_" + id.getPath() + ".zip");
+    }
+
+    /**
+     * @return the resources of the cached pack, or null when there is none for the current content
+     */
+    private static Map<Identifier, String> read(Identifier id) {
+        File cacheFile = getCacheFile(id);
+        if (!cacheFile.exists()) return null;
+        try {
+            Map<Identifier, String> resources = read(cacheFile, getContentHash());
+            if (resources != null) {
+                RandomlyAddingAnything.LOGGER.info("Loaded pack \"" + id + "\" from the cache.");
+            }
+            return resources;
+        } catch (Exception e) {
+            RandomlyAddingAnything.LOGGER.warn("Couldn't read the cached pack \"" + cacheFile.toString() + "\", generating it again.");
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * @return the resources of the zip, or null when it was written for other content
+     */
+    static Map<Identifier, String> read(File cacheFile, String contentHash) throws IOException {
+        try (ZipFile zip = new ZipFile(cacheFile)) {
+            if (!contentHash.equals(zip.getComment())) return null;
+            Map<Identifier, String> resources = new LinkedHashMap<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                int separator = name.indexOf('/');
+                try (InputStream in = zip.getInputStream(entry)) {
+                    resources.put(new Identifier(name.substring(0, separator), name.substring(separator + 1)), new String(readFully(in), StandardCharsets.UTF_8));
+                }
+            }
+            return resources;
+        }
+    }
+
+    private static void write(Identifier id, ArtificeResourcePack pack, ResourceType type) {
+        File cacheFile = getCacheFile(id);
+        try {
+            CACHE_PATH.mkdirs();
+            write(cacheFile, pack, type, getContentHash());
+        } catch (IOException e) {
+            RandomlyAddingAnything.LOGGER.warn("Couldn't cache the pack \"" + id + "\".");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes the resources of the pack to the zip, failing when one of them isn't UTF-8 text.
+     */
+    static void write(File cacheFile, ArtificeResourcePack pack, ResourceType type, String contentHash) throws IOException {
+        File tempFile = new File(cacheFile.getPath() + ".tmp");
+        try {
+            // sorted, so the same pack always gives the same zip
+            Map<String, Identifier> resources = new TreeMap<>();
+            for (String namespace : pack.getNamespaces(type)) {
+                for (Identifier resource : pack.findResources(type, namespace, "", Integer.MAX_VALUE, path -> true)) {
+                    resources.put(resource.getNamespace() + "/" + resource.getPath(), resource);
+                }
+            }
+
+            try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(tempFile))) {
+                zip.setComment(contentHash);
+                for (Map.Entry<String, Identifier> resource : resources.entrySet()) {
+                    byte[] content;
+                    try (InputStream in = pack.open(type, resource.getValue())) {
+                        content = readFully(in);
+                    }
+                    try {
+                        StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content));
+                    } catch (CharacterCodingException e) {
+                        throw new IOException("The resource \"" + resource.getValue() + "\" isn't UTF-8 text, which is all the cache keeps.", e);
+                    }
+                    ZipEntry entry = new ZipEntry(resource.getKey());
+                    entry.setTime(0);
+                    zip.putNextEntry(entry);
+                    zip.write(content);
+                    zip.closeEntry();
+                }
+            }
+            Utils.moveAtomically(tempFile, cacheFile);
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
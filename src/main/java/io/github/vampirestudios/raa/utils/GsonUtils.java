@@ -39,6 +39,7 @@ public class GsonUtils {
                     }
                 })
                 .registerTypeAdapter(OreFeatureConfig.Target.class, new OreFeatureTargetTypeAdapter())
+                .registerTypeAdapterFactory(new StringKeyMapTypeAdapterFactory())
                 .serializeNulls()
                 .setPrettyPrinting()
                 .create();
@@ -13,35 +13,67 @@ public class Rands {
     }
 
     public static int randInt(int bound) {
-        return rand.nextInt(bound);
+        return randInt(rand, bound);
+    }
+
+    public static int randInt(Random random, int bound) {
+        return random.nextInt(bound);
     }
 
     public static int randIntRange(int min, int max) {
-        return rand.nextInt((max - min) + 1) + min;
+        return randIntRange(rand, min, max);
+    }
+
+    public static int randIntRange(Random random, int min, int max) {
+        return random.nextInt((max - min) + 1) + min;
     }
 
     public static float randFloatRange(float min, float max) {
-        return min + rand.nextFloat() * (max - min);
+        return randFloatRange(rand, min, max);
+    }
+
+    public static float randFloatRange(Random random, float min, float max) {
+        return min + random.nextFloat() * (max - min);
     }
 
     public static float randFloat(float bound) {
-        return ((float) rand.nextInt((int) (bound * 10) + 1)) / 10;
+        return randFloat(rand, bound);
+    }
+
+    public static float randFloat(Random random, float bound) {
+        return ((float) random.nextInt((int) (bound * 10) + 1)) / 10;
     }
 
     public static Color randColor() {
-        return new Color(rand.nextInt(256), rand.nextInt(256), rand.nextInt(256));
+        return randColor(rand);
+    }
+
+    public static Color randColor(Random random) {
+        return new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
     }
 
     public static boolean chance(int bound) {
-        return randInt(bound) == 0;
+        return chance(rand, bound);
+    }
+
+    public static boolean chance(Random random, int bound) {
+        return randInt(random, bound) == 0;
     }
 
     public static <O extends Object> O values(O[] values) {
-        return values[randInt(values.length)];
+        return values(rand, values);
+    }
+
+    public static <O extends Object> O values(Random random, O[] values) {
+        return values[randInt(random, values.length)];
     }
 
     public static <O extends Object> O list(List<O> list) {
-        return list.get(randInt(list.size()));
+        return list(rand, list);
+    }
+
+    public static <O extends Object> O list(Random random, List<O> list) {
+        return list.get(randInt(random, list.size()));
     }
 
     public static <O extends Object> List<O> lists(List<O> list, List<O> list2) {
@@ -51,7 +83,11 @@ public class Rands {
     }
 
     public static <K, V extends Object> Map.Entry<K, V> map(Map<K, V> map) {
+        return map(rand, map);
+    }
+
+    public static <K, V extends Object> Map.Entry<K, V> map(Random random, Map<K, V> map) {
         Set<Map.Entry<K, V>> entry = map.entrySet();
-        return new ArrayList<>(entry).get(randInt(entry.size()));
+        return new ArrayList<>(entry).get(randInt(random, entry.size()));
     }
 }
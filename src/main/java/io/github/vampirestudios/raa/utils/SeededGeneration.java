@@ -0,0 +1,111 @@
+package io.github.vampirestudios.raa.utils;
+
+import io.github.vampirestudios.raa.api.namegeneration.INameGenerator;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates startup content in parallel while keeping the result independent of the thread count.
+ *
+ * <p>Every generated element gets its own random, derived from the master seed, the kind of content and its index,
+ * which is handed to the generator along with the index. Anything that depends on other elements, like making names
+ * unique, is done afterwards in index order.</p>
+ */
+public class SeededGeneration {
+    private static long masterSeed;
+    private static int threads = 1;
+
+    private final long seed;
+
+    private SeededGeneration(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param content the kind of content, so materials and dimensions of the same index do not share a random
+     */
+    public static SeededGeneration create(String content) {
+        return new SeededGeneration(WorldgenRandom.mix64(getMasterSeed() ^ WorldgenRandom.hash(content)));
+    }
+
+    /**
+     * Called with the values from the config before anything is generated.
+     *
+     * @param seed    the master seed, 0 picks a new one
+     * @param threads the size of the generation pool, 0 uses every available processor
+     */
+    public static synchronized void setup(long seed, int threads) {
+        masterSeed = seed != 0 ? seed : new Random().nextLong();
+        SeededGeneration.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public static synchronized long getMasterSeed() {
+        return masterSeed;
+    }
+
+    public Random random(int index, int stream) {
+        return new Random(WorldgenRandom.mix64(WorldgenRandom.mix64(this.seed + index) ^ stream));
+    }
+
+    /**
+     * Generates {@code count} elements on the generation pool, returned in index order.
+     */
+    public <T> List<T> generate(int count, ElementGenerator<T> generator) {
+        return this.generate(count, index -> this.random(index, 0), generator);
+    }
+
+    /**
+     * Generates {@code count} names and makes them unique against {@code presentIds} and each other. Collisions are
+     * resolved in index order by rolling the colliding index again, so the same names win no matter which thread came
+     * first. Names that keep colliding get numbered.
+     */
+    public List<Pair<String, Identifier>> generateUnique(int count, Collection<Identifier> presentIds, ElementGenerator<Pair<String, Identifier>> generator) {
+        Random[] randoms = new Random[count];
+        List<Pair<String, Identifier>> names = this.generate(count, index -> randoms[index] = this.random(index, 1), generator);
+
+        List<Pair<String, Identifier>> unique = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Pair<String, Identifier> name = names.get(index);
+            int loops = 0;
+            while (presentIds.contains(name.getRight())) {
+                if (++loops > 50) {
+                    name = INameGenerator.numberName(name, presentIds);
+                    break;
+                }
+                name = generator.generate(index, randoms[index]);
+            }
+            presentIds.add(name.getRight());
+            unique.add(name);
+        }
+        return unique;
+    }
+
+    private <T> List<T> generate(int count, IntFunction<Random> randoms, ElementGenerator<T> generator) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // a parallel stream started from inside the pool runs on that pool
+            return pool.submit(() -> IntStream.range(0, count).parallel()
+                    .mapToObj(index -> generator.generate(index, randoms.apply(index)))
+                    .collect(Collectors.toList())).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ElementGenerator<T> {
+        /**
+         * @param random the random of this element, nothing else may draw from it
+         */
+        T generate(int index, Random random);
+    }
+}
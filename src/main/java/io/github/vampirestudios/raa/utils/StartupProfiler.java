@@ -0,0 +1,139 @@
+package io.github.vampirestudios.raa.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.github.vampirestudios.raa.RandomlyAddingAnything;
+import io.github.vampirestudios.raa.api.RAARegisteries;
+import io.github.vampirestudios.raa.config.RAADataConfig;
+import io.github.vampirestudios.raa.registries.Dimensions;
+import io.github.vampirestudios.raa.registries.Materials;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.MutableRegistry;
+import net.minecraft.util.registry.Registry;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Times the phases of the mod initialization and writes them to {@code config/raa/startup-profile.json}.
+ *
+ * <p>For every phase the wall time, the bytes allocated by the initializing thread and the entries it added to each
+ * registry are recorded. Allocations made on other threads, like the parallel material generation, are not counted.</p>
+ */
+public class StartupProfiler {
+    private static final File REPORT_FILE = new File(RAADataConfig.CONFIG_PATH, "startup-profile.json");
+
+    private final List<Phase> phases = new ArrayList<>();
+    private final long startTime = System.nanoTime();
+
+    public void run(String name, Runnable phase) {
+        Map<String, Integer> entriesBefore = countRegistryEntries();
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+
+        phase.run();
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long allocatedAfter = getAllocatedBytes();
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+
+        Map<String, Integer> addedEntries = new LinkedHashMap<>();
+        countRegistryEntries().forEach((registry, count) -> {
+            int added = count - entriesBefore.getOrDefault(registry, 0);
+            if (added != 0) addedEntries.put(registry, added);
+        });
+        this.phases.add(new Phase(name, millis, allocated, addedEntries));
+    }
+
+    /**
+     * Writes the report, then fails the startup when budgets are enforced and a phase went over its budget.
+     */
+    public void finish() {
+        Map<String, Long> budgets = RandomlyAddingAnything.CONFIG.startupPhaseBudgetsMillis;
+        JsonObject report = new JsonObject();
+        report.addProperty("totalMillis", (System.nanoTime() - this.startTime) / 1_000_000);
+        JsonArray phasesJson = new JsonArray();
+        List<String> overBudget = new ArrayList<>();
+        for (Phase phase : this.phases) {
+            JsonObject phaseJson = new JsonObject();
+            phaseJson.addProperty("name", phase.name);
+            phaseJson.addProperty("millis", phase.millis);
+            phaseJson.addProperty("allocatedBytes", phase.allocatedBytes);
+            long budget = budgets != null ? budgets.getOrDefault(phase.name, 0L) : 0;
+            if (budget > 0) phaseJson.addProperty("budgetMillis", budget);
+            JsonObject entriesJson = new JsonObject();
+            phase.addedEntries.forEach(entriesJson::addProperty);
+            phaseJson.add("registryEntriesAdded", entriesJson);
+            phasesJson.add(phaseJson);
+            if (budget > 0 && phase.millis > budget) {
+                overBudget.add(phase.name + " (" + phase.millis + " of " + budget + " ms)");
+            }
+        }
+        report.add("phases", phasesJson);
+
+        try {
+            REPORT_FILE.getParentFile().mkdirs();
+            try (Writer writer = new FileWriter(REPORT_FILE, false)) {
+                GsonUtils.getGson().toJson(report, writer);
+            }
+        } catch (IOException e) {
+            RandomlyAddingAnything.LOGGER.warn("Couldn't write the startup profile to \"" + REPORT_FILE.toString() + "\".");
+            e.printStackTrace();
+        }
+
+        if (!overBudget.isEmpty()) {
+            String message = "RAA startup phases over their budget: " + String.join(", ", overBudget);
+            if (RandomlyAddingAnything.CONFIG.failOnStartupBudget) {
+                throw new IllegalStateException(message);
+            }
+            RandomlyAddingAnything.LOGGER.warn(message);
+        }
+    }
+
+    private static Map<String, Integer> countRegistryEntries() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (MutableRegistry<?> registry : Registry.REGISTRIES) {
+            Identifier id = Registry.REGISTRIES.getId(registry);
+            counts.put(String.valueOf(id), registry.getIds().size());
+        }
+        // our own registries are not part of the root registry
+        counts.put(RandomlyAddingAnything.MOD_ID + ":ore_targets", RAARegisteries.TARGET_REGISTRY.getIds().size());
+        counts.put(RandomlyAddingAnything.MOD_ID + ":materials", Materials.MATERIALS.getIds().size());
+        counts.put(RandomlyAddingAnything.MOD_ID + ":dimension_materials", Materials.DIMENSION_MATERIALS.getIds().size());
+        counts.put(RandomlyAddingAnything.MOD_ID + ":dimensions", Dimensions.DIMENSIONS.getIds().size());
+        return counts;
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static class Phase {
+        private final String name;
+        private final long millis;
+        private final long allocatedBytes;
+        private final Map<String, Integer> addedEntries;
+
+        private Phase(String name, long millis, long allocatedBytes, Map<String, Integer> addedEntries) {
+            this.name = name;
+            this.millis = millis;
+            this.allocatedBytes = allocatedBytes;
+            this.addedEntries = addedEntries;
+        }
+    }
+}
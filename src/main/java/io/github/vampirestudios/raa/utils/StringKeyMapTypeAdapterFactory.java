@@ -0,0 +1,76 @@
+package io.github.vampirestudios.raa.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes maps with string keys as plain json objects.
+ *
+ * <p>Gson's own map adapter reads keys through reader internals that only work for its text and tree readers, this one
+ * only uses {@link JsonReader#nextName()}, so the binary data files can hold maps too. The json it writes is the same.</p>
+ */
+public class StringKeyMapTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class<? super T> rawType = typeToken.getRawType();
+        if (rawType != Map.class && rawType != HashMap.class || !(typeToken.getType() instanceof ParameterizedType)) return null;
+
+        Type[] keyAndValueTypes = ((ParameterizedType) typeToken.getType()).getActualTypeArguments();
+        if (keyAndValueTypes[0] != String.class) return null;
+
+        TypeAdapter<?> valueAdapter = gson.getAdapter(TypeToken.get(keyAndValueTypes[1]));
+        return (TypeAdapter<T>) new Adapter<>(valueAdapter);
+    }
+
+    private static class Adapter<V> extends TypeAdapter<Map<String, V>> {
+        private final TypeAdapter<V> valueAdapter;
+
+        private Adapter(TypeAdapter<V> valueAdapter) {
+            this.valueAdapter = valueAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Map<String, V> value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            for (Map.Entry<String, V> entry : value.entrySet()) {
+                out.name(entry.getKey());
+                this.valueAdapter.write(out, entry.getValue());
+            }
+            out.endObject();
+        }
+
+        @Override
+        public Map<String, V> read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Map<String, V> map = new LinkedHashMap<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                String key = in.nextName();
+                map.put(key, this.valueAdapter.read(in));
+            }
+            in.endObject();
+            return map;
+        }
+    }
+}
@@ -8,8 +8,14 @@ import net.minecraft.util.Identifier;
 import net.minecraft.world.gen.surfacebuilder.SurfaceBuilder;
 import net.minecraft.world.gen.surfacebuilder.TernarySurfaceConfig;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 
 public class Utils {
     //dimension bit flags
@@ -49,7 +55,7 @@ public class Utils {
         return new Identifier(identifier.getNamespace(), prefix + identifier.getPath() + suffix);
     }
 
-    public static SurfaceBuilder<TernarySurfaceConfig> randomSurfaceBuilder(int chance, DimensionData data) {
+    public static SurfaceBuilder<TernarySurfaceConfig> randomSurfaceBuilder(int chance, DimensionData data, Random random) {
         //30% default
         //10% all others
 
@@ -58,14 +64,14 @@ public class Utils {
             if (chance > 20 && chance <= 30) return SurfaceBuilders.HYPER_FLAT;
             if (chance > 30 && chance <= 40) return SurfaceBuilders.PATCHY_DESERT;
             if (chance > 40 && chance <= 50) {
-                if(Rands.chance(4)) return SurfaceBuilders.DARK_PATCHY_BADLANDS;
+                if(Rands.chance(random, 4)) return SurfaceBuilders.DARK_PATCHY_BADLANDS;
                 else return SurfaceBuilders.PATCHY_BADLANDS;
             }
             if (chance > 50 && chance <= 60) return SurfaceBuilders.CLASSIC_CLIFFS;
             if (chance > 60 && chance <= 70) return SurfaceBuilders.STRATIFIED_CLIFFS;
             if (chance > 70 && chance <= 80) return SurfaceBuilders.FLOATING_ISLANDS;
             if (chance > 80 && chance <= 90 && FabricLoader.getInstance().isModLoaded("simplexterrain")) {
-                if(Rands.chance(10)) return SurfaceBuilders.SANDY_DUNES;
+                if(Rands.chance(random, 10)) return SurfaceBuilders.SANDY_DUNES;
                 else return SurfaceBuilders.DUNES;
             }
             if (chance > 90 && chance <= 100) return SurfaceBuilders.LAZY_NOISE;
@@ -108,4 +114,16 @@ public class Utils {
     public static double dist(double x1, double y1, double x2, double y2) {
         return Math.sqrt(Math.pow(x2 - x1, 2) + Math.pow(y2 - y1, 2));
     }
+
+    /**
+     * Replaces {@code target} by {@code source} in one step where the file system allows it, so readers never see a
+     * half written file.
+     */
+    public static void moveAtomically(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 }
@@ -227,7 +227,7 @@ public class WorldStructureManipulation {
         //world.setBlockState(pos, StructurePiece.method_14916(world, pos, Blocks.CHEST.getDefaultState().with(Properties.HORIZONTAL_FACING, Direction.valueOf(dir)).with(Properties.WATERLOGGED, properties.get("waterlogged").equals("TRUE"))), 2);
     }
 
-    public static void spawnEntity(IWorld world, BlockPos pos, String entity, float rotation) {
+    public static void spawnEntity(IWorld world, WorldgenRandom rand, BlockPos pos, String entity, float rotation) {
         if (entity.equals("minecraft:armor_stand")) {
             Entity armorStand = EntityType.ARMOR_STAND.create(world.getWorld());
 
@@ -261,10 +261,10 @@ public class WorldStructureManipulation {
             );
             Objects.requireNonNull(armorStand).setPositionAndAngles(pos, rotation, 0f);
             world.spawnEntity(armorStand);
-            armorStand.equipStack(EquipmentSlot.HEAD, Rands.list(helmets));
-            armorStand.equipStack(EquipmentSlot.CHEST, Rands.list(chestplates));
-            armorStand.equipStack(EquipmentSlot.LEGS, Rands.list(leggings));
-            armorStand.equipStack(EquipmentSlot.FEET, Rands.list(boots));
+            armorStand.equipStack(EquipmentSlot.HEAD, rand.pick(helmets));
+            armorStand.equipStack(EquipmentSlot.CHEST, rand.pick(chestplates));
+            armorStand.equipStack(EquipmentSlot.LEGS, rand.pick(leggings));
+            armorStand.equipStack(EquipmentSlot.FEET, rand.pick(boots));
         }
     }
 
@@ -0,0 +1,115 @@
+package io.github.vampirestudios.raa.utils;
+
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.IWorld;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random source for world generation, seeded from the world seed, the dimension, the chunk and a per use salt.
+ *
+ * <p>Unlike {@link Rands}, which is shared by everything and only meant for generating content at startup, every
+ * feature, surface builder and generator gets its own instance, so the same chunk always comes out the same no matter
+ * which thread generates it or in which order. Dimensions are told apart by their identifier, never by their raw id,
+ * which depends on the order the mods register them in. It is a SplitMix64 generator and is not thread safe.</p>
+ */
+public class WorldgenRandom extends Random {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public WorldgenRandom(long seed) {
+        super(seed);
+    }
+
+    public static WorldgenRandom forChunk(long worldSeed, Identifier dimension, int chunkX, int chunkZ, long salt) {
+        long seed = mix64(worldSeed + GOLDEN_GAMMA);
+        seed = mix64(seed ^ hash(dimension.toString()));
+        seed = mix64(seed ^ ChunkPos.toLong(chunkX, chunkZ));
+        return new WorldgenRandom(mix64(seed ^ salt));
+    }
+
+    /**
+     * For the settings of a whole dimension, like the shape of its terrain.
+     */
+    public static WorldgenRandom forDimension(IWorld world, String salt) {
+        return forChunk(world.getSeed(), Registry.DIMENSION.getId(world.getDimension().getType()), 0, 0, hash(salt));
+    }
+
+    /**
+     * Features are handed a random the decorator already seeded from the world seed, the chunk and the feature, and
+     * advanced for every placement in the chunk, so it only needs to be wrapped.
+     */
+    public static WorldgenRandom forFeature(Random decoratorRandom) {
+        return new WorldgenRandom(mix64(decoratorRandom.nextLong()));
+    }
+
+    /**
+     * @return an independent generator derived from the next value of this one
+     */
+    public WorldgenRandom split() {
+        return new WorldgenRandom(mix64(this.nextLong()));
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        super.setSeed(seed);
+        this.state = seed;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (this.nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(this.state += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (this.nextLong() >>> 32);
+    }
+
+    public int nextIntRange(int min, int max) {
+        return this.nextInt((max - min) + 1) + min;
+    }
+
+    public float nextFloatRange(float min, float max) {
+        return min + this.nextFloat() * (max - min);
+    }
+
+    public boolean chance(int bound) {
+        return this.nextInt(bound) == 0;
+    }
+
+    public <O> O pick(O[] values) {
+        return values[this.nextInt(values.length)];
+    }
+
+    public <O> O pick(List<O> list) {
+        return list.get(this.nextInt(list.size()));
+    }
+
+    /**
+     * 64 bit FNV-1a, so salts and identifiers don't depend on {@link String#hashCode()} collisions.
+     */
+    static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
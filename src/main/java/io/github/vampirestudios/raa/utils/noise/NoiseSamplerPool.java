@@ -0,0 +1,171 @@
+package io.github.vampirestudios.raa.utils.noise;
+
+import io.github.vampirestudios.raa.RandomlyAddingAnything;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Shares the noise samplers of chunk generators between dimensions.
+ *
+ * <p>Every dimension gets the world seed, so generators of the same type and settings build the exact same samplers.
+ * A generator builds its samplers one after the other from a single random, so they are pooled together as one set
+ * keyed by everything that went into that random. The samplers only read their permutation tables after they are
+ * built, which makes sharing them between dimensions and threads safe.</p>
+ *
+ * <p>Sets are kept until {@link #clear()} is called when the server stops, as the generators only keep the samplers
+ * and not the set, so nothing else would tell when one is no longer used. Keys hold the seed, so sets of a world left
+ * behind would otherwise stay around for the rest of the session.</p>
+ */
+public final class NoiseSamplerPool {
+    // rough retained size of one octave with a byte[256] and with an int[512] permutation table
+    private static final long BYTE_TABLE_OCTAVE_BYTES = 312;
+    private static final long INT_TABLE_OCTAVE_BYTES = 2104;
+
+    private static final Map<Key, Object> SAMPLERS = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong RETAINED_BYTES = new AtomicLong();
+    private static volatile boolean logMisses;
+
+    private NoiseSamplerPool() {
+    }
+
+    /**
+     * Called with the value from the config, so building a generator doesn't need the mod to be initialized.
+     */
+    public static void setup(boolean debug) {
+        logMisses = debug;
+    }
+
+    /**
+     * Drops every set, the generators built so far keep theirs and the next ones build new ones.
+     */
+    public static void clear() {
+        SAMPLERS.clear();
+        RETAINED_BYTES.set(0);
+    }
+
+    public static Key key(String type, long seed) {
+        return new Key(type, seed);
+    }
+
+    /**
+     * @param factory builds the samplers on a miss, it must only depend on what the key describes
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(Key key, Supplier<T> factory) {
+        Object samplers = SAMPLERS.get(key);
+        if (samplers != null) {
+            HITS.incrementAndGet();
+            return (T) samplers;
+        }
+        boolean[] created = new boolean[1];
+        samplers = SAMPLERS.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return factory.get();
+        });
+        if (created[0]) {
+            MISSES.incrementAndGet();
+            RETAINED_BYTES.addAndGet(key.retainedBytes);
+            if (logMisses) logMetrics();
+        } else {
+            HITS.incrementAndGet();
+        }
+        return (T) samplers;
+    }
+
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    public static long getRetainedBytes() {
+        return RETAINED_BYTES.get();
+    }
+
+    public static void logMetrics() {
+        RandomlyAddingAnything.LOGGER.info(String.format("Noise sampler pool: %d sets, %d hits, %d misses, about %d KB retained",
+                SAMPLERS.size(), getHits(), getMisses(), getRetainedBytes() / 1024));
+    }
+
+    public static final class Key {
+        private final String type;
+        private final long seed;
+        private final List<Object> layout = new ArrayList<>();
+        private long retainedBytes;
+        private int hash;
+
+        private Key(String type, long seed) {
+            this.type = type;
+            this.seed = seed;
+        }
+
+        /**
+         * Values consumed from the random before the samplers are built.
+         */
+        public Key consumed(int count) {
+            this.layout.add("consumed");
+            this.layout.add(count);
+            return this;
+        }
+
+        /**
+         * A vanilla octave perlin sampler with the octaves from {@code -start} to {@code end}.
+         */
+        public Key perlin(int start, int end) {
+            this.retainedBytes += (start + end + 1) * BYTE_TABLE_OCTAVE_BYTES;
+            this.layout.add("perlin");
+            this.layout.add(start);
+            this.layout.add(end);
+            return this;
+        }
+
+        /**
+         * A vanilla octave simplex sampler with the octaves from {@code -start} to {@code end}.
+         */
+        public Key simplex(int start, int end) {
+            this.retainedBytes += (start + end + 1) * INT_TABLE_OCTAVE_BYTES;
+            this.layout.add("simplex");
+            this.layout.add(start);
+            this.layout.add(end);
+            return this;
+        }
+
+        /**
+         * Samplers of other libraries, the parameters are everything besides the random passed to their constructor.
+         */
+        public Key octaves(String sampler, int octaves, double... parameters) {
+            this.retainedBytes += octaves * INT_TABLE_OCTAVE_BYTES;
+            this.layout.add(sampler);
+            this.layout.add(octaves);
+            for (double parameter : parameters) {
+                this.layout.add(parameter);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return this.seed == key.seed && this.type.equals(key.type) && this.layout.equals(key.layout);
+        }
+
+        @Override
+        public int hashCode() {
+            if (this.hash == 0) {
+                this.hash = (this.type.hashCode() * 31 + Long.hashCode(this.seed)) * 31 + this.layout.hashCode();
+            }
+            return this.hash;
+        }
+    }
+}
@@ -23,24 +23,22 @@
  */
 package io.github.vampirestudios.raa.utils.noise;
 
-import java.util.Queue;
-import java.util.LinkedList;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.Arrays;
 
 public class SuperSimplexNoise {
 	
 	private static final int PSIZE = 2048;
 	private static final int PMASK = 2047;
 
+	// Gradients are stored flat with interleaved components, already permuted: gradient i starts at i * 2 (2D) or i * 3 (3D).
 	private short[] perm;
-	private Grad2[] permGrad2;
-	private Grad3[] permGrad3;
+	private double[] permGrad2;
+	private double[] permGrad3;
 
 	public SuperSimplexNoise(long seed) {
 		perm = new short[PSIZE];
-		permGrad2 = new Grad2[PSIZE];
-		permGrad3 = new Grad3[PSIZE];
+		permGrad2 = new double[PSIZE * 2];
+		permGrad3 = new double[PSIZE * 3];
 		short[] source = new short[PSIZE]; 
 		for (short i = 0; i < PSIZE; i++)
 			source[i] = i;
@@ -50,8 +48,8 @@ public class SuperSimplexNoise {
 			if (r < 0)
 				r += (i + 1);
 			perm[i] = source[r];
-			permGrad2[i] = GRADIENTS_2D[perm[i]];
-			permGrad3[i] = GRADIENTS_3D[perm[i]];
+			System.arraycopy(GRADIENTS_2D, perm[i] * 2, permGrad2, i * 2, 2);
+			System.arraycopy(GRADIENTS_3D, perm[i] * 3, permGrad3, i * 3, 3);
 			source[r] = source[i];
 		}
 	}
@@ -94,8 +92,8 @@ public class SuperSimplexNoise {
 			if (attn <= 0) continue;
 
 			int pxm = (xsb + c.xsv) & PMASK, pym = (ysb + c.ysv) & PMASK;
-			Grad2 grad = permGrad2[perm[pxm] ^ pym];
-			double extrapolation = grad.dx * dx + grad.dy * dy;
+			int grad = (perm[pxm] ^ pym) << 1;
+			double extrapolation = permGrad2[grad] * dx + permGrad2[grad + 1] * dy;
 			
 			attn *= attn;
 			value += attn * attn * extrapolation;
@@ -170,8 +168,8 @@ public class SuperSimplexNoise {
 				c = c.nextOnFailure;
 			} else {
 				int pxm = (xrb + c.xrv) & PMASK, pym = (yrb + c.yrv) & PMASK, pzm = (zrb + c.zrv) & PMASK;
-				Grad3 grad = permGrad3[perm[perm[pxm] ^ pym] ^ pzm];
-				double extrapolation = grad.dx * dxr + grad.dy * dyr + grad.dz * dzr;
+				int grad = (perm[perm[pxm] ^ pym] ^ pzm) * 3;
+				double extrapolation = permGrad3[grad] * dxr + permGrad3[grad + 1] * dyr + permGrad3[grad + 2] * dzr;
 				
 				attn *= attn;
 				value += attn * attn * extrapolation;
@@ -202,9 +200,55 @@ public class SuperSimplexNoise {
 	 * Results may occasionally slightly exceed [-1, 1] due to the grid-snapped pre-generated kernel.
 	 */
 	public void generate2(GenerateContext2D context, double[][] buffer, int x0, int y0, int width, int height, int skipX, int skipY) {
-		Queue<AreaGenLatticePoint2D> queue = new LinkedList<AreaGenLatticePoint2D>();
-		Set<AreaGenLatticePoint2D> seen = new HashSet<AreaGenLatticePoint2D>();
-		
+		generateArea2(context, null, buffer, x0, y0, width, height, skipX, skipY);
+	}
+	
+	/**
+	 * Fill a caller-provided buffer with the 2D noise of a width * height grid, indexed as [y * width + x].
+	 * Meant for chunk sized grids (16x16), where the buffer can be reused between calls.
+	 */
+	public void fill2(GenerateContext2D context, double[] buffer, int x0, int y0, int width, int height) {
+		Arrays.fill(buffer, 0, width * height, 0.0);
+		generateArea2(context, buffer, null, x0, y0, width, height, 0, 0);
+	}
+	
+	/**
+	 * Generate the 3D noise over a large area/volume.
+	 * Propagates by flood-fill instead of iterating over a range.
+	 * Results may occasionally slightly exceed [-1, 1] due to the grid-snapped pre-generated kernel.
+	 */
+	public void generate3(GenerateContext3D context, double[][][] buffer, int x0, int y0, int z0) {
+		int depth = buffer.length;
+		int height = buffer[0].length;
+		int width = buffer[0][0].length;
+		generate3(context, buffer, x0, y0, z0, width, height, depth, 0, 0, 0);
+	}
+	
+	/**
+	 * Generate the 3D noise over a large area/volume.
+	 * Propagates by flood-fill instead of iterating over a range.
+	 * Results may occasionally slightly exceed [-1, 1] due to the grid-snapped pre-generated kernel.
+	 */
+	public void generate3(GenerateContext3D context, double[][][] buffer, int x0, int y0, int z0, int width, int height, int depth, int skipX, int skipY, int skipZ) {
+		generateArea3(context, null, buffer, x0, y0, z0, width, height, depth, skipX, skipY, skipZ);
+	}
+	
+	/**
+	 * Fill a caller-provided buffer with the 3D noise of a width * height * depth grid, indexed as [(z * height + y) * width + x].
+	 * Meant for chunk sized grids (16x16x16), where the buffer can be reused between calls.
+	 */
+	public void fill3(GenerateContext3D context, double[] buffer, int x0, int y0, int z0, int width, int height, int depth) {
+		Arrays.fill(buffer, 0, width * height * depth, 0.0);
+		generateArea3(context, buffer, null, x0, y0, z0, width, height, depth, 0, 0, 0);
+	}
+	
+	/**
+	 * Flood-fill over the lattice points whose kernel reaches the buffer region.
+	 * Points are tracked by their index in a flat, region-sized bitmap, and queued as plain ints.
+	 * The queue is processed in the same order as a FIFO of point objects would be.
+	 * Writes into the flat buffer, or into the rows of the nested one when the flat buffer is null.
+	 */
+	private void generateArea2(GenerateContext2D context, double[] buffer, double[][] rows, int x0, int y0, int width, int height, int skipX, int skipY) {
 		int scaledRadiusX = context.scaledRadiusX;
 		int scaledRadiusY = context.scaledRadiusY;
 		double[][] kernel;
@@ -221,6 +265,24 @@ public class SuperSimplexNoise {
 			kernel[2 * scaledRadiusY - yy - 1] = kernel[yy] = context.kernel[yy].clone();
 		}
 		
+		// Skewed lattice bounds of every point whose destination can pass the range check below.
+		// The skew is linear, so the corners of the (one unit larger) destination box give the extremes.
+		double minXs = Double.POSITIVE_INFINITY, maxXs = Double.NEGATIVE_INFINITY;
+		double minYs = Double.POSITIVE_INFINITY, maxYs = Double.NEGATIVE_INFINITY;
+		for (int corner = 0; corner < 4; corner++) {
+			double xf = ((corner & 1) == 0 ? x0Skipped - scaledRadiusX - 1 : x0 + width + scaledRadiusX) * context.xFrequency;
+			double yf = ((corner & 2) == 0 ? y0Skipped - scaledRadiusY - 1 : y0 + height + scaledRadiusY) * context.yFrequency;
+			double s = 0.366025403784439 * (xf + yf);
+			minXs = Math.min(minXs, xf + s); maxXs = Math.max(maxXs, xf + s);
+			minYs = Math.min(minYs, yf + s); maxYs = Math.max(maxYs, yf + s);
+		}
+		int latticeX0 = fastFloor(minXs) - 1, latticeY0 = fastFloor(minYs) - 1;
+		int latticeWidth = fastFloor(maxXs) + 2 - latticeX0 + 1;
+		int latticeHeight = fastFloor(maxYs) + 2 - latticeY0 + 1;
+		long[] seen = new long[(latticeWidth * latticeHeight + 63) >> 6];
+		int[] queue = new int[latticeWidth * latticeHeight];
+		int head = 0, tail = 0;
+		
 		// Get started with one point/vertex.
 		// For some lattices, you might need to try a handful of points in the cell,
 		// or flip a couple of coordinates, to guarantee it or a neighbor contributes.
@@ -229,15 +291,22 @@ public class SuperSimplexNoise {
 		double s0 = 0.366025403784439 * (x0f + y0f);
 		double x0s = (x0f + s0), y0s = (y0f + s0);
 		int x0sb = fastFloor(x0s), y0sb = fastFloor(y0s);
-		AreaGenLatticePoint2D firstPoint = new AreaGenLatticePoint2D(context, x0sb, y0sb);
-		firstPoint.computeGradient(context, this);
-		queue.add(firstPoint);
-		seen.add(firstPoint);
-		
-		while (!queue.isEmpty()) {
-			AreaGenLatticePoint2D point = queue.remove();
-			int destPointX = point.destPointX;
-			int destPointY = point.destPointY;
+		int first = (y0sb - latticeY0) * latticeWidth + (x0sb - latticeX0);
+		queue[tail++] = first;
+		seen[first >> 6] |= 1L << first;
+		
+		while (head < tail) {
+			int point = queue[head++];
+			int xsv = point % latticeWidth + latticeX0;
+			int ysv = point / latticeWidth + latticeY0;
+			double ssv = (xsv + ysv) * -0.211324865405187;
+			int destPointX = (int)Math.ceil((xsv + ssv) * context.xFrequencyInverse);
+			int destPointY = (int)Math.ceil((ysv + ssv) * context.yFrequencyInverse);
+			
+			int grad = (perm[xsv & PMASK] ^ (ysv & PMASK)) << 1;
+			double gx = permGrad2[grad] * context.xFrequency;
+			double gy = permGrad2[grad + 1] * context.yFrequency;
+			double gOff = 0.5 * (gx + gy); // to correct for (0.5, 0.5)-offset kernel
 			
 			// Contribution kernel bounds
 			int yy0 = destPointY - scaledRadiusY; if (yy0 < y0Skipped) yy0 = y0Skipped;
@@ -247,6 +316,8 @@ public class SuperSimplexNoise {
 			for (int yy = yy0; yy < yy1; yy++) {
 				int dy = yy - destPointY;
 				int ky = dy + scaledRadiusY;
+				double[] target = buffer != null ? buffer : rows[yy - y0];
+				int row = buffer != null ? (yy - y0) * width - x0 : -x0;
 			
 				// Set up bounds so we only loop over what we need to
 				int thisScaledRadiusX = context.kernelBounds[ky];
@@ -260,56 +331,42 @@ public class SuperSimplexNoise {
 						
 					// gOff accounts for our choice to offset the pre-generated kernel by (0.5, 0.5) to avoid the zero center.
 					// I found almost no difference in performance using gOff vs not (under 1ns diff per value on my system)
-					double extrapolation = point.gx * dx + point.gy * dy + point.gOff;
-					buffer[yy - y0][xx - x0] += kernel[ky][kx] * extrapolation;
+					double extrapolation = gx * dx + gy * dy + gOff;
+					target[row + xx] += kernel[ky][kx] * extrapolation;
 					
 				}
 			}
 			
 			// For each neighbor of the point
 			for (int[] ints : NEIGHBOR_MAP_2D) {
-				AreaGenLatticePoint2D neighbor = new AreaGenLatticePoint2D(context,
-						point.xsv + ints[0], point.ysv + ints[1]);
+				int nxsv = xsv + ints[0], nysv = ysv + ints[1];
+				double nssv = (nxsv + nysv) * -0.211324865405187;
+				int nDestPointX = (int)Math.ceil((nxsv + nssv) * context.xFrequencyInverse);
+				int nDestPointY = (int)Math.ceil((nysv + nssv) * context.yFrequencyInverse);
 
-				// If it's in range of the buffer region and not seen before
-				if (neighbor.destPointX + scaledRadiusX >= x0Skipped && neighbor.destPointX - scaledRadiusX <= x0 + width - 1
-						&& neighbor.destPointY + scaledRadiusY >= y0Skipped && neighbor.destPointY - scaledRadiusY <= y0 + height - 1
-						&& !seen.contains(neighbor)) {
+				// If it's in range of the buffer region
+				if (nDestPointX + scaledRadiusX >= x0Skipped && nDestPointX - scaledRadiusX <= x0 + width - 1
+						&& nDestPointY + scaledRadiusY >= y0Skipped && nDestPointY - scaledRadiusY <= y0 + height - 1) {
+					int lx = nxsv - latticeX0, ly = nysv - latticeY0;
+					if (lx < 0 || ly < 0 || lx >= latticeWidth || ly >= latticeHeight) continue;
+					int neighbor = ly * latticeWidth + lx;
 
-					// Since we're actually going to use it, we need to compute its gradient.
-					neighbor.computeGradient(context, this);
-
-					// Add it to the queue so we can process it at some point
-					queue.add(neighbor);
-
-					// Add it to the set so we don't add it to the queue again
-					seen.add(neighbor);
+					// and not seen before, add it to the queue so we can process it at some point
+					if ((seen[neighbor >> 6] & (1L << neighbor)) == 0) {
+						seen[neighbor >> 6] |= 1L << neighbor;
+						queue[tail++] = neighbor;
+					}
 				}
 			}
 		}
 	}
 	
 	/**
-	 * Generate the 3D noise over a large area/volume.
-	 * Propagates by flood-fill instead of iterating over a range.
-	 * Results may occasionally slightly exceed [-1, 1] due to the grid-snapped pre-generated kernel.
+	 * Flood-fill over the lattice points whose kernel reaches the buffer volume.
+	 * Both half-lattices share one flat, region-sized bitmap; a point is queued as its int index in it.
+	 * Writes into the flat buffer, or into the rows of the nested one when the flat buffer is null.
 	 */
-	public void generate3(GenerateContext3D context, double[][][] buffer, int x0, int y0, int z0) {
-		int depth = buffer.length;
-		int height = buffer[0].length;
-		int width = buffer[0][0].length;
-		generate3(context, buffer, x0, y0, z0, width, height, depth, 0, 0, 0);
-	}
-	
-	/**
-	 * Generate the 3D noise over a large area/volume.
-	 * Propagates by flood-fill instead of iterating over a range.
-	 * Results may occasionally slightly exceed [-1, 1] due to the grid-snapped pre-generated kernel.
-	 */
-	public void generate3(GenerateContext3D context, double[][][] buffer, int x0, int y0, int z0, int width, int height, int depth, int skipX, int skipY, int skipZ) {
-		Queue<AreaGenLatticePoint3D> queue = new LinkedList<AreaGenLatticePoint3D>();
-		Set<AreaGenLatticePoint3D> seen = new HashSet<AreaGenLatticePoint3D>();
-		
+	private void generateArea3(GenerateContext3D context, double[] buffer, double[][][] rows, int x0, int y0, int z0, int width, int height, int depth, int skipX, int skipY, int skipZ) {
 		int scaledRadiusX = context.scaledRadiusX;
 		int scaledRadiusY = context.scaledRadiusY;
 		int scaledRadiusZ = context.scaledRadiusZ;
@@ -319,26 +376,68 @@ public class SuperSimplexNoise {
 		// Quaternion multiplication for rotation.
 		// https://blog.molecular-matters.com/2013/05/24/a-faster-quaternion-vector-multiplication/
 		double qx = context.qx, qy = context.qy, qz = context.qz, qw = context.qw;
-		double x0f = x0Skipped * context.xFrequency, y0f = y0Skipped * context.yFrequency, z0f = z0Skipped * context.zFrequency;
-		double tx = 2 * (qy * z0f - qz * y0f);
-		double ty = 2 * (qz * x0f - qx * z0f);
-		double tz = 2 * (qx * y0f - qy * x0f);
-		double x0r = x0f + qw * tx + (qy * tz - qz * ty);
-		double y0r = y0f + qw * ty + (qz * tx - qx * tz);
-		double z0r = z0f + qw * tz + (qx * ty - qy * tx);
 		
-		int x0rb = fastFloor(x0r), y0rb = fastFloor(y0r), z0rb = fastFloor(z0r);
+		// Rotated lattice bounds of every point whose destination can pass the range check below.
+		// The rotation is linear, so the corners of the (one unit larger) destination box give the extremes.
+		double minXr = Double.POSITIVE_INFINITY, maxXr = Double.NEGATIVE_INFINITY;
+		double minYr = Double.POSITIVE_INFINITY, maxYr = Double.NEGATIVE_INFINITY;
+		double minZr = Double.POSITIVE_INFINITY, maxZr = Double.NEGATIVE_INFINITY;
+		for (int corner = 0; corner < 8; corner++) {
+			double xf = ((corner & 1) == 0 ? x0Skipped - scaledRadiusX - 1 : x0 + width + scaledRadiusX) * context.xFrequency;
+			double yf = ((corner & 2) == 0 ? y0Skipped - scaledRadiusY - 1 : y0 + height + scaledRadiusY) * context.yFrequency;
+			double zf = ((corner & 4) == 0 ? z0Skipped - scaledRadiusZ - 1 : z0 + depth + scaledRadiusZ) * context.zFrequency;
+			double tx = 2 * (qy * zf - qz * yf);
+			double ty = 2 * (qz * xf - qx * zf);
+			double tz = 2 * (qx * yf - qy * xf);
+			double xr = xf + qw * tx + (qy * tz - qz * ty);
+			double yr = yf + qw * ty + (qz * tx - qx * tz);
+			double zr = zf + qw * tz + (qx * ty - qy * tx);
+			minXr = Math.min(minXr, xr); maxXr = Math.max(maxXr, xr);
+			minYr = Math.min(minYr, yr); maxYr = Math.max(maxYr, yr);
+			minZr = Math.min(minZr, zr); maxZr = Math.max(maxZr, zr);
+		}
 		
-		AreaGenLatticePoint3D firstPoint = new AreaGenLatticePoint3D(context, x0rb, y0rb, z0rb, 0);
-		firstPoint.computeGradient(context, this);
-		queue.add(firstPoint);
-		seen.add(firstPoint);
+		// Coordinates are stored without the 1024 offset of the second half-lattice, which gets its own plane.
+		int latticeX0 = fastFloor(minXr) - 1, latticeY0 = fastFloor(minYr) - 1, latticeZ0 = fastFloor(minZr) - 1;
+		int latticeWidth = fastFloor(maxXr) + 2 - latticeX0 + 1;
+		int latticeHeight = fastFloor(maxYr) + 2 - latticeY0 + 1;
+		int latticeDepth = fastFloor(maxZr) + 2 - latticeZ0 + 1;
+		int latticePlane = latticeWidth * latticeHeight * latticeDepth;
+		long[] seen = new long[(latticePlane * 2 + 63) >> 6];
+		int[] queue = new int[latticePlane * 2];
+		int head = 0, tail = 0;
 		
-		while (!queue.isEmpty()) {
-			AreaGenLatticePoint3D point = queue.remove();
-			int destPointX = point.destPointX;
-			int destPointY = point.destPointY;
-			int destPointZ = point.destPointZ;
+		double x0f = x0Skipped * context.xFrequency, y0f = y0Skipped * context.yFrequency, z0f = z0Skipped * context.zFrequency;
+		double tx0 = 2 * (qy * z0f - qz * y0f);
+		double ty0 = 2 * (qz * x0f - qx * z0f);
+		double tz0 = 2 * (qx * y0f - qy * x0f);
+		double x0r = x0f + qw * tx0 + (qy * tz0 - qz * ty0);
+		double y0r = y0f + qw * ty0 + (qz * tx0 - qx * tz0);
+		double z0r = z0f + qw * tz0 + (qx * ty0 - qy * tx0);
+		
+		int x0rb = fastFloor(x0r), y0rb = fastFloor(y0r), z0rb = fastFloor(z0r);
+		int first = ((z0rb - latticeZ0) * latticeHeight + (y0rb - latticeY0)) * latticeWidth + (x0rb - latticeX0);
+		queue[tail++] = first;
+		seen[first >> 6] |= 1L << first;
+		
+		int[] dest = new int[3];
+		while (head < tail) {
+			int point = queue[head++];
+			int lattice = point / latticePlane;
+			int local = point - lattice * latticePlane;
+			int xsv = local % latticeWidth + latticeX0 + lattice * 1024;
+			int ysv = (local / latticeWidth) % latticeHeight + latticeY0 + lattice * 1024;
+			int zsv = local / (latticeWidth * latticeHeight) + latticeZ0 + lattice * 1024;
+			computeDestPoint3(context, xsv, ysv, zsv, lattice, dest);
+			int destPointX = dest[0];
+			int destPointY = dest[1];
+			int destPointZ = dest[2];
+			
+			int grad = perm[perm[perm[xsv & PMASK] ^ (ysv & PMASK)] ^ (zsv & PMASK)] * 3;
+			double gx = context.gradients[grad] * context.xFrequency;
+			double gy = context.gradients[grad + 1] * context.yFrequency;
+			double gz = context.gradients[grad + 2] * context.zFrequency;
+			double gOff = 0.5 * (gx + gy + gz); // to correct for (0.5, 0.5, 0.5)-offset kernel
 			
 			// Contribution kernel bounds.
 			int zz0 = destPointZ - scaledRadiusZ; if (zz0 < z0Skipped) zz0 = z0Skipped;
@@ -358,6 +457,8 @@ public class SuperSimplexNoise {
 				for (int yy = yy0; yy < yy1; yy++) {
 					int dy = yy - destPointY;
 					int ky = dy + scaledRadiusY;
+					double[] target = buffer != null ? buffer : rows[zz - z0][yy - y0];
+					int row = buffer != null ? ((zz - z0) * height + (yy - y0)) * width - x0 : -x0;
 				
 					// Set up bounds so we only loop over what we need to
 					int thisScaledRadiusX = context.kernelBoundsX[kz][ky];
@@ -370,8 +471,8 @@ public class SuperSimplexNoise {
 						int kx = dx + scaledRadiusX;
 							
 						// gOff accounts for our choice to offset the pre-generated kernel by (0.5, 0.5, 0.5) to avoid the zero center.
-						double extrapolation = point.gx * dx + point.gy * dy + point.gz * dz + point.gOff;
-						buffer[zz - z0][yy - y0][xx - x0] += kernel[kz][ky][kx] * extrapolation;
+						double extrapolation = gx * dx + gy * dy + gz * dz + gOff;
+						target[row + xx] += kernel[kz][ky][kx] * extrapolation;
 						
 					}
 				}
@@ -379,29 +480,55 @@ public class SuperSimplexNoise {
 			
 			// For each neighbor of the point
 			for (int i = 0; i < NEIGHBOR_MAP_3D[0].length; i++) {
-				int l = point.lattice;
-				AreaGenLatticePoint3D neighbor = new AreaGenLatticePoint3D(context,
-						point.xsv + NEIGHBOR_MAP_3D[l][i][0], point.ysv + NEIGHBOR_MAP_3D[l][i][1], point.zsv + NEIGHBOR_MAP_3D[l][i][2], 1 ^ l);
+				int nxsv = xsv + NEIGHBOR_MAP_3D[lattice][i][0];
+				int nysv = ysv + NEIGHBOR_MAP_3D[lattice][i][1];
+				int nzsv = zsv + NEIGHBOR_MAP_3D[lattice][i][2];
+				int nLattice = 1 ^ lattice;
+				computeDestPoint3(context, nxsv, nysv, nzsv, nLattice, dest);
 						
-				// If it's in range of the buffer region and not seen before
-				if (neighbor.destPointX + scaledRadiusX >= x0Skipped && neighbor.destPointX - scaledRadiusX <= x0 + width - 1
-						&& neighbor.destPointY + scaledRadiusY >= y0Skipped && neighbor.destPointY - scaledRadiusY <= y0 + height - 1
-						&& neighbor.destPointZ + scaledRadiusZ >= z0Skipped && neighbor.destPointZ - scaledRadiusZ <= z0 + depth - 1
-						&& !seen.contains(neighbor)) {
+				// If it's in range of the buffer region
+				if (dest[0] + scaledRadiusX >= x0Skipped && dest[0] - scaledRadiusX <= x0 + width - 1
+						&& dest[1] + scaledRadiusY >= y0Skipped && dest[1] - scaledRadiusY <= y0 + height - 1
+						&& dest[2] + scaledRadiusZ >= z0Skipped && dest[2] - scaledRadiusZ <= z0 + depth - 1) {
+					int lx = nxsv - nLattice * 1024 - latticeX0;
+					int ly = nysv - nLattice * 1024 - latticeY0;
+					int lz = nzsv - nLattice * 1024 - latticeZ0;
+					if (lx < 0 || ly < 0 || lz < 0 || lx >= latticeWidth || ly >= latticeHeight || lz >= latticeDepth) continue;
+					int neighbor = nLattice * latticePlane + (lz * latticeHeight + ly) * latticeWidth + lx;
 					
-					// Since we're actually going to use it, we need to compute its gradient.
-					neighbor.computeGradient(context, this);
-					
-					// Add it to the queue so we can process it at some point
-					queue.add(neighbor);
-					
-					// Add it to the set so we don't add it to the queue again
-					seen.add(neighbor);
+					// and not seen before, add it to the queue so we can process it at some point
+					if ((seen[neighbor >> 6] & (1L << neighbor)) == 0) {
+						seen[neighbor >> 6] |= 1L << neighbor;
+						queue[tail++] = neighbor;
+					}
 				}
 			}
 		}
 	}
 	
+	/**
+	 * Inverse-rotates a 3D lattice point back into buffer space, writing its destination into dest.
+	 */
+	private static void computeDestPoint3(GenerateContext3D context, int xsv, int ysv, int zsv, int lattice, int[] dest) {
+		double xr = (xsv - lattice * 1024.5);
+		double yr = (ysv - lattice * 1024.5);
+		double zr = (zsv - lattice * 1024.5);
+		
+		// Quaternion multiplication for inverse rotation.
+		// https://blog.molecular-matters.com/2013/05/24/a-faster-quaternion-vector-multiplication/
+		double qx = -context.qx, qy = -context.qy, qz = -context.qz, qw = context.qw;
+		double tx = 2 * (qy * zr - qz * yr);
+		double ty = 2 * (qz * xr - qx * zr);
+		double tz = 2 * (qx * yr - qy * xr);
+		double xrr = xr + qw * tx + (qy * tz - qz * ty);
+		double yrr = yr + qw * ty + (qz * tx - qx * tz);
+		double zrr = zr + qw * tz + (qx * ty - qy * tx);
+	
+		dest[0] = (int)Math.ceil(xrr * context.xFrequencyInverse);
+		dest[1] = (int)Math.ceil(yrr * context.yFrequencyInverse);
+		dest[2] = (int)Math.ceil(zrr * context.zFrequencyInverse);
+	}
+	
 	/*
 	 * Utility
 	 */
@@ -541,77 +668,6 @@ public class SuperSimplexNoise {
 		}
 	}
 	
-	private static class AreaGenLatticePoint2D {
-		int xsv, ysv;
-		int destPointX, destPointY;
-		double gx, gy, gOff;
-		public AreaGenLatticePoint2D(GenerateContext2D context, int xsv, int ysv) {
-			this.xsv = xsv; this.ysv = ysv;
-			double ssv = (xsv + ysv) * -0.211324865405187;
-			// this.destPointX = (int)Math.round((xsv + ssv) * context.xFrequencyInverse + .5);
-			// this.destPointY = (int)Math.round((ysv + ssv) * context.yFrequencyInverse + .5);
-			this.destPointX = (int)Math.ceil((xsv + ssv) * context.xFrequencyInverse);
-			this.destPointY = (int)Math.ceil((ysv + ssv) * context.yFrequencyInverse);
-		}
-		public void computeGradient(GenerateContext2D context, SuperSimplexNoise instance) {
-			int pxm = xsv & PMASK, pym = ysv & PMASK;
-			Grad2 grad = instance.permGrad2[instance.perm[pxm] ^ pym];
-			this.gx = grad.dx * context.xFrequency;
-			this.gy = grad.dy * context.yFrequency;
-			this.gOff = 0.5 * (this.gx + this.gy); // to correct for (0.5, 0.5)-offset kernel
-		}
-		public int hashCode() {
-			return xsv * 7841 + ysv;
-		}
-		public boolean equals(Object obj) {
-			if (!(obj instanceof AreaGenLatticePoint2D)) return false;
-			AreaGenLatticePoint2D other = (AreaGenLatticePoint2D) obj;
-			return (other.xsv == this.xsv && other.ysv == this.ysv);
-		}
-	}
-	
-	private static class AreaGenLatticePoint3D {
-		int xsv, ysv, zsv, lattice;
-		int destPointX, destPointY, destPointZ;
-		double gx, gy, gz, gOff;
-		public AreaGenLatticePoint3D(GenerateContext3D context, int xsv, int ysv, int zsv, int lattice) {
-			this.xsv = xsv; this.ysv = ysv; this.zsv = zsv; this.lattice = lattice;
-			double xr = (xsv - lattice * 1024.5);
-			double yr = (ysv - lattice * 1024.5);
-			double zr = (zsv - lattice * 1024.5);
-			
-			// Quaternion multiplication for inverse rotation.
-			// https://blog.molecular-matters.com/2013/05/24/a-faster-quaternion-vector-multiplication/
-			double qx = -context.qx, qy = -context.qy, qz = -context.qz, qw = context.qw;
-			double tx = 2 * (qy * zr - qz * yr);
-			double ty = 2 * (qz * xr - qx * zr);
-			double tz = 2 * (qx * yr - qy * xr);
-			double xrr = xr + qw * tx + (qy * tz - qz * ty);
-			double yrr = yr + qw * ty + (qz * tx - qx * tz);
-			double zrr = zr + qw * tz + (qx * ty - qy * tx);
-		
-			this.destPointX = (int)Math.ceil(xrr * context.xFrequencyInverse);
-			this.destPointY = (int)Math.ceil(yrr * context.yFrequencyInverse);
-			this.destPointZ = (int)Math.ceil(zrr * context.zFrequencyInverse);
-		}
-		public void computeGradient(GenerateContext3D context, SuperSimplexNoise instance) {
-			int pxm = xsv & PMASK, pym = ysv & PMASK, pzm = zsv & PMASK;
-			Grad3 grad = context.gradients[instance.perm[instance.perm[instance.perm[pxm] ^ pym] ^ pzm]];
-			this.gx = grad.dx * context.xFrequency;
-			this.gy = grad.dy * context.yFrequency;
-			this.gz = grad.dz * context.zFrequency;
-			this.gOff = 0.5 * (this.gx + this.gy + this.gz); // to correct for (0.5, 0.5, 0.5)-offset kernel
-		}
-		public int hashCode() {
-			return xsv * 2122193 + ysv * 2053 + zsv * 2 + lattice;
-		}
-		public boolean equals(Object obj) {
-			if (!(obj instanceof AreaGenLatticePoint3D)) return false;
-			AreaGenLatticePoint3D other = (AreaGenLatticePoint3D) obj;
-			return (other.xsv == this.xsv && other.ysv == this.ysv && other.zsv == this.zsv);
-		}
-	}
-	
 	public static class GenerateContext2D {
 		
 		double xFrequency;
@@ -685,7 +741,7 @@ public class SuperSimplexNoise {
 		int[][] kernelBoundsX;
 		
 		double qx, qy, qz, qw;
-		Grad3[] gradients;
+		double[] gradients;
 		
 		public GenerateContext3D(LatticeOrientation3D orientation, double xFrequency, double yFrequency, double zFrequency, double amplitude) {
 			
@@ -801,11 +857,11 @@ public class SuperSimplexNoise {
 	
 	public static final double N2 = 0.05382168030817933;
 	public static final double N3 = 0.2781926117527186;
-	private static final Grad2[] GRADIENTS_2D;
-	private static final Grad3[] GRADIENTS_3D, GRADIENTS_3D_C, GRADIENTS_3D_PF;
+	private static final double[] GRADIENTS_2D;
+	private static final double[] GRADIENTS_3D, GRADIENTS_3D_C, GRADIENTS_3D_PF;
 	static {
 		
-		GRADIENTS_2D = new Grad2[PSIZE];
+		GRADIENTS_2D = new double[PSIZE * 2];
 		Grad2[] grad2 = {
 			new Grad2(                0.0,                 1.0),
 			new Grad2(                0.5,  0.8660254037844387),
@@ -825,12 +881,14 @@ public class SuperSimplexNoise {
 			value.dy /= N2;
 		}
 		for (int i = 0; i < PSIZE; i++) {
-			GRADIENTS_2D[i] = grad2[i % grad2.length];
+			Grad2 grad = grad2[i % grad2.length];
+			GRADIENTS_2D[i * 2] = grad.dx;
+			GRADIENTS_2D[i * 2 + 1] = grad.dy;
 		}
 		
-		GRADIENTS_3D = new Grad3[PSIZE];
-		GRADIENTS_3D_C = new Grad3[PSIZE];
-		GRADIENTS_3D_PF = new Grad3[PSIZE];
+		GRADIENTS_3D = new double[PSIZE * 3];
+		GRADIENTS_3D_C = new double[PSIZE * 3];
+		GRADIENTS_3D_PF = new double[PSIZE * 3];
 		Grad3[] grad3 = {
 			new Grad3(-2.22474487139,      -2.22474487139,      -1.0),
 			new Grad3(-2.22474487139,      -2.22474487139,       1.0),
@@ -898,9 +956,15 @@ public class SuperSimplexNoise {
 			grad3pf[i] = new Grad3( gxr + s2 + zz, gyr + s2 + zz, (gzr - gxr - gyr) * 0.577350269189626 );
 		}
 		for (int i = 0; i < PSIZE; i++) {
-			GRADIENTS_3D[i] = grad3[i % grad3.length];
-			GRADIENTS_3D_C[i] = grad3c[i % grad3c.length];
-			GRADIENTS_3D_PF[i] = grad3pf[i % grad3pf.length];
+			putGrad3(GRADIENTS_3D, i, grad3[i % grad3.length]);
+			putGrad3(GRADIENTS_3D_C, i, grad3c[i % grad3c.length]);
+			putGrad3(GRADIENTS_3D_PF, i, grad3pf[i % grad3pf.length]);
 		}
 	}
-}
\ No newline at end of file
+	
+	private static void putGrad3(double[] table, int index, Grad3 grad) {
+		table[index * 3] = grad.dx;
+		table[index * 3 + 1] = grad.dy;
+		table[index * 3 + 2] = grad.dz;
+	}
+}
@@ -1,5 +1,6 @@
 package io.github.vampirestudios.raa.utils.noise.old;
 
+import java.util.Arrays;
 import java.util.Random;
 
 //Code kindly taken from Terraform. Thank you, coderbot, Prospector, and Valoeghese!
@@ -8,6 +9,9 @@ public final class OctaveOpenSimplexNoise {
     protected OpenSimplexNoise[] samplers;
     private double clamp;
     private double frequency, amplitudeLow, amplitudeHigh;
+    // per octave sampling divisor (amplFreq * frequency) and amplitude (amplFreq), shared by the point and grid samplers
+    private final double[] octaveDivisors;
+    private final double[] octaveAmplitudes;
 
     public OctaveOpenSimplexNoise(Random rand, int octaves, double frequency, double amplitudeHigh, double amplitudeLow) {
         samplers = new OpenSimplexNoise[octaves];
@@ -20,19 +24,82 @@ public final class OctaveOpenSimplexNoise {
         this.frequency = frequency;
         this.amplitudeLow = amplitudeLow;
         this.amplitudeHigh = amplitudeHigh;
+
+        octaveDivisors = new double[octaves];
+        octaveAmplitudes = new double[octaves];
+        double amplFreq = 0.5D;
+        for (int i = 0; i < octaves; ++i) {
+            octaveDivisors[i] = amplFreq * frequency;
+            octaveAmplitudes[i] = amplFreq;
+            amplFreq *= 0.5D;
+        }
     }
 
     public double sample(double x, double y) {
-        double amplFreq = 0.5D;
         double result = 0;
-        for (OpenSimplexNoise sampler : samplers) {
-            result += (amplFreq * sampler.sample(x / (amplFreq * frequency), y / (amplFreq * frequency)));
-
-            amplFreq *= 0.5D;
+        for (int octave = 0; octave < samplers.length; ++octave) {
+            result += (octaveAmplitudes[octave] * samplers[octave].sample(x / octaveDivisors[octave], y / octaveDivisors[octave]));
         }
 
         result = result * clamp;
         return result > 0 ? result * amplitudeHigh : result * amplitudeLow;
     }
 
-}
\ No newline at end of file
+    /**
+     * Samples a w * h grid starting at (x0, z0) with the given spacing into out, indexed as [z * w + x].
+     * Gives exactly the same values as calling {@link #sample(double, double)} for every point.
+     */
+    public void sampleGrid2D(double[] out, double x0, double z0, int w, int h, double step) {
+        Arrays.fill(out, 0, w * h, 0D);
+
+        for (int octave = 0; octave < samplers.length; ++octave) {
+            OpenSimplexNoise sampler = samplers[octave];
+            double divisor = octaveDivisors[octave];
+            double amplitude = octaveAmplitudes[octave];
+
+            for (int z = 0; z < h; ++z) {
+                double sampleZ = (z0 + z * step) / divisor;
+                int row = z * w;
+                for (int x = 0; x < w; ++x) {
+                    out[row + x] += amplitude * sampler.sample((x0 + x * step) / divisor, sampleZ);
+                }
+            }
+        }
+
+        finishGrid(out, w * h);
+    }
+
+    /**
+     * Samples a w * h * d grid starting at (x0, y0, z0) with the given spacing into out, indexed as [(z * h + y) * w + x].
+     */
+    public void sampleGrid3D(double[] out, double x0, double y0, double z0, int w, int h, int d, double step) {
+        Arrays.fill(out, 0, w * h * d, 0D);
+
+        for (int octave = 0; octave < samplers.length; ++octave) {
+            OpenSimplexNoise sampler = samplers[octave];
+            double divisor = octaveDivisors[octave];
+            double amplitude = octaveAmplitudes[octave];
+
+            for (int z = 0; z < d; ++z) {
+                double sampleZ = (z0 + z * step) / divisor;
+                for (int y = 0; y < h; ++y) {
+                    double sampleY = (y0 + y * step) / divisor;
+                    int row = (z * h + y) * w;
+                    for (int x = 0; x < w; ++x) {
+                        out[row + x] += amplitude * sampler.sample((x0 + x * step) / divisor, sampleY, sampleZ);
+                    }
+                }
+            }
+        }
+
+        finishGrid(out, w * h * d);
+    }
+
+    private void finishGrid(double[] out, int size) {
+        for (int i = 0; i < size; ++i) {
+            double result = out[i] * clamp;
+            out[i] = result > 0 ? result * amplitudeHigh : result * amplitudeLow;
+        }
+    }
+
+}
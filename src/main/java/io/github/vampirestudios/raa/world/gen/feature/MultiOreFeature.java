@@ -0,0 +1,58 @@
+package io.github.vampirestudios.raa.world.gen.feature;
+
+import com.mojang.datafixers.Dynamic;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.gen.ChunkRandom;
+import net.minecraft.world.gen.GenerationStep;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.ChunkGeneratorConfig;
+import net.minecraft.world.gen.feature.Feature;
+
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Generates every material of a single target in one feature pass per chunk.
+ *
+ * <p>The fused feature takes the place of the first per-material ore feature it replaces, the places of the others are
+ * kept by no-op features, see {@link io.github.vampirestudios.raa.api.RAAWorldAPI#addFusedOres}. Each entry reseeds the
+ * chunk random with the seed the biome gave its own feature and rolls its positions like {@code count_range} did, so
+ * the veins end up exactly where they were for a given seed. Veins that can't reach a section holding the target only
+ * consume their random, see {@link TargetSectionMask}.</p>
+ */
+public class MultiOreFeature extends Feature<MultiOreFeatureConfig> {
+
+    public MultiOreFeature(Function<Dynamic<?>, ? extends MultiOreFeatureConfig> function) {
+        super(function);
+    }
+
+    @Override
+    public boolean generate(IWorld world, ChunkGenerator<? extends ChunkGeneratorConfig> chunkGenerator, Random random, BlockPos pos, MultiOreFeatureConfig config) {
+        // every entry reseeds its own random, so a chunk without the target can skip all of them
+        int sectionMask = TargetSectionMask.get(world, pos.getX() >> 4, pos.getZ() >> 4, config.target);
+        if (sectionMask == 0) return false;
+
+        ChunkRandom chunkRandom = new ChunkRandom();
+        long populationSeed = chunkRandom.setSeed(world.getSeed(), pos.getX(), pos.getZ());
+        int step = GenerationStep.Feature.UNDERGROUND_ORES.ordinal();
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        boolean generated = false;
+
+        for (int entry = 0; entry < config.size(); entry++) {
+            chunkRandom.setFeatureSeed(populationSeed, config.firstFeatureIndex + entry, step);
+            OreFeatureConfig vein = config.veins[entry];
+            int range = config.maxY[entry] - config.minY[entry];
+
+            for (int count = 0; count < config.counts[entry]; count++) {
+                int x = chunkRandom.nextInt(16) + pos.getX();
+                int z = chunkRandom.nextInt(16) + pos.getZ();
+                int y = chunkRandom.nextInt(range) + config.minY[entry];
+                generated |= OreFeature.generateVein(world, chunkRandom, mutable.set(x, y, z), vein, sectionMask);
+            }
+        }
+
+        return generated;
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.github.vampirestudios.raa.world.gen.feature;
+
+import com.google.common.collect.ImmutableMap;
+import com.mojang.datafixers.Dynamic;
+import com.mojang.datafixers.types.DynamicOps;
+import io.github.vampirestudios.raa.api.RAARegisteries;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.gen.feature.FeatureConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precomputed ore table for every material sharing one {@link OreFeatureConfig.Target} in a biome.
+ *
+ * <p>{@link #firstFeatureIndex} is the place the first material's own ore feature had in the biome, the ones after it
+ * followed one by one.</p>
+ */
+public class MultiOreFeatureConfig implements FeatureConfig {
+    public final OreFeatureConfig.Target target;
+    public final int firstFeatureIndex;
+    public final OreFeatureConfig[] veins;
+    public final int[] counts;
+    public final int[] minY;
+    public final int[] maxY;
+
+    public MultiOreFeatureConfig(OreFeatureConfig.Target target, int firstFeatureIndex, OreFeatureConfig[] veins, int[] counts, int[] minY, int[] maxY) {
+        this.target = target;
+        this.firstFeatureIndex = firstFeatureIndex;
+        this.veins = veins;
+        this.counts = counts;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    public int size() {
+        return this.veins.length;
+    }
+
+    public static MultiOreFeatureConfig deserialize(Dynamic<?> dynamic) {
+        OreFeatureConfig.Target target = RAARegisteries.TARGET_REGISTRY.get(new Identifier(dynamic.get("target").asString("")));
+        int firstFeatureIndex = dynamic.get("first_feature_index").asInt(0);
+        List<? extends Dynamic<?>> entries = dynamic.get("entries").asList(entry -> entry);
+
+        OreFeatureConfig[] veins = new OreFeatureConfig[entries.size()];
+        int[] counts = new int[entries.size()];
+        int[] minY = new int[entries.size()];
+        int[] maxY = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            Dynamic<?> entry = entries.get(i);
+            BlockState state = entry.get("state").map(BlockState::deserialize).orElse(Blocks.AIR.getDefaultState());
+            veins[i] = new OreFeatureConfig(target, state, entry.get("size").asInt(0));
+            counts[i] = entry.get("count").asInt(0);
+            minY[i] = entry.get("min_y").asInt(0);
+            maxY[i] = entry.get("max_y").asInt(256);
+        }
+        return new MultiOreFeatureConfig(target, firstFeatureIndex, veins, counts, minY, maxY);
+    }
+
+    public <T> Dynamic<T> serialize(DynamicOps<T> ops) {
+        List<T> entries = new ArrayList<>(this.veins.length);
+        for (int i = 0; i < this.veins.length; i++) {
+            entries.add(ops.createMap(ImmutableMap.of(
+                    ops.createString("state"), BlockState.serialize(ops, this.veins[i].state).getValue(),
+                    ops.createString("size"), ops.createInt(this.veins[i].size),
+                    ops.createString("count"), ops.createInt(this.counts[i]),
+                    ops.createString("min_y"), ops.createInt(this.minY[i]),
+                    ops.createString("max_y"), ops.createInt(this.maxY[i]))));
+        }
+        return new Dynamic<>(ops, ops.createMap(ImmutableMap.of(
+                ops.createString("target"), ops.createString(this.target.getId().toString()),
+                ops.createString("first_feature_index"), ops.createInt(this.firstFeatureIndex),
+                ops.createString("entries"), ops.createList(entries.stream()))));
+    }
+
+    public static class Builder {
+        private final OreFeatureConfig.Target target;
+        private final List<OreFeatureConfig> veins = new ArrayList<>();
+        private final List<int[]> ranges = new ArrayList<>();
+
+        private Builder(OreFeatureConfig.Target target) {
+            this.target = target;
+        }
+
+        public static Builder create(OreFeatureConfig.Target target) {
+            return new Builder(target);
+        }
+
+        public Builder add(BlockState state, int size, int count, int minY, int maxY) {
+            this.veins.add(new OreFeatureConfig(this.target, state, size));
+            this.ranges.add(new int[]{count, minY, maxY});
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return this.veins.isEmpty();
+        }
+
+        public int size() {
+            return this.veins.size();
+        }
+
+        /**
+         * @param firstFeatureIndex the place of the fused feature among the ore features of its biome
+         */
+        public MultiOreFeatureConfig build(int firstFeatureIndex) {
+            int[] counts = new int[this.ranges.size()];
+            int[] minY = new int[this.ranges.size()];
+            int[] maxY = new int[this.ranges.size()];
+            for (int i = 0; i < this.ranges.size(); i++) {
+                counts[i] = this.ranges.get(i)[0];
+                minY[i] = this.ranges.get(i)[1];
+                maxY[i] = this.ranges.get(i)[2];
+            }
+            return new MultiOreFeatureConfig(this.target, firstFeatureIndex, this.veins.toArray(new OreFeatureConfig[0]), counts, minY, maxY);
+        }
+    }
+
+}
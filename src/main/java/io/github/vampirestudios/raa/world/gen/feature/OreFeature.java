@@ -2,7 +2,6 @@ package io.github.vampirestudios.raa.world.gen.feature;
 
 import com.mojang.datafixers.Dynamic;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.Mutable;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.Heightmap.Type;
 import net.minecraft.world.IWorld;
@@ -22,6 +21,23 @@ public class OreFeature extends Feature<OreFeatureConfig> {
 
     @Override
     public boolean generate(IWorld iWorld, ChunkGenerator<? extends ChunkGeneratorConfig> chunkGenerator, Random random, BlockPos blockPos, OreFeatureConfig oreFeatureConfig) {
+        return generateVein(iWorld, random, blockPos, oreFeatureConfig);
+    }
+
+    /**
+     * Places a single vein centered around the given position. Shared with {@link MultiOreFeature} so that the fused
+     * ore table consumes the random exactly like a standalone ore feature does.
+     */
+    static boolean generateVein(IWorld iWorld, Random random, BlockPos blockPos, OreFeatureConfig oreFeatureConfig) {
+        return generateVein(iWorld, random, blockPos, oreFeatureConfig, -1);
+    }
+
+    /**
+     * @param sectionMask the sections of the vein's chunk that hold the target, see {@link TargetSectionMask}. A vein
+     *                    that stays inside its chunk and can't reach any of them only consumes the random it would
+     *                    have used.
+     */
+    static boolean generateVein(IWorld iWorld, Random random, BlockPos blockPos, OreFeatureConfig oreFeatureConfig, int sectionMask) {
         float f = random.nextFloat() * 3.1415927F;
         float g = (float) oreFeatureConfig.size / 8.0F;
         int i = MathHelper.ceil(((float) oreFeatureConfig.size / 16.0F * 2.0F + 1.0F) / 2.0F);
@@ -40,7 +56,13 @@ public class OreFeature extends Feature<OreFeatureConfig> {
         for (int x = xPos; x <= xPos + size; ++x) {
             for (int z = zPos; z <= zPos + size; ++z) {
                 if (yPos <= iWorld.getTopY(Type.OCEAN_FLOOR_WG, x, z)) {
-                    return this.generateVeinPart(iWorld, random, oreFeatureConfig, startX, endX, startZ, endZ, startY, endY, xPos, yPos, zPos, size, iIdk);
+                    if (!mayReachTarget(sectionMask, blockPos, xPos, yPos, zPos, size, i)) {
+                        for (int sphere = 0; sphere < oreFeatureConfig.size; sphere++) {
+                            random.nextDouble();
+                        }
+                        return false;
+                    }
+                    return generateVeinPart(iWorld, random, oreFeatureConfig, startX, endX, startZ, endZ, startY, endY, xPos, yPos, zPos, size, iIdk);
                 }
             }
         }
@@ -48,11 +70,29 @@ public class OreFeature extends Feature<OreFeatureConfig> {
         return false;
     }
 
-    protected boolean generateVeinPart(IWorld world, Random random_1, OreFeatureConfig config, double startX, double endX, double startZ, double endZ, double startY, double endY, int x, int y, int z, int size, int i) {
+    /**
+     * The spheres of a vein stay inside the box starting at {@code xPos, yPos, zPos}, below the vein's y plus {@code i}.
+     */
+    private static boolean mayReachTarget(int sectionMask, BlockPos blockPos, int xPos, int yPos, int zPos, int size, int i) {
+        int chunkX = blockPos.getX() >> 4;
+        int chunkZ = blockPos.getZ() >> 4;
+        if (xPos >> 4 != chunkX || (xPos + size) >> 4 != chunkX || zPos >> 4 != chunkZ || (zPos + size) >> 4 != chunkZ) {
+            // the mask only covers the vein's own chunk
+            return true;
+        }
+        int maxY = blockPos.getY() + i + 1;
+        if (yPos < 0 || maxY > 255) return true;
+        for (int section = yPos >> 4; section <= maxY >> 4; section++) {
+            if ((sectionMask & (1 << section)) != 0) return true;
+        }
+        return false;
+    }
+
+    protected static boolean generateVeinPart(IWorld world, Random random_1, OreFeatureConfig config, double startX, double endX, double startZ, double endZ, double startY, double endY, int x, int y, int z, int size, int i) {
         int j = 0;
-        BitSet bitSet = new BitSet(size * i * size);
-        Mutable mutable = new Mutable();
-        double[] ds = new double[config.size * 4];
+        OreVeinContext context = OreVeinContext.get(world, config.size);
+        BitSet bitSet = context.placed;
+        double[] ds = context.spheres;
 
         int m;
         double o;
@@ -117,12 +157,8 @@ public class OreFeature extends Feature<OreFeatureConfig> {
                                         int am = ag - x + (ai - y) * size + (ak - z) * size * i;
                                         if (!bitSet.get(am)) {
                                             bitSet.set(am);
-                                            mutable.set(ag, ai, ak);
-                                            if (config.target != null) {
-                                                if (config.target.getCondition().test(world.getBlockState(mutable))) {
-                                                    world.setBlockState(mutable, config.state, 2);
-                                                    j++;
-                                                }
+                                            if (config.target != null && context.replace(ag, ai, ak, config.target, config.state)) {
+                                                j++;
                                             }
                                         }
                                     }
@@ -134,6 +170,7 @@ public class OreFeature extends Feature<OreFeatureConfig> {
             }
         }
 
+        context.release();
         return j > 0;
     }
 }
@@ -0,0 +1,133 @@
+package io.github.vampirestudios.raa.world.gen.feature;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.ReadOnlyChunk;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.BitSet;
+
+/**
+ * Per-thread scratch space for vein placement, so generating a vein does not allocate once the thread is warm.
+ *
+ * <p>While the world hands out {@link ProtoChunk}s, opaque solid blocks replaced by opaque solid ores are read and written
+ * straight through the chunk sections, which lets consecutive blocks of a vein skip the region and chunk lookups.</p>
+ */
+final class OreVeinContext {
+    private static final ThreadLocal<OreVeinContext> CONTEXT = ThreadLocal.withInitial(OreVeinContext::new);
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+
+    final BitSet placed = new BitSet();
+    final BlockPos.Mutable mutable = new BlockPos.Mutable();
+    double[] spheres = new double[0];
+
+    private IWorld world;
+    private ProtoChunk chunk;
+    private int chunkX;
+    private int chunkZ;
+    private ChunkSection section;
+    private int sectionY;
+
+    private OreVeinContext() {
+    }
+
+    static OreVeinContext get(IWorld world, int veinSize) {
+        OreVeinContext context = CONTEXT.get();
+        context.world = world;
+        context.placed.clear();
+        if (context.spheres.length < veinSize * 4) {
+            // grows to the largest vein this thread has seen and stays there
+            context.spheres = new double[veinSize * 4];
+        }
+        return context;
+    }
+
+    /**
+     * Replaces the block at the given position if it matches the ore target.
+     *
+     * @return whether the block was replaced
+     */
+    boolean replace(int x, int y, int z, OreFeatureConfig.Target target, BlockState state) {
+        if (y < 0 || y >= 256 || !this.selectSection(x, y, z)) {
+            this.mutable.set(x, y, z);
+            if (target.getCondition().test(this.world.getBlockState(this.mutable))) {
+                this.world.setBlockState(this.mutable, state, 2);
+                return true;
+            }
+            return false;
+        }
+
+        if (this.section == WorldChunk.EMPTY_SECTION) {
+            // an empty section only holds air, let the chunk allocate it when the target accepts that
+            if (!target.getCondition().test(AIR)) return false;
+            this.mutable.set(x, y, z);
+            this.world.setBlockState(this.mutable, state, 2);
+            this.invalidateSection();
+            return true;
+        }
+
+        BlockState old = this.section.getBlockState(x & 15, y & 15, z & 15);
+        if (target.getCondition().test(old)) {
+            if (!isPlainSolid(old) || !isPlainSolid(state)) {
+                // heightmaps, light and block entities have to be updated by the chunk itself
+                this.mutable.set(x, y, z);
+                this.world.setBlockState(this.mutable, state, 2);
+            } else {
+                this.section.setBlockState(x & 15, y & 15, z & 15, state, false);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Swapping one of these blocks for another changes neither the heightmaps nor the light of the chunk.
+     */
+    private static boolean isPlainSolid(BlockState state) {
+        return state.isOpaque() && state.getMaterial().blocksMovement() && state.getLuminance() == 0
+                && !state.getBlock().hasBlockEntity();
+    }
+
+    /**
+     * Drops every reference to the world and chunk once the vein is done, so the thread local does not keep them
+     * alive.
+     */
+    void release() {
+        this.world = null;
+        this.chunk = null;
+        this.section = null;
+    }
+
+    private boolean selectSection(int x, int y, int z) {
+        int cx = x >> 4;
+        int cz = z >> 4;
+        if (this.chunk == null || this.chunkX != cx || this.chunkZ != cz) {
+            Chunk chunk = this.world.getChunk(cx, cz);
+            // read-only wrappers share their sections with an already loaded world chunk
+            if (!(chunk instanceof ProtoChunk) || chunk instanceof ReadOnlyChunk) {
+                this.invalidateSection();
+                this.chunk = null;
+                return false;
+            }
+            this.chunk = (ProtoChunk) chunk;
+            this.chunkX = cx;
+            this.chunkZ = cz;
+            this.invalidateSection();
+        }
+        if (this.sectionY != y >> 4) {
+            this.sectionY = y >> 4;
+            this.section = this.chunk.getSectionArray()[this.sectionY];
+        }
+        return true;
+    }
+
+    private void invalidateSection() {
+        this.section = null;
+        this.sectionY = -1;
+    }
+}
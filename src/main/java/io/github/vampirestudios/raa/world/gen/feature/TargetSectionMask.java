@@ -0,0 +1,108 @@
+package io.github.vampirestudios.raa.world.gen.feature;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.ChunkSection;
+
+import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Tells the ore features which 16 block tall sections of a chunk can hold their target block at all.
+ *
+ * <p>The first time a target is asked for in a chunk, every section checks its palette for a state the target accepts,
+ * and only the sections whose palette has one are scanned, until the first such block. The palette can still hold
+ * states that were replaced since, so it alone isn't enough. All ore features of that chunk then resolve their target
+ * against the recorded mask instead of rolling heights in sections made of air or of some other block.</p>
+ *
+ * <p>Every worldgen thread keeps the masks of the last chunk it resolved targets in. It is told apart by the chunk
+ * position and the section array of the chunk, which is only weakly referenced, so an idle thread doesn't keep its last
+ * chunk loaded.</p>
+ */
+public final class TargetSectionMask {
+    private static final ThreadLocal<TargetSectionMask> CONTEXT = ThreadLocal.withInitial(TargetSectionMask::new);
+
+    private final Map<OreFeatureConfig.Target, Integer> targetSections = new IdentityHashMap<>();
+    private long chunkPos;
+    private WeakReference<ChunkSection[]> sections = new WeakReference<>(null);
+
+    private TargetSectionMask() {
+    }
+
+    /**
+     * @return a bit mask where bit {@code n} is set when section {@code n} of the chunk contains a block accepted by
+     * the target
+     */
+    public static int get(IWorld world, int chunkX, int chunkZ, OreFeatureConfig.Target target) {
+        TargetSectionMask mask = CONTEXT.get();
+        long chunkPos = ChunkPos.toLong(chunkX, chunkZ);
+        ChunkSection[] sections = world.getChunk(chunkX, chunkZ).getSectionArray();
+        if (mask.chunkPos != chunkPos || mask.sections.get() != sections) {
+            mask.chunkPos = chunkPos;
+            mask.sections = new WeakReference<>(sections);
+            mask.targetSections.clear();
+        }
+        return mask.targetSections.computeIfAbsent(target, key -> resolve(sections, key.getCondition()));
+    }
+
+    /**
+     * Counts the blocks of the height range {@code [minY, maxY)} that lie in the sections of the mask.
+     */
+    public static int countBlocks(int mask, int minY, int maxY) {
+        int blocks = 0;
+        for (int section = 0; section < 16; section++) {
+            if ((mask & (1 << section)) != 0) {
+                blocks += Math.max(0, Math.min(maxY, (section + 1) << 4) - Math.max(minY, section << 4));
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Maps the {@code index}-th block of the masked height range back to its y coordinate.
+     */
+    public static int blockToY(int mask, int minY, int maxY, int index) {
+        for (int section = 0; section < 16; section++) {
+            if ((mask & (1 << section)) != 0) {
+                int bottom = Math.max(minY, section << 4);
+                int blocks = Math.min(maxY, (section + 1) << 4) - bottom;
+                if (blocks > 0) {
+                    if (index < blocks) return bottom + index;
+                    index -= blocks;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Block index out of the masked range");
+    }
+
+    private static int resolve(ChunkSection[] sections, Predicate<BlockState> condition) {
+        int mask = 0;
+        for (int section = 0; section < sections.length; section++) {
+            // the states of the section's palette first, so most sections without the target are never scanned
+            if (!ChunkSection.isEmpty(sections[section]) && sections[section].method_19523(condition) && contains(sections[section], condition)) {
+                mask |= 1 << section;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean contains(ChunkSection section, Predicate<BlockState> condition) {
+        BlockState last = null;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState state = section.getBlockState(x, y, z);
+                    // sections are mostly long runs of the same state
+                    if (state != last) {
+                        if (condition.test(state)) return true;
+                        last = state;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.vampirestudios.raa.world.pregen;
+
+import io.github.vampirestudios.raa.RandomlyAddingAnything;
+import io.github.vampirestudios.raa.api.dimension.DimensionChunkGenerators;
+import io.github.vampirestudios.raa.generation.chunkgenerator.HeightEstimator;
+import io.github.vampirestudios.raa.generation.dimensions.data.DimensionData;
+import io.github.vampirestudios.raa.registries.Dimensions;
+import net.fabricmc.fabric.api.event.server.ServerTickCallback;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.LiteralText;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.dimension.DimensionType;
+
+import java.util.*;
+
+/**
+ * Generates the chunks of the queued {@link PregenState} jobs in the background of the server ticks.
+ *
+ * <p>Chunks are requested with a ticket, so the generation itself runs on the worldgen threads, and at most
+ * {@code pregenChunksInFlight} of them are waiting at once. No new chunks are requested while the server is slower than
+ * {@code pregenMaxMspt}.</p>
+ */
+public final class ChunkPregenerator {
+    private static final ChunkTicketType<ChunkPos> TICKET = ChunkTicketType.create("raa_pregen", Comparator.comparingLong(ChunkPos::toLong));
+    private static final int REPORT_INTERVAL_TICKS = 200;
+    private static ChunkPregenerator current;
+
+    private final MinecraftServer server;
+    private final PregenState state;
+    private final List<PendingChunk> pendingChunks = new ArrayList<>();
+    private final Map<DimensionChunkGenerators, GeneratorStats> generatorStats = new EnumMap<>(DimensionChunkGenerators.class);
+    private ServerCommandSource source;
+    private PregenState.Job runningJob;
+    private ServerWorld world;
+    private GeneratorStats stats;
+    private int nextIndex;
+    private int generated;
+    private long jobStart;
+    private long lastTick;
+    private int ticks;
+
+    private ChunkPregenerator(MinecraftServer server) {
+        this.server = server;
+        this.state = server.getWorld(DimensionType.OVERWORLD).getPersistentStateManager().getOrCreate(PregenState::new, PregenState.KEY);
+    }
+
+    public static void init() {
+        ServerTickCallback.EVENT.register(server -> get(server).tick());
+    }
+
+    public static ChunkPregenerator get(MinecraftServer server) {
+        if (current == null || current.server != server) {
+            current = new ChunkPregenerator(server);
+        }
+        return current;
+    }
+
+    public void addJob(ServerCommandSource source, PregenState.Job job) {
+        this.source = source;
+        this.state.addJob(job);
+    }
+
+    public void stop() {
+        this.releaseTickets();
+        this.runningJob = null;
+        this.state.clear();
+    }
+
+    public void reportStatus(ServerCommandSource source) {
+        PregenState.Job job = this.state.getCurrentJob();
+        if (job == null) {
+            source.sendFeedback(new LiteralText("No RAA dimension is being pregenerated"), false);
+        } else {
+            source.sendFeedback(new LiteralText(this.describeProgress(job)), false);
+            for (PregenState.Job queued : this.state.getJobs()) {
+                if (queued != job) {
+                    source.sendFeedback(new LiteralText("Queued: " + queued.getDimension() + " with a radius of " + queued.getRadius()), false);
+                }
+            }
+        }
+        this.generatorStats.forEach((generator, stats) -> source.sendFeedback(new LiteralText(String.format(Locale.ROOT,
+                "%s: %d chunks, %.1f chunks/s with up to %d in flight", generator.name(), stats.chunks,
+                stats.getChunksPerSecond(), stats.maxInFlight)), false));
+        source.sendFeedback(new LiteralText(String.format(Locale.ROOT, "Height estimates: %d from heightmaps, %d from noise",
+                HeightEstimator.getHeightmapSamples(), HeightEstimator.getNoiseSamples())), false);
+    }
+
+    private void tick() {
+        PregenState.Job job = this.state.getCurrentJob();
+        if (job == null) return;
+        if (job != this.runningJob && !this.start(job)) {
+            this.state.finishCurrentJob();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (!this.pendingChunks.isEmpty()) {
+            this.stats.nanos += now - this.lastTick;
+        }
+        this.lastTick = now;
+
+        ServerChunkManager chunkManager = this.world.getChunkManager();
+        Iterator<PendingChunk> iterator = this.pendingChunks.iterator();
+        while (iterator.hasNext()) {
+            PendingChunk pending = iterator.next();
+            if (chunkManager.getWorldChunk(pending.pos.x, pending.pos.z) != null) {
+                chunkManager.removeTicket(TICKET, pending.pos, 0, pending.pos);
+                iterator.remove();
+                this.generated++;
+                this.stats.chunks++;
+            }
+        }
+
+        float maxMspt = RandomlyAddingAnything.CONFIG.pregenMaxMspt;
+        boolean overloaded = maxMspt > 0 && this.server.getTickTime() > maxMspt;
+        int maxInFlight = Math.max(1, RandomlyAddingAnything.CONFIG.pregenChunksInFlight);
+        int chunkCount = job.getChunkCount();
+        while (!overloaded && this.pendingChunks.size() < maxInFlight && this.nextIndex < chunkCount) {
+            ChunkPos pos = job.getChunk(this.nextIndex);
+            chunkManager.addTicket(TICKET, pos, 0, pos);
+            this.pendingChunks.add(new PendingChunk(this.nextIndex, pos));
+            this.nextIndex++;
+        }
+        this.stats.maxInFlight = Math.max(this.stats.maxInFlight, this.pendingChunks.size());
+
+        int resumeIndex = this.nextIndex;
+        for (PendingChunk pending : this.pendingChunks) {
+            resumeIndex = Math.min(resumeIndex, pending.index);
+        }
+        if (resumeIndex != job.getResumeIndex()) {
+            job.setResumeIndex(resumeIndex);
+            this.state.markDirty();
+        }
+
+        if (this.pendingChunks.isEmpty() && this.nextIndex >= chunkCount) {
+            this.report("Finished pregenerating " + job.getDimension() + ", " + this.generated + " chunks in "
+                    + (now - this.jobStart) / 1_000_000_000L + " s");
+            this.runningJob = null;
+            this.state.finishCurrentJob();
+        } else if (++this.ticks % REPORT_INTERVAL_TICKS == 0) {
+            this.report(this.describeProgress(job) + (overloaded ? ", waiting for the server to catch up" : ""));
+        }
+    }
+
+    private boolean start(PregenState.Job job) {
+        this.releaseTickets();
+        DimensionType type = Registry.DIMENSION.get(job.getDimension());
+        DimensionData dimensionData = Dimensions.DIMENSIONS.getOrEmpty(job.getDimension()).orElse(null);
+        if (type == null || dimensionData == null) {
+            this.report("Skipped pregenerating " + job.getDimension() + ", it isn't an RAA dimension of this world");
+            this.runningJob = null;
+            return false;
+        }
+        this.runningJob = job;
+        this.world = this.server.getWorld(type);
+        this.stats = this.generatorStats.computeIfAbsent(dimensionData.getDimensionChunkGenerator(), generator -> new GeneratorStats());
+        this.nextIndex = job.getResumeIndex();
+        this.generated = 0;
+        this.jobStart = System.nanoTime();
+        this.lastTick = this.jobStart;
+        this.report("Pregenerating " + job.getDimension() + " from chunk " + this.nextIndex + " of " + job.getChunkCount());
+        return true;
+    }
+
+    private void releaseTickets() {
+        if (this.world != null) {
+            for (PendingChunk pending : this.pendingChunks) {
+                this.world.getChunkManager().removeTicket(TICKET, pending.pos, 0, pending.pos);
+            }
+        }
+        this.pendingChunks.clear();
+    }
+
+    private String describeProgress(PregenState.Job job) {
+        int done = job.getResumeIndex();
+        int total = job.getChunkCount();
+        double seconds = (System.nanoTime() - this.jobStart) / 1.0E9D;
+        double chunksPerSecond = seconds > 0 ? this.generated / seconds : 0;
+        String eta = chunksPerSecond > 0 ? (long) ((total - done) / chunksPerSecond) + " s" : "unknown";
+        return String.format(Locale.ROOT, "Pregenerating %s: %d/%d chunks (%.1f%%), %.1f chunks/s, ETA %s",
+                job.getDimension(), done, total, done * 100.0D / total, chunksPerSecond, eta);
+    }
+
+    private void report(String message) {
+        RandomlyAddingAnything.LOGGER.info(message);
+        if (this.source != null) {
+            this.source.sendFeedback(new LiteralText(message), true);
+        }
+    }
+
+    private static class PendingChunk {
+        private final int index;
+        private final ChunkPos pos;
+
+        private PendingChunk(int index, ChunkPos pos) {
+            this.index = index;
+            this.pos = pos;
+        }
+    }
+
+    /**
+     * The throughput of the chunks of a generator, not the time it takes to generate one: up to {@code maxInFlight} of
+     * them generate at once on the worldgen threads, and the time also covers lighting and loading them.
+     */
+    private static class GeneratorStats {
+        private long chunks;
+        // time spent with chunks of this generator in flight
+        private long nanos;
+        private int maxInFlight;
+
+        private double getChunksPerSecond() {
+            return this.nanos == 0 ? 0 : this.chunks / (this.nanos / 1.0E9D);
+        }
+    }
+}
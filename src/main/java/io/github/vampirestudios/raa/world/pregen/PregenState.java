@@ -0,0 +1,145 @@
+package io.github.vampirestudios.raa.world.pregen;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.PersistentState;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The queued pregeneration jobs of a world, saved with the overworld so they resume after a restart.
+ */
+public class PregenState extends PersistentState {
+    public static final String KEY = "raa_pregen";
+
+    private final Deque<Job> jobs = new ArrayDeque<>();
+
+    public PregenState() {
+        super(KEY);
+    }
+
+    public Job getCurrentJob() {
+        return this.jobs.peekFirst();
+    }
+
+    public Iterable<Job> getJobs() {
+        return this.jobs;
+    }
+
+    public void addJob(Job job) {
+        this.jobs.addLast(job);
+        this.markDirty();
+    }
+
+    public void finishCurrentJob() {
+        this.jobs.pollFirst();
+        this.markDirty();
+    }
+
+    public void clear() {
+        this.jobs.clear();
+        this.markDirty();
+    }
+
+    @Override
+    public void fromTag(CompoundTag tag) {
+        this.jobs.clear();
+        // 10 is the type of compound tags
+        ListTag jobsTag = tag.getList("Jobs", 10);
+        for (int i = 0; i < jobsTag.size(); i++) {
+            CompoundTag jobTag = jobsTag.getCompound(i);
+            Job job = new Job(new Identifier(jobTag.getString("Dimension")), jobTag.getInt("CenterX"),
+                    jobTag.getInt("CenterZ"), jobTag.getInt("Radius"));
+            job.resumeIndex = jobTag.getInt("ResumeIndex");
+            this.jobs.addLast(job);
+        }
+    }
+
+    @Override
+    public CompoundTag toTag(CompoundTag tag) {
+        ListTag jobsTag = new ListTag();
+        for (Job job : this.jobs) {
+            CompoundTag jobTag = new CompoundTag();
+            jobTag.putString("Dimension", job.dimension.toString());
+            jobTag.putInt("CenterX", job.centerX);
+            jobTag.putInt("CenterZ", job.centerZ);
+            jobTag.putInt("Radius", job.radius);
+            jobTag.putInt("ResumeIndex", job.resumeIndex);
+            jobsTag.add(jobTag);
+        }
+        tag.put("Jobs", jobsTag);
+        return tag;
+    }
+
+    public static class Job {
+        private final Identifier dimension;
+        private final int centerX;
+        private final int centerZ;
+        private final int radius;
+        // every chunk of the spiral before this one is generated
+        private int resumeIndex;
+
+        public Job(Identifier dimension, int centerX, int centerZ, int radius) {
+            this.dimension = dimension;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.radius = radius;
+        }
+
+        public Identifier getDimension() {
+            return dimension;
+        }
+
+        public int getRadius() {
+            return radius;
+        }
+
+        public int getResumeIndex() {
+            return resumeIndex;
+        }
+
+        void setResumeIndex(int resumeIndex) {
+            this.resumeIndex = resumeIndex;
+        }
+
+        public int getChunkCount() {
+            return (2 * this.radius + 1) * (2 * this.radius + 1);
+        }
+
+        /**
+         * Walks the square around the center ring by ring, so the chunks closest to it are generated first.
+         */
+        public ChunkPos getChunk(int index) {
+            if (index == 0) return new ChunkPos(this.centerX, this.centerZ);
+            // ring r holds the indices from (2r - 1)^2 to (2r + 1)^2 - 1
+            int ring = (int) Math.ceil((Math.sqrt(index + 1) - 1) / 2);
+            int side = 2 * ring;
+            int offset = index - (side - 1) * (side - 1);
+            int along = offset % side;
+            int x;
+            int z;
+            switch (offset / side) {
+                case 0:
+                    x = ring;
+                    z = -ring + 1 + along;
+                    break;
+                case 1:
+                    x = ring - 1 - along;
+                    z = ring;
+                    break;
+                case 2:
+                    x = -ring;
+                    z = ring - 1 - along;
+                    break;
+                default:
+                    x = -ring + 1 + along;
+                    z = -ring;
+                    break;
+            }
+            return new ChunkPos(this.centerX + x, this.centerZ + z);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.vampirestudios.raa.api.namegeneration;
+
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Far more materials than the generators have distinct names for, so most names collide and have to be rolled again or
+ * numbered. The Norwegian generators aren't in {@link LangEnum} yet and return no names, so they aren't covered.
+ */
+public class NameGeneratorTest {
+    private static final long SEED = 1234567890L;
+    private static final int COUNT = 10000;
+    private static final Duration BUDGET = Duration.ofSeconds(5);
+
+    @Test
+    public void generatesUniqueMaterialNamesInTime() {
+        for (LangEnum language : LangEnum.values()) {
+            assertTimeoutPreemptively(BUDGET, () -> assertUniqueNames(language.getMaterialNameGenerator()), language.toString());
+        }
+    }
+
+    private static void assertUniqueNames(INameGenerator generator) {
+        Random random = new Random(SEED);
+        Set<Identifier> ids = new HashSet<>();
+        for (int i = 0; i < COUNT; i++) {
+            Pair<String, Identifier> name = generator.generateUnique(random, ids, "raa");
+            assertTrue(ids.add(name.getRight()), name.getRight() + " was given out twice");
+            assertEquals(name.getRight().getPath(), generator.asId(name.getLeft()), name.getLeft());
+        }
+        assertEquals(COUNT, ids.size());
+    }
+}
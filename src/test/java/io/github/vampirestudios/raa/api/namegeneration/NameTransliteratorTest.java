@@ -0,0 +1,120 @@
+package io.github.vampirestudios.raa.api.namegeneration;
+
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NameTransliteratorTest {
+
+    @Test
+    public void replacesTheUpperCaseVariantsToo() {
+        INameGenerator generator = new FrenchLike();
+        assertEquals("eleve", generator.asId("Élève"));
+        assertEquals("ca_va", generator.asId("Ça_va"));
+        assertEquals("foret", generator.asId("FORÊT"));
+    }
+
+    @Test
+    public void keepsAnUpperCaseEntryOfTheLanguage() {
+        INameGenerator generator = new FrenchLike();
+        assertEquals("oe_coeur", generator.asId("Œ_cœur"));
+    }
+
+    @Test
+    public void replacesSequencesBeforeCharacters() {
+        INameGenerator generator = new FrenchLike();
+        assertEquals("kateau", generator.asId("chateau"));
+        assertEquals("kateau", generator.asId("châteaU"));
+    }
+
+    @Test
+    public void matchesTheOldReplacementForLowerCaseCharacters() {
+        INameGenerator generator = new FrenchLike();
+        for (String name : new String[]{"Abc", "Déjà vu", "garçon", "où_est", "Plain", "chœur", "été"}) {
+            String expected = name;
+            for (Map.Entry<String, String> entry : generator.getSpecialCharactersMap().entrySet()) {
+                expected = expected.replace(entry.getKey(), entry.getValue());
+            }
+            assertEquals(expected.toLowerCase(Locale.ENGLISH), generator.asId(name), name);
+        }
+    }
+
+    @Test
+    public void onlyLowersTheCaseWithoutSpecialCharacters() {
+        assertEquals("élève", new WithoutSpecialCharacters().asId("Élève"));
+    }
+
+    @Test
+    public void numbersNamesThatKeepColliding() {
+        INameGenerator generator = new WithoutSpecialCharacters();
+        Set<Identifier> presentIds = new HashSet<>();
+        Random random = new Random(0);
+
+        Pair<String, Identifier> first = generator.generateUnique(random, presentIds, "raa");
+        assertEquals("Same", first.getLeft());
+        assertEquals(new Identifier("raa", "same"), first.getRight());
+        presentIds.add(first.getRight());
+
+        Pair<String, Identifier> second = generator.generateUnique(random, presentIds, "raa");
+        assertEquals("Same-2", second.getLeft());
+        assertEquals(new Identifier("raa", "same-2"), second.getRight());
+        presentIds.add(second.getRight());
+
+        assertEquals(new Identifier("raa", "same-3"), generator.generateUnique(random, presentIds, "raa").getRight());
+    }
+
+    @Test
+    public void numberingSkipsNumbersAlreadyTaken() {
+        Set<Identifier> presentIds = new HashSet<>();
+        presentIds.add(new Identifier("raa", "same"));
+        presentIds.add(new Identifier("raa", "same-2"));
+        presentIds.add(new Identifier("raa", "same-3"));
+        Pair<String, Identifier> numbered = INameGenerator.numberName(new Pair<>("Same", new Identifier("raa", "same")), presentIds);
+        assertEquals("Same-4", numbered.getLeft());
+        assertEquals(new Identifier("raa", "same-4"), numbered.getRight());
+    }
+
+    private static class FrenchLike implements INameGenerator {
+        @Override
+        public String generate(Random random) {
+            return "Élève";
+        }
+
+        @Override
+        public Map<String, String> getSpecialCharactersMap() {
+            Map<String, String> map = new LinkedHashMap<>();
+            map.put("ch", "k");
+            map.put("é", "e");
+            map.put("è", "e");
+            map.put("ê", "e");
+            map.put("â", "a");
+            map.put("à", "a");
+            map.put("ç", "c");
+            map.put("ù", "u");
+            map.put("œ", "oe");
+            map.put("Œ", "OE");
+            return map;
+        }
+    }
+
+    private static class WithoutSpecialCharacters implements INameGenerator {
+        @Override
+        public String generate(Random random) {
+            return "Same";
+        }
+
+        @Override
+        public Map<String, String> getSpecialCharactersMap() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.vampirestudios.raa.config;
+
+import io.github.vampirestudios.raa.utils.GsonUtils;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryDataFileTest {
+    private static final int DATA_VERSION = 2;
+
+    @TempDir
+    public Path directory;
+
+    private File jsonFile;
+    private BinaryDataFile<Entry> binaryFile;
+    private List<Entry> entries;
+
+    @BeforeEach
+    public void writeFiles() throws IOException {
+        this.jsonFile = this.directory.resolve("test.json").toFile();
+        this.binaryFile = new BinaryDataFile<>(this.directory.resolve("test.raabin").toFile(), this.jsonFile, DATA_VERSION, Entry.class, GsonUtils.getGson());
+
+        this.entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Entry entry = new Entry();
+            entry.name = "entry " + i + (i % 3 == 0 ? " éß中" : "");
+            entry.id = new Identifier("raa", "entry_" + i);
+            entry.weight = i * 0.37D - 2;
+            entry.flags = i % 2 == 0;
+            entry.values = new int[i % 5];
+            Arrays.fill(entry.values, i);
+            entry.counts = new LinkedHashMap<>();
+            // not in hash order, so a map losing the order shows up
+            for (String key : new String[]{"zombie", "skeleton", "creeper", "spider", "enderman"}) {
+                entry.counts.put(key, key.length() * i);
+            }
+            this.entries.add(entry);
+        }
+
+        writeJson("{\"configVersion\": 2, \"entries\": []}");
+        this.binaryFile.write(this.entries, BinaryDataFile.checksum(this.jsonFile));
+    }
+
+    @Test
+    public void readsBackWhatWasWritten() throws IOException {
+        List<Entry> read = this.binaryFile.read();
+        assertNotNull(read);
+        assertEquals(this.entries.size(), read.size());
+        for (int i = 0; i < this.entries.size(); i++) {
+            Entry expected = this.entries.get(i);
+            Entry actual = read.get(i);
+            assertEquals(expected.name, actual.name);
+            assertEquals(expected.id, actual.id);
+            assertEquals(expected.weight, actual.weight);
+            assertEquals(expected.flags, actual.flags);
+            assertArrayEquals(expected.values, actual.values);
+            assertEquals(new ArrayList<>(expected.counts.entrySet()), new ArrayList<>(actual.counts.entrySet()));
+        }
+    }
+
+    @Test
+    public void keepsTheCopyWhenTheJsonWasOnlyTouched() throws IOException {
+        assertEquals(true, this.jsonFile.setLastModified(this.jsonFile.lastModified() + 60_000));
+        assertNotNull(this.binaryFile.read());
+    }
+
+    @Test
+    public void dropsTheCopyWhenTheJsonChanged() throws IOException {
+        writeJson("{\"configVersion\": 2, \"entries\": [{}]}");
+        assertNull(this.binaryFile.read());
+    }
+
+    @Test
+    public void dropsTheCopyWhenTheJsonChangedButKeptItsLength() throws IOException {
+        long lastModified = this.jsonFile.lastModified();
+        writeJson("{\"configVersion\": 2, \"entries\": {}}");
+        assertEquals(true, this.jsonFile.setLastModified(lastModified + 60_000));
+        assertNull(this.binaryFile.read());
+    }
+
+    @Test
+    public void ignoresCopiesOfOtherVersions() throws IOException {
+        BinaryDataFile<Entry> newerVersion = new BinaryDataFile<>(this.binaryFile.getFile(), this.jsonFile, DATA_VERSION + 1, Entry.class, GsonUtils.getGson());
+        assertNull(newerVersion.read());
+    }
+
+    @Test
+    public void rejectsADamagedCopy() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(this.binaryFile.getFile(), "rw")) {
+            // the last byte of the entries, past the header
+            file.seek(file.length() - 2);
+            int value = file.read();
+            file.seek(file.length() - 2);
+            file.write(value ^ 0x10);
+        }
+        assertThrows(IOException.class, () -> this.binaryFile.read());
+    }
+
+    @Test
+    public void rejectsATruncatedCopy() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(this.binaryFile.getFile(), "rw")) {
+            file.setLength(file.length() / 2);
+        }
+        assertThrows(IOException.class, () -> this.binaryFile.read());
+    }
+
+    private void writeJson(String json) throws IOException {
+        Files.write(this.jsonFile.toPath(), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class Entry {
+        private String name;
+        private Identifier id;
+        private double weight;
+        private boolean flags;
+        private int[] values;
+        private Map<String, Integer> counts;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.vampirestudios.raa.config;
+
+import io.github.vampirestudios.raa.api.namegeneration.LangEnum;
+import io.github.vampirestudios.raa.generation.dimensions.data.DimensionData;
+import io.github.vampirestudios.raa.generation.materials.Material;
+import io.github.vampirestudios.raa.registries.CustomTargets;
+import io.github.vampirestudios.raa.registries.Dimensions;
+import io.github.vampirestudios.raa.registries.Materials;
+import io.github.vampirestudios.raa.registries.Textures;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
+import net.minecraft.Bootstrap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The data files written after generating the content have to be the same byte for byte no matter how many threads
+ * generated it.
+ */
+public class GeneratedDataConfigTest {
+    private static final long SEED = 1234567890L;
+    private static final int THREADS = 8;
+    private static final int MATERIALS = 200;
+    private static final int DIMENSIONS = 40;
+    private static final int CIVILIZATIONS = 20;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        Textures.init();
+        CustomTargets.init();
+    }
+
+    @Test
+    public void materialsAreIndependentOfTheThreadCount() throws IOException {
+        MaterialsConfig config = new MaterialsConfig("test/materials");
+        byte[] single = json(config, withThreads(1, () -> Materials.generate(LangEnum.ENGLISH.getMaterialNameGenerator(), MATERIALS, new HashSet<>())));
+        byte[] parallel = json(config, withThreads(THREADS, () -> Materials.generate(LangEnum.ENGLISH.getMaterialNameGenerator(), MATERIALS, new HashSet<>())));
+        assertArrayEquals(single, parallel);
+    }
+
+    @Test
+    public void dimensionsAreIndependentOfTheThreadCount() throws IOException {
+        DimensionsConfig config = new DimensionsConfig("test/dimensions");
+        List<DimensionData> singleDimensions = withThreads(1, () -> Dimensions.generate(LangEnum.ENGLISH.getDimensionNameGenerator(), DIMENSIONS, CIVILIZATIONS, new HashSet<>()));
+        List<DimensionData> parallelDimensions = withThreads(THREADS, () -> Dimensions.generate(LangEnum.ENGLISH.getDimensionNameGenerator(), DIMENSIONS, CIVILIZATIONS, new HashSet<>()));
+        assertEquals(DIMENSIONS, parallelDimensions.size());
+        assertArrayEquals(json(config, singleDimensions), json(config, parallelDimensions));
+    }
+
+    /**
+     * @return the data file the config would write for the entries
+     */
+    private static <T> byte[] json(RAADataConfig<T> config, List<T> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8);
+        config.save(writer, entries);
+        writer.flush();
+        return bytes.toByteArray();
+    }
+
+    private static <T> T withThreads(int threads, Supplier<T> generation) {
+        SeededGeneration.setup(SEED, threads);
+        return generation.get();
+    }
+}
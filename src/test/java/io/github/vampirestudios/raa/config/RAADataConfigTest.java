@@ -0,0 +1,125 @@
+package io.github.vampirestudios.raa.config;
+
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A save interrupted half way leaves a truncated temporary file, and a data file damaged some other way can't be read
+ * either. Both times the entries have to come back from the backup, and the damaged file must not replace it.
+ */
+public class RAADataConfigTest {
+    private static final String BACKUP = "{\"configVersion\": 2, \"entries\": [{\"name\": \"first\", \"value\": 1}, {\"name\": \"second\", \"value\": 2}]}";
+    private static final String TRUNCATED = "{\"configVersion\": 2, \"entries\": [{\"name\": \"first\", \"value\": 1}, {\"name\": \"sec";
+
+    @TempDir
+    public Path directory;
+
+    private TestConfig config;
+
+    @BeforeEach
+    public void createConfig() throws IOException {
+        // the binary copy of a file loaded fine is written in the background, maybe after the directory is gone
+        RAADataConfig.setup(false);
+        this.config = new TestConfig(this.directory.toFile(), "test");
+        write("test.json.bak", BACKUP);
+        write("test.json.tmp", TRUNCATED);
+    }
+
+    @AfterEach
+    public void restoreSetup() {
+        RAADataConfig.setup(true);
+    }
+
+    @Test
+    public void corruptDataFileLoadsTheBackup() throws IOException {
+        write("test.json", TRUNCATED);
+        this.config.load();
+        assertBackupLoaded();
+    }
+
+    @Test
+    public void missingDataFileLoadsTheBackup() throws IOException {
+        this.config.load();
+        assertBackupLoaded();
+    }
+
+    private void assertBackupLoaded() throws IOException {
+        assertEquals(2, this.config.entries.size());
+        assertEquals("first", this.config.entries.get(0).name);
+        assertEquals(2, this.config.entries.get(1).value);
+
+        // the save queued by loading the backup is replaced, so nothing writes once the directory is gone
+        this.config.overrideFile();
+        assertLoads("test.json");
+        // the backup is either the one loaded or the first file saved after it, never the damaged one
+        assertLoads("test.json.bak");
+    }
+
+    private void assertLoads(String name) throws IOException {
+        Files.copy(this.directory.resolve(name), this.directory.resolve("copy.json"), StandardCopyOption.REPLACE_EXISTING);
+        TestConfig copy = new TestConfig(this.directory.toFile(), "copy");
+        copy.load();
+        assertEquals(2, copy.entries.size(), name);
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(this.directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class Entry {
+        public String name;
+        public int value;
+    }
+
+    private static class TestConfig extends RAADataConfig<Entry> {
+        private final List<Entry> entries = new ArrayList<>();
+
+        TestConfig(File directory, String fileName) {
+            super(directory, fileName);
+        }
+
+        @Override
+        public void generate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected JsonObject upgrade(JsonObject json, int version) {
+            return json;
+        }
+
+        @Override
+        protected String getEntriesName() {
+            return "entries";
+        }
+
+        @Override
+        protected Class<Entry> getEntryClass() {
+            return Entry.class;
+        }
+
+        @Override
+        protected Iterable<Entry> getEntries() {
+            return this.entries;
+        }
+
+        @Override
+        protected void register(Entry entry) {
+            this.entries.add(entry);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import io.github.vampirestudios.raa.generation.chunkgenerator.config.CustomOverworldChunkGeneratorConfig;
+import io.github.vampirestudios.raa.generation.feature.CraterFeature;
+import io.github.vampirestudios.raa.generation.feature.NetherrackFeature;
+import io.github.vampirestudios.raa.generation.feature.config.CorruptedFeatureConfig;
+import net.minecraft.Bootstrap;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.biome.source.VoronoiBiomeAccessType;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.gen.ChunkRandom;
+import net.minecraft.world.gen.GenerationStep;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.OverworldChunkGeneratorConfig;
+import net.minecraft.world.gen.feature.DefaultFeatureConfig;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Generates the same chunks once on a single thread in order and once on a pool in the opposite order, through the
+ * biome, noise and carver stages and two features drawing from {@link io.github.vampirestudios.raa.utils.WorldgenRandom},
+ * and compares every block. The features are placed at the middle of the chunk on a random seeded the way the
+ * decorators seed theirs, since the feature stage itself needs a server.
+ */
+public class ChunkReproducibilityTest {
+    private static final long SEED = 1234567890L;
+    private static final int CHUNKS = 4;
+    private static final int THREADS = 4;
+
+    private static LevelProperties levelProperties;
+    private static Dimension dimension;
+    private static BiomeSource biomeSource;
+    private static BiomeAccess biomeAccess;
+    private static IWorld world;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_test");
+        dimension = DimensionType.OVERWORLD.create(null);
+        biomeSource = BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(levelProperties).setBiome(Biomes.PLAINS));
+        biomeAccess = new BiomeAccess(biomeSource, SEED, VoronoiBiomeAccessType.INSTANCE);
+        world = world(null);
+    }
+
+    @Test
+    public void quadrupleAmplifiedChunksDontDependOnTheThreadOrder() throws Exception {
+        assertSameBlocks(() -> new QuadrupleAmplifiedChunkGenerator(world, biomeSource, new OverworldChunkGeneratorConfig()));
+    }
+
+    @Test
+    public void customOverworldChunksDontDependOnTheThreadOrder() throws Exception {
+        CustomOverworldChunkGeneratorConfig config = new CustomOverworldChunkGeneratorConfig();
+        config.shouldSacrificeAccuracyForSpeed(true);
+        config.shouldAddDetailNoise(true);
+        config.setBaseOctaveAmount(10);
+        config.setBiomeScaleAmount(8);
+        config.setBaseHeight(100);
+        assertSameBlocks(() -> new CustomOverworldChunkGenerator(world, biomeSource, config));
+    }
+
+    /**
+     * Each run gets a generator of its own, so the second one doesn't read what the first one cached.
+     */
+    private static void assertSameBlocks(Supplier<ChunkGenerator<?>> generators) throws Exception {
+        List<ChunkPos> positions = new ArrayList<>();
+        for (int x = 0; x < CHUNKS; x++) {
+            for (int z = 0; z < CHUNKS; z++) {
+                positions.add(new ChunkPos(x - CHUNKS / 2, z - CHUNKS / 2));
+            }
+        }
+
+        ChunkGenerator<?> first = generators.get();
+        List<ProtoChunk> inOrder = new ArrayList<>();
+        for (ChunkPos pos : positions) {
+            inOrder.add(generate(first, pos));
+        }
+
+        ChunkGenerator<?> second = generators.get();
+        List<Future<ProtoChunk>> reversed = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = positions.size() - 1; i >= 0; i--) {
+                ChunkPos pos = positions.get(i);
+                reversed.add(0, executor.submit(() -> generate(second, pos)));
+            }
+            for (int i = 0; i < positions.size(); i++) {
+                assertSameBlocks(inOrder.get(i), reversed.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ProtoChunk generate(ChunkGenerator<?> generator, ChunkPos pos) {
+        ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.NO_UPGRADE_DATA);
+        generator.populateBiomes(chunk);
+        generator.populateNoise(world, chunk);
+        chunk.setStatus(ChunkStatus.NOISE);
+        generator.carve(biomeAccess, chunk, GenerationStep.Carver.AIR);
+        generator.carve(biomeAccess, chunk, GenerationStep.Carver.LIQUID);
+
+        IWorld chunkWorld = world(chunk);
+        BlockPos top = new BlockPos(pos.getStartX() + 8, chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE_WG, 8, 8) + 1, pos.getStartZ() + 8);
+        ChunkRandom random = new ChunkRandom();
+        long populationSeed = random.setPopulationSeed(SEED, pos.getStartX(), pos.getStartZ());
+        random.setFeatureSeed(populationSeed, 0, GenerationStep.Feature.LOCAL_MODIFICATIONS.ordinal());
+        new CraterFeature(CorruptedFeatureConfig::deserialize).generate(chunkWorld, generator, random, top, new CorruptedFeatureConfig(true));
+        random.setFeatureSeed(populationSeed, 1, GenerationStep.Feature.LOCAL_MODIFICATIONS.ordinal());
+        new NetherrackFeature(DefaultFeatureConfig::deserialize).generate(chunkWorld, generator, random, top.up(), DefaultFeatureConfig.DEFAULT);
+        return chunk;
+    }
+
+    private static void assertSameBlocks(ProtoChunk expected, ProtoChunk actual) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = 0; y < 256; y++) {
+                    pos.set(expected.getPos().getStartX() + x, y, expected.getPos().getStartZ() + z);
+                    assertEquals(expected.getBlockState(pos), actual.getBlockState(pos), "block at " + pos + " in " + expected.getPos());
+                }
+            }
+        }
+    }
+
+    /**
+     * Just as much of {@link IWorld} as the generators and the features use, reading and writing the blocks of the
+     * given chunk.
+     */
+    private static IWorld world(ProtoChunk chunk) {
+        return (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getSeaLevel":
+                    return 63;
+                case "getLevelProperties":
+                    return levelProperties;
+                case "getDimension":
+                    return dimension;
+                case "getBlockState":
+                    return chunk.getBlockState((BlockPos) args[0]);
+                case "setBlockState":
+                    chunk.setBlockState((BlockPos) args[0], (BlockState) args[1], false);
+                    return true;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,241 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import com.google.common.collect.ImmutableSet;
+import io.github.vampirestudios.raa.generation.chunkgenerator.config.CustomOverworldChunkGeneratorConfig;
+import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSource;
+import io.github.vampirestudios.raa.generation.dimensions.DimensionalBiomeSourceConfig;
+import io.github.vampirestudios.raa.generation.surface.ClassicCliffsSurfaceBuilder;
+import io.github.vampirestudios.raa.generation.surface.PatchyBadlandsSurfaceBuilder;
+import io.github.vampirestudios.raa.generation.surface.StratifiedSurfaceBuilder;
+import net.minecraft.Bootstrap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.noise.OctaveSimplexNoiseSampler;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.biome.source.VoronoiBiomeAccessType;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.gen.ChunkRandom;
+import net.minecraft.world.gen.GenerationStep;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.OverworldChunkGeneratorConfig;
+import net.minecraft.world.gen.surfacebuilder.SurfaceBuilder;
+import net.minecraft.world.gen.surfacebuilder.TernarySurfaceConfig;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Generates the chunks of several dimensions at once on many threads, mixed together in a shuffled order, and compares
+ * them against the same chunks generated one after the other on a single thread. Every dimension gets the world seed,
+ * as in the game, and the dimensions share the biome layouts and surface builder instances the way registered ones
+ * are shared.
+ *
+ * <p>The chunks go through the biome, noise and carver stages of their generator. The surface is built column by
+ * column the way the generators build it, with the surface builder called directly, since the surface stage itself
+ * takes a {@link net.minecraft.world.ChunkRegion}, which needs a server.</p>
+ */
+public class ConcurrentGenerationTest {
+    private static final long SEED = 1234567890L;
+    private static final int CHUNKS = 4;
+    private static final int THREADS = 8;
+
+    private static LevelProperties levelProperties;
+    private static Dimension dimension;
+    private static IWorld world;
+    private static OctaveSimplexNoiseSampler surfaceNoise;
+    private static SurfaceBuilder<TernarySurfaceConfig> patchyBadlands;
+    private static SurfaceBuilder<TernarySurfaceConfig> classicCliffs;
+    private static SurfaceBuilder<TernarySurfaceConfig> stratified;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_test");
+        dimension = DimensionType.OVERWORLD.create(null);
+        world = (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getSeaLevel":
+                    return 63;
+                case "getLevelProperties":
+                    return levelProperties;
+                case "getDimension":
+                    return dimension;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        surfaceNoise = new OctaveSimplexNoiseSampler(new ChunkRandom(SEED), 3, 0);
+        patchyBadlands = new PatchyBadlandsSurfaceBuilder(TernarySurfaceConfig::deserialize);
+        classicCliffs = new ClassicCliffsSurfaceBuilder(TernarySurfaceConfig::deserialize);
+        stratified = new StratifiedSurfaceBuilder(TernarySurfaceConfig::deserialize);
+    }
+
+    @Test
+    public void dimensionsGeneratedTogetherMatchThemGeneratedAlone() throws Exception {
+        List<TestDimension> alone = dimensions();
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < alone.size(); i++) {
+            for (int x = 0; x < CHUNKS; x++) {
+                for (int z = 0; z < CHUNKS; z++) {
+                    jobs.add(new Job(i, new ChunkPos(x - CHUNKS / 2, z - CHUNKS / 2)));
+                }
+            }
+        }
+
+        List<ProtoChunk> expected = new ArrayList<>();
+        for (Job job : jobs) {
+            expected.add(alone.get(job.dimension).generate(job.pos));
+        }
+
+        // fresh dimensions, so nothing the first run cached is read back
+        List<TestDimension> together = dimensions();
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, new Random(SEED));
+        List<Future<ProtoChunk>> actual = new ArrayList<>(Collections.nCopies(jobs.size(), null));
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i : order) {
+                Job job = jobs.get(i);
+                actual.set(i, executor.submit(() -> together.get(job.dimension).generate(job.pos)));
+            }
+            for (int i = 0; i < jobs.size(); i++) {
+                assertSameChunk(expected.get(i), actual.get(i).get(), "dimension " + jobs.get(i).dimension);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Two dimensions of the same layout get biome sources of their own, as each dimension builds its own.
+     */
+    private static List<TestDimension> dimensions() {
+        ImmutableSet<Biome> cold = ImmutableSet.of(Biomes.PLAINS, Biomes.TAIGA, Biomes.SNOWY_TUNDRA, Biomes.MOUNTAINS);
+        ImmutableSet<Biome> warm = ImmutableSet.of(Biomes.DESERT, Biomes.SAVANNA, Biomes.JUNGLE, Biomes.BADLANDS, Biomes.SWAMP);
+        List<TestDimension> dimensions = new ArrayList<>();
+        dimensions.add(new TestDimension(dimensional(warm), source -> new QuadrupleAmplifiedChunkGenerator(world, source, new OverworldChunkGeneratorConfig()), patchyBadlands));
+        dimensions.add(new TestDimension(plains(), source -> new PillarWorldChunkGenerator(world, source, new OverworldChunkGeneratorConfig()), classicCliffs));
+        dimensions.add(new TestDimension(dimensional(cold), source -> new CustomOverworldChunkGenerator(world, source, customOverworldConfig()), stratified));
+        dimensions.add(new TestDimension(dimensional(warm), source -> new OverworldChunkGenerator(world, source, new OverworldChunkGeneratorConfig()), patchyBadlands));
+        return dimensions;
+    }
+
+    private static BiomeSource dimensional(ImmutableSet<Biome> biomes) {
+        return new DimensionalBiomeSource(new DimensionalBiomeSourceConfig(levelProperties).setBiomes(biomes));
+    }
+
+    private static BiomeSource plains() {
+        return BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(levelProperties).setBiome(Biomes.PLAINS));
+    }
+
+    private static CustomOverworldChunkGeneratorConfig customOverworldConfig() {
+        CustomOverworldChunkGeneratorConfig config = new CustomOverworldChunkGeneratorConfig();
+        config.shouldSacrificeAccuracyForSpeed(true);
+        config.shouldAddDetailNoise(true);
+        config.setBaseOctaveAmount(10);
+        config.setBiomeScaleAmount(8);
+        config.setBaseHeight(100);
+        return config;
+    }
+
+    private static void assertSameChunk(ProtoChunk expected, ProtoChunk actual, String dimension) {
+        assertArrayEquals(expected.getBiomeArray().toIntArray(), actual.getBiomeArray().toIntArray(), "biomes of " + expected.getPos() + " in " + dimension);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = 0; y < 256; y++) {
+                    pos.set(expected.getPos().getStartX() + x, y, expected.getPos().getStartZ() + z);
+                    assertEquals(expected.getBlockState(pos), actual.getBlockState(pos), "block at " + pos + " in " + dimension);
+                }
+            }
+        }
+    }
+
+    private static class Job {
+        private final int dimension;
+        private final ChunkPos pos;
+
+        private Job(int dimension, ChunkPos pos) {
+            this.dimension = dimension;
+            this.pos = pos;
+        }
+    }
+
+    private static class TestDimension {
+        private final ChunkGenerator<?> generator;
+        private final BiomeAccess biomeAccess;
+        private final SurfaceBuilder<TernarySurfaceConfig> surfaceBuilder;
+
+        private TestDimension(BiomeSource biomeSource, Function<BiomeSource, ChunkGenerator<?>> generator, SurfaceBuilder<TernarySurfaceConfig> surfaceBuilder) {
+            this.generator = generator.apply(biomeSource);
+            this.biomeAccess = new BiomeAccess(biomeSource, SEED, VoronoiBiomeAccessType.INSTANCE);
+            this.surfaceBuilder = surfaceBuilder;
+        }
+
+        private ProtoChunk generate(ChunkPos pos) {
+            ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.NO_UPGRADE_DATA);
+            this.generator.populateBiomes(chunk);
+            this.generator.populateNoise(world, chunk);
+            chunk.setStatus(ChunkStatus.NOISE);
+            this.buildSurface(chunk);
+            this.generator.carve(this.biomeAccess, chunk, GenerationStep.Carver.AIR);
+            this.generator.carve(this.biomeAccess, chunk, GenerationStep.Carver.LIQUID);
+            return chunk;
+        }
+
+        /**
+         * The column loop of the surface stage, with a surface depth noise like the one of the generators.
+         */
+        private void buildSurface(ProtoChunk chunk) {
+            ChunkRandom random = new ChunkRandom();
+            random.setTerrainSeed(chunk.getPos().x, chunk.getPos().z);
+            BlockState stone = Blocks.STONE.getDefaultState();
+            BlockState water = Blocks.WATER.getDefaultState();
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+            for (int localX = 0; localX < 16; localX++) {
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    int x = chunk.getPos().getStartX() + localX;
+                    int z = chunk.getPos().getStartZ() + localZ;
+                    int height = chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE_WG, localX, localZ) + 1;
+                    double noise = surfaceNoise.sample(x * 0.0625D, z * 0.0625D, false) * 15.0D;
+                    Biome biome = this.biomeAccess.getBiome(pos.set(x, height, z));
+                    this.surfaceBuilder.initSeed(SEED);
+                    this.surfaceBuilder.generate(random, chunk, biome, x, z, height, noise, stone, water, this.generator.getSeaLevel(), SEED, SurfaceBuilder.GRASS_CONFIG);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import io.github.vampirestudios.raa.generation.chunkgenerator.config.CustomOverworldChunkGeneratorConfig;
+import net.minecraft.Bootstrap;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the heights read from the cached noise lattice against the four corners every column sampled before, on a
+ * block of neighbouring chunks walked in both directions and on chunks far apart from each other.
+ */
+public class CustomOverworldChunkGeneratorTest {
+    private static final long SEED = 1234567890L;
+    private static final int[][] SCATTERED_CHUNKS = {{0, 0}, {-1, -1}, {37, -12}, {-200, 450}, {1875, -1875}, {-30000, 29999}};
+    private static final int AREA = 4;
+
+    private static LevelProperties levelProperties;
+    private static Dimension dimension;
+    private static BiomeSource biomeSource;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_test");
+        dimension = DimensionType.OVERWORLD.create(null);
+        biomeSource = BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(levelProperties).setBiome(Biomes.PLAINS));
+    }
+
+    @Test
+    public void scatteredChunksMatchTheColumnCorners() {
+        CustomOverworldChunkGenerator generator = generator();
+        for (int[] chunk : SCATTERED_CHUNKS) {
+            assertChunkMatches(generator, chunk[0], chunk[1]);
+        }
+    }
+
+    @Test
+    public void neighbouringChunksMatchTheColumnCorners() {
+        CustomOverworldChunkGenerator eastward = generator();
+        for (int x = 0; x < AREA << 4; x++) {
+            for (int z = 0; z < AREA << 4; z++) {
+                eastward.getHeight(x, z);
+            }
+        }
+        // every corner of the area once, the shared edges are taken from the neighbours
+        assertEquals((AREA * 4 + 1) * (AREA * 4 + 1), eastward.getNoiseSamples());
+        for (int chunkZ = 0; chunkZ < AREA; chunkZ++) {
+            for (int chunkX = 0; chunkX < AREA; chunkX++) {
+                assertChunkMatches(eastward, chunkX, chunkZ);
+            }
+        }
+
+        // walking back, no neighbour is cached when a chunk is built and the edges are sampled again
+        CustomOverworldChunkGenerator westward = generator();
+        for (int chunkZ = AREA - 1; chunkZ >= 0; chunkZ--) {
+            for (int chunkX = AREA - 1; chunkX >= 0; chunkX--) {
+                assertChunkMatches(westward, chunkX, chunkZ);
+            }
+        }
+    }
+
+    private static void assertChunkMatches(CustomOverworldChunkGenerator generator, int chunkX, int chunkZ) {
+        for (int x = chunkX << 4; x < (chunkX << 4) + 16; x++) {
+            for (int z = chunkZ << 4; z < (chunkZ << 4) + 16; z++) {
+                assertEquals(columnHeight(generator, x, z), generator.getHeight(x, z), "height at " + x + ", " + z);
+            }
+        }
+    }
+
+    /**
+     * The height of a column the way it was computed before the lattice, from the four corners around it.
+     */
+    private static int columnHeight(CustomOverworldChunkGenerator generator, int x, int z) {
+        int subX = ((x >> 2) << 2);
+        int subZ = ((z >> 2) << 2);
+        int subXUpper = subX + 4;
+        int subZUpper = subZ + 4;
+
+        double xProgress = (double) (x - subX) / 4.0;
+        double zProgress = (double) (z - subZ) / 4.0;
+
+        double sampleNW = generator.sampleNoise(subX, subZ);
+        double sampleNE = generator.sampleNoise(subXUpper, subZ);
+        double sampleSW = generator.sampleNoise(subX, subZUpper);
+        double sampleSE = generator.sampleNoise(subXUpper, subZUpper);
+
+        double sample = MathHelper.lerp(zProgress,
+                MathHelper.lerp(xProgress, sampleNW, sampleNE),
+                MathHelper.lerp(xProgress, sampleSW, sampleSE));
+
+        double detail = generator.sampleDetail(x, z);
+        return (int) (sample + detail);
+    }
+
+    /**
+     * A generator of its own, so the lattice cache and the sample count start empty. The reference heights go through
+     * the same samplers, so the count is read before those.
+     */
+    private static CustomOverworldChunkGenerator generator() {
+        CustomOverworldChunkGeneratorConfig config = new CustomOverworldChunkGeneratorConfig();
+        config.shouldSacrificeAccuracyForSpeed(true);
+        config.shouldAddDetailNoise(true);
+        config.setBaseOctaveAmount(10);
+        config.setBiomeScaleAmount(8);
+        config.setBaseHeight(100);
+        return new CustomOverworldChunkGenerator(world(), biomeSource, config);
+    }
+
+    private static IWorld world() {
+        return (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getSeaLevel":
+                    return 63;
+                case "getLevelProperties":
+                    return levelProperties;
+                case "getDimension":
+                    return dimension;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.OverworldChunkGeneratorConfig;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the estimated heights against the heightmaps of the noise stage, on chunks spread over a few thousand
+ * blocks. Every biome is plains, whose surface builder only replaces the top blocks.
+ */
+public class HeightEstimatorTest {
+    private static final long SEED = 1234567890L;
+    private static final int SAMPLED_CHUNKS = 8;
+    private static final int CHUNK_SPACING = 37;
+
+    private static LevelProperties levelProperties;
+    private static Dimension dimension;
+    private static BiomeSource biomeSource;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_test");
+        dimension = DimensionType.OVERWORLD.create(null);
+        biomeSource = BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(levelProperties).setBiome(Biomes.PLAINS));
+    }
+
+    @Test
+    public void overworldStaysWithinTheBound() {
+        IWorld world = world();
+        assertWithinBound(world, new OverworldChunkGenerator(world, biomeSource, new OverworldChunkGeneratorConfig()));
+    }
+
+    @Test
+    public void quadrupleAmplifiedStaysWithinTheBound() {
+        IWorld world = world();
+        assertWithinBound(world, new QuadrupleAmplifiedChunkGenerator(world, biomeSource, new OverworldChunkGeneratorConfig()));
+    }
+
+    @Test
+    public void generatedChunksAreReadExactly() {
+        IWorld empty = world();
+        OverworldChunkGenerator generator = new OverworldChunkGenerator(empty, biomeSource, new OverworldChunkGeneratorConfig());
+        ProtoChunk chunk = new ProtoChunk(new ChunkPos(3, -2), UpgradeData.NO_UPGRADE_DATA);
+        generator.populateBiomes(chunk);
+        generator.populateNoise(empty, chunk);
+        chunk.setStatus(ChunkStatus.NOISE);
+
+        IWorld generated = world(chunk);
+        HeightEstimator estimator = HeightEstimator.of(generated, generator);
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int actual = chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE_WG, x, z) + 1;
+                assertEquals(actual, estimator.estimateHeight(chunk.getPos().getStartX() + x, chunk.getPos().getStartZ() + z));
+            }
+        }
+        assertEquals(0, estimator.estimateSite(chunk.getPos().getStartX() + 8, chunk.getPos().getStartZ() + 8, 7).getErrorBound());
+    }
+
+    private static void assertWithinBound(IWorld world, ChunkGenerator<?> generator) {
+        HeightEstimator estimator = HeightEstimator.of(world, generator);
+        for (int i = 0; i < SAMPLED_CHUNKS; i++) {
+            for (int j = 0; j < SAMPLED_CHUNKS; j++) {
+                ProtoChunk chunk = new ProtoChunk(new ChunkPos(i * CHUNK_SPACING, j * CHUNK_SPACING), UpgradeData.NO_UPGRADE_DATA);
+                generator.populateBiomes(chunk);
+                generator.populateNoise(world, chunk);
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        int actual = chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE_WG, x, z) + 1;
+                        int estimate = estimator.estimateHeight(chunk.getPos().getStartX() + x, chunk.getPos().getStartZ() + z);
+                        assertTrue(Math.abs(estimate - actual) <= HeightEstimator.NOISE_ERROR_BOUND,
+                                "estimated " + estimate + " instead of " + actual + " in " + chunk.getPos() + " at " + x + ", " + z);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Just as much of {@link IWorld} as the generators and the estimator use, handing out only the given chunks.
+     */
+    private static IWorld world(ProtoChunk... chunks) {
+        return (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getSeaLevel":
+                    return 63;
+                case "getLevelProperties":
+                    return levelProperties;
+                case "getDimension":
+                    return dimension;
+                case "getChunk":
+                    for (ProtoChunk chunk : chunks) {
+                        if (chunk.getPos().x == (Integer) args[0] && chunk.getPos().z == (Integer) args[1]) return chunk;
+                    }
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NoiseColumnCacheTest {
+    private static final int COLUMN_HEIGHT = 33;
+
+    @Test
+    public void returnsWhatWasPut() {
+        NoiseColumnCache cache = new NoiseColumnCache(64);
+        double[] buffer = new double[COLUMN_HEIGHT];
+        assertFalse(cache.get(buffer, 3, -7));
+
+        double[] column = column(1);
+        cache.put(column, 3, -7);
+        assertTrue(cache.get(buffer, 3, -7));
+        assertArrayEquals(column, buffer);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void keepsItsOwnCopy() {
+        NoiseColumnCache cache = new NoiseColumnCache(64);
+        double[] column = column(2);
+        cache.put(column, 0, 0);
+        column[0] = -1;
+
+        double[] buffer = new double[COLUMN_HEIGHT];
+        assertTrue(cache.get(buffer, 0, 0));
+        buffer[1] = -1;
+        assertTrue(cache.get(buffer, 0, 0));
+        assertArrayEquals(column(2), buffer);
+    }
+
+    @Test
+    public void tellsColumnsApartByTheirCoordinates() {
+        NoiseColumnCache cache = new NoiseColumnCache(1024);
+        cache.put(column(3), -1, 5);
+        assertFalse(cache.get(new double[COLUMN_HEIGHT], 5, -1));
+        assertFalse(cache.get(new double[COLUMN_HEIGHT], -1, 6));
+        assertTrue(cache.get(new double[COLUMN_HEIGHT], -1, 5));
+    }
+
+    @Test
+    public void missesColumnsOfAnotherHeight() {
+        NoiseColumnCache cache = new NoiseColumnCache(64);
+        cache.put(column(4), 8, 8);
+        assertFalse(cache.get(new double[COLUMN_HEIGHT + 1], 8, 8));
+    }
+
+    @Test
+    public void aColumnEvictsTheOneInItsSlot() {
+        // the smallest cache has two slots, so two of any three columns share one
+        boolean evicted = false;
+        for (int first = 0; first < 3; first++) {
+            for (int second = first + 1; second < 3; second++) {
+                NoiseColumnCache cache = new NoiseColumnCache(1);
+                cache.put(column(first), first, 0);
+                cache.put(column(second), second, 0);
+                double[] buffer = new double[COLUMN_HEIGHT];
+                assertTrue(cache.get(buffer, second, 0));
+                assertArrayEquals(column(second), buffer);
+                evicted |= !cache.get(buffer, first, 0);
+            }
+        }
+        assertTrue(evicted, "no column was evicted from a cache of two slots");
+    }
+
+    @Test
+    public void holdsAsManyColumnsAsItHasSlots() {
+        int size = 256;
+        NoiseColumnCache cache = new NoiseColumnCache(size);
+        for (int x = 0; x < 64; x++) {
+            for (int z = 0; z < 64; z++) {
+                cache.put(column(x * 64 + z), x, z);
+            }
+        }
+        int cached = 0;
+        double[] buffer = new double[COLUMN_HEIGHT];
+        for (int x = 0; x < 64; x++) {
+            for (int z = 0; z < 64; z++) {
+                if (cache.get(buffer, x, z)) {
+                    assertArrayEquals(column(x * 64 + z), buffer);
+                    cached++;
+                }
+            }
+        }
+        // every slot ends up holding the last column put into it
+        assertTrue(cached <= size, cached + " columns in " + size + " slots");
+        assertTrue(cached >= size / 2, "only " + cached + " of " + size + " slots used");
+    }
+
+    private static double[] column(int seed) {
+        double[] column = new double[COLUMN_HEIGHT];
+        for (int y = 0; y < COLUMN_HEIGHT; y++) {
+            column[y] = seed * 31.0D + y * 0.5D;
+        }
+        return column;
+    }
+}
@@ -0,0 +1,341 @@
+package io.github.vampirestudios.raa.generation.chunkgenerator;
+
+import io.github.vampirestudios.raa.mixins.SurfaceChunkGeneratorInvoker;
+import net.minecraft.Bootstrap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.gen.chunk.FloatingIslandsChunkGeneratorConfig;
+import net.minecraft.world.gen.chunk.SurfaceChunkGenerator;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the floating island generators against the same generators sampling every row the way vanilla does, both
+ * the noise columns and the blocks they turn into. A row left out may hold a different value than vanilla's, as long
+ * as both are air.
+ */
+public class SparseSurfaceChunkGeneratorTest {
+    private static final long SEED = 1234567890L;
+    private static final int COLUMNS = 12;
+    private static final int[][] CHUNKS = {{0, 0}, {-1, 0}, {0, -1}, {-1, -1}, {37, -12}, {-200, 450}};
+
+    private static LevelProperties levelProperties;
+    private static Dimension dimension;
+    private static BiomeSource biomeSource;
+    private static Method sampleNoise;
+
+    @BeforeAll
+    public static void bootstrap() throws NoSuchMethodException {
+        Bootstrap.initialize();
+        levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_test");
+        dimension = DimensionType.OVERWORLD.create(null);
+        biomeSource = BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(levelProperties).setBiome(Biomes.PLAINS));
+        // what the invoker mixin reaches in the game
+        sampleNoise = SurfaceChunkGenerator.class.getDeclaredMethod("sampleNoise", int.class, int.class, int.class, double.class, double.class, double.class, double.class);
+        sampleNoise.setAccessible(true);
+    }
+
+    @Test
+    public void floatingIslandsMatchVanilla() {
+        assertMatchesVanilla(Floating::new);
+    }
+
+    @Test
+    public void layeredFloatingIslandsMatchVanilla() {
+        assertMatchesVanilla(Layered::new);
+    }
+
+    @Test
+    public void preClassicFloatingIslandsMatchVanilla() {
+        assertMatchesVanilla(PreClassic::new);
+    }
+
+    private static <G extends SparseSurfaceChunkGenerator<?> & Sampler> void assertMatchesVanilla(BiFunction<IWorld, Boolean, G> generators) {
+        G sparse = generators.apply(world(), false);
+        G vanilla = generators.apply(world(), true);
+
+        for (int x = -COLUMNS; x < COLUMNS; x++) {
+            for (int z = -COLUMNS; z < COLUMNS; z++) {
+                double[] expected = new double[sparse.noiseSizeY()];
+                double[] actual = new double[sparse.noiseSizeY()];
+                vanilla.sampleColumn(expected, x, z);
+                sparse.sampleColumn(actual, x, z);
+                for (int y = 0; y < expected.length; y++) {
+                    double vanillaNoise = expected[y];
+                    double sparseNoise = actual[y];
+                    assertTrue(sparseNoise == vanillaNoise || (sparseNoise <= 0.0D && vanillaNoise <= 0.0D),
+                            "row " + y + " of column " + x + ", " + z + " is " + sparseNoise + " instead of " + vanillaNoise);
+                }
+            }
+        }
+        assertTrue(sparse.getSkippedRows() > 0, "no row was left out");
+
+        for (int[] pos : CHUNKS) {
+            ProtoChunk expected = new ProtoChunk(new ChunkPos(pos[0], pos[1]), UpgradeData.NO_UPGRADE_DATA);
+            ProtoChunk actual = new ProtoChunk(new ChunkPos(pos[0], pos[1]), UpgradeData.NO_UPGRADE_DATA);
+            vanilla.populateNoise(world(), expected);
+            sparse.populateNoise(world(), actual);
+            assertSameBlocks(expected, actual);
+            for (ChunkSection section : actual.getSectionArray()) {
+                assertTrue(section == WorldChunk.EMPTY_SECTION || !ChunkSection.isEmpty(section), "an empty section was kept in " + actual.getPos());
+            }
+        }
+    }
+
+    private static void assertSameBlocks(ProtoChunk expected, ProtoChunk actual) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = 0; y < 256; y++) {
+                    pos.set(expected.getPos().getStartX() + x, y, expected.getPos().getStartZ() + z);
+                    assertSame(expected.getBlockState(pos), actual.getBlockState(pos), "block at " + pos + " in " + expected.getPos());
+                }
+            }
+        }
+    }
+
+    /**
+     * The column loop of {@link SurfaceChunkGenerator}, sampling every row.
+     */
+    private static void sampleVanillaColumn(Sampler sampler, double[] buffer, int x, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch, int topSlideSize, int topSlideTarget) {
+        double[] noiseRange = sampler.noiseRange(x, z);
+        double topSlideStart = sampler.topSlideStart();
+        double bottomSlideStart = sampler.bottomSlideStart();
+        for (int y = 0; y < buffer.length; ++y) {
+            double noise = sampler.invokeSampleNoise(x, y, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch);
+            noise -= sampler.noiseFalloff(noiseRange[0], noiseRange[1], y);
+            if ((double) y > topSlideStart) {
+                noise = MathHelper.clampedLerp(noise, topSlideTarget, ((double) y - topSlideStart) / (double) topSlideSize);
+            } else if ((double) y < bottomSlideStart) {
+                noise = MathHelper.clampedLerp(noise, -30.0D, (bottomSlideStart - (double) y) / (bottomSlideStart - 1.0D));
+            }
+            buffer[y] = noise;
+        }
+    }
+
+    private static double sampleNoise(SurfaceChunkGenerator<?> generator, int x, int y, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch) {
+        try {
+            return (double) sampleNoise.invoke(generator, x, y, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static IWorld world() {
+        return (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getSeaLevel":
+                    return 63;
+                case "getLevelProperties":
+                    return levelProperties;
+                case "getDimension":
+                    return dimension;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * The protected parts of a generator the vanilla column loop needs, and the noise sampling the invoker mixin adds
+     * to it in the game.
+     */
+    private interface Sampler extends SurfaceChunkGeneratorInvoker {
+        void sampleColumn(double[] buffer, int x, int z);
+
+        int noiseSizeY();
+
+        double[] noiseRange(int x, int z);
+
+        double noiseFalloff(double depth, double scale, int y);
+
+        double topSlideStart();
+
+        double bottomSlideStart();
+    }
+
+    private static final class Floating extends FloatingIslandsChunkGenerator implements Sampler {
+        private final boolean vanilla;
+
+        Floating(IWorld world, boolean vanilla) {
+            super(world, biomeSource, new FloatingIslandsChunkGeneratorConfig());
+            this.vanilla = vanilla;
+        }
+
+        @Override
+        protected void sampleNoiseColumn(double[] buffer, int x, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch, int topSlideSize, int topSlideTarget) {
+            if (this.vanilla) {
+                sampleVanillaColumn(this, buffer, x, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch, topSlideSize, topSlideTarget);
+            } else {
+                super.sampleNoiseColumn(buffer, x, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch, topSlideSize, topSlideTarget);
+            }
+        }
+
+        @Override
+        public double invokeSampleNoise(int x, int y, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch) {
+            return sampleNoise(this, x, y, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch);
+        }
+
+        @Override
+        public void sampleColumn(double[] buffer, int x, int z) {
+            this.sampleNoiseColumn(buffer, x, z);
+        }
+
+        @Override
+        public int noiseSizeY() {
+            return this.getNoiseSizeY();
+        }
+
+        @Override
+        public double[] noiseRange(int x, int z) {
+            return this.computeNoiseRange(x, z);
+        }
+
+        @Override
+        public double noiseFalloff(double depth, double scale, int y) {
+            return this.computeNoiseFalloff(depth, scale, y);
+        }
+
+        @Override
+        public double topSlideStart() {
+            return this.method_16409();
+        }
+
+        @Override
+        public double bottomSlideStart() {
+            return this.method_16410();
+        }
+    }
+
+    private static final class Layered extends LayeredFloatingIslandsChunkGenerator implements Sampler {
+        private final boolean vanilla;
+
+        Layered(IWorld world, boolean vanilla) {
+            super(world, biomeSource, new FloatingIslandsChunkGeneratorConfig());
+            this.vanilla = vanilla;
+        }
+
+        @Override
+        protected void sampleNoiseColumn(double[] buffer, int x, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch, int topSlideSize, int topSlideTarget) {
+            if (this.vanilla) {
+                sampleVanillaColumn(this, buffer, x, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch, topSlideSize, topSlideTarget);
+            } else {
+                super.sampleNoiseColumn(buffer, x, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch, topSlideSize, topSlideTarget);
+            }
+        }
+
+        @Override
+        public double invokeSampleNoise(int x, int y, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch) {
+            return sampleNoise(this, x, y, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch);
+        }
+
+        @Override
+        public void sampleColumn(double[] buffer, int x, int z) {
+            this.sampleNoiseColumn(buffer, x, z);
+        }
+
+        @Override
+        public int noiseSizeY() {
+            return this.getNoiseSizeY();
+        }
+
+        @Override
+        public double[] noiseRange(int x, int z) {
+            return this.computeNoiseRange(x, z);
+        }
+
+        @Override
+        public double noiseFalloff(double depth, double scale, int y) {
+            return this.computeNoiseFalloff(depth, scale, y);
+        }
+
+        @Override
+        public double topSlideStart() {
+            return this.method_16409();
+        }
+
+        @Override
+        public double bottomSlideStart() {
+            return this.method_16410();
+        }
+    }
+
+    private static final class PreClassic extends PreClassicFloatingIslandsChunkGenerator implements Sampler {
+        private final boolean vanilla;
+
+        PreClassic(IWorld world, boolean vanilla) {
+            super(world, biomeSource, new FloatingIslandsChunkGeneratorConfig());
+            this.vanilla = vanilla;
+        }
+
+        @Override
+        protected void sampleNoiseColumn(double[] buffer, int x, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch, int topSlideSize, int topSlideTarget) {
+            if (this.vanilla) {
+                sampleVanillaColumn(this, buffer, x, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch, topSlideSize, topSlideTarget);
+            } else {
+                super.sampleNoiseColumn(buffer, x, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch, topSlideSize, topSlideTarget);
+            }
+        }
+
+        @Override
+        public double invokeSampleNoise(int x, int y, int z, double horizontalScale, double verticalScale, double horizontalStretch, double verticalStretch) {
+            return sampleNoise(this, x, y, z, horizontalScale, verticalScale, horizontalStretch, verticalStretch);
+        }
+
+        @Override
+        public void sampleColumn(double[] buffer, int x, int z) {
+            this.sampleNoiseColumn(buffer, x, z);
+        }
+
+        @Override
+        public int noiseSizeY() {
+            return this.getNoiseSizeY();
+        }
+
+        @Override
+        public double[] noiseRange(int x, int z) {
+            return this.computeNoiseRange(x, z);
+        }
+
+        @Override
+        public double noiseFalloff(double depth, double scale, int y) {
+            return this.computeNoiseFalloff(depth, scale, y);
+        }
+
+        @Override
+        public double topSlideStart() {
+            return this.method_16409();
+        }
+
+        @Override
+        public double bottomSlideStart() {
+            return this.method_16410();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.vampirestudios.raa.history;
+
+import io.github.vampirestudios.raa.utils.Rands;
+import io.github.vampirestudios.raa.utils.SeededGeneration;
+import io.github.vampirestudios.raa.utils.Utils;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The simulation has to end the same way no matter how many threads run it, and a tick has to match the influence of
+ * every civilization on every dimension it replaced.
+ */
+public class CivilizationSimulatorTest {
+    private static final long SEED = 1234567890L;
+    private static final int DIMENSIONS = 80;
+    private static final int CIVILIZATIONS = 20;
+    private static final int TICKS = 3;
+
+    @Test
+    public void isIndependentOfTheThreadCount() {
+        Multiverse single = simulate(1);
+        Multiverse parallel = simulate(8);
+
+        boolean anyInfluence = false;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            ProtoDimension expected = single.dimensions.get(i);
+            ProtoDimension actual = parallel.dimensions.get(i);
+            assertEquals(expected.getFlags(), actual.getFlags(), "flags of dimension " + i);
+            assertEquals(expected.getCivilizationInfluences(), actual.getCivilizationInfluences(), "influences on dimension " + i);
+            anyInfluence |= !actual.getCivilizationInfluences().isEmpty();
+        }
+        assertTrue(anyInfluence, "no civilization influenced any dimension");
+
+        for (int i = 0; i < single.civilizations.size(); i++) {
+            Civilization expected = single.civilizations.get(i);
+            Civilization actual = parallel.civilizations.get(i);
+            assertEquals(expected.getTechLevel(), actual.getTechLevel(), "tech level of " + expected.getName());
+            assertEquals(expected.getInfluenceRadius(), actual.getInfluenceRadius(), "influence radius of " + expected.getName());
+        }
+    }
+
+    @Test
+    public void aTickMatchesTheBruteForceInfluence() {
+        SeededGeneration.setup(SEED, 8);
+        Multiverse simulated = multiverse();
+        new CivilizationSimulator(simulated.dimensions, simulated.civilizations).run(1);
+        Multiverse bruteForce = multiverse();
+        bruteForce.tick();
+
+        boolean anyInfluence = false;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            ProtoDimension expected = bruteForce.dimensions.get(i);
+            ProtoDimension actual = simulated.dimensions.get(i);
+            assertEquals(expected.getFlags(), actual.getFlags(), "flags of dimension " + i);
+            assertEquals(expected.getCivilizationInfluences(), actual.getCivilizationInfluences(), "influences on dimension " + i);
+            anyInfluence |= actual.getCivilizationInfluences().size() > 1;
+        }
+        assertTrue(anyInfluence, "no civilization influenced a dimension besides its home");
+    }
+
+    private static Multiverse simulate(int threads) {
+        SeededGeneration.setup(SEED, threads);
+        Multiverse multiverse = multiverse();
+        new CivilizationSimulator(multiverse.dimensions, multiverse.civilizations).run(TICKS);
+        return multiverse;
+    }
+
+    private static Multiverse multiverse() {
+        Random random = new Random(SEED);
+        Multiverse multiverse = new Multiverse();
+        for (int i = 0; i < DIMENSIONS; i++) {
+            String name = "dimension_" + i;
+            ProtoDimension dimension = new ProtoDimension(new Pair<>(name, new Identifier("raa", name)), random.nextInt(64), random.nextFloat() * 2, random.nextFloat() * 2);
+            dimension.setXandY(random.nextFloat(), random.nextFloat());
+            multiverse.dimensions.add(dimension);
+        }
+        for (int i = 0; i < CIVILIZATIONS; i++) {
+            multiverse.civilizations.add(new Civilization("civilization_" + i, multiverse.dimensions.get(i * (DIMENSIONS / CIVILIZATIONS))));
+        }
+        return multiverse;
+    }
+
+    private static class Multiverse {
+        private final List<ProtoDimension> dimensions = new ArrayList<>();
+        private final List<Civilization> civilizations = new ArrayList<>();
+
+        /**
+         * What generation ran before, every civilization simulated first and then a loop over every civilization and
+         * every dimension, on the randoms the simulator hands out for the first tick.
+         */
+        private void tick() {
+            SeededGeneration generation = SeededGeneration.create("civilizations/0");
+            Random[] randoms = new Random[this.civilizations.size()];
+            for (int index = 0; index < this.civilizations.size(); index++) {
+                randoms[index] = generation.random(index, 0);
+                this.civilizations.get(index).simulate(randoms[index]);
+            }
+
+            for (int index = 0; index < this.civilizations.size(); index++) {
+                Civilization civ = this.civilizations.get(index);
+                Random random = randoms[index];
+
+                //tech level 0 civs get no influence
+                if (civ.getTechLevel() == 0) continue;
+
+                for (ProtoDimension dimension : this.dimensions) {
+                    if (dimension != civ.getHomeDimension()) {
+                        double d = Utils.dist(dimension.getX(), dimension.getY(), civ.getHomeDimension().getX(), civ.getHomeDimension().getY());
+                        if (d <= civ.getInfluenceRadius()) {
+                            double percent = (civ.getInfluenceRadius() - d) / civ.getInfluenceRadius();
+                            dimension.addInfluence(civ.getName(), percent);
+                            if (percent > 0.40) {
+                                if (civ.getTechLevel() >= 2) if (Rands.chance(random, 5)) dimension.setAbandoned();
+                            }
+                            if (percent > 0.60) {
+                                if (civ.getTechLevel() >= 2) if (Rands.chance(random, 4)) dimension.setAbandoned();
+                                if (civ.getTechLevel() >= 3) if (Rands.chance(random, 5)) dimension.setDead();
+                            }
+                            if (percent > 0.80) {
+                                if (civ.getTechLevel() >= 2) if (Rands.chance(random, 3)) dimension.setAbandoned();
+                                if (civ.getTechLevel() >= 3) if (Rands.chance(random, 4)) dimension.setDead();
+                            }
+                            if (percent > 0.70) {
+                                if (civ.getTechLevel() >= 3) dimension.setCivilized();
+                            }
+                        }
+                    } else {
+                        //a civ's home dimension has 100% influence by that civ
+                        dimension.addInfluence(civ.getName(), 1.0);
+                    }
+
+                    //Ensure that both dead and lush flags don't coexist
+                    if (Utils.checkBitFlag(dimension.getFlags(), Utils.DEAD) && Utils.checkBitFlag(dimension.getFlags(), Utils.LUSH))
+                        dimension.removeLush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.vampirestudios.raa.utils;
+
+import com.swordglowsblue.artifice.api.ArtificeResourcePack;
+import com.swordglowsblue.artifice.api.resource.StringResource;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * A pack served from the cache has to give back the same bytes for every resource as the pack it was written from.
+ */
+public class GeneratedPackCacheTest {
+    private static final String HASH = "content hash";
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void cachedPackIsByteIdentical() throws IOException {
+        Map<Identifier, String> resources = new LinkedHashMap<>();
+        resources.put(new Identifier("raa", "recipes/ruby_block.json"), "{\"type\": \"minecraft:crafting_shaped\", \"pattern\": [\"###\", \"###\", \"###\"]}");
+        resources.put(new Identifier("raa", "recipes/deep/nested/path.json"), "{\n\t\"name\": \"Ærø ßtone 中文 💎\"\r\n}");
+        resources.put(new Identifier("c", "tags/items/rubies.json"), "{\"values\": [\"raa:ruby\"]}");
+        resources.put(new Identifier("raa", "empty.json"), "");
+        ArtificeResourcePack pack = ArtificeResourcePack.ofData(builder -> resources.forEach((id, content) -> builder.add(id, new StringResource(content))));
+
+        File cacheFile = this.directory.resolve("pack.zip").toFile();
+        GeneratedPackCache.write(cacheFile, pack, ResourceType.SERVER_DATA, HASH);
+        Map<Identifier, String> cached = GeneratedPackCache.read(cacheFile, HASH);
+        assertNotNull(cached);
+        ArtificeResourcePack cachedPack = ArtificeResourcePack.ofData(builder -> cached.forEach((id, content) -> builder.add(id, new StringResource(content))));
+
+        assertEquals(resources.keySet(), cached.keySet());
+        for (Identifier id : resources.keySet()) {
+            assertArrayEquals(open(pack, id), open(cachedPack, id), id.toString());
+        }
+        assertEquals(namespaces(pack), namespaces(cachedPack));
+
+        // and caching the cached pack again gives the same zip
+        File secondFile = this.directory.resolve("second.zip").toFile();
+        GeneratedPackCache.write(secondFile, cachedPack, ResourceType.SERVER_DATA, HASH);
+        assertArrayEquals(Files.readAllBytes(cacheFile.toPath()), Files.readAllBytes(secondFile.toPath()));
+    }
+
+    @Test
+    public void otherContentMissesTheCache() throws IOException {
+        ArtificeResourcePack pack = ArtificeResourcePack.ofData(builder -> builder.add(new Identifier("raa", "recipes/a.json"), new StringResource("{}")));
+        File cacheFile = this.directory.resolve("pack.zip").toFile();
+        GeneratedPackCache.write(cacheFile, pack, ResourceType.SERVER_DATA, HASH);
+        assertNull(GeneratedPackCache.read(cacheFile, "other " + HASH));
+    }
+
+    private static byte[] open(ArtificeResourcePack pack, Identifier id) throws IOException {
+        try (InputStream in = pack.open(ResourceType.SERVER_DATA, id)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static TreeSet<String> namespaces(ArtificeResourcePack pack) {
+        return new TreeSet<>(pack.getNamespaces(ResourceType.SERVER_DATA));
+    }
+}
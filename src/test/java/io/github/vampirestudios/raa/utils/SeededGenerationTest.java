@@ -0,0 +1,68 @@
+package io.github.vampirestudios.raa.utils;
+
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The generated content has to be the same no matter how many threads generate it.
+ */
+public class SeededGenerationTest {
+    private static final long SEED = 1234567890L;
+    private static final int COUNT = 200;
+
+    @Test
+    public void generateIsIndependentOfTheThreadCount() {
+        List<long[]> single = withThreads(1, () -> SeededGeneration.create("test").generate(COUNT, (index, random) -> draw(random)));
+        List<long[]> parallel = withThreads(8, () -> SeededGeneration.create("test").generate(COUNT, (index, random) -> draw(random)));
+
+        assertEquals(COUNT, parallel.size());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(single.get(i)[0], parallel.get(i)[0], "element " + i);
+            assertEquals(single.get(i)[1], parallel.get(i)[1], "element " + i);
+        }
+    }
+
+    @Test
+    public void generateUniqueIsIndependentOfTheThreadCount() {
+        // few enough names that they collide and have to be rolled again or numbered
+        List<Pair<String, Identifier>> single = withThreads(1, () -> SeededGeneration.create("test/names").generateUnique(COUNT, new HashSet<>(), (index, random) -> name(random)));
+        List<Pair<String, Identifier>> parallel = withThreads(8, () -> SeededGeneration.create("test/names").generateUnique(COUNT, new HashSet<>(), (index, random) -> name(random)));
+
+        Set<Identifier> ids = new HashSet<>();
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(single.get(i).getLeft(), parallel.get(i).getLeft(), "name " + i);
+            assertEquals(single.get(i).getRight(), parallel.get(i).getRight(), "name " + i);
+            ids.add(parallel.get(i).getRight());
+        }
+        assertEquals(COUNT, ids.size());
+    }
+
+    private static long[] draw(Random random) {
+        // a different amount of draws per element, like the builders do
+        int draws = 1 + random.nextInt(16);
+        long sum = 0;
+        for (int i = 0; i < draws; i++) {
+            sum += random.nextLong();
+        }
+        return new long[]{draws, sum};
+    }
+
+    private static Pair<String, Identifier> name(Random random) {
+        String name = "name_" + random.nextInt(COUNT / 2);
+        return new Pair<>(name, new Identifier("raa", name));
+    }
+
+    private static <T> T withThreads(int threads, Supplier<T> generation) {
+        SeededGeneration.setup(SEED, threads);
+        return generation.get();
+    }
+}
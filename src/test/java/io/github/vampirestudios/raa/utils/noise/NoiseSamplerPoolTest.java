@@ -0,0 +1,133 @@
+package io.github.vampirestudios.raa.utils.noise;
+
+import io.github.vampirestudios.raa.generation.chunkgenerator.QuadrupleAmplifiedChunkGenerator;
+import net.minecraft.Bootstrap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameMode;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biomes;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.BiomeSourceType;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.dimension.Dimension;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.gen.chunk.OverworldChunkGeneratorConfig;
+import net.minecraft.world.level.LevelGeneratorType;
+import net.minecraft.world.level.LevelInfo;
+import net.minecraft.world.level.LevelProperties;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Generators of the same type and settings have to share their samplers and still generate exactly the chunks they
+ * generate with samplers of their own.
+ */
+public class NoiseSamplerPoolTest {
+    private static final long SEED = 1234567890L;
+    private static final int[][] CHUNKS = {{0, 0}, {-1, 3}, {200, -450}};
+
+    private static LevelProperties levelProperties;
+    private static Dimension dimension;
+    private static BiomeSource biomeSource;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        levelProperties = new LevelProperties(new LevelInfo(SEED, GameMode.SURVIVAL, true, false, LevelGeneratorType.DEFAULT), "raa_test");
+        dimension = DimensionType.OVERWORLD.create(null);
+        biomeSource = BiomeSourceType.FIXED.applyConfig(BiomeSourceType.FIXED.getConfig(levelProperties).setBiome(Biomes.PLAINS));
+    }
+
+    @Test
+    public void equalKeysShareTheSamplers() {
+        NoiseSamplerPool.clear();
+        long misses = NoiseSamplerPool.getMisses();
+        Object first = NoiseSamplerPool.get(NoiseSamplerPool.key("test", SEED).consumed(3).perlin(15, 0), Object::new);
+        Object second = NoiseSamplerPool.get(NoiseSamplerPool.key("test", SEED).consumed(3).perlin(15, 0), Object::new);
+        Object otherSeed = NoiseSamplerPool.get(NoiseSamplerPool.key("test", SEED + 1).consumed(3).perlin(15, 0), Object::new);
+        assertSame(first, second);
+        assertNotSame(first, otherSeed);
+        assertEquals(misses + 2, NoiseSamplerPool.getMisses());
+        assertEquals(2 * 16 * 312L, NoiseSamplerPool.getRetainedBytes());
+
+        NoiseSamplerPool.clear();
+        assertEquals(0, NoiseSamplerPool.getRetainedBytes());
+        assertNotSame(first, NoiseSamplerPool.get(NoiseSamplerPool.key("test", SEED).consumed(3).perlin(15, 0), Object::new));
+    }
+
+    @Test
+    public void generatorsWithTheSameSettingsShareTheirSamplers() throws ReflectiveOperationException {
+        NoiseSamplerPool.clear();
+        long misses = NoiseSamplerPool.getMisses();
+        QuadrupleAmplifiedChunkGenerator first = generator();
+        QuadrupleAmplifiedChunkGenerator second = generator();
+        assertEquals(misses + 1, NoiseSamplerPool.getMisses());
+        assertSame(sampler(first), sampler(second));
+
+        // built after clearing, so with samplers of its own
+        NoiseSamplerPool.clear();
+        QuadrupleAmplifiedChunkGenerator own = generator();
+        assertNotSame(sampler(first), sampler(own));
+
+        for (int[] pos : CHUNKS) {
+            ProtoChunk expected = generate(own, pos);
+            assertSameBlocks(expected, generate(first, pos));
+            assertSameBlocks(expected, generate(second, pos));
+        }
+    }
+
+    private static Object sampler(QuadrupleAmplifiedChunkGenerator generator) throws ReflectiveOperationException {
+        Field field = QuadrupleAmplifiedChunkGenerator.class.getDeclaredField("field_16574");
+        field.setAccessible(true);
+        return field.get(generator);
+    }
+
+    private static ProtoChunk generate(QuadrupleAmplifiedChunkGenerator generator, int[] pos) {
+        ProtoChunk chunk = new ProtoChunk(new ChunkPos(pos[0], pos[1]), UpgradeData.NO_UPGRADE_DATA);
+        generator.populateBiomes(chunk);
+        generator.populateNoise(world(), chunk);
+        return chunk;
+    }
+
+    private static void assertSameBlocks(ProtoChunk expected, ProtoChunk actual) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = 0; y < 256; y++) {
+                    pos.set(expected.getPos().getStartX() + x, y, expected.getPos().getStartZ() + z);
+                    assertSame(expected.getBlockState(pos), actual.getBlockState(pos), "block at " + pos + " in " + expected.getPos());
+                }
+            }
+        }
+    }
+
+    private static QuadrupleAmplifiedChunkGenerator generator() {
+        return new QuadrupleAmplifiedChunkGenerator(world(), biomeSource, new OverworldChunkGeneratorConfig());
+    }
+
+    private static IWorld world() {
+        return (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getSeaLevel":
+                    return 63;
+                case "getLevelProperties":
+                    return levelProperties;
+                case "getDimension":
+                    return dimension;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.vampirestudios.raa.utils.noise;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the point and area samplers against values recorded from the implementation before the flat gradient tables
+ * and the primitive flood-fill queues.
+ */
+public class SuperSimplexNoiseTest {
+    private static final long SEED = 1234567890L;
+
+    private final SuperSimplexNoise noise = new SuperSimplexNoise(SEED);
+
+    @Test
+    public void pointSamplesMatchTheOldImplementation() {
+        double[] noise2 = new double[64];
+        double[] classic = new double[64];
+        double[] planeFirst = new double[64];
+        for (int i = 0; i < 64; i++) {
+            double x = (i % 8) * 7.31 - 20.5;
+            double y = (i / 8) * 3.17 + 11.25;
+            noise2[i] = this.noise.noise2(x, y);
+            classic[i] = this.noise.noise3_Classic(x, y, x * 0.5 - y);
+            planeFirst[i] = this.noise.noise3_PlaneFirst(x, y, x * 0.5 - y);
+        }
+
+        assertEquals(-0.13965253754623685, noise2[0]);
+        assertEquals(-0.4641892860123036, noise2[63]);
+        assertEquals(-301680075, Arrays.hashCode(noise2));
+        assertEquals(-0.450555072339587, classic[0]);
+        assertEquals(2107977625, Arrays.hashCode(classic));
+        assertEquals(-0.2170049378461697, planeFirst[0]);
+        assertEquals(826860798, Arrays.hashCode(planeFirst));
+    }
+
+    @Test
+    public void generate2MatchesTheOldImplementation() {
+        SuperSimplexNoise.GenerateContext2D context = new SuperSimplexNoise.GenerateContext2D(1 / 24.0, 1 / 24.0, 1);
+
+        double[][] area = new double[16][16];
+        this.noise.generate2(context, area, -37, 91);
+        assertEquals(0.4308381793374537, area[0][0]);
+        assertEquals(1133435227, Arrays.deepHashCode(area));
+
+        double[][] skipped = new double[20][18];
+        this.noise.generate2(context, skipped, 5, -3, 18, 20, 2, 3);
+        assertEquals(-1988882029, Arrays.deepHashCode(skipped));
+    }
+
+    @Test
+    public void generate3MatchesTheOldImplementation() {
+        assertGenerate3(SuperSimplexNoise.LatticeOrientation3D.Classic, 0.2561873849208404, -1496117964, 1883362438);
+        assertGenerate3(SuperSimplexNoise.LatticeOrientation3D.PlaneFirst, -0.5015141475403928, -1942835154, -33189433);
+    }
+
+    @Test
+    public void fill2MatchesGenerate2() {
+        SuperSimplexNoise.GenerateContext2D context = new SuperSimplexNoise.GenerateContext2D(1 / 24.0, 1 / 24.0, 1);
+        double[][] area = new double[18][20];
+        this.noise.generate2(context, area, -7, 5);
+
+        // dirty on purpose, fill2 has to clear what it reuses
+        double[] flat = new double[20 * 18];
+        Arrays.fill(flat, 1.0);
+        this.noise.fill2(context, flat, -7, 5, 20, 18);
+        for (int y = 0; y < 18; y++) {
+            for (int x = 0; x < 20; x++) {
+                assertEquals(area[y][x], flat[y * 20 + x], "at " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    public void fill3MatchesGenerate3() {
+        for (SuperSimplexNoise.LatticeOrientation3D orientation : SuperSimplexNoise.LatticeOrientation3D.values()) {
+            SuperSimplexNoise.GenerateContext3D context = new SuperSimplexNoise.GenerateContext3D(orientation, 1 / 16.0, 1 / 16.0, 1 / 16.0, 1);
+            double[][][] volume = new double[11][10][9];
+            this.noise.generate3(context, volume, 3, -2, 40);
+
+            double[] flat = new double[9 * 10 * 11];
+            Arrays.fill(flat, 1.0);
+            this.noise.fill3(context, flat, 3, -2, 40, 9, 10, 11);
+            for (int z = 0; z < 11; z++) {
+                for (int y = 0; y < 10; y++) {
+                    for (int x = 0; x < 9; x++) {
+                        assertEquals(volume[z][y][x], flat[(z * 10 + y) * 9 + x], orientation + " at " + x + ", " + y + ", " + z);
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertGenerate3(SuperSimplexNoise.LatticeOrientation3D orientation, double first, int hash, int skippedHash) {
+        SuperSimplexNoise.GenerateContext3D context = new SuperSimplexNoise.GenerateContext3D(orientation, 1 / 16.0, 1 / 12.0, 1 / 16.0, 1);
+
+        double[][][] volume = new double[16][16][16];
+        this.noise.generate3(context, volume, -37, 40, 91);
+        assertEquals(first, volume[0][0][0], orientation.name());
+        assertEquals(hash, Arrays.deepHashCode(volume), orientation.name());
+
+        double[][][] skipped = new double[10][12][9];
+        this.noise.generate3(context, skipped, 3, 64, -8, 9, 12, 10, 1, 2, 3);
+        assertEquals(skippedHash, Arrays.deepHashCode(skipped), orientation.name());
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.vampirestudios.raa.utils.noise.old;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The grid samplers have to give exactly the values of sampling every point on its own.
+ */
+public class OctaveOpenSimplexNoiseTest {
+    private static final long SEED = 1234567890L;
+    private static final int OCTAVES = 4;
+    private static final double FREQUENCY = 60;
+    private static final double AMPLITUDE_HIGH = 12;
+    private static final double AMPLITUDE_LOW = 4;
+
+    @Test
+    public void sampleGrid2DMatchesSample() {
+        OctaveOpenSimplexNoise noise = new OctaveOpenSimplexNoise(new Random(SEED), OCTAVES, FREQUENCY, AMPLITUDE_HIGH, AMPLITUDE_LOW);
+        int w = 13;
+        int h = 7;
+        double[] grid = new double[w * h];
+        // dirty on purpose, the grid sampler has to clear what it reuses
+        Arrays.fill(grid, 1.0);
+        noise.sampleGrid2D(grid, -40.5, 117, w, h, 1.5);
+
+        for (int z = 0; z < h; z++) {
+            for (int x = 0; x < w; x++) {
+                assertEquals(noise.sample(-40.5 + x * 1.5, 117 + z * 1.5), grid[z * w + x], "at " + x + ", " + z);
+            }
+        }
+    }
+
+    @Test
+    public void sampleGrid3DMatchesThePointSamplers() {
+        OctaveOpenSimplexNoise noise = new OctaveOpenSimplexNoise(new Random(SEED), OCTAVES, FREQUENCY, AMPLITUDE_HIGH, AMPLITUDE_LOW);
+        int w = 5;
+        int h = 6;
+        int d = 7;
+        double[] grid = new double[w * h * d];
+        noise.sampleGrid3D(grid, 8, -3, 21, w, h, d, 2);
+
+        // the octaves the way the point sampler loops over them, seeded like the constructor does
+        Random random = new Random(SEED);
+        OpenSimplexNoise[] samplers = new OpenSimplexNoise[OCTAVES];
+        for (int i = 0; i < OCTAVES; i++) {
+            samplers[i] = new OpenSimplexNoise(random.nextLong());
+        }
+        double clamp = 1D / (1D - (1D / Math.pow(2, OCTAVES)));
+
+        for (int z = 0; z < d; z++) {
+            for (int y = 0; y < h; y++) {
+                for (int x = 0; x < w; x++) {
+                    double result = 0;
+                    double amplFreq = 0.5D;
+                    for (OpenSimplexNoise sampler : samplers) {
+                        double divisor = amplFreq * FREQUENCY;
+                        result += amplFreq * sampler.sample((8 + x * 2) / divisor, (-3 + y * 2) / divisor, (21 + z * 2) / divisor);
+                        amplFreq *= 0.5D;
+                    }
+                    result = result * clamp;
+                    double expected = result > 0 ? result * AMPLITUDE_HIGH : result * AMPLITUDE_LOW;
+                    assertEquals(expected, grid[(z * h + y) * w + x], "at " + x + ", " + y + ", " + z);
+                }
+            }
+        }
+    }
+}
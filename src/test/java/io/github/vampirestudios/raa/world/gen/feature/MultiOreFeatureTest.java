@@ -0,0 +1,234 @@
+package io.github.vampirestudios.raa.world.gen.feature;
+
+import io.github.vampirestudios.raa.api.RAAWorldAPI;
+import net.minecraft.Bootstrap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.gen.ChunkRandom;
+import net.minecraft.world.gen.GenerationStep;
+import net.minecraft.world.gen.decorator.Decorator;
+import net.minecraft.world.gen.decorator.DecoratorConfig;
+import net.minecraft.world.gen.feature.ConfiguredFeature;
+import net.minecraft.world.gen.feature.DecoratedFeatureConfig;
+import net.minecraft.world.gen.feature.DefaultFeatureConfig;
+import net.minecraft.world.gen.feature.Feature;
+import net.minecraft.world.gen.feature.FeatureConfig;
+import net.minecraft.world.gen.surfacebuilder.SurfaceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the fused ore table against the per-material ore features it replaced, for one fixed seed.
+ *
+ * <p>The stone has a gap between {@link #LOWER_STONE_HEIGHT} and {@link #UPPER_STONE_FLOOR}, so the veins rolled in
+ * the gap take the path that only consumes their random.</p>
+ */
+public class MultiOreFeatureTest {
+    private static final long SEED = 1234567890L;
+    private static final int CHUNKS = 8;
+    private static final int LOWER_STONE_HEIGHT = 64;
+    private static final int UPPER_STONE_FLOOR = 96;
+    private static final int STONE_HEIGHT = 128;
+    private static final int STEP = GenerationStep.Feature.UNDERGROUND_ORES.ordinal();
+    private static final int FIRST_FEATURE_INDEX = 3;
+
+    private static OreFeatureConfig.Target target;
+    private static BlockState[] ores;
+    private static final int[] SIZES = {17, 9, 8};
+    private static final int[] COUNTS = {20, 20, 2};
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        target = new OreFeatureConfig.Target(new Identifier("raa", "test_stone"), state -> state.getBlock() == Blocks.STONE, Blocks.STONE);
+        ores = new BlockState[]{Blocks.COAL_ORE.getDefaultState(), Blocks.IRON_ORE.getDefaultState(), Blocks.DIAMOND_ORE.getDefaultState()};
+    }
+
+    @Test
+    public void placesTheSameVeinsAsThePerMaterialFeatures() {
+        TestWorld before = new TestWorld();
+        TestWorld after = new TestWorld();
+        MultiOreFeatureConfig.Builder builder = MultiOreFeatureConfig.Builder.create(target);
+        for (int i = 0; i < ores.length; i++) {
+            builder.add(ores[i], SIZES[i], COUNTS[i], 0, 256);
+        }
+        MultiOreFeatureConfig config = builder.build(FIRST_FEATURE_INDEX);
+        MultiOreFeature feature = new MultiOreFeature(MultiOreFeatureConfig::deserialize);
+
+        ChunkRandom random = new ChunkRandom();
+        for (int chunkX = 0; chunkX < CHUNKS; chunkX++) {
+            for (int chunkZ = 0; chunkZ < CHUNKS; chunkZ++) {
+                int x = chunkX << 4;
+                int z = chunkZ << 4;
+
+                // what count_range(count, 0, 0, 256) followed by one ore feature per material placed
+                long populationSeed = random.setSeed(SEED, x, z);
+                for (int i = 0; i < ores.length; i++) {
+                    random.setFeatureSeed(populationSeed, FIRST_FEATURE_INDEX + i, STEP);
+                    OreFeatureConfig vein = new OreFeatureConfig(target, ores[i], SIZES[i]);
+                    for (int attempt = 0; attempt < COUNTS[i]; attempt++) {
+                        int veinX = random.nextInt(16) + x;
+                        int veinZ = random.nextInt(16) + z;
+                        int veinY = random.nextInt(256);
+                        OreFeature.generateVein(before.world, random, new BlockPos(veinX, veinY, veinZ), vein);
+                    }
+                }
+
+                random.setFeatureSeed(random.setSeed(SEED, x, z), FIRST_FEATURE_INDEX, STEP);
+                feature.generate(after.world, null, random, new BlockPos(x, 0, z), config);
+            }
+        }
+
+        for (BlockState ore : ores) {
+            int expected = before.count(ore);
+            assertTrue(expected > 0, "the per-material features placed no " + ore);
+            assertEquals(expected, after.count(ore), "amount of " + ore);
+        }
+        assertEquals(before.chunks.keySet(), after.chunks.keySet());
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (Map.Entry<ChunkPos, ProtoChunk> chunk : before.chunks.entrySet()) {
+            ProtoChunk other = after.chunks.get(chunk.getKey());
+            for (int y = 0; y < STONE_HEIGHT; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        mutable.set(chunk.getKey().getStartX() + x, y, chunk.getKey().getStartZ() + z);
+                        assertEquals(chunk.getValue().getBlockState(mutable), other.getBlockState(mutable), mutable.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fusedOresKeepThePlacesOfThePerMaterialFeatures() {
+        Biome biome = new Biome(new Biome.Settings()
+                .configureSurfaceBuilder(SurfaceBuilder.DEFAULT, SurfaceBuilder.GRASS_CONFIG)
+                .precipitation(Biome.Precipitation.NONE)
+                .category(Biome.Category.PLAINS)
+                .depth(0.125F)
+                .scale(0.05F)
+                .temperature(0.8F)
+                .downfall(0.4F)
+                .waterColor(4159204)
+                .waterFogColor(329011)
+                .parent(null)) {
+        };
+        ConfiguredFeature<?, ?> before = Feature.NO_OP.configure(new DefaultFeatureConfig())
+                .createDecoratedFeature(Decorator.NOPE.configure(DecoratorConfig.DEFAULT));
+        for (int i = 0; i < FIRST_FEATURE_INDEX; i++) {
+            biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES, before);
+        }
+        MultiOreFeatureConfig.Builder builder = MultiOreFeatureConfig.Builder.create(target);
+        for (int i = 0; i < ores.length; i++) {
+            builder.add(ores[i], SIZES[i], COUNTS[i], 0, 256);
+        }
+
+        RAAWorldAPI.addFusedOres(biome, new MultiOreFeature(MultiOreFeatureConfig::deserialize), builder);
+
+        List<ConfiguredFeature<?, ?>> features = biome.getFeaturesForStep(GenerationStep.Feature.UNDERGROUND_ORES);
+        assertEquals(FIRST_FEATURE_INDEX + ores.length, features.size());
+        FeatureConfig fused = ((DecoratedFeatureConfig) features.get(FIRST_FEATURE_INDEX).config).feature.config;
+        assertEquals(FIRST_FEATURE_INDEX, ((MultiOreFeatureConfig) fused).firstFeatureIndex);
+    }
+
+    @Test
+    public void appendingAnEntryKeepsTheVeinsBeforeIt() {
+        TestWorld shorter = new TestWorld();
+        TestWorld longer = new TestWorld();
+        MultiOreFeatureConfig.Builder builder = MultiOreFeatureConfig.Builder.create(target);
+        for (int i = 0; i < ores.length - 1; i++) {
+            builder.add(ores[i], SIZES[i], COUNTS[i], 0, 256);
+        }
+        MultiOreFeatureConfig shorterConfig = builder.build(0);
+        builder.add(ores[ores.length - 1], SIZES[ores.length - 1], COUNTS[ores.length - 1], 0, 256);
+        MultiOreFeatureConfig longerConfig = builder.build(0);
+        MultiOreFeature feature = new MultiOreFeature(MultiOreFeatureConfig::deserialize);
+
+        ChunkRandom random = new ChunkRandom();
+        random.setFeatureSeed(random.setSeed(SEED, 0, 0), 0, STEP);
+        feature.generate(shorter.world, null, random, BlockPos.ORIGIN, shorterConfig);
+        random.setFeatureSeed(random.setSeed(SEED, 0, 0), 0, STEP);
+        feature.generate(longer.world, null, random, BlockPos.ORIGIN, longerConfig);
+
+        for (int i = 0; i < ores.length - 1; i++) {
+            assertEquals(shorter.count(ores[i]), longer.count(ores[i]), "amount of " + ores[i]);
+        }
+    }
+
+    /**
+     * Lazily created proto chunks made of stone up to {@link #STONE_HEIGHT} with a gap of air, behind just as much of {@link IWorld} as
+     * the ore features use.
+     */
+    private static class TestWorld {
+        private final Map<ChunkPos, ProtoChunk> chunks = new HashMap<>();
+        private final IWorld world = (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getSeed":
+                    return SEED;
+                case "getChunk":
+                    if (args[0] instanceof BlockPos) {
+                        return this.getChunk(((BlockPos) args[0]).getX() >> 4, ((BlockPos) args[0]).getZ() >> 4);
+                    }
+                    return this.getChunk((Integer) args[0], (Integer) args[1]);
+                case "getTopY":
+                    return STONE_HEIGHT;
+                case "getBlockState":
+                    return this.getChunk(((BlockPos) args[0]).getX() >> 4, ((BlockPos) args[0]).getZ() >> 4).getBlockState((BlockPos) args[0]);
+                case "setBlockState":
+                    this.getChunk(((BlockPos) args[0]).getX() >> 4, ((BlockPos) args[0]).getZ() >> 4).setBlockState((BlockPos) args[0], (BlockState) args[1], false);
+                    return true;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+
+        private ProtoChunk getChunk(int chunkX, int chunkZ) {
+            return this.chunks.computeIfAbsent(new ChunkPos(chunkX, chunkZ), pos -> {
+                ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.NO_UPGRADE_DATA);
+                BlockPos.Mutable mutable = new BlockPos.Mutable();
+                for (int y = 0; y < STONE_HEIGHT; y++) {
+                    if (y >= LOWER_STONE_HEIGHT && y < UPPER_STONE_FLOOR) continue;
+                    for (int z = 0; z < 16; z++) {
+                        for (int x = 0; x < 16; x++) {
+                            chunk.setBlockState(mutable.set(pos.getStartX() + x, y, pos.getStartZ() + z), Blocks.STONE.getDefaultState(), false);
+                        }
+                    }
+                }
+                return chunk;
+            });
+        }
+
+        private int count(BlockState state) {
+            int count = 0;
+            for (ProtoChunk chunk : this.chunks.values()) {
+                for (ChunkSection section : chunk.getSectionArray()) {
+                    if (ChunkSection.isEmpty(section)) continue;
+                    for (int y = 0; y < 16; y++) {
+                        for (int z = 0; z < 16; z++) {
+                            for (int x = 0; x < 16; x++) {
+                                if (section.getBlockState(x, y, z) == state) count++;
+                            }
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.vampirestudios.raa.world.gen.feature;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Counts the bytes a warm thread allocates while placing veins. The stand-in world is a proxy, which allocates the
+ * arguments of every call made to it, so the veins are compared against the same calls made without placing anything.
+ */
+public class OreVeinContextTest {
+    private static final long SEED = 1234567890L;
+    private static final int STONE_HEIGHT = 128;
+    private static final int VEIN_SIZE = 17;
+    private static final int WARMUP_VEINS = 20000;
+    private static final int MEASURED_VEINS = 2000;
+
+    private static OreFeatureConfig config;
+
+    @BeforeAll
+    public static void bootstrap() {
+        Bootstrap.initialize();
+        OreFeatureConfig.Target target = new OreFeatureConfig.Target(new Identifier("raa", "test_stone"), state -> state.getBlock() == Blocks.STONE, Blocks.STONE);
+        config = new OreFeatureConfig(target, Blocks.COAL_ORE.getDefaultState(), VEIN_SIZE);
+    }
+
+    @Test
+    public void aWarmThreadAllocatesNothingPerVein() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        ProtoChunk[] chunk = {stoneChunk()};
+        IWorld world = world(chunk);
+        // veins of this size stay inside the chunk from 5 to 10 on both axes, so only its sections are written
+        BlockPos[] positions = new BlockPos[MEASURED_VEINS];
+        Random positionRandom = new Random(SEED);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new BlockPos(5 + positionRandom.nextInt(6), 16 + positionRandom.nextInt(STONE_HEIGHT - 32), 5 + positionRandom.nextInt(6));
+        }
+
+        Random random = new Random(SEED);
+        for (int i = 0; i < WARMUP_VEINS; i++) {
+            OreFeature.generateVein(world, random, positions[i % positions.length], config);
+            placeCalls(world, positions[i % positions.length]);
+        }
+
+        // the warmup turned most of the stone into ore, the measured veins get stone again
+        chunk[0] = stoneChunk();
+        long start = threads.getThreadAllocatedBytes(thread);
+        for (BlockPos pos : positions) {
+            OreFeature.generateVein(world, random, pos, config);
+        }
+        long veins = threads.getThreadAllocatedBytes(thread) - start;
+
+        start = threads.getThreadAllocatedBytes(thread);
+        for (BlockPos pos : positions) {
+            placeCalls(world, pos);
+        }
+        long calls = threads.getThreadAllocatedBytes(thread) - start;
+
+        assertTrue(veins <= calls, MEASURED_VEINS + " veins allocated " + veins + " bytes, their calls to the world " + calls);
+    }
+
+    /**
+     * The calls a vein inside a proto chunk makes to the world: the height to start at and the chunk it writes to.
+     */
+    private static void placeCalls(IWorld world, BlockPos pos) {
+        world.getTopY(Heightmap.Type.OCEAN_FLOOR_WG, pos.getX(), pos.getZ());
+        world.getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    private static ProtoChunk stoneChunk() {
+        ProtoChunk chunk = new ProtoChunk(new ChunkPos(0, 0), UpgradeData.NO_UPGRADE_DATA);
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (int y = 0; y < STONE_HEIGHT; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    chunk.setBlockState(mutable.set(x, y, z), Blocks.STONE.getDefaultState(), false);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static IWorld world(ProtoChunk[] chunk) {
+        return (IWorld) Proxy.newProxyInstance(IWorld.class.getClassLoader(), new Class<?>[]{IWorld.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getTopY":
+                    return STONE_HEIGHT - 1;
+                case "getChunk":
+                    return chunk[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.vampirestudios.raa.world.pregen;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Starts a dedicated server with the mod in a JVM of its own, pregenerates a small radius of every RAA dimension through
+ * the console, stops the server and reads the region files back, so every chunk of the spiral has to have been generated
+ * all the way and saved.
+ *
+ * <p>Starting a server takes a while, so this only runs in the {@code serverTest} task.</p>
+ */
+@Tag("server")
+public class ChunkPregeneratorServerTest {
+    private static final int RADIUS = 2;
+    private static final long START_TIMEOUT_SECONDS = 600;
+    private static final long PREGEN_TIMEOUT_SECONDS = 600;
+    private static final Pattern QUEUED = Pattern.compile("Queued \\d+ chunks of (\\S+) for pregeneration");
+    private static final Pattern FINISHED = Pattern.compile("Finished pregenerating (\\S+), (\\d+) chunks");
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void pregeneratedChunksAreSaved() throws Exception {
+        Files.write(this.directory.resolve("eula.txt"), "eula=true\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(this.directory.resolve("server.properties"), ("online-mode=false\nlevel-seed=1234567890\n"
+                + "server-port=0\nmax-tick-time=-1\nspawn-protection=0\n").getBytes(StandardCharsets.UTF_8));
+
+        // the same dev environment the runServer task starts
+        Process server = new ProcessBuilder(new File(System.getProperty("java.home"), "bin/java").getPath(),
+                "-Dfabric.development=true", "-cp", System.getProperty("java.class.path"),
+                "net.fabricmc.loader.launch.knot.KnotServer", "nogui")
+                .directory(this.directory.toFile())
+                .redirectErrorStream(true)
+                .start();
+        BlockingQueue<String> output = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    System.out.println(line);
+                    output.add(line);
+                }
+            } catch (IOException ignored) {
+                // the server is gone
+            }
+        }, "Server output");
+        reader.setDaemon(true);
+        reader.start();
+
+        Set<Identifier> dimensions = new LinkedHashSet<>();
+        try (Writer console = new OutputStreamWriter(server.getOutputStream(), StandardCharsets.UTF_8)) {
+            await(output, server, START_TIMEOUT_SECONDS, line -> line.contains("Done ("));
+            command(console, "raa pregen all " + RADIUS);
+
+            Set<Identifier> finished = new LinkedHashSet<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(PREGEN_TIMEOUT_SECONDS);
+            while (dimensions.isEmpty() || !finished.containsAll(dimensions)) {
+                String line = poll(output, server, deadline);
+                Matcher queued = QUEUED.matcher(line);
+                if (queued.find()) {
+                    dimensions.add(new Identifier(queued.group(1)));
+                }
+                Matcher done = FINISHED.matcher(line);
+                if (done.find()) {
+                    assertEquals((2 * RADIUS + 1) * (2 * RADIUS + 1), Integer.parseInt(done.group(2)), line);
+                    finished.add(new Identifier(done.group(1)));
+                }
+            }
+            command(console, "stop");
+        } catch (Throwable t) {
+            server.destroyForcibly();
+            throw t;
+        }
+        if (!server.waitFor(PREGEN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            server.destroyForcibly();
+            fail("The server didn't stop");
+        }
+
+        assertFalse(dimensions.isEmpty(), "No RAA dimension was queued");
+        for (Identifier dimension : dimensions) {
+            // the save directory Fabric gives the dimension types it registers
+            File regions = this.directory.resolve("world").resolve("DIM_" + dimension.getNamespace() + "_" + dimension.getPath()).resolve("region").toFile();
+            PregenState.Job job = new PregenState.Job(dimension, 0, 0, RADIUS);
+            for (int i = 0; i < job.getChunkCount(); i++) {
+                ChunkPos pos = job.getChunk(i);
+                CompoundTag chunk = readChunk(regions, pos);
+                assertNotNull(chunk, pos + " of " + dimension + " wasn't saved");
+                assertEquals("full", chunk.getCompound("Level").getString("Status"), pos + " of " + dimension);
+            }
+        }
+    }
+
+    private static void command(Writer console, String command) throws IOException {
+        console.write(command + "\n");
+        console.flush();
+    }
+
+    private static void await(BlockingQueue<String> output, Process server, long timeoutSeconds, Predicate<String> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!condition.test(poll(output, server, deadline))) {
+            // skip the lines before it
+        }
+    }
+
+    private static String poll(BlockingQueue<String> output, Process server, long deadline) throws InterruptedException {
+        while (true) {
+            String line = output.poll(1, TimeUnit.SECONDS);
+            if (line != null) return line;
+            if (!server.isAlive() && output.isEmpty()) fail("The server exited with " + server.exitValue());
+            if (System.nanoTime() > deadline) fail("Timed out waiting for the server");
+        }
+    }
+
+    /**
+     * Reads a chunk out of its region file: a header of 1024 sector offsets, then every chunk as its length, its
+     * compression and its tag.
+     */
+    private static CompoundTag readChunk(File regions, ChunkPos pos) throws IOException {
+        File file = new File(regions, "r." + pos.getRegionX() + "." + pos.getRegionZ() + ".mca");
+        if (!file.isFile()) return null;
+        try (RandomAccessFile region = new RandomAccessFile(file, "r")) {
+            region.seek(4L * ((pos.x & 31) + (pos.z & 31) * 32));
+            int location = region.readInt();
+            if (location == 0) return null;
+            region.seek((location >>> 8) * 4096L);
+            int length = region.readInt();
+            // 2 is zlib, the compression the game writes
+            assertEquals(2, region.readByte(), "compression of " + pos);
+            byte[] data = new byte[length - 1];
+            region.readFully(data);
+            try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+                return NbtIo.read(in);
+            }
+        }
+    }
+}